@@ -0,0 +1,381 @@
+/*
+ * BindingBuilder.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The <code>BindingBuilder</code> is used to write the source of a
+ * compiled binding. The binding extends the <code>Binding</code> of
+ * the core package and registers a slot for each member in its
+ * constructor. It matches names to slots by switching on the hash
+ * code of the name, and it reads and writes each direct member with
+ * a field access, leaving all other members to its base class.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.processor.BindingProcessor
+ */
+class BindingBuilder {
+
+   /**
+    * This contains the primitive types in the order they are written.
+    */
+   private static final String[] PRIMITIVES = {
+      "boolean", "byte", "char", "short", "int", "long", "float", "double"
+   };
+
+   /**
+    * This contains the names used for the primitive accessors.
+    */
+   private static final String[] NAMES = {
+      "Boolean", "Byte", "Char", "Short", "Int", "Long", "Float", "Double"
+   };
+
+   /**
+    * This contains the wrapper classes for each primitive type.
+    */
+   private static final String[] WRAPPERS = {
+      "Boolean", "Byte", "Character", "Short", "Integer", "Long", "Float", "Double"
+   };
+
+   /**
+    * This is used to collect the source that is written.
+    */
+   private final StringBuilder source;
+
+   /**
+    * This contains the members in the order they are registered.
+    */
+   private final List<Member> members;
+
+   /**
+    * This is the package that the binding is declared in.
+    */
+   private final String owner;
+
+   /**
+    * This is the simple name of the binding that is written.
+    */
+   private final String name;
+
+   /**
+    * This is the canonical name of the class that is bound.
+    */
+   private final String type;
+
+   /**
+    * This is the root name declared for the class that is bound.
+    */
+   private final String root;
+
+   /**
+    * This determines if the bound class is read strictly.
+    */
+   private final boolean strict;
+
+   /**
+    * Constructor for the <code>BindingBuilder</code> object. This is
+    * used to write a binding with the given name in the package of
+    * the bound class. The members must be ordered with attributes
+    * first, then the elements, and then the text of the element.
+    *
+    * @param owner this is the package for the binding or null
+    * @param name this is the simple name of the binding
+    * @param type this is the canonical name of the bound class
+    * @param root this is the root name declared for the class
+    * @param strict this determines if the class is read strictly
+    * @param members these are the members that are to be bound
+    */
+   public BindingBuilder(String owner, String name, String type, String root, boolean strict, List<Member> members) {
+      this.source = new StringBuilder();
+      this.members = members;
+      this.strict = strict;
+      this.owner = owner;
+      this.name = name;
+      this.type = type;
+      this.root = root;
+   }
+
+   /**
+    * This is used to write the source of the binding. The index of
+    * each member is set to the order it is registered in, which is
+    * the index of the slot the base class creates for it.
+    *
+    * @return this returns the source of the binding
+    */
+   public String build() {
+      int index = 0;
+
+      for(Member member : members) {
+         member.setIndex(index++);
+      }
+      if(owner != null) {
+         line("package %s;", owner);
+         line("");
+      }
+      line("import org.simpleframework.xml.core.Binding;");
+      line("");
+      line("/**");
+      line(" * This binding has been generated for the <code>%s</code> class.", type);
+      line(" */");
+      line("public final class %s extends Binding {", name);
+      writeConstructor();
+      writeNames(true);
+      writeNames(false);
+      writeAccessors();
+      line("}");
+
+      return source.toString();
+   }
+
+   /**
+    * This is used to write the constructor of the binding. This gives
+    * the base class the bound class, its root name, and whether it is
+    * strict, and then registers a slot for each of the members.
+    */
+   private void writeConstructor() {
+      line("");
+      line("   public %s() throws Exception {", name);
+      line("      super(%s.class, %s, %s);", type, quote(root), strict);
+
+      for(Member member : members) {
+         String field = quote(member.getField());
+         String label = quote(member.getName());
+         boolean required = member.isRequired();
+         boolean data = member.isData();
+
+         if(member.isAttribute()) {
+            line("      attribute(%s, %s, %s);", label, field, required);
+         } else if(member.isText()) {
+            line("      text(%s, %s, %s);", field, required, data);
+         } else {
+            line("      element(%s, %s, %s, %s);", label, field, required, data);
+         }
+      }
+      line("   }");
+   }
+
+   /**
+    * This is used to write the method that matches attribute names or
+    * element names to slots. The method switches on the hash code of
+    * the name, and compares the name with each member that has the
+    * same hash code. If no member matches then it returns minus one.
+    *
+    * @param attribute if true this is written for attribute names
+    */
+   private void writeNames(boolean attribute) {
+      Map<Integer, List<Member>> table = new TreeMap<Integer, List<Member>>();
+      String method = attribute ? "getAttribute" : "getElement";
+
+      for(Member member : members) {
+         if(!member.isText() && member.isAttribute() == attribute) {
+            Integer key = member.getName().hashCode();
+            List<Member> list = table.get(key);
+
+            if(list == null) {
+               list = new ArrayList<Member>();
+               table.put(key, list);
+            }
+            list.add(member);
+         }
+      }
+      line("");
+      line("   protected int %s(String name) {", method);
+
+      if(!table.isEmpty()) {
+         line("      switch(name.hashCode()) {");
+
+         for(Integer key : table.keySet()) {
+            line("      case %s:", key);
+
+            for(Member member : table.get(key)) {
+               line("         if(name.equals(%s)) {", quote(member.getName()));
+               line("            return %s;", member.getIndex());
+               line("         }");
+            }
+            line("         break;");
+         }
+         line("      }");
+      }
+      line("      return -1;");
+      line("   }");
+   }
+
+   /**
+    * This is used to write the accessors for the direct members. An
+    * accessor for values is written if there is any direct member,
+    * and a typed accessor is written for each primitive type that is
+    * declared by a direct member.
+    */
+   private void writeAccessors() {
+      if(!getDirect(null).isEmpty()) {
+         writeGet(null, "Object", "get");
+         writeSet(null, "Object", "set");
+      }
+      for(int i = 0; i < PRIMITIVES.length; i++) {
+         String primitive = PRIMITIVES[i];
+
+         if(!getDirect(primitive).isEmpty()) {
+            writeGet(primitive, primitive, "get" + NAMES[i]);
+            writeSet(primitive, primitive, "set" + NAMES[i]);
+         }
+      }
+   }
+
+   /**
+    * This is used to write an accessor that gets the value of a slot.
+    * Any slot that is not direct, or that does not have the type of
+    * the accessor, is given to the accessor of the base class.
+    *
+    * @param primitive this is the primitive type of the accessor
+    * @param result this is the type returned by the accessor
+    * @param method this is the name of the accessor
+    */
+   private void writeGet(String primitive, String result, String method) {
+      line("");
+      line("   protected %s %s(Object source, int slot) throws Exception {", result, method);
+      line("      %s value = (%s)source;", type, type);
+      line("");
+      line("      switch(slot) {");
+
+      for(Member member : getDirect(primitive)) {
+         line("      case %s:", member.getIndex());
+         line("         return value.%s;", member.getField());
+      }
+      line("      }");
+      line("      return super.%s(source, slot);", method);
+      line("   }");
+   }
+
+   /**
+    * This is used to write an accessor that sets the value of a slot.
+    * Any slot that is not direct, or that does not have the type of
+    * the accessor, is given to the accessor of the base class.
+    *
+    * @param primitive this is the primitive type of the accessor
+    * @param value this is the type of value taken by the accessor
+    * @param method this is the name of the accessor
+    */
+   private void writeSet(String primitive, String value, String method) {
+      line("");
+      line("   protected void %s(Object source, int slot, %s value) throws Exception {", method, value);
+      line("      %s target = (%s)source;", type, type);
+      line("");
+      line("      switch(slot) {");
+
+      for(Member member : getDirect(primitive)) {
+         String field = member.getField();
+
+         line("      case %s:", member.getIndex());
+
+         if(primitive == null) {
+            line("         target.%s = (%s)value;", field, getWrapper(member.getType()));
+         } else {
+            line("         target.%s = value;", field);
+         }
+         line("         return;");
+      }
+      line("      }");
+      line("      super.%s(source, slot, value);", method);
+      line("   }");
+   }
+
+   /**
+    * This is used to acquire the direct members of the type given. If
+    * no type is given then all of the direct members are returned.
+    *
+    * @param primitive this is the primitive type of the members
+    *
+    * @return this returns the direct members of the given type
+    */
+   private List<Member> getDirect(String primitive) {
+      List<Member> list = new ArrayList<Member>();
+
+      for(Member member : members) {
+         if(member.isDirect()) {
+            if(primitive == null || primitive.equals(member.getType())) {
+               list.add(member);
+            }
+         }
+      }
+      return list;
+   }
+
+   /**
+    * This is used to acquire the type a value is cast to before it is
+    * assigned to a field. For a primitive field this is the wrapper
+    * of the primitive, which is then unwrapped by the assignment.
+    *
+    * @param type this is the source name of the field type
+    *
+    * @return this returns the type to cast the value to
+    */
+   private String getWrapper(String type) {
+      for(int i = 0; i < PRIMITIVES.length; i++) {
+         if(PRIMITIVES[i].equals(type)) {
+            return WRAPPERS[i];
+         }
+      }
+      return type;
+   }
+
+   /**
+    * This is used to quote the text given as a string literal. If the
+    * text is null then the null literal is returned instead.
+    *
+    * @param text this is the text that is to be quoted
+    *
+    * @return this returns the string literal for the text
+    */
+   private String quote(String text) {
+      StringBuilder builder = new StringBuilder();
+
+      if(text == null) {
+         return "null";
+      }
+      builder.append('"');
+
+      for(char next : text.toCharArray()) {
+         if(next == '"' || next == '\\') {
+            builder.append('\\').append(next);
+         } else if(next < 0x20 || next > 0x7e) {
+            builder.append(String.format("\\u%04x", (int)next));
+         } else {
+            builder.append(next);
+         }
+      }
+      return builder.append('"').toString();
+   }
+
+   /**
+    * This is used to write a line of source. The line is formatted
+    * with the arguments given before it is written.
+    *
+    * @param format this is the format for the line of source
+    * @param list these are the arguments for the format
+    */
+   private void line(String format, Object... list) {
+      source.append(String.format(format, list));
+      source.append('\n');
+   }
+}
@@ -0,0 +1,600 @@
+/*
+ * BindingProcessor.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.processor;
+
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.Text;
+
+/**
+ * The <code>BindingProcessor</code> is an annotation processor that
+ * compiles a binding for each schema class with a plain schema. The
+ * binding for a class is named after the binary name of the class
+ * with the <code>$$Binding</code> suffix, which is the name that the
+ * persister looks for when the class is first serialized. When the
+ * binding is found the class does not need to be scanned, and each
+ * field that is not private is read and written without reflection.
+ * <p>
+ * A binding is only compiled for a class whose schema is known at
+ * compile time. The class must be a concrete top level or static
+ * class that extends <code>Object</code> and has a constructor that
+ * takes no arguments. Its fields must use only the attribute, element
+ * and text annotations, without an empty value or declared type, and
+ * the class can not declare any other annotation from this framework.
+ * Any other class is skipped with a note, and its schema is scanned
+ * and interpreted at runtime as it would be without the processor.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.processor.BindingBuilder
+ */
+@SupportedAnnotationTypes("org.simpleframework.xml.Root")
+public class BindingProcessor extends AbstractProcessor {
+
+   /**
+    * This is the package that contains the framework annotations.
+    */
+   private static final String PACKAGE = "org.simpleframework.xml.";
+
+   /**
+    * This is the suffix added to the name of the bound class.
+    */
+   private static final String SUFFIX = "$$Binding";
+
+   /**
+    * This is used to acquire the version of the source supported. As
+    * the processor only reads classes and their fields it supports
+    * whatever version the compiler supports.
+    *
+    * @return this returns the latest version of the source supported
+    */
+   public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+   }
+
+   /**
+    * This is used to compile a binding for each class annotated with
+    * the <code>Root</code> annotation. The annotation is not claimed
+    * so that any other processor can also process the classes.
+    *
+    * @param annotations these are the annotations to be processed
+    * @param round this is the environment for the current round
+    *
+    * @return this returns false as the annotations are not claimed
+    */
+   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+      for(Element element : round.getElementsAnnotatedWith(Root.class)) {
+         if(element.getKind() == ElementKind.CLASS) {
+            process((TypeElement)element);
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This is used to compile a binding for the class provided. If the
+    * schema of the class can not be known at compile time then a note
+    * is reported with the reason the class has been skipped.
+    *
+    * @param type this is the class to compile the binding for
+    */
+   private void process(TypeElement type) {
+      List<Member> members = new ArrayList<Member>();
+      String reason = validate(type, members);
+
+      if(reason != null) {
+         processingEnv.getMessager().printMessage(NOTE, "No binding for " + type + ", " + reason, type);
+      } else {
+         try {
+            write(type, members);
+         } catch(Exception e) {
+            throw new IllegalStateException("Could not write binding for " + type, e);
+         }
+      }
+   }
+
+   /**
+    * This is used to write the binding for the class provided. The
+    * binding is written in the package of the class, and it is named
+    * after the binary name of the class with the binding suffix.
+    *
+    * @param type this is the class to write the binding for
+    * @param members these are the members that are to be bound
+    */
+   private void write(TypeElement type, List<Member> members) throws Exception {
+      Elements elements = processingEnv.getElementUtils();
+      PackageElement owner = elements.getPackageOf(type);
+      String binary = elements.getBinaryName(type).toString();
+      String name = binary + SUFFIX;
+      String root = getRoot(type);
+      Root label = type.getAnnotation(Root.class);
+      String scope = null;
+
+      if(!owner.isUnnamed()) {
+         scope = owner.getQualifiedName().toString();
+         name = name.substring(scope.length() + 1);
+      }
+      String canonical = type.getQualifiedName().toString();
+      BindingBuilder builder = new BindingBuilder(scope, name, canonical, root, label.strict(), members);
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(binary + SUFFIX, type);
+      Writer writer = file.openWriter();
+
+      try {
+         writer.write(builder.build());
+      } finally {
+         writer.close();
+      }
+   }
+
+   /**
+    * This is used to acquire the root name for the class. This is the
+    * name declared by the <code>Root</code> annotation, or if there is
+    * no name declared it is the simple name of the class with its
+    * first letter in lower case, unless the name is an acronym.
+    *
+    * @param type this is the class to acquire the root name for
+    *
+    * @return this returns the root name for the class
+    */
+   private String getRoot(TypeElement type) {
+      Root label = type.getAnnotation(Root.class);
+      String name = label.name();
+
+      if(name.length() == 0) {
+         char[] array = type.getSimpleName().toString().toCharArray();
+
+         if(array.length > 0) {
+            if(array.length < 2 || !Character.isUpperCase(array[0]) || !Character.isUpperCase(array[1])) {
+               array[0] = Character.toLowerCase(array[0]);
+            }
+         }
+         return new String(array);
+      }
+      return name;
+   }
+
+   /**
+    * This is used to validate the class and collect its members. If
+    * the class can not be bound then this returns the reason it can
+    * not be bound, otherwise the members are ordered as attributes,
+    * then elements, and then the text of the element.
+    *
+    * @param type this is the class that is to be validated
+    * @param members this is used to collect the bound members
+    *
+    * @return this returns the reason the class can not be bound
+    */
+   private String validate(TypeElement type, List<Member> members) {
+      List<Member> attributes = new ArrayList<Member>();
+      List<Member> elements = new ArrayList<Member>();
+      List<Member> text = new ArrayList<Member>();
+      String reason = validateClass(type);
+      boolean empty = false;
+
+      if(reason != null) {
+         return reason;
+      }
+      for(Element child : type.getEnclosedElements()) {
+         ElementKind kind = child.getKind();
+
+         if(kind == ElementKind.FIELD) {
+            reason = validateField((VariableElement)child, attributes, elements, text);
+         } else if(kind == ElementKind.METHOD || kind == ElementKind.CONSTRUCTOR) {
+            reason = validateMethod((ExecutableElement)child);
+
+            if(kind == ElementKind.CONSTRUCTOR) {
+               empty |= ((ExecutableElement)child).getParameters().isEmpty();
+            }
+         }
+         if(reason != null) {
+            return reason;
+         }
+      }
+      if(!empty) {
+         return "it has no constructor without arguments";
+      }
+      if(!text.isEmpty() && !elements.isEmpty()) {
+         return "it declares both text and elements";
+      }
+      if(text.size() > 1) {
+         return "it declares text more than once";
+      }
+      if(isDuplicate(attributes) || isDuplicate(elements)) {
+         return "it declares a name more than once";
+      }
+      members.addAll(attributes);
+      members.addAll(elements);
+      members.addAll(text);
+
+      return null;
+   }
+
+   /**
+    * This is used to validate the declaration of the class. The class
+    * must be a concrete class that extends <code>Object</code>, with no
+    * type parameters, that can be named from its own package, and it
+    * can only declare the <code>Root</code> annotation.
+    *
+    * @param type this is the class that is to be validated
+    *
+    * @return this returns the reason the class can not be bound
+    */
+   private String validateClass(TypeElement type) {
+      TypeMirror base = type.getSuperclass();
+      Types types = processingEnv.getTypeUtils();
+      Elements elements = processingEnv.getElementUtils();
+      TypeMirror object = elements.getTypeElement("java.lang.Object").asType();
+
+      if(type.getModifiers().contains(ABSTRACT)) {
+         return "it is abstract";
+      }
+      if(!type.getTypeParameters().isEmpty()) {
+         return "it declares type parameters";
+      }
+      if(!types.isSameType(base, object)) {
+         return "it extends another class";
+      }
+      if(!isVisible(type)) {
+         return "it is private or not static";
+      }
+      for(AnnotationMirror mirror : type.getAnnotationMirrors()) {
+         String name = getName(mirror);
+
+         if(name.startsWith(PACKAGE) && !name.equals(Root.class.getName())) {
+            return "it is annotated with " + name;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to validate a method or constructor of the class.
+    * If the method or any of its parameters has an annotation from
+    * this framework then the class can not be bound.
+    *
+    * @param method this is the method that is to be validated
+    *
+    * @return this returns the reason the class can not be bound
+    */
+   private String validateMethod(ExecutableElement method) {
+      List<Element> list = new ArrayList<Element>();
+
+      list.add(method);
+      list.addAll(method.getParameters());
+
+      for(Element element : list) {
+         for(AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = getName(mirror);
+
+            if(name.startsWith(PACKAGE)) {
+               return "method " + method + " is annotated with " + name;
+            }
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to validate a field of the class. A field with no
+    * annotation from this framework is ignored, otherwise it must
+    * have exactly one attribute, element, or text annotation that
+    * declares no empty value and no type.
+    *
+    * @param field this is the field that is to be validated
+    * @param attributes this is used to collect the attributes
+    * @param elements this is used to collect the elements
+    * @param text this is used to collect the text
+    *
+    * @return this returns the reason the class can not be bound
+    */
+   private String validateField(VariableElement field, List<Member> attributes, List<Member> elements, List<Member> text) {
+      List<AnnotationMirror> list = new ArrayList<AnnotationMirror>();
+
+      for(AnnotationMirror mirror : field.getAnnotationMirrors()) {
+         if(getName(mirror).startsWith(PACKAGE)) {
+            list.add(mirror);
+         }
+      }
+      if(list.isEmpty()) {
+         return null;
+      }
+      if(list.size() > 1) {
+         return "field " + field + " has more than one annotation";
+      }
+      if(field.getModifiers().contains(STATIC) || field.getModifiers().contains(FINAL)) {
+         return "field " + field + " is static or final";
+      }
+      AnnotationMirror mirror = list.get(0);
+      String annotation = getName(mirror);
+      String reason = validateType(field);
+
+      if(reason != null) {
+         return reason;
+      }
+      if(isDeclared(mirror, "empty") || isDeclared(mirror, "type")) {
+         return "field " + field + " declares an empty value or a type";
+      }
+      if(annotation.equals(Attribute.class.getName())) {
+         attributes.add(getAttribute(field));
+      } else if(annotation.equals(org.simpleframework.xml.Element.class.getName())) {
+         elements.add(getElement(field));
+      } else if(annotation.equals(Text.class.getName())) {
+         text.add(getText(field));
+      } else {
+         return "field " + field + " is annotated with " + annotation;
+      }
+      return null;
+   }
+
+   /**
+    * This is used to validate the type of a field. The type must be a
+    * primitive or a class without type arguments, and it can not be
+    * an array, a collection, or a map, as these are never bound.
+    *
+    * @param field this is the field whose type is to be validated
+    *
+    * @return this returns the reason the class can not be bound
+    */
+   private String validateType(VariableElement field) {
+      TypeMirror type = field.asType();
+      TypeKind kind = type.getKind();
+
+      if(kind.isPrimitive()) {
+         return null;
+      }
+      if(kind != TypeKind.DECLARED) {
+         return "field " + field + " is not a primitive or a class";
+      }
+      if(!((DeclaredType)type).getTypeArguments().isEmpty()) {
+         return "field " + field + " has type arguments";
+      }
+      if(isSubtype(type, "java.util.Collection") || isSubtype(type, "java.util.Map")) {
+         return "field " + field + " is a collection or a map";
+      }
+      return null;
+   }
+
+   /**
+    * This is used to create the member for an attribute field. The
+    * name of the attribute is the name declared by the annotation,
+    * or the name of the field if no name has been declared.
+    *
+    * @param field this is the field that is annotated
+    *
+    * @return this returns the member for the attribute
+    */
+   private Member getAttribute(VariableElement field) {
+      Attribute label = field.getAnnotation(Attribute.class);
+      String name = getName(field, label.name());
+
+      return getMember("attribute", name, field, label.required(), false);
+   }
+
+   /**
+    * This is used to create the member for an element field. The
+    * name of the element is the name declared by the annotation,
+    * or the name of the field if no name has been declared.
+    *
+    * @param field this is the field that is annotated
+    *
+    * @return this returns the member for the element
+    */
+   private Member getElement(VariableElement field) {
+      org.simpleframework.xml.Element label = field.getAnnotation(org.simpleframework.xml.Element.class);
+      String name = getName(field, label.name());
+
+      return getMember("element", name, field, label.required(), label.data());
+   }
+
+   /**
+    * This is used to create the member for the text field. The text
+    * of an element has no name, so the member has no name.
+    *
+    * @param field this is the field that is annotated
+    *
+    * @return this returns the member for the text
+    */
+   private Member getText(VariableElement field) {
+      Text label = field.getAnnotation(Text.class);
+
+      return getMember("text", null, field, label.required(), label.data());
+   }
+
+   /**
+    * This is used to create a member for the field provided. The field
+    * is direct if it is not private and its type can be named from
+    * the package of the class, so that the binding can access it.
+    *
+    * @param kind this is the kind of slot registered for the field
+    * @param name this is the name of the attribute or element
+    * @param field this is the field that is annotated
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    *
+    * @return this returns the member for the field
+    */
+   private Member getMember(String kind, String name, VariableElement field, boolean required, boolean data) {
+      Types types = processingEnv.getTypeUtils();
+      TypeMirror type = types.erasure(field.asType());
+      String value = field.getSimpleName().toString();
+      boolean direct = !field.getModifiers().contains(PRIVATE);
+
+      if(type.getKind() == TypeKind.DECLARED) {
+         direct &= isVisible((TypeElement)types.asElement(type));
+      }
+      return new Member(kind, name, value, type.toString(), required, data, direct);
+   }
+
+   /**
+    * This is used to acquire the name for an attribute or element. If
+    * the annotation declares no name then the field name is used.
+    *
+    * @param field this is the field that is annotated
+    * @param name this is the name declared by the annotation
+    *
+    * @return this returns the name of the attribute or element
+    */
+   private String getName(VariableElement field, String name) {
+      if(name.length() == 0) {
+         return field.getSimpleName().toString();
+      }
+      return name;
+   }
+
+   /**
+    * This is used to acquire the qualified name of the annotation type
+    * for the annotation provided.
+    *
+    * @param mirror this is the annotation to acquire the name for
+    *
+    * @return this returns the qualified name of the annotation type
+    */
+   private String getName(AnnotationMirror mirror) {
+      TypeElement type = (TypeElement)mirror.getAnnotationType().asElement();
+
+      return type.getQualifiedName().toString();
+   }
+
+   /**
+    * This is used to determine if the annotation explicitly declares a
+    * value for the named attribute of the annotation.
+    *
+    * @param mirror this is the annotation that is to be examined
+    * @param name this is the name of the annotation attribute
+    *
+    * @return this returns true if the value has been declared
+    */
+   private boolean isDeclared(AnnotationMirror mirror, String name) {
+      Map<? extends ExecutableElement, ? extends AnnotationValue> values = mirror.getElementValues();
+
+      for(ExecutableElement element : values.keySet()) {
+         if(element.getSimpleName().contentEquals(name)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if the type is a subtype of the named
+    * class. Types are compared by their erasure so that a generic
+    * collection or map is also matched.
+    *
+    * @param type this is the type that is to be examined
+    * @param name this is the qualified name of the class to match
+    *
+    * @return this returns true if the type is a subtype of the class
+    */
+   private boolean isSubtype(TypeMirror type, String name) {
+      Types types = processingEnv.getTypeUtils();
+      Elements elements = processingEnv.getElementUtils();
+      TypeElement parent = elements.getTypeElement(name);
+
+      if(parent != null) {
+         TypeMirror erasure = types.erasure(parent.asType());
+
+         return types.isSubtype(types.erasure(type), erasure);
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if each name declared in the members is
+    * unique. If a name is used twice the schema is not valid, and the
+    * error is left for the class to report at runtime.
+    *
+    * @param members these are the members that are to be examined
+    *
+    * @return this returns true if a name is declared twice
+    */
+   private boolean isDuplicate(List<Member> members) {
+      Set<String> names = new HashSet<String>();
+
+      for(Member member : members) {
+         if(!names.add(member.getName())) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if the class can be named from its own
+    * package. A class can be named if it is a top level class or a
+    * static member class, and neither it nor any class it is nested
+    * within is private.
+    *
+    * @param type this is the class that is to be examined
+    *
+    * @return this returns true if the class can be named
+    */
+   private boolean isVisible(TypeElement type) {
+      while(type != null) {
+         NestingKind nesting = type.getNestingKind();
+
+         if(type.getModifiers().contains(PRIVATE)) {
+            return false;
+         }
+         if(nesting == NestingKind.TOP_LEVEL) {
+            return true;
+         }
+         if(nesting != NestingKind.MEMBER) {
+            return false;
+         }
+         if(type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(STATIC)) {
+            return false;
+         }
+         type = (TypeElement)type.getEnclosingElement();
+      }
+      return true;
+   }
+}
@@ -0,0 +1,212 @@
+/*
+ * Member.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.processor;
+
+/**
+ * The <code>Member</code> object describes a field that is bound by
+ * a compiled binding. Each member is an attribute, an element, or the
+ * text of the element, and it has the index of the slot registered
+ * for it. A member is direct if the binding can access the field
+ * itself, otherwise the binding leaves the field to its base class.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.processor.BindingBuilder
+ */
+class Member {
+
+   /**
+    * This is the kind of slot, which is an attribute, element or text.
+    */
+   private final String kind;
+
+   /**
+    * This is the name of the attribute or element for the member.
+    */
+   private final String name;
+
+   /**
+    * This is the name of the field that the member is declared by.
+    */
+   private final String field;
+
+   /**
+    * This is the source name of the type declared for the field.
+    */
+   private final String type;
+
+   /**
+    * This determines whether a value is required for the member.
+    */
+   private final boolean required;
+
+   /**
+    * This determines whether the value is written as CDATA.
+    */
+   private final boolean data;
+
+   /**
+    * This determines whether the field can be accessed directly.
+    */
+   private final boolean direct;
+
+   /**
+    * This is the index of the slot registered for the member.
+    */
+   private int index;
+
+   /**
+    * Constructor for the <code>Member</code> object. This is used to
+    * describe a field that is to be bound. The type is the name that
+    * is used for the type of the field in the source of the binding.
+    *
+    * @param kind this is the kind of slot registered for the field
+    * @param name this is the name of the attribute or element
+    * @param field this is the name of the field that is bound
+    * @param type this is the source name of the field type
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    * @param direct this determines if the field is accessed directly
+    */
+   public Member(String kind, String name, String field, String type, boolean required, boolean data, boolean direct) {
+      this.required = required;
+      this.direct = direct;
+      this.field = field;
+      this.kind = kind;
+      this.name = name;
+      this.type = type;
+      this.data = data;
+   }
+
+   /**
+    * This is used to acquire the kind of slot for the member. This
+    * is the name of the method used to register the slot, which is
+    * one of attribute, element, or text.
+    *
+    * @return this returns the kind of slot for the member
+    */
+   public String getKind() {
+      return kind;
+   }
+
+   /**
+    * This is used to acquire the name of the attribute or element.
+    * If the member represents the text of the element then this
+    * will return null as the text has no name.
+    *
+    * @return this returns the name of the attribute or element
+    */
+   public String getName() {
+      return name;
+   }
+
+   /**
+    * This is used to acquire the name of the field for the member.
+    * The base class uses this name to find the field, so it must be
+    * a field declared by the bound class.
+    *
+    * @return this returns the name of the field that is bound
+    */
+   public String getField() {
+      return field;
+   }
+
+   /**
+    * This is used to acquire the source name of the field type. For
+    * a primitive field this is the name of the primitive, otherwise
+    * it is the canonical name of the class declared for the field.
+    *
+    * @return this returns the source name of the field type
+    */
+   public String getType() {
+      return type;
+   }
+
+   /**
+    * This is used to determine if a value is required for the member.
+    * This is the value declared by the annotation of the field.
+    *
+    * @return this returns true if the member requires a value
+    */
+   public boolean isRequired() {
+      return required;
+   }
+
+   /**
+    * This is used to determine if the value of the member is to be
+    * written as CDATA. This is the value declared by the annotation
+    * of the field, and it is always false for an attribute.
+    *
+    * @return this returns true if the value is written as CDATA
+    */
+   public boolean isData() {
+      return data;
+   }
+
+   /**
+    * This is used to determine if the field can be accessed directly
+    * by the binding. A field can only be accessed directly if it is
+    * not private and its type can be named in the binding.
+    *
+    * @return this returns true if the field is accessed directly
+    */
+   public boolean isDirect() {
+      return direct;
+   }
+
+   /**
+    * This is used to determine if the member represents an attribute.
+    * Attributes are registered before the elements and the text.
+    *
+    * @return this returns true if the member is an attribute
+    */
+   public boolean isAttribute() {
+      return kind.equals("attribute");
+   }
+
+   /**
+    * This is used to determine if the member represents the text of
+    * the element. Text is registered after all other members.
+    *
+    * @return this returns true if the member is the element text
+    */
+   public boolean isText() {
+      return kind.equals("text");
+   }
+
+   /**
+    * This is used to acquire the index of the slot for the member.
+    * The index is the position the slot was registered in.
+    *
+    * @return this returns the index of the slot for the member
+    */
+   public int getIndex() {
+      return index;
+   }
+
+   /**
+    * This is used to set the index of the slot for the member. This
+    * is set once all members have been ordered for registration.
+    *
+    * @param index this is the index of the slot for the member
+    */
+   public void setIndex(int index) {
+      this.index = index;
+   }
+}
@@ -0,0 +1,141 @@
+package org.simpleframework.xml.processor;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import javax.tools.JavaCompiler.CompilationTask;
+
+import junit.framework.TestCase;
+
+import org.simpleframework.xml.core.Persister;
+
+public class BindingProcessorTest extends TestCase {
+
+   private static final String ORDER =
+   "package example;\n"+
+   "import org.simpleframework.xml.*;\n"+
+   "@Root\n"+
+   "public class Order {\n"+
+   "   @Attribute public int id;\n"+
+   "   @Attribute(name=\"ref\", required=false) private String reference;\n"+
+   "   @Attribute(required=false) Code code;\n"+
+   "   @Element public double total;\n"+
+   "   @Element(data=true) String note;\n"+
+   "   @Element(required=false) public Item item;\n"+
+   "   @Element(required=false) private Hidden hidden;\n"+
+   "   public enum Code { NEW, OLD }\n"+
+   "   @Root(name=\"item\") public static class Item {\n"+
+   "      @Attribute char size;\n"+
+   "      @Text public String value;\n"+
+   "   }\n"+
+   "   @Root private static class Hidden {\n"+
+   "      @Element public boolean flag;\n"+
+   "   }\n"+
+   "}\n";
+
+   private static final String SKIPPED =
+   "package example;\n"+
+   "import java.util.List;\n"+
+   "import org.simpleframework.xml.*;\n"+
+   "@Root\n"+
+   "public class Skipped {\n"+
+   "   @ElementList public List<String> values;\n"+
+   "}\n";
+
+   private static final String SAMPLE =
+   "<order id='12' ref='a-1' code='OLD'>\n"+
+   "   <total>10.5</total>\n"+
+   "   <note><![CDATA[<none>]]></note>\n"+
+   "   <item size='L'>bolt</item>\n"+
+   "   <hidden>\n"+
+   "      <flag>true</flag>\n"+
+   "   </hidden>\n"+
+   "</order>";
+
+   private static class Source extends SimpleJavaFileObject {
+
+      private final String text;
+
+      public Source(String name, String text) {
+         super(new File(name).toURI(), JavaFileObject.Kind.SOURCE);
+         this.text = text;
+      }
+
+      public CharSequence getCharContent(boolean ignore) {
+         return text;
+      }
+   }
+
+   public void testBinding() throws Exception {
+      ClassLoader compiled = compile(true);
+      ClassLoader interpreted = compile(false);
+
+      assertNotNull(compiled.loadClass("example.Order$$Binding"));
+      assertNotNull(compiled.loadClass("example.Order$Item$$Binding"));
+      assertNull(compiled.getResource("example/Order$Hidden$$Binding.class"));
+      assertNull(compiled.getResource("example/Skipped$$Binding.class"));
+      assertNull(interpreted.getResource("example/Order$$Binding.class"));
+
+      String text = write(compiled, SAMPLE);
+
+      assertEquals(text, write(interpreted, SAMPLE));
+      assertEquals(text, write(compiled, text));
+      assertTrue(text.contains("<item size=\"L\">bolt</item>"));
+      assertTrue(text.contains("<![CDATA[<none>]]>"));
+      assertEquals(fail(compiled, SAMPLE.replace("id='12' ", "")), fail(interpreted, SAMPLE.replace("id='12' ", "")));
+      assertEquals(fail(compiled, SAMPLE.replace("<total>", "<other/><total>")), fail(interpreted, SAMPLE.replace("<total>", "<other/><total>")));
+   }
+
+   private static ClassLoader compile(boolean process) throws Exception {
+      JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+      File directory = File.createTempFile("binding", "");
+      List<String> options = new ArrayList<String>();
+
+      directory.delete();
+      directory.mkdirs();
+      options.add("-d");
+      options.add(directory.getPath());
+      options.add("-classpath");
+      options.add(System.getProperty("java.class.path"));
+
+      if(!process) {
+         options.add("-proc:none");
+      }
+      List<Source> sources = Arrays.asList(new Source("Order.java", ORDER), new Source("Skipped.java", SKIPPED));
+      CompilationTask task = compiler.getTask(null, null, null, options, null, sources);
+
+      if(process) {
+         task.setProcessors(Arrays.asList(new BindingProcessor()));
+      }
+      assertTrue(task.call());
+      return new URLClassLoader(new URL[]{directory.toURI().toURL()}, BindingProcessorTest.class.getClassLoader());
+   }
+
+   private static String write(ClassLoader loader, String text) throws Exception {
+      Class type = loader.loadClass("example.Order");
+      Persister persister = new Persister();
+      StringWriter writer = new StringWriter();
+      Object value = persister.read(type, text);
+
+      persister.write(value, writer);
+      return writer.toString();
+   }
+
+   private static String fail(ClassLoader loader, String text) {
+      try {
+         write(loader, text);
+      } catch(Exception e) {
+         return e.getClass().getName() + ": " + e.getMessage();
+      }
+      return null;
+   }
+}
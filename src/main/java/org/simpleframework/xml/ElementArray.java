@@ -105,4 +105,24 @@ public @interface ElementArray {
     * @return false if an optional element is always instantiated
     */
    boolean empty() default true;
+   
+   /**
+    * This is used to determine if the array is written in a compact
+    * form. A compact array is written as a whitespace separated list
+    * of values within the text of the element, rather than as one
+    * XML element for each entry. Only arrays of the numeric primitive
+    * types and <code>boolean</code> can be written in compact form,
+    * and as no length is required the array is sized from the text.
+    * <pre>
+    *
+    *    &lt;array&gt;1 2 3 4 5&lt;/array&gt;
+    * 
+    * </pre>
+    * Values within a compact array are always written in the standard
+    * format for the primitive type, so any transform registered for
+    * the type is not used. By default arrays are not compact.
+    * 
+    * @return true if the array is to be written in compact form
+    */
+   boolean compact() default false;
 }
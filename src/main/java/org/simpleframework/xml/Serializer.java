@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.io.File;
+import java.util.Iterator;
 
 import org.simpleframework.xml.stream.InputNode;
 import org.simpleframework.xml.stream.OutputNode;
@@ -385,6 +386,84 @@ public interface Serializer {
     */ 
    <T> T read(T value, InputNode source, boolean strict) throws Exception;
    
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   <T> Iterator<T> iterate(Class<? extends T> type, InputStream source, String path) throws Exception;
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * @param strict this determines whether to read in strict mode
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   <T> Iterator<T> iterate(Class<? extends T> type, InputStream source, String path, boolean strict) throws Exception;
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   <T> Iterator<T> iterate(Class<? extends T> type, Reader source, String path) throws Exception;
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * @param strict this determines whether to read in strict mode
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   <T> Iterator<T> iterate(Class<? extends T> type, Reader source, String path, boolean strict) throws Exception;
+   
    /**
     * This <code>validate</code> method will validate the contents of
     * the XML document against the specified XML class schema. This is
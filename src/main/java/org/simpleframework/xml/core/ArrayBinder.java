@@ -0,0 +1,136 @@
+/*
+ * ArrayBinder.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import org.simpleframework.xml.util.NumberParser;
+
+/**
+ * The <code>ArrayBinder</code> is used to bind text directly to an
+ * entry of an array with a primitive component type. Rather than 
+ * converting the text of each entry to a wrapper object and setting
+ * the entry with <code>Array.set</code>, the text is parsed straight
+ * to the primitive and stored in the array. Likewise each entry is
+ * formatted without creating a wrapper object for it.
+ * <p>
+ * The text produced and accepted is identical to that of the stock
+ * transforms for the primitive types. As such a binder must only be
+ * used when no transform has been registered for the primitive type
+ * or its wrapper, and when the default strategy is used.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.PrimitiveArray
+ */
+class ArrayBinder {
+
+   /**
+    * This is the primitive component type of the bound arrays.
+    */
+   private final Class type;
+
+   /**
+    * Constructor for the <code>ArrayBinder</code> object. This is
+    * used to create a binder for arrays of the specified type. The
+    * type provided must be one of the eight primitive types.
+    *
+    * @param type this is the primitive component type of the array
+    */
+   public ArrayBinder(Class type) {
+      this.type = type;
+   }
+
+   /**
+    * This is used to parse the provided text and set the primitive
+    * value at the given index of the array. The text is parsed in 
+    * the same way as the stock transform for the primitive type, so
+    * the same exceptions are thrown for text that is not valid.
+    *
+    * @param array this is the array to set the entry value on
+    * @param index this is the index of the entry within the array
+    * @param text this is the text to be parsed to the primitive
+    */
+   public void read(Object array, int index, CharSequence text) throws Exception {
+      int length = text.length();
+      
+      if(type == int.class) {
+         ((int[])array)[index] = NumberParser.parseInt(text, 0, length);
+      } else if(type == double.class) {
+         ((double[])array)[index] = NumberParser.parseDouble(text, 0, length);
+      } else if(type == long.class) {
+         ((long[])array)[index] = NumberParser.parseLong(text, 0, length);
+      } else if(type == boolean.class) {
+         ((boolean[])array)[index] = PrimitiveBinder.readBoolean(text);
+      } else if(type == float.class) {
+         ((float[])array)[index] = NumberParser.parseFloat(text, 0, length);
+      } else if(type == short.class) {
+         ((short[])array)[index] = NumberParser.parseShort(text, 0, length);
+      } else if(type == byte.class) {
+         ((byte[])array)[index] = NumberParser.parseByte(text, 0, length);
+      } else {
+         ((char[])array)[index] = PrimitiveBinder.readCharacter(text);
+      }
+   }
+
+   /**
+    * This is used to acquire the primitive value at the given index
+    * of the array and format it as text. The text produced is the
+    * same as that of the stock transform for the primitive type
+    * however no wrapper object is created to produce it.
+    *
+    * @param array this is the array to acquire the entry value from
+    * @param index this is the index of the entry within the array
+    *
+    * @return this returns the text representing the entry value
+    */
+   public String write(Object array, int index) throws Exception {
+      if(type == int.class) {
+         return Integer.toString(((int[])array)[index]);
+      }
+      if(type == double.class) {
+         return Double.toString(((double[])array)[index]);
+      }
+      if(type == long.class) {
+         return Long.toString(((long[])array)[index]);
+      }
+      if(type == boolean.class) {
+         return String.valueOf(((boolean[])array)[index]);
+      }
+      if(type == float.class) {
+         return Float.toString(((float[])array)[index]);
+      }
+      if(type == short.class) {
+         return Short.toString(((short[])array)[index]);
+      }
+      if(type == byte.class) {
+         return Byte.toString(((byte[])array)[index]);
+      }
+      return String.valueOf(((char[])array)[index]);
+   }
+
+   /**
+    * This is used to provide a description of the binder. This is
+    * useful for debugging as it describes the component type of the
+    * arrays that are bound by this binder.
+    *
+    * @return this returns a description of the bound arrays
+    */
+   public String toString() {
+      return String.format("binder for %s[]", type);
+   }
+}
@@ -0,0 +1,504 @@
+/*
+ * Binding.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Text;
+
+/**
+ * The <code>Binding</code> object is the base class for classes that
+ * read and write the fields of a single schema class directly. Each
+ * binding describes the attributes, elements, and text of the class
+ * as a list of slots, and implementations match names to slots and
+ * access the fields of each slot without going through the schema
+ * that the scanner builds for the class.
+ * <p>
+ * A binding is generated when a class is first serialized, if the
+ * format asks for the generated backend. The class generated extends
+ * this and accesses public fields of public classes directly. Only
+ * classes with plain attributes, elements, and text are bound, any
+ * other class is serialized by interpreting its class schema.
+ * <p>
+ * A binding can also be compiled with the class it binds. The binding
+ * processor writes a binding for each class with a plain schema, and
+ * the compiled binding registers each slot in its constructor using
+ * the name of the field. A compiled binding is found by the name of
+ * the class it binds, and it is used in preference to generating one.
+ * <p>
+ * Every accessor has a default implementation that uses the field
+ * of the slot, so an implementation only needs to provide direct
+ * access for the fields that it can reach. The field of each slot is
+ * made accessible when the slot is added.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.BindingFactory
+ */
+public abstract class Binding {
+
+   /**
+    * This contains the slots declared for the bound class.
+    */
+   private final List<Slot> slots;
+
+   /**
+    * This is the class that the binding reads and writes.
+    */
+   private final Class type;
+
+   /**
+    * This is the root name for the class that is bound.
+    */
+   private final String name;
+
+   /**
+    * This determines if the class is read in strict mode.
+    */
+   private final boolean strict;
+
+   /**
+    * This is the index of the slot for the text of the element.
+    */
+   private int text;
+
+   /**
+    * Constructor for the <code>Binding</code> object. This is used to
+    * create a binding for the specified class. The name and strict
+    * mode given must be those of the <code>Root</code> annotation of
+    * the class so that the binding matches the class schema.
+    *
+    * @param type this is the class that the binding reads and writes
+    * @param name this is the root name for the class that is bound
+    * @param strict this determines if the class is read strictly
+    */
+   protected Binding(Class type, String name, boolean strict) {
+      this.slots = new ArrayList<Slot>();
+      this.strict = strict;
+      this.type = type;
+      this.name = name;
+      this.text = -1;
+   }
+
+   /**
+    * This is used to register an attribute slot for the named field.
+    * The field must be declared by the bound class, and it must be
+    * annotated with the <code>Attribute</code> annotation.
+    *
+    * @param name this is the name of the attribute for the slot
+    * @param field this is the name of the field for the slot
+    * @param required this determines if a value is required
+    */
+   protected void attribute(String name, String field, boolean required) throws Exception {
+      add(Attribute.class, name, field, required, false);
+   }
+
+   /**
+    * This is used to register an element slot for the named field.
+    * The field must be declared by the bound class, and it must be
+    * annotated with the <code>Element</code> annotation.
+    *
+    * @param name this is the name of the element for the slot
+    * @param field this is the name of the field for the slot
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    */
+   protected void element(String name, String field, boolean required, boolean data) throws Exception {
+      add(Element.class, name, field, required, data);
+   }
+
+   /**
+    * This is used to register the slot for the text of the element.
+    * The field must be declared by the bound class, and it must be
+    * annotated with the <code>Text</code> annotation.
+    *
+    * @param field this is the name of the field for the slot
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    */
+   protected void text(String field, boolean required, boolean data) throws Exception {
+      add(Text.class, null, field, required, data);
+   }
+
+   /**
+    * This is used to add a slot for the named field. The slot is
+    * described in the same way as the label for the field would be
+    * described, so that errors are reported in the same way whether
+    * the class is bound or its schema is interpreted.
+    *
+    * @param kind this is the annotation type that declares the slot
+    * @param name this is the name of the attribute or element
+    * @param field this is the name of the field for the slot
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    */
+   private void add(Class kind, String name, String field, boolean required, boolean data) throws Exception {
+      Field value = type.getDeclaredField(field);
+      Annotation label = value.getAnnotation(kind);
+      String description = String.format("%s on field '%s' %s", label, field, value);
+      int index = slots.size();
+
+      if(label == null) {
+         throw new PersistenceException("Field '%s' is not annotated in %s", field, type);
+      }
+      add(new Slot(kind, value, name, required, data, index, description));
+   }
+
+   /**
+    * This is used to add a slot to the binding. The slot must have
+    * the index of its position in the binding, and the field of the
+    * slot is made accessible so that the default accessors can use
+    * it for any field that is not accessed directly.
+    *
+    * @param slot this is the slot that is to be added to the binding
+    */
+   void add(Slot slot) {
+      Field field = slot.getField();
+
+      if(slot.isText()) {
+         text = slot.getIndex();
+      }
+      if(!field.isAccessible()) {
+         field.setAccessible(true);
+      }
+      slots.add(slot);
+   }
+
+   /**
+    * This is used to acquire the slots declared for the binding. The
+    * slots are in the order that they were declared, which is the
+    * order that attributes and elements are written.
+    *
+    * @return this returns the slots declared for the binding
+    */
+   List<Slot> getSlots() {
+      return slots;
+   }
+
+   /**
+    * This is used to acquire the class that the binding reads and
+    * writes. A binding is only ever used for this exact class, and
+    * never for a subclass of it.
+    *
+    * @return this returns the class that the binding is for
+    */
+   Class getType() {
+      return type;
+   }
+
+   /**
+    * This is used to acquire the root name of the bound class. This
+    * is the name that the <code>Root</code> annotation provides, and
+    * it is used instead of scanning the class for the name.
+    *
+    * @return this returns the root name of the bound class
+    */
+   String getName() {
+      return name;
+   }
+
+   /**
+    * This is used to determine if the bound class is read strictly.
+    * In strict mode an attribute or element that does not match a
+    * slot is reported, otherwise it is ignored.
+    *
+    * @return this returns true if the class is read strictly
+    */
+   boolean isStrict() {
+      return strict;
+   }
+
+   /**
+    * This is used to acquire the index of the slot for the text of
+    * the element. If the binding has no slot for the text of the
+    * element then this returns a negative value.
+    *
+    * @return this returns the index of the slot for the text
+    */
+   int getText() {
+      return text;
+   }
+
+   /**
+    * This is used to acquire the field of the specified slot. The
+    * field is accessible, so it can be used by an implementation to
+    * access a field that it can not reach directly.
+    *
+    * @param slot this is the index of the slot to get the field for
+    *
+    * @return this returns the field of the specified slot
+    */
+   protected Field getField(int slot) {
+      return slots.get(slot).getField();
+   }
+
+   /**
+    * This is used to match an attribute name to a slot. If there is
+    * no attribute slot with the name then this must return a value
+    * that is negative, so that the attribute is not bound.
+    *
+    * @param name this is the name of the attribute to be matched
+    *
+    * @return this returns the index of the slot for the attribute
+    */
+   protected abstract int getAttribute(String name);
+
+   /**
+    * This is used to match an element name to a slot. If there is
+    * no element slot with the name then this must return a value
+    * that is negative, so that the element is not bound.
+    *
+    * @param name this is the name of the element to be matched
+    *
+    * @return this returns the index of the slot for the element
+    */
+   protected abstract int getElement(String name);
+
+   /**
+    * This is used to get the value of the specified slot. If the
+    * slot has a primitive type the value returned is the wrapper of
+    * the primitive, as is the case for <code>Field.get</code>.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected Object get(Object source, int slot) throws Exception {
+      return getField(slot).get(source);
+   }
+
+   /**
+    * This is used to set the value of the specified slot. If the
+    * slot has a primitive type the value given is the wrapper of
+    * the primitive, as is the case for <code>Field.set</code>.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void set(Object source, int slot, Object value) throws Exception {
+      getField(slot).set(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type boolean. This
+    * must only be used for slots declared with a boolean field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected boolean getBoolean(Object source, int slot) throws Exception {
+      return getField(slot).getBoolean(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type boolean. This
+    * must only be used for slots declared with a boolean field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setBoolean(Object source, int slot, boolean value) throws Exception {
+      getField(slot).setBoolean(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type byte. This
+    * must only be used for slots declared with a byte field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected byte getByte(Object source, int slot) throws Exception {
+      return getField(slot).getByte(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type byte. This
+    * must only be used for slots declared with a byte field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setByte(Object source, int slot, byte value) throws Exception {
+      getField(slot).setByte(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type char. This
+    * must only be used for slots declared with a char field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected char getChar(Object source, int slot) throws Exception {
+      return getField(slot).getChar(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type char. This
+    * must only be used for slots declared with a char field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setChar(Object source, int slot, char value) throws Exception {
+      getField(slot).setChar(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type short. This
+    * must only be used for slots declared with a short field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected short getShort(Object source, int slot) throws Exception {
+      return getField(slot).getShort(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type short. This
+    * must only be used for slots declared with a short field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setShort(Object source, int slot, short value) throws Exception {
+      getField(slot).setShort(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type int. This
+    * must only be used for slots declared with an int field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected int getInt(Object source, int slot) throws Exception {
+      return getField(slot).getInt(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type int. This
+    * must only be used for slots declared with an int field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setInt(Object source, int slot, int value) throws Exception {
+      getField(slot).setInt(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type long. This
+    * must only be used for slots declared with a long field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected long getLong(Object source, int slot) throws Exception {
+      return getField(slot).getLong(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type long. This
+    * must only be used for slots declared with a long field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setLong(Object source, int slot, long value) throws Exception {
+      getField(slot).setLong(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type float. This
+    * must only be used for slots declared with a float field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected float getFloat(Object source, int slot) throws Exception {
+      return getField(slot).getFloat(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type float. This
+    * must only be used for slots declared with a float field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setFloat(Object source, int slot, float value) throws Exception {
+      getField(slot).setFloat(source, value);
+   }
+
+   /**
+    * This is used to get the value of a slot of type double. This
+    * must only be used for slots declared with a double field.
+    *
+    * @param source this is the object to get the value from
+    * @param slot this is the index of the slot to get the value of
+    *
+    * @return this returns the value of the slot for the object
+    */
+   protected double getDouble(Object source, int slot) throws Exception {
+      return getField(slot).getDouble(source);
+   }
+
+   /**
+    * This is used to set the value of a slot of type double. This
+    * must only be used for slots declared with a double field.
+    *
+    * @param source this is the object to set the value on
+    * @param slot this is the index of the slot to set the value of
+    * @param value this is the value to be set for the slot
+    */
+   protected void setDouble(Object source, int slot, double value) throws Exception {
+      getField(slot).setDouble(source, value);
+   }
+}
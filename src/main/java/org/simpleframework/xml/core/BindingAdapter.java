@@ -0,0 +1,805 @@
+/*
+ * BindingAdapter.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.simpleframework.xml.strategy.Type;
+import org.simpleframework.xml.stream.Appender;
+import org.simpleframework.xml.stream.InputNode;
+import org.simpleframework.xml.stream.NodeAppender;
+import org.simpleframework.xml.stream.NodeMap;
+import org.simpleframework.xml.stream.OutputNode;
+import org.simpleframework.xml.stream.Position;
+import org.simpleframework.xml.util.NumberParser;
+
+/**
+ * The <code>BindingAdapter</code> is used to read and write objects
+ * with a <code>Binding</code> within a single context. It does for
+ * a bound class what the <code>Composite</code> converter does with
+ * the schema of a class, and it follows the same rules. Attributes
+ * and elements are matched to slots by the binding, required values
+ * are validated, and the same exceptions are thrown with the same
+ * messages, so the XML accepted and produced is identical.
+ * <p>
+ * Slots with a primitive type are read and written with the typed
+ * accessors of the binding when the stock transforms are in use, as
+ * is done for fields by the <code>PrimitiveBinder</code>. All other
+ * slots use the converter for the type of the slot, so values such
+ * as strings, enumerations, and composite objects are serialized as
+ * they would be for a field of the same type.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.Binding
+ */
+class BindingAdapter {
+
+   /**
+    * This is used to record that a slot has been read.
+    */
+   private static final byte SEEN = 1;
+
+   /**
+    * This is used to record that a value was read by a converter.
+    */
+   private static final byte COLLECTED = 2;
+
+   /**
+    * This contains the converters created for the primitive slots.
+    */
+   private final Converter[] converters;
+
+   /**
+    * This determines which slots use the typed accessors.
+    */
+   private final boolean[] primitives;
+
+   /**
+    * This contains the slots for the attributes of the class.
+    */
+   private final Slot[] attributes;
+
+   /**
+    * This contains the slots for the elements of the class.
+    */
+   private final Slot[] elements;
+
+   /**
+    * This contains the declared type of the field for each slot.
+    */
+   private final Type[] types;
+
+   /**
+    * This is the binding used to read and write the bound fields.
+    */
+   private final Binding binding;
+
+   /**
+    * This is the context object used for the serialization.
+    */
+   private final Context context;
+
+   /**
+    * This is the support used to convert the attribute values.
+    */
+   private final Support support;
+
+   /**
+    * This is the slot for the text of the element if it has one.
+    */
+   private final Slot text;
+
+   /**
+    * This determines if attributes and elements must be matched.
+    */
+   private final boolean strict;
+
+   /**
+    * Constructor for the <code>BindingAdapter</code> object. This is
+    * used to create an adapter for the binding within the context.
+    * The slots that use the typed accessors are determined here, as
+    * this depends on the transforms used by the context.
+    *
+    * @param context this is the context object for serialization
+    * @param binding this is the binding used to access the fields
+    */
+   public BindingAdapter(Context context, Binding binding) throws Exception {
+      this.strict = context.isStrict() && binding.isStrict();
+      this.support = context.getSupport();
+      this.attributes = getSlots(binding, true);
+      this.elements = getSlots(binding, false);
+      this.text = getText(binding);
+      this.types = getTypes(binding);
+      this.primitives = getPrimitives(binding);
+      this.converters = new Converter[types.length];
+      this.binding = binding;
+      this.context = context;
+   }
+
+   /**
+    * This is used to acquire the attribute or element slots of the
+    * binding. The slots are acquired in the order they have been
+    * declared, which is the order that they are to be written in.
+    *
+    * @param binding this is the binding to acquire the slots from
+    * @param attribute if true the attribute slots are acquired
+    *
+    * @return this returns the attribute or element slots
+    */
+   private Slot[] getSlots(Binding binding, boolean attribute) {
+      List<Slot> slots = binding.getSlots();
+      List<Slot> list = new ArrayList<Slot>();
+
+      for(Slot slot : slots) {
+         if(!slot.isText() && slot.isAttribute() == attribute) {
+            list.add(slot);
+         }
+      }
+      return list.toArray(new Slot[0]);
+   }
+
+   /**
+    * This is used to acquire the slot for the text of the element.
+    * If the binding does not have a slot for the text then this
+    * will return null and no text is read or written.
+    *
+    * @param binding this is the binding to acquire the slot from
+    *
+    * @return this returns the slot for the text of the element
+    */
+   private Slot getText(Binding binding) {
+      List<Slot> slots = binding.getSlots();
+      int index = binding.getText();
+
+      if(index >= 0) {
+         return slots.get(index);
+      }
+      return null;
+   }
+
+   /**
+    * This is used to acquire the declared type of each slot. The type
+    * is used to create the converter for the slot and to allow the
+    * strategy to describe values of a different type.
+    *
+    * @param binding this is the binding to acquire the types for
+    *
+    * @return this returns the declared type of each of the slots
+    */
+   private Type[] getTypes(Binding binding) {
+      List<Slot> slots = binding.getSlots();
+      Type[] list = new Type[slots.size()];
+
+      for(Slot slot : slots) {
+         Class type = slot.getType();
+         int index = slot.getIndex();
+
+         list[index] = new ClassType(type);
+      }
+      return list;
+   }
+
+   /**
+    * This is used to determine which slots use the typed accessors.
+    * A slot can only use them if it has a primitive type, and if no
+    * transform has been registered for the type or its wrapper.
+    *
+    * @param binding this is the binding to examine the slots of
+    *
+    * @return this returns true for each slot that is primitive
+    */
+   private boolean[] getPrimitives(Binding binding) throws Exception {
+      List<Slot> slots = binding.getSlots();
+      boolean[] list = new boolean[slots.size()];
+
+      for(Slot slot : slots) {
+         Class type = slot.getType();
+         Class real = Support.getPrimitive(type);
+         int index = slot.getIndex();
+
+         if(type.isPrimitive()) {
+            if(support.getTransform(type) == null && support.getTransform(real) == null) {
+               list[index] = true;
+            }
+         }
+      }
+      return list;
+   }
+
+   /**
+    * This is used to read the XML element in to the object provided.
+    * The text of the element is read first, then the attributes and
+    * then the elements, which is the order used for a class schema.
+    * Each slot may be matched only once for the element.
+    *
+    * @param node this is the XML element to be read in to the object
+    * @param source this is the object that the values are set on
+    */
+   public void read(InputNode node, Object source) throws Exception {
+      byte[] done = new byte[types.length];
+
+      readText(node, source);
+      readAttributes(node, source, done);
+      readElements(node, source, done);
+   }
+
+   /**
+    * This is used to read the text of the element in to the slot for
+    * the text. If there is no slot for the text of the element then
+    * the text of the element is ignored.
+    *
+    * @param node this is the XML element to read the text from
+    * @param source this is the object that the text is set on
+    */
+   private void readText(InputNode node, Object source) throws Exception {
+      if(text != null) {
+         int index = text.getIndex();
+
+         if(primitives[index]) {
+            readPrimitive(node, source, text);
+         } else {
+            readInstance(node, source, text);
+         }
+      }
+   }
+
+   /**
+    * This is used to read the attributes of the element in to their
+    * slots. If an attribute does not match a slot and the class is
+    * read strictly then an exception is thrown. Once all attributes
+    * have been read the required attribute slots are validated.
+    *
+    * @param node this is the XML element to read the attributes of
+    * @param source this is the object that the values are set on
+    * @param done this records the slots that have been read
+    */
+   private void readAttributes(InputNode node, Object source, byte[] done) throws Exception {
+      NodeMap<InputNode> list = node.getAttributes();
+
+      for(String name : list) {
+         InputNode value = node.getAttribute(name);
+
+         if(value != null) {
+            int index = binding.getAttribute(name);
+
+            if(index < 0) {
+               Position line = value.getPosition();
+               Class expect = source.getClass();
+
+               if(strict) {
+                  throw new AttributeException("Attribute '%s' does not have a match in %s at %s", name, expect, line);
+               }
+            } else {
+               readValue(value, source, index, done);
+            }
+         }
+      }
+      validate(node, source, attributes, done);
+   }
+
+   /**
+    * This is used to read the child elements of the element in to
+    * their slots. If an element does not match a slot, or matches a
+    * slot that has already been read, it is treated as the schema of
+    * the class would treat it. Once all elements have been read the
+    * required element slots are validated.
+    *
+    * @param node this is the XML element to read the children of
+    * @param source this is the object that the values are set on
+    * @param done this records the slots that have been read
+    */
+   private void readElements(InputNode node, Object source, byte[] done) throws Exception {
+      InputNode child = node.getNext();
+
+      while(child != null) {
+         String name = child.getName();
+         int index = binding.getElement(name);
+
+         if(index < 0 || done[index] == SEEN) {
+            Position line = child.getPosition();
+            Class expect = source.getClass();
+
+            if(strict) {
+               throw new ElementException("Element '%s' does not have a match in %s at %s", name, expect, line);
+            } else {
+               child.skip();
+            }
+         } else {
+            readElement(child, source, index, done);
+         }
+         child = node.getNext();
+      }
+      validate(node, source, elements, done);
+   }
+
+   /**
+    * This is used to read an element in to its slot. If a value has
+    * already been read for the slot then an exception is thrown as
+    * the element is not repeatable. If the slot is primitive and the
+    * element has no attributes it is bound with a typed accessor.
+    *
+    * @param node this is the XML element to read the value from
+    * @param source this is the object that the value is set on
+    * @param index this is the index of the slot for the element
+    * @param done this records the slots that have been read
+    */
+   private void readElement(InputNode node, Object source, int index, byte[] done) throws Exception {
+      Slot slot = binding.getSlots().get(index);
+
+      if(done[index] == COLLECTED) {
+         Position line = node.getPosition();
+         String name = node.getName();
+
+         throw new PersistenceException("Element '%s' is already used with %s at %s", name, slot, line);
+      }
+      if(primitives[index] && isPlain(node)) {
+         readPrimitive(node, source, slot);
+         done[index] = SEEN;
+      } else {
+         readValue(node, source, index, done);
+      }
+   }
+
+   /**
+    * This is used to read the value of an attribute or an element in
+    * to its slot. The slot is recorded as having been read, and if a
+    * value was read by the converter of the slot this is recorded so
+    * that a repeated element can be reported.
+    *
+    * @param node this is the XML node to read the value from
+    * @param source this is the object that the value is set on
+    * @param index this is the index of the slot for the node
+    * @param done this records the slots that have been read
+    */
+   private void readValue(InputNode node, Object source, int index, byte[] done) throws Exception {
+      Slot slot = binding.getSlots().get(index);
+
+      if(primitives[index]) {
+         readPrimitive(node, source, slot);
+         done[index] = SEEN;
+      } else {
+         Object value = readInstance(node, source, slot);
+
+         if(value != null) {
+            done[index] = COLLECTED;
+         } else {
+            done[index] = SEEN;
+         }
+      }
+   }
+
+   /**
+    * This is used to determine if the element has no attributes. An
+    * element with attributes is read with the converter for the slot
+    * so that the strategy can examine the attributes.
+    *
+    * @param node this is the XML element that is to be examined
+    *
+    * @return this returns true if the element has no attributes
+    */
+   private boolean isPlain(InputNode node) throws Exception {
+      NodeMap<InputNode> attributes = node.getAttributes();
+      Iterator<String> names = attributes.iterator();
+
+      return !names.hasNext();
+   }
+
+   /**
+    * This is used to read the value of a node with the converter for
+    * the slot. If the value is null and is required an exception is
+    * thrown, otherwise the value read is set on the slot.
+    *
+    * @param node this is the XML node to read the value from
+    * @param source this is the object that the value is set on
+    * @param slot this is the slot that the value is read for
+    *
+    * @return this returns the value that has been read, or null
+    */
+   private Object readInstance(InputNode node, Object source, Slot slot) throws Exception {
+      Converter reader = getConverter(slot);
+      Object value = reader.read(node);
+      int index = slot.getIndex();
+
+      if(value == null) {
+         Position line = node.getPosition();
+         Class expect = source.getClass();
+
+         if(slot.isRequired()) {
+            throw new ValueRequiredException("Empty value for %s in %s at %s", slot, expect, line);
+         }
+      } else {
+         binding.set(source, index, value);
+      }
+      return value;
+   }
+
+   /**
+    * This is used to read the text of a node in to a primitive slot.
+    * The text is parsed in the same way as the stock transform for
+    * the primitive type and set with the typed accessor of the slot.
+    *
+    * @param node this is the XML node to read the text from
+    * @param source this is the object that the value is set on
+    * @param slot this is the slot that the value is read for
+    */
+   private void readPrimitive(InputNode node, Object source, Slot slot) throws Exception {
+      String value = node.getValue();
+
+      if(value == null) {
+         Position line = node.getPosition();
+         Class expect = source.getClass();
+
+         if(slot.isRequired()) {
+            throw new ValueRequiredException("Empty value for %s in %s at %s", slot, expect, line);
+         }
+      } else {
+         String text = context.getProperty(value);
+
+         readPrimitive(source, slot, text);
+      }
+   }
+
+   /**
+    * This is used to parse the text provided and set the value on
+    * the primitive slot. The text is parsed exactly as it is for a
+    * field by the <code>PrimitiveBinder</code>, so the same values
+    * are accepted and the same exceptions are thrown.
+    *
+    * @param source this is the object that the value is set on
+    * @param slot this is the slot that the value is set for
+    * @param text this is the text to be parsed for the value
+    */
+   private void readPrimitive(Object source, Slot slot, String text) throws Exception {
+      Class type = slot.getType();
+      int index = slot.getIndex();
+      int length = text.length();
+
+      if(type == int.class) {
+         binding.setInt(source, index, NumberParser.parseInt(text, 0, length));
+      } else if(type == double.class) {
+         binding.setDouble(source, index, NumberParser.parseDouble(text, 0, length));
+      } else if(type == long.class) {
+         binding.setLong(source, index, NumberParser.parseLong(text, 0, length));
+      } else if(type == boolean.class) {
+         binding.setBoolean(source, index, PrimitiveBinder.readBoolean(text));
+      } else if(type == float.class) {
+         binding.setFloat(source, index, NumberParser.parseFloat(text, 0, length));
+      } else if(type == short.class) {
+         binding.setShort(source, index, NumberParser.parseShort(text, 0, length));
+      } else if(type == byte.class) {
+         binding.setByte(source, index, NumberParser.parseByte(text, 0, length));
+      } else {
+         binding.setChar(source, index, PrimitiveBinder.readCharacter(text));
+      }
+   }
+
+   /**
+    * This is used to validate that each of the required slots given
+    * has been read. If a required slot has not been matched by an
+    * attribute or element then an exception is thrown.
+    *
+    * @param node this is the XML element that has been read
+    * @param source this is the object that has been read
+    * @param slots these are the slots that are to be validated
+    * @param done this records the slots that have been read
+    */
+   private void validate(InputNode node, Object source, Slot[] slots, byte[] done) throws Exception {
+      for(Slot slot : slots) {
+         int index = slot.getIndex();
+
+         if(done[index] == 0 && slot.isRequired()) {
+            Position line = node.getPosition();
+            Class expect = source.getClass();
+
+            throw new ValueRequiredException("Unable to satisfy %s for %s at %s", slot, expect, line);
+         }
+      }
+   }
+
+   /**
+    * This is used to write the object provided to the XML element.
+    * The attributes are written first, then the elements, and then
+    * the text of the element, each in the order they are declared.
+    *
+    * @param node this is the XML element to write the object to
+    * @param source this is the object that is to be written
+    */
+   public void write(OutputNode node, Object source) throws Exception {
+      for(Slot slot : attributes) {
+         writeAttribute(node, source, slot);
+      }
+      for(Slot slot : elements) {
+         writeElement(node, source, slot);
+      }
+      if(text != null) {
+         writeText(node, source, text);
+      }
+   }
+
+   /**
+    * This is used to write the value of a slot as an attribute. If
+    * the value is null then nothing is written, unless a value is
+    * required in which case an exception is thrown.
+    *
+    * @param node this is the XML element to write the attribute to
+    * @param source this is the object the value is taken from
+    * @param slot this is the slot that is to be written
+    */
+   private void writeAttribute(OutputNode node, Object source, Slot slot) throws Exception {
+      String name = slot.getName();
+      int index = slot.getIndex();
+
+      if(primitives[index]) {
+         String text = writePrimitive(source, slot);
+
+         node.setAttribute(name, text);
+      } else {
+         Object value = binding.get(source, index);
+         Class expect = source.getClass();
+
+         if(value == null && slot.isRequired()) {
+            throw new AttributeException("Value for %s is null in %s", slot, expect);
+         }
+         if(value != null) {
+            Appender appender = getAppender(value);
+
+            if(appender != null) {
+               NodeAppender.setAttribute(node, name, value, appender);
+            } else {
+               String text = getText(value);
+
+               node.setAttribute(name, text);
+            }
+         }
+      }
+   }
+
+   /**
+    * This is used to write the value of a slot as an element. If the
+    * value is null then nothing is written, unless a value is required
+    * in which case an exception is thrown. Values of other types are
+    * replaced as requested by the class of the value before writing.
+    *
+    * @param node this is the XML element to write the element to
+    * @param source this is the object the value is taken from
+    * @param slot this is the slot that is to be written
+    */
+   private void writeElement(OutputNode node, Object source, Slot slot) throws Exception {
+      String name = slot.getName();
+      int index = slot.getIndex();
+
+      if(primitives[index]) {
+         String text = writePrimitive(source, slot);
+         OutputNode next = node.getChild(name);
+         boolean data = slot.isData();
+
+         next.setData(data);
+         next.setValue(text);
+      } else {
+         Object value = binding.get(source, index);
+         Class expect = source.getClass();
+
+         if(value == null && slot.isRequired()) {
+            throw new ElementException("Value for %s is null in %s", slot, expect);
+         }
+         if(value != null) {
+            Object replace = writeReplace(value);
+
+            if(replace != null) {
+               writeValue(node, replace, slot);
+            }
+         }
+      }
+   }
+
+   /**
+    * This is used to write the value provided as an element. The
+    * namespaces of the declared type are applied to the element, and
+    * unless the strategy writes the value it is written using the
+    * converter for the declared type of the slot. For a primitive
+    * type the strategy is given the wrapper type, as the value is
+    * always a wrapper when it reaches the strategy.
+    *
+    * @param node this is the XML element to write the element to
+    * @param value this is the value that is to be written
+    * @param slot this is the slot that the value is written for
+    */
+   private void writeValue(OutputNode node, Object value, Slot slot) throws Exception {
+      Class expect = slot.getType();
+      Decorator primary = context.getDecorator(expect);
+      int index = slot.getIndex();
+      String name = slot.getName();
+      OutputNode next = node.getChild(name);
+      Type type = types[index];
+
+      if(expect.isPrimitive()) {
+         type = new OverrideType(type, Support.getPrimitive(expect));
+      }
+      if(primary != null) {
+         primary.decorate(next);
+      }
+      if(!context.setOverride(type, value, next)) {
+         Converter convert = getConverter(slot);
+         boolean data = slot.isData();
+
+         next.setData(data);
+         convert.write(next, value);
+      }
+   }
+
+   /**
+    * This is used to replace a value before it is written. Values
+    * that are transformed and values that are bound can not declare
+    * a replace method, so only other values are given to the caller
+    * for the type of the value to be replaced.
+    *
+    * @param value this is the value that is to be replaced
+    *
+    * @return this returns the value that is to be written
+    */
+   private Object writeReplace(Object value) throws Exception {
+      Class type = value.getClass();
+
+      if(context.isPrimitive(type)) {
+         return value;
+      }
+      if(context.getBinding(type) != null) {
+         return value;
+      }
+      return context.getCaller(type).replace(value);
+   }
+
+   /**
+    * This is used to write the value of a slot as the text of the
+    * element. If the value is null then nothing is written, unless
+    * a value is required in which case an exception is thrown.
+    *
+    * @param node this is the XML element to write the text to
+    * @param source this is the object the value is taken from
+    * @param slot this is the slot that is to be written
+    */
+   private void writeText(OutputNode node, Object source, Slot slot) throws Exception {
+      boolean data = slot.isData();
+      int index = slot.getIndex();
+
+      if(primitives[index]) {
+         String text = writePrimitive(source, slot);
+
+         node.setData(data);
+         node.setValue(text);
+      } else {
+         Object value = binding.get(source, index);
+         Class expect = source.getClass();
+
+         if(value == null && slot.isRequired()) {
+            throw new TextException("Value for %s is null in %s", slot, expect);
+         }
+         if(value != null) {
+            Appender appender = getAppender(value);
+
+            node.setData(data);
+
+            if(appender != null) {
+               NodeAppender.setValue(node, value, appender);
+            } else {
+               String text = getText(value);
+
+               node.setValue(text);
+            }
+         }
+      }
+   }
+
+   /**
+    * This is used to format the value of a primitive slot. The text
+    * produced is identical to that of the stock transform for the
+    * primitive type, and no wrapper object is created for the value.
+    *
+    * @param source this is the object the value is taken from
+    * @param slot this is the slot that is to be formatted
+    *
+    * @return this returns the text for the value of the slot
+    */
+   private String writePrimitive(Object source, Slot slot) throws Exception {
+      Class type = slot.getType();
+      int index = slot.getIndex();
+
+      if(type == int.class) {
+         return Integer.toString(binding.getInt(source, index));
+      }
+      if(type == double.class) {
+         return Double.toString(binding.getDouble(source, index));
+      }
+      if(type == long.class) {
+         return Long.toString(binding.getLong(source, index));
+      }
+      if(type == boolean.class) {
+         return String.valueOf(binding.getBoolean(source, index));
+      }
+      if(type == float.class) {
+         return Float.toString(binding.getFloat(source, index));
+      }
+      if(type == short.class) {
+         return Short.toString(binding.getShort(source, index));
+      }
+      if(type == byte.class) {
+         return Byte.toString(binding.getByte(source, index));
+      }
+      return String.valueOf(binding.getChar(source, index));
+   }
+
+   /**
+    * This is used to acquire the appender for the value provided. An
+    * appender is only available if the transform for the type of the
+    * value can append the text straight to the output.
+    *
+    * @param value this is the value to acquire the appender for
+    *
+    * @return this returns the appender for the value or null
+    */
+   private Appender getAppender(Object value) throws Exception {
+      Class type = value.getClass();
+
+      return support.getAppender(type);
+   }
+
+   /**
+    * This is used to acquire the text for the value provided. The
+    * text is produced by the transform for the type of the value,
+    * which is how the text of an attribute is always produced.
+    *
+    * @param value this is the value to acquire the text for
+    *
+    * @return this returns the text produced for the value
+    */
+   private String getText(Object value) throws Exception {
+      Class type = value.getClass();
+
+      return support.write(value, type);
+   }
+
+   /**
+    * This is used to acquire the converter for the slot. A converter
+    * for a primitive type is created once and then reused, however
+    * a composite converter is created for each value as it collects
+    * state while a value is read or written.
+    *
+    * @param slot this is the slot to acquire the converter for
+    *
+    * @return this returns the converter for the declared type
+    */
+   private Converter getConverter(Slot slot) throws Exception {
+      int index = slot.getIndex();
+      Converter converter = converters[index];
+
+      if(converter == null) {
+         Type type = types[index];
+
+         if(!context.isPrimitive(type)) {
+            return new Composite(context, type);
+         }
+         converter = new Primitive(context, type);
+         converters[index] = converter;
+      }
+      return converter;
+   }
+}
@@ -0,0 +1,193 @@
+/*
+ * BindingFactory.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import static org.simpleframework.xml.stream.Backend.GENERATE;
+
+import org.simpleframework.xml.stream.Backend;
+import org.simpleframework.xml.stream.Format;
+import org.simpleframework.xml.stream.Style;
+import org.simpleframework.xml.util.Cache;
+import org.simpleframework.xml.util.ConcurrentCache;
+
+/**
+ * The <code>BindingFactory</code> is used to acquire the binding for
+ * a schema class. If a binding has been compiled for the class then
+ * it is used, otherwise a binding is generated for a class when it is
+ * first requested if the format asks for the generated backend. Each
+ * binding is cached so that the class is only ever examined once, and
+ * classes that can not be bound are also remembered.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.BindingGenerator
+ */
+class BindingFactory {
+
+   /**
+    * This is the suffix added to the name of the bound class.
+    */
+   private static final String SUFFIX = "$$Binding";
+
+   /**
+    * This is used to cache the bindings acquired for each class.
+    */
+   private final Cache<Binding> bindings;
+
+   /**
+    * This is used to cache the classes that can not be bound.
+    */
+   private final Cache<Class> unbound;
+
+   /**
+    * This is used to generate the binding for each class.
+    */
+   private final BindingGenerator generator;
+
+   /**
+    * This is used to determine if a compiled binding can be used.
+    */
+   private final Support support;
+
+   /**
+    * This is the backend that the format has asked for.
+    */
+   private final Backend backend;
+
+   /**
+    * This is the style used to name the attributes and elements.
+    */
+   private final Style style;
+
+   /**
+    * Constructor for the <code>BindingFactory</code> object. This is
+    * used to create a factory that generates bindings if the format
+    * provided asks for the generated backend.
+    *
+    * @param support this is used to acquire the class scanners
+    * @param format this is the format used for serialization
+    */
+   public BindingFactory(Support support, Format format) {
+      this.generator = new BindingGenerator(support);
+      this.bindings = new ConcurrentCache<Binding>();
+      this.unbound = new ConcurrentCache<Class>();
+      this.backend = format.getBackend();
+      this.style = format.getStyle();
+      this.support = support;
+   }
+
+   /**
+    * This is used to acquire the binding for the specified class. If
+    * no binding has been compiled for the class, and the class can not
+    * be bound or the format does not ask for the generated backend,
+    * then this returns null and the class schema is interpreted.
+    *
+    * @param type this is the class to acquire the binding for
+    *
+    * @return this returns the binding for the class or null
+    */
+   public Binding getInstance(Class type) throws Exception {
+      Binding binding = bindings.fetch(type);
+
+      if(binding == null) {
+         if(unbound.contains(type)) {
+            return null;
+         }
+         binding = getCompiled(type);
+
+         if(binding == null && backend == GENERATE) {
+            binding = generator.generate(type);
+         }
+         if(binding == null) {
+            unbound.cache(type, type);
+         } else {
+            bindings.cache(type, binding);
+         }
+      }
+      return binding;
+   }
+
+   /**
+    * This is used to acquire the binding compiled for the class. The
+    * binding is loaded by the class loader of the class, and it is
+    * only used if it matches the schema the class would have with the
+    * format and transforms used by the support object.
+    *
+    * @param type this is the class to acquire the binding for
+    *
+    * @return this returns the compiled binding for the class or null
+    */
+   private Binding getCompiled(Class type) throws Exception {
+      ClassLoader loader = type.getClassLoader();
+
+      if(loader != null) {
+         try {
+            Class result = Class.forName(type.getName() + SUFFIX, true, loader);
+            Binding binding = (Binding)result.newInstance();
+
+            if(isCompiled(type, binding)) {
+               return binding;
+            }
+         } catch(Exception e) {
+            return null;
+         } catch(LinkageError e) {
+            return null;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to determine if the compiled binding can be used.
+    * The binding must be for the class specified, the style must not
+    * change the names declared, and the types of the attribute and
+    * text slots must be transformed by the support object, as the
+    * processor can not know which style and transforms are used.
+    *
+    * @param type this is the class the binding has been loaded for
+    * @param binding this is the compiled binding to be examined
+    *
+    * @return this returns true if the compiled binding can be used
+    */
+   private boolean isCompiled(Class type, Binding binding) throws Exception {
+      if(binding.getType() != type) {
+         return false;
+      }
+      for(Slot slot : binding.getSlots()) {
+         Class value = slot.getType();
+         String name = slot.getName();
+
+         if(slot.isAttribute()) {
+            if(!name.equals(style.getAttribute(name))) {
+               return false;
+            }
+         } else if(!slot.isText()) {
+            if(!name.equals(style.getElement(name))) {
+               return false;
+            }
+         }
+         if(slot.isAttribute() || slot.isText()) {
+            if(!support.isPrimitive(value)) {
+               return false;
+            }
+         }
+      }
+      return true;
+   }
+}
@@ -0,0 +1,463 @@
+/*
+ * BindingGenerator.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Namespace;
+import org.simpleframework.xml.NamespaceList;
+import org.simpleframework.xml.Path;
+import org.simpleframework.xml.Text;
+
+/**
+ * The <code>BindingGenerator</code> is used to generate a binding for
+ * a schema class. The binding is built from the scanner for the class
+ * so that it matches the class schema exactly, and a class is then
+ * written that extends the binding and is loaded in to its own class
+ * loader. If the class can not be bound this returns null, and the
+ * class schema is interpreted as it would be without a binding.
+ * <p>
+ * Only classes with plain attributes, elements, and text declared on
+ * fields are bound. A class that declares a version, callbacks, a
+ * constructor injection, an order, a path, a namespace, or any list,
+ * map, array, or union is always interpreted.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.BindingWriter
+ */
+class BindingGenerator {
+
+   /**
+    * This is the suffix added to the name of the bound class.
+    */
+   private static final String SUFFIX = "$$Binding";
+
+   /**
+    * This is used to acquire the scanner for each class.
+    */
+   private final Support support;
+
+   /**
+    * Constructor for the <code>BindingGenerator</code> object. This
+    * is used to generate bindings for classes using the scanners
+    * provided by the support object given.
+    *
+    * @param support this is used to acquire the class scanners
+    */
+   public BindingGenerator(Support support) {
+      this.support = support;
+   }
+
+   /**
+    * This is used to generate a binding for the specified class. If
+    * the class can not be bound, or if the class generated for the
+    * binding can not be loaded, then this will return null.
+    *
+    * @param type this is the class to generate the binding for
+    *
+    * @return this returns the binding generated or null
+    */
+   public Binding generate(Class type) throws Exception {
+      if(isBound(type)) {
+         Scanner scanner = support.getScanner(type);
+
+         if(isBound(scanner)) {
+            return generate(type, scanner);
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to generate a binding for the specified class. Each
+    * attribute, element, and text of the class is added as a slot in
+    * the order it is written. If any label can not be bound, or the
+    * class generated can not be loaded, this returns null.
+    *
+    * @param type this is the class to generate the binding for
+    * @param scanner this is the scanner used to describe the class
+    *
+    * @return this returns the binding generated or null
+    */
+   private Binding generate(Class type, Scanner scanner) throws Exception {
+      Section section = scanner.getSection();
+      List<Label> labels = getLabels(section);
+
+      for(Label label : labels) {
+         if(!isBound(label)) {
+            return null;
+         }
+      }
+      try {
+         return generate(type, scanner, labels);
+      } catch(Exception e) {
+         return null;
+      } catch(LinkageError e) {
+         return null;
+      }
+   }
+
+   /**
+    * This is used to write and load the class for the binding. Once
+    * the class has been loaded the binding is instantiated and each
+    * of the labels is added to it as a slot, described as the label
+    * is described so that errors are reported in the same way.
+    *
+    * @param type this is the class to generate the binding for
+    * @param scanner this is the scanner used to describe the class
+    * @param labels these are the labels that are to be bound
+    *
+    * @return this returns the binding that has been generated
+    */
+   private Binding generate(Class type, Scanner scanner, List<Label> labels) throws Exception {
+      String name = type.getName() + SUFFIX;
+      String root = getName(type, scanner);
+      List<Slot> slots = getSlots(labels);
+      boolean[] direct = getDirect(type, slots);
+      BindingWriter writer = new BindingWriter(name, type, slots, direct);
+      BindingLoader loader = new BindingLoader(type);
+      Class result = loader.define(name, writer.write());
+      Constructor factory = result.getConstructor(Class.class, String.class, boolean.class);
+      Binding binding = (Binding)factory.newInstance(type, root, scanner.isStrict());
+
+      for(Slot slot : slots) {
+         binding.add(slot);
+      }
+      return binding;
+   }
+
+   /**
+    * This is used to acquire the root name for the class. This is the
+    * name declared by the <code>Root</code> annotation, or if there is
+    * no name declared it is the name of the class, which is how the
+    * root name is determined when the class is not bound.
+    *
+    * @param type this is the class to acquire the root name for
+    * @param scanner this is the scanner used to describe the class
+    *
+    * @return this returns the root name for the class
+    */
+   private String getName(Class type, Scanner scanner) throws Exception {
+      String name = scanner.getName();
+
+      if(name != null) {
+         return name;
+      }
+      return Reflector.getName(type.getSimpleName());
+   }
+
+   /**
+    * This is used to acquire the labels of the section in the order
+    * they are written. The attributes are first, followed by each of
+    * the elements, and then the text of the element if it has text.
+    *
+    * @param section this is the section to acquire the labels from
+    *
+    * @return this returns the labels in the order they are written
+    */
+   private List<Label> getLabels(Section section) throws Exception {
+      List<Label> list = new ArrayList<Label>();
+      Label text = section.getText();
+
+      for(Label label : section.getAttributes()) {
+         list.add(label);
+      }
+      for(String name : section) {
+         String path = section.getPath(name);
+         Label label = section.getElement(path);
+
+         list.add(label);
+      }
+      if(text != null) {
+         list.add(text);
+      }
+      return list;
+   }
+
+   /**
+    * This is used to create a slot for each of the labels provided.
+    * The index of each slot is its position in the list, and each
+    * slot is described by the label it has been created from.
+    *
+    * @param labels these are the labels to create the slots for
+    *
+    * @return this returns a slot for each of the labels given
+    */
+   private List<Slot> getSlots(List<Label> labels) throws Exception {
+      List<Slot> list = new ArrayList<Slot>();
+
+      for(Label label : labels) {
+         FieldContact contact = (FieldContact)label.getContact();
+         Annotation annotation = label.getAnnotation();
+         Class kind = annotation.annotationType();
+         Field field = contact.getField();
+         String name = label.getName();
+         String description = label.toString();
+         boolean required = label.isRequired();
+         boolean data = label.isData();
+         int index = list.size();
+
+         if(kind == Text.class) {
+            name = null;
+         }
+         list.add(new Slot(kind, field, name, required, data, index, description));
+      }
+      return list;
+   }
+
+   /**
+    * This is used to determine which slots can be accessed directly
+    * by the generated class. As the class is loaded in its own class
+    * loader it can only reach public fields of public classes, and
+    * if the bound class is not public then no slot is direct.
+    *
+    * @param type this is the class that is to be bound
+    * @param slots these are the slots that are to be bound
+    *
+    * @return this returns true for each slot that is direct
+    */
+   private boolean[] getDirect(Class type, List<Slot> slots) {
+      boolean[] direct = new boolean[slots.size()];
+
+      if(isPublic(type)) {
+         for(Slot slot : slots) {
+            Field field = slot.getField();
+            Class owner = field.getDeclaringClass();
+            Class value = field.getType();
+            int modifiers = field.getModifiers();
+            int index = slot.getIndex();
+
+            if(Modifier.isPublic(modifiers) && isPublic(owner)) {
+               if(value.isPrimitive() || value == Object.class || isPublic(value)) {
+                  direct[index] = true;
+               }
+            }
+         }
+      }
+      return direct;
+   }
+
+   /**
+    * This is used to determine if the class can be bound. The class
+    * must be a concrete class that is not itself transformed, and
+    * it must be loaded by a class loader other than the bootstrap
+    * class loader so that the binding class can be loaded with it.
+    *
+    * @param type this is the class that is to be examined
+    *
+    * @return this returns true if the class can be bound
+    */
+   private boolean isBound(Class type) throws Exception {
+      int modifiers = type.getModifiers();
+
+      if(type.getClassLoader() == null) {
+         return false;
+      }
+      if(type.isInterface() || type.isArray() || type.isPrimitive()) {
+         return false;
+      }
+      if(type.isEnum() || Modifier.isAbstract(modifiers)) {
+         return false;
+      }
+      if(isQualified(type)) {
+         return false;
+      }
+      return !support.isPrimitive(type);
+   }
+
+   /**
+    * This is used to determine if the schema of the class can be
+    * bound. Only a plain schema can be bound, which means it has no
+    * version, no callback methods, no constructor injection, no
+    * order, and all of its labels are within the root section.
+    *
+    * @param scanner this is the scanner describing the schema
+    *
+    * @return this returns true if the schema can be bound
+    */
+   private boolean isBound(Scanner scanner) throws Exception {
+      Section section = scanner.getSection();
+      Instantiator creator = scanner.getInstantiator();
+
+      if(!(scanner instanceof ObjectScanner) || scanner.isPrimitive()) {
+         return false;
+      }
+      if(scanner.getVersion() != null || scanner.getOrder() != null) {
+         return false;
+      }
+      if(scanner.getCommit() != null || scanner.getValidate() != null) {
+         return false;
+      }
+      if(scanner.getPersist() != null || scanner.getComplete() != null) {
+         return false;
+      }
+      if(scanner.getReplace() != null || scanner.getResolve() != null) {
+         return false;
+      }
+      if(!creator.isDefault() || section.getPrefix() != null) {
+         return false;
+      }
+      for(String name : section) {
+         if(section.getSection(name) != null) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to determine if the label can be bound. The label
+    * must be a plain attribute, element, or text declared on a field
+    * that is neither static nor final, and it must not have a path,
+    * a namespace, a declared type, or an empty value.
+    *
+    * @param label this is the label that is to be examined
+    *
+    * @return this returns true if the label can be bound
+    */
+   private boolean isBound(Label label) throws Exception {
+      Contact contact = label.getContact();
+
+      if(label.isUnion() || label.isInline()) {
+         return false;
+      }
+      if(label.isCollection() || label.isTextList()) {
+         return false;
+      }
+      if(contact instanceof FieldContact) {
+         Field field = ((FieldContact)contact).getField();
+         int modifiers = field.getModifiers();
+
+         if(Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            return false;
+         }
+         if(isQualified(field)) {
+            return false;
+         }
+         return isBound(label, field);
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if the annotation of the label can be
+    * bound. Attributes and text must have a transformed type, and an
+    * element must not be an array or a container. The annotation can
+    * not declare an empty value or a type for the field.
+    *
+    * @param label this is the label that is to be examined
+    * @param field this is the field the label is declared on
+    *
+    * @return this returns true if the label can be bound
+    */
+   private boolean isBound(Label label, Field field) throws Exception {
+      Annotation annotation = label.getAnnotation();
+      Class type = field.getType();
+
+      if(type.isArray() || support.isContainer(type)) {
+         return false;
+      }
+      if(annotation instanceof Attribute) {
+         String empty = ((Attribute)annotation).empty();
+
+         return empty.length() == 0 && support.isPrimitive(type);
+      }
+      if(annotation instanceof Text) {
+         String empty = ((Text)annotation).empty();
+
+         return empty.length() == 0 && support.isPrimitive(type);
+      }
+      if(annotation instanceof Element) {
+         Class declared = ((Element)annotation).type();
+
+         return declared == void.class;
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if a path or namespace is declared on
+    * the field. If so then the value of the field is not written to
+    * the element for the object, so the field can not be bound.
+    *
+    * @param field this is the field that is to be examined
+    *
+    * @return this returns true if the field is qualified
+    */
+   private boolean isQualified(Field field) {
+      if(field.isAnnotationPresent(Path.class)) {
+         return true;
+      }
+      if(field.isAnnotationPresent(Namespace.class)) {
+         return true;
+      }
+      return field.isAnnotationPresent(NamespaceList.class);
+   }
+
+   /**
+    * This is used to determine if a namespace is declared for the
+    * class or any class it extends. If so the element written for
+    * the object must be decorated, so the class can not be bound.
+    *
+    * @param type this is the class that is to be examined
+    *
+    * @return this returns true if the class is qualified
+    */
+   private boolean isQualified(Class type) {
+      while(type != null) {
+         if(type.isAnnotationPresent(Namespace.class)) {
+            return true;
+         }
+         if(type.isAnnotationPresent(NamespaceList.class)) {
+            return true;
+         }
+         type = type.getSuperclass();
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if the class is public. A class that
+    * is nested within another class is only public if each of the
+    * classes it is nested within is also public.
+    *
+    * @param type this is the class that is to be examined
+    *
+    * @return this returns true if the class can be reached
+    */
+   private boolean isPublic(Class type) {
+      while(type != null) {
+         int modifiers = type.getModifiers();
+
+         if(!Modifier.isPublic(modifiers)) {
+            return false;
+         }
+         type = type.getEnclosingClass();
+      }
+      return true;
+   }
+}
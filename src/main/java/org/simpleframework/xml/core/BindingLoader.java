@@ -0,0 +1,76 @@
+/*
+ * BindingLoader.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+/**
+ * The <code>BindingLoader</code> is used to load a generated binding
+ * class. The loader delegates to the class loader of the bound class
+ * so that the binding can refer to it, except for the binding class
+ * that it extends, which is always the one used by this library as
+ * the class loader of the bound class may not be able to see it.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.BindingGenerator
+ */
+class BindingLoader extends ClassLoader {
+
+   /**
+    * Constructor for the <code>BindingLoader</code> object. This is
+    * used to create a loader for the binding of the specified class
+    * which delegates to the class loader of that class.
+    *
+    * @param type this is the class that the binding is for
+    */
+   public BindingLoader(Class type) {
+      super(type.getClassLoader());
+   }
+
+   /**
+    * This is used to define the binding class from the class file
+    * provided. The class is defined with this loader so that any
+    * class it refers to is loaded by this loader.
+    *
+    * @param name this is the binary name of the binding class
+    * @param data this is the class file for the binding class
+    *
+    * @return this returns the binding class that was defined
+    */
+   public Class define(String name, byte[] data) {
+      return defineClass(name, data, 0, data.length);
+   }
+
+   /**
+    * This is used to load a class referred to by the binding class.
+    * If the class is the binding class it extends then the class
+    * used by this library is returned, otherwise the class is loaded
+    * by the class loader of the bound class.
+    *
+    * @param name this is the binary name of the class to load
+    * @param resolve this determines if the class is to be linked
+    *
+    * @return this returns the class for the specified name
+    */
+   protected Class loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if(name.equals(Binding.class.getName())) {
+         return Binding.class;
+      }
+      return super.loadClass(name, resolve);
+   }
+}
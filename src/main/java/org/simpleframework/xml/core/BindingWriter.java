@@ -0,0 +1,992 @@
+/*
+ * BindingWriter.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The <code>BindingWriter</code> is used to write the class file for
+ * a generated <code>Binding</code>. The class written extends the
+ * binding and provides a constructor along with the methods that
+ * match names to slots, which switch on the hash code of the name.
+ * For each slot that is marked as direct the accessors of the class
+ * read and write the field with a field instruction, and every other
+ * slot is passed on to the accessors of the binding.
+ * <p>
+ * Class files are written in the Java 5 format, which does not need
+ * stack map frames, so the code can be written in a single pass. A
+ * class only refers to the bound class, to the binding, and to the
+ * classes in the <code>java.lang</code> package.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.BindingGenerator
+ */
+class BindingWriter {
+
+   /**
+    * This is the internal name of the class that is extended.
+    */
+   private static final String BINDING = "org/simpleframework/xml/core/Binding";
+
+   /**
+    * This is the descriptor of the constructor that is written.
+    */
+   private static final String CONSTRUCTOR = "(Ljava/lang/Class;Ljava/lang/String;Z)V";
+
+   /**
+    * This contains the primitive types in the order they are written.
+    */
+   private static final Class[] PRIMITIVES = {
+      boolean.class, byte.class, char.class, short.class,
+      int.class, long.class, float.class, double.class
+   };
+
+   /**
+    * This contains the names used for the primitive accessors.
+    */
+   private static final String[] NAMES = {
+      "Boolean", "Byte", "Char", "Short",
+      "Int", "Long", "Float", "Double"
+   };
+
+   /**
+    * This contains the wrapper classes for each primitive type.
+    */
+   private static final String[] WRAPPERS = {
+      "java/lang/Boolean", "java/lang/Byte", "java/lang/Character", "java/lang/Short",
+      "java/lang/Integer", "java/lang/Long", "java/lang/Float", "java/lang/Double"
+   };
+
+   /**
+    * This contains the methods used to unwrap each primitive type.
+    */
+   private static final String[] VALUES = {
+      "booleanValue", "byteValue", "charValue", "shortValue",
+      "intValue", "longValue", "floatValue", "doubleValue"
+   };
+
+   /**
+    * This contains the indexes of the constants in the pool.
+    */
+   private final Map<String, Integer> constants;
+
+   /**
+    * This is used to write the entries of the constant pool.
+    */
+   private final ByteArrayOutputStream pool;
+
+   /**
+    * This is used to write the methods of the class.
+    */
+   private final ByteArrayOutputStream methods;
+
+   /**
+    * This contains the slots of the binding that is written.
+    */
+   private final List<Slot> slots;
+
+   /**
+    * This determines which slots are accessed directly.
+    */
+   private final boolean[] direct;
+
+   /**
+    * This is the internal name of the class that is written.
+    */
+   private final String name;
+
+   /**
+    * This is the internal name of the class that is bound.
+    */
+   private final String type;
+
+   /**
+    * This is the number of entries in the constant pool.
+    */
+   private int count;
+
+   /**
+    * This is the number of methods that have been written.
+    */
+   private int total;
+
+   /**
+    * Constructor for the <code>BindingWriter</code> object. This is
+    * used to write a binding class with the specified name for the
+    * given bound class. The slots marked as direct must be public
+    * fields with public types of a public class.
+    *
+    * @param name this is the name of the class that is written
+    * @param type this is the class that is bound by the class
+    * @param slots these are the slots that are to be bound
+    * @param direct this determines the slots accessed directly
+    */
+   public BindingWriter(String name, Class type, List<Slot> slots, boolean[] direct) {
+      this.constants = new HashMap<String, Integer>();
+      this.methods = new ByteArrayOutputStream();
+      this.pool = new ByteArrayOutputStream();
+      this.type = getName(type);
+      this.name = getName(name);
+      this.direct = direct;
+      this.slots = slots;
+      this.count = 1;
+   }
+
+   /**
+    * This is used to write the class file for the binding. The class
+    * is public and final and has a constructor that takes the same
+    * parameters as the constructor of the binding.
+    *
+    * @return this returns the class file that has been written
+    */
+   public byte[] write() throws Exception {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(buffer);
+      int self = getClass(name);
+      int base = getClass(BINDING);
+
+      writeConstructor();
+      writeNames(true);
+      writeNames(false);
+      writeAccessors();
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(49);
+      out.writeShort(count);
+      out.write(pool.toByteArray());
+      out.writeShort(0x0031);
+      out.writeShort(self);
+      out.writeShort(base);
+      out.writeShort(0);
+      out.writeShort(0);
+      out.writeShort(total);
+      out.write(methods.toByteArray());
+      out.writeShort(0);
+      out.flush();
+
+      return buffer.toByteArray();
+   }
+
+   /**
+    * This is used to write the constructor of the class. If any slot
+    * is accessed directly the constructor loads the bound class, so
+    * that a class that can not be accessed is reported when the
+    * binding is created rather than when a field is accessed.
+    */
+   private void writeConstructor() throws Exception {
+      Code code = new Code();
+      int method = getMethod(BINDING, "<init>", CONSTRUCTOR);
+
+      if(isDirect()) {
+         code.op(0x13);
+         code.u2(getClass(type));
+         code.op(0x57);
+      }
+      code.op(0x2a);
+      code.op(0x2b);
+      code.op(0x2c);
+      code.op(0x1d);
+      code.op(0xb7);
+      code.u2(method);
+      code.op(0xb1);
+      writeMethod(0x0001, "<init>", CONSTRUCTOR, code, 4);
+   }
+
+   /**
+    * This is used to write the method that matches attribute names or
+    * element names to slots. The method switches on the hash code of
+    * the name, and then compares the name with each slot name that
+    * has the same hash code. If no slot matches it returns minus one.
+    *
+    * @param attribute if true this is written for attribute names
+    */
+   private void writeNames(boolean attribute) throws Exception {
+      Map<Integer, List<Slot>> table = new TreeMap<Integer, List<Slot>>();
+      String method = attribute ? "getAttribute" : "getElement";
+      Code code = new Code();
+      int equals = getMethod("java/lang/String", "equals", "(Ljava/lang/Object;)Z");
+      int hash = getMethod("java/lang/String", "hashCode", "()I");
+
+      for(Slot slot : slots) {
+         if(!slot.isText() && slot.isAttribute() == attribute) {
+            Integer key = slot.getName().hashCode();
+            List<Slot> list = table.get(key);
+
+            if(list == null) {
+               list = new ArrayList<Slot>();
+               table.put(key, list);
+            }
+            list.add(slot);
+         }
+      }
+      code.op(0x2b);
+      code.op(0xb6);
+      code.u2(hash);
+
+      int[] keys = new int[table.size()];
+      Label[] labels = new Label[keys.length];
+      Label none = new Label();
+      int index = 0;
+
+      for(Integer key : table.keySet()) {
+         labels[index] = new Label();
+         keys[index++] = key;
+      }
+      code.lookup(keys, labels, none);
+      index = 0;
+
+      for(List<Slot> list : table.values()) {
+         code.mark(labels[index++]);
+
+         for(Slot slot : list) {
+            Label next = new Label();
+
+            code.op(0x2b);
+            code.op(0x13);
+            code.u2(getString(slot.getName()));
+            code.op(0xb6);
+            code.u2(equals);
+            code.jump(0x99, next);
+            code.op(0x11);
+            code.u2(slot.getIndex());
+            code.op(0xac);
+            code.mark(next);
+         }
+         code.jump(0xa7, none);
+      }
+      code.mark(none);
+      code.op(0x02);
+      code.op(0xac);
+      writeMethod(0x0004, method, "(Ljava/lang/String;)I", code, 2);
+   }
+
+   /**
+    * This is used to write the accessors for the slots that are to be
+    * accessed directly. An accessor for values is written if there is
+    * any such slot, and a typed accessor is written for each of the
+    * primitive types declared by such a slot.
+    */
+   private void writeAccessors() throws Exception {
+      if(isDirect()) {
+         writeGet(null, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;");
+         writeSet(null, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V");
+      }
+      for(int i = 0; i < PRIMITIVES.length; i++) {
+         Class primitive = PRIMITIVES[i];
+
+         if(isDirect(primitive)) {
+            String code = getDescriptor(primitive);
+
+            writeGet(primitive, "get" + NAMES[i], "(Ljava/lang/Object;I)" + code);
+            writeSet(primitive, "set" + NAMES[i], "(Ljava/lang/Object;I" + code + ")V");
+         }
+      }
+   }
+
+   /**
+    * This is used to write an accessor that gets the value of a slot.
+    * If a primitive type is provided then the accessor is typed and
+    * only handles slots of that type, otherwise it handles all of the
+    * direct slots and returns the wrapper for a primitive value.
+    *
+    * @param primitive this is the primitive type for the accessor
+    * @param method this is the name of the accessor to be written
+    * @param descriptor this is the descriptor of the accessor
+    */
+   private void writeGet(Class primitive, String method, String descriptor) throws Exception {
+      List<Slot> list = getDirect(primitive);
+      int parent = getMethod(BINDING, method, descriptor);
+      int done = getReturn(primitive);
+      Label[] labels = new Label[list.size()];
+      int[] keys = new int[list.size()];
+      Label other = new Label();
+      Code code = new Code();
+
+      for(int i = 0; i < keys.length; i++) {
+         keys[i] = list.get(i).getIndex();
+         labels[i] = new Label();
+      }
+      code.op(0x1c);
+      code.lookup(keys, labels, other);
+
+      for(int i = 0; i < keys.length; i++) {
+         Slot slot = list.get(i);
+         Class real = slot.getType();
+
+         code.mark(labels[i]);
+         code.op(0x2b);
+         code.op(0xc0);
+         code.u2(getClass(type));
+         code.op(0xb4);
+         code.u2(getField(slot.getField()));
+
+         if(primitive == null && real.isPrimitive()) {
+            int index = getIndex(real);
+            String wrapper = WRAPPERS[index];
+            String box = "(" + getDescriptor(real) + ")L" + wrapper + ";";
+
+            code.op(0xb8);
+            code.u2(getMethod(wrapper, "valueOf", box));
+         }
+         code.op(done);
+      }
+      code.mark(other);
+      code.op(0x2a);
+      code.op(0x2b);
+      code.op(0x1c);
+      code.op(0xb7);
+      code.u2(parent);
+      code.op(done);
+      writeMethod(0x0004, method, descriptor, code, 3);
+   }
+
+   /**
+    * This is used to write an accessor that sets the value of a slot.
+    * If a primitive type is provided then the accessor is typed and
+    * only handles slots of that type, otherwise it handles all of the
+    * direct slots and unwraps the value given for a primitive slot.
+    *
+    * @param primitive this is the primitive type for the accessor
+    * @param method this is the name of the accessor to be written
+    * @param descriptor this is the descriptor of the accessor
+    */
+   private void writeSet(Class primitive, String method, String descriptor) throws Exception {
+      List<Slot> list = getDirect(primitive);
+      int parent = getMethod(BINDING, method, descriptor);
+      int load = getLoad(primitive);
+      Label[] labels = new Label[list.size()];
+      int[] keys = new int[list.size()];
+      Label other = new Label();
+      Code code = new Code();
+
+      for(int i = 0; i < keys.length; i++) {
+         keys[i] = list.get(i).getIndex();
+         labels[i] = new Label();
+      }
+      code.op(0x1c);
+      code.lookup(keys, labels, other);
+
+      for(int i = 0; i < keys.length; i++) {
+         Slot slot = list.get(i);
+         Class real = slot.getType();
+
+         code.mark(labels[i]);
+         code.op(0x2b);
+         code.op(0xc0);
+         code.u2(getClass(type));
+         code.op(load);
+         code.u1(3);
+
+         if(primitive == null) {
+            if(real.isPrimitive()) {
+               int index = getIndex(real);
+               String wrapper = WRAPPERS[index];
+               String unbox = "()" + getDescriptor(real);
+
+               code.op(0xc0);
+               code.u2(getClass(wrapper));
+               code.op(0xb6);
+               code.u2(getMethod(wrapper, VALUES[index], unbox));
+            } else if(real != Object.class) {
+               code.op(0xc0);
+               code.u2(getClass(getName(real)));
+            }
+         }
+         code.op(0xb5);
+         code.u2(getField(slot.getField()));
+         code.op(0xb1);
+      }
+      code.mark(other);
+      code.op(0x2a);
+      code.op(0x2b);
+      code.op(0x1c);
+      code.op(load);
+      code.u1(3);
+      code.op(0xb7);
+      code.u2(parent);
+      code.op(0xb1);
+      writeMethod(0x0004, method, descriptor, code, 5);
+   }
+
+   /**
+    * This is used to write a method to the class. Each method has a
+    * single code attribute, with no exception table, and the maximum
+    * stack size used is large enough for all the code written.
+    *
+    * @param access this is the access flags for the method
+    * @param method this is the name of the method to be written
+    * @param descriptor this is the descriptor of the method
+    * @param code this is the code that has been written for it
+    * @param locals this is the number of local variables used
+    */
+   private void writeMethod(int access, String method, String descriptor, Code code, int locals) throws Exception {
+      DataOutputStream out = new DataOutputStream(methods);
+      byte[] data = code.toByteArray();
+
+      out.writeShort(access);
+      out.writeShort(getUtf(method));
+      out.writeShort(getUtf(descriptor));
+      out.writeShort(1);
+      out.writeShort(getUtf("Code"));
+      out.writeInt(data.length + 12);
+      out.writeShort(6);
+      out.writeShort(locals);
+      out.writeInt(data.length);
+      out.write(data);
+      out.writeShort(0);
+      out.writeShort(0);
+      out.flush();
+      total++;
+   }
+
+   /**
+    * This is used to determine if any of the slots are direct. If no
+    * slot is direct then the class does not refer to the bound class
+    * and only the methods that match names to slots are written.
+    *
+    * @return this returns true if any of the slots are direct
+    */
+   private boolean isDirect() {
+      for(boolean value : direct) {
+         if(value) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if any direct slot has the specified
+    * primitive type. If so then a typed accessor is written for the
+    * primitive type to avoid creating a wrapper for the value.
+    *
+    * @param primitive this is the primitive type to check for
+    *
+    * @return this returns true if a direct slot has the type
+    */
+   private boolean isDirect(Class primitive) {
+      return !getDirect(primitive).isEmpty();
+   }
+
+   /**
+    * This is used to acquire the direct slots of the primitive type
+    * specified. If no type is specified then all of the direct slots
+    * are returned in the order of their indexes.
+    *
+    * @param primitive this is the primitive type of the slots
+    *
+    * @return this returns the direct slots of the specified type
+    */
+   private List<Slot> getDirect(Class primitive) {
+      List<Slot> list = new ArrayList<Slot>();
+
+      for(Slot slot : slots) {
+         int index = slot.getIndex();
+
+         if(direct[index]) {
+            if(primitive == null || primitive == slot.getType()) {
+               list.add(slot);
+            }
+         }
+      }
+      return list;
+   }
+
+   /**
+    * This is used to acquire the instruction used to return a value
+    * of the specified primitive type. If no type is specified then
+    * the instruction returns an object reference.
+    *
+    * @param primitive this is the type of the value returned
+    *
+    * @return this returns the instruction to return the value
+    */
+   private int getReturn(Class primitive) {
+      if(primitive == null) {
+         return 0xb0;
+      }
+      if(primitive == long.class) {
+         return 0xad;
+      }
+      if(primitive == float.class) {
+         return 0xae;
+      }
+      if(primitive == double.class) {
+         return 0xaf;
+      }
+      return 0xac;
+   }
+
+   /**
+    * This is used to acquire the instruction used to load a value of
+    * the specified primitive type from a local variable. If no type
+    * is specified then the instruction loads an object reference.
+    *
+    * @param primitive this is the type of the value loaded
+    *
+    * @return this returns the instruction to load the value
+    */
+   private int getLoad(Class primitive) {
+      if(primitive == null) {
+         return 0x19;
+      }
+      if(primitive == long.class) {
+         return 0x16;
+      }
+      if(primitive == float.class) {
+         return 0x17;
+      }
+      if(primitive == double.class) {
+         return 0x18;
+      }
+      return 0x15;
+   }
+
+   /**
+    * This is used to acquire the index of the primitive type given.
+    * The index is used to acquire the names of the accessors and of
+    * the wrapper class for the primitive type.
+    *
+    * @param primitive this is the primitive type to get the index of
+    *
+    * @return this returns the index of the primitive type
+    */
+   private int getIndex(Class primitive) {
+      for(int i = 0; i < PRIMITIVES.length; i++) {
+         if(PRIMITIVES[i] == primitive) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * This is used to acquire the descriptor for the specified type.
+    * The descriptor is a single character for a primitive type and
+    * the internal name of the class otherwise.
+    *
+    * @param type this is the type to acquire the descriptor for
+    *
+    * @return this returns the descriptor for the specified type
+    */
+   private String getDescriptor(Class type) {
+      if(type == boolean.class) {
+         return "Z";
+      }
+      if(type == byte.class) {
+         return "B";
+      }
+      if(type == char.class) {
+         return "C";
+      }
+      if(type == short.class) {
+         return "S";
+      }
+      if(type == int.class) {
+         return "I";
+      }
+      if(type == long.class) {
+         return "J";
+      }
+      if(type == float.class) {
+         return "F";
+      }
+      if(type == double.class) {
+         return "D";
+      }
+      if(type.isArray()) {
+         return getName(type);
+      }
+      return "L" + getName(type) + ";";
+   }
+
+   /**
+    * This is used to acquire the internal name for the class given.
+    * The internal name of a class is its binary name with each dot
+    * replaced with a slash.
+    *
+    * @param type this is the class to acquire the internal name for
+    *
+    * @return this returns the internal name of the class
+    */
+   private String getName(Class type) {
+      return getName(type.getName());
+   }
+
+   /**
+    * This is used to acquire the internal name for the name given.
+    * The internal name of a class is its binary name with each dot
+    * replaced with a slash.
+    *
+    * @param name this is the binary name of the class
+    *
+    * @return this returns the internal name of the class
+    */
+   private String getName(String name) {
+      return name.replace('.', '/');
+   }
+
+   /**
+    * This is used to acquire the constant for a field of the bound
+    * class. The field is referred to through the bound class, which
+    * is how the compiler refers to a field that is inherited.
+    *
+    * @param field this is the field to acquire the constant for
+    *
+    * @return this returns the index of the field constant
+    */
+   private int getField(Field field) throws Exception {
+      String descriptor = getDescriptor(field.getType());
+      String name = field.getName();
+
+      return getMember(9, type, name, descriptor);
+   }
+
+   /**
+    * This is used to acquire the constant for a method. The method is
+    * identified by its class, its name, and its descriptor, and the
+    * constant is added to the pool if it does not already exist.
+    *
+    * @param owner this is the internal name of the declaring class
+    * @param method this is the name of the method
+    * @param descriptor this is the descriptor of the method
+    *
+    * @return this returns the index of the method constant
+    */
+   private int getMethod(String owner, String method, String descriptor) throws Exception {
+      return getMember(10, owner, method, descriptor);
+   }
+
+   /**
+    * This is used to acquire the constant for a field or a method. The
+    * constant refers to the class and to the name and type of the
+    * member, which are also added to the pool if required.
+    *
+    * @param tag this is the tag for the type of constant
+    * @param owner this is the internal name of the declaring class
+    * @param member this is the name of the member
+    * @param descriptor this is the descriptor of the member
+    *
+    * @return this returns the index of the member constant
+    */
+   private int getMember(int tag, String owner, String member, String descriptor) throws Exception {
+      String key = tag + " " + owner + " " + member + " " + descriptor;
+      Integer index = constants.get(key);
+
+      if(index == null) {
+         int parent = getClass(owner);
+         int name = getUtf(member);
+         int kind = getUtf(descriptor);
+         int pair = getPair(name, kind);
+
+         index = add(key, tag, parent, pair);
+      }
+      return index;
+   }
+
+   /**
+    * This is used to acquire the name and type constant for a member.
+    * The constant refers to the name and the descriptor, which must
+    * already have been added to the constant pool.
+    *
+    * @param name this is the index of the name of the member
+    * @param kind this is the index of the descriptor of the member
+    *
+    * @return this returns the index of the name and type constant
+    */
+   private int getPair(int name, int kind) throws Exception {
+      String key = "12 " + name + " " + kind;
+      Integer index = constants.get(key);
+
+      if(index == null) {
+         index = add(key, 12, name, kind);
+      }
+      return index;
+   }
+
+   /**
+    * This is used to acquire the constant for the class specified. The
+    * class constant refers to the internal name of the class, which
+    * is also added to the constant pool if required.
+    *
+    * @param name this is the internal name of the class
+    *
+    * @return this returns the index of the class constant
+    */
+   private int getClass(String name) throws Exception {
+      String key = "7 " + name;
+      Integer index = constants.get(key);
+
+      if(index == null) {
+         int value = getUtf(name);
+
+         index = add(key, 7, value, -1);
+      }
+      return index;
+   }
+
+   /**
+    * This is used to acquire the constant for the string specified.
+    * The string constant refers to the text of the string, which is
+    * also added to the constant pool if required.
+    *
+    * @param text this is the text of the string constant
+    *
+    * @return this returns the index of the string constant
+    */
+   private int getString(String text) throws Exception {
+      String key = "8 " + text;
+      Integer index = constants.get(key);
+
+      if(index == null) {
+         int value = getUtf(text);
+
+         index = add(key, 8, value, -1);
+      }
+      return index;
+   }
+
+   /**
+    * This is used to acquire the constant for the text specified. The
+    * text is written in the modified form of UTF-8 that is used by
+    * both class files and the <code>DataOutputStream</code>.
+    *
+    * @param text this is the text to acquire the constant for
+    *
+    * @return this returns the index of the text constant
+    */
+   private int getUtf(String text) throws Exception {
+      String key = "1 " + text;
+      Integer index = constants.get(key);
+
+      if(index == null) {
+         DataOutputStream out = new DataOutputStream(pool);
+
+         out.writeByte(1);
+         out.writeUTF(text);
+         out.flush();
+         index = count++;
+         constants.put(key, index);
+      }
+      return index;
+   }
+
+   /**
+    * This is used to add a constant that refers to other constants.
+    * Each constant has a tag followed by one or two references, and
+    * the second reference is omitted if it is negative.
+    *
+    * @param key this is the key used to find the constant again
+    * @param tag this is the tag for the type of the constant
+    * @param first this is the first constant that is referred to
+    * @param second this is the second constant referred to
+    *
+    * @return this returns the index of the constant added
+    */
+   private int add(String key, int tag, int first, int second) throws Exception {
+      DataOutputStream out = new DataOutputStream(pool);
+      int index = count++;
+
+      out.writeByte(tag);
+      out.writeShort(first);
+
+      if(second >= 0) {
+         out.writeShort(second);
+      }
+      out.flush();
+      constants.put(key, index);
+
+      return index;
+   }
+
+   /**
+    * The <code>Label</code> object represents a position within the
+    * code of a method. A label can be jumped to before its position
+    * is known, in which case the offset is written once it is marked.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Label {
+
+      /**
+       * This contains the jumps waiting for the label to be marked.
+       */
+      private final List<int[]> jumps;
+
+      /**
+       * This is the position of the label within the code.
+       */
+      private int position;
+
+      /**
+       * Constructor for the <code>Label</code> object. This creates a
+       * label that has not yet been marked, so any jump made to it
+       * is recorded until the position of the label is known.
+       */
+      public Label() {
+         this.jumps = new ArrayList<int[]>();
+         this.position = -1;
+      }
+   }
+
+   /**
+    * The <code>Code</code> object is used to write the code for a
+    * single method. This provides the instructions with operands
+    * and the jumps to labels that are used by the binding methods.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Code extends ByteArrayOutputStream {
+
+      /**
+       * This is used to write an instruction without operands.
+       *
+       * @param code this is the instruction that is to be written
+       */
+      public void op(int code) {
+         write(code);
+      }
+
+      /**
+       * This is used to write an operand of a single byte.
+       *
+       * @param value this is the value of the operand to write
+       */
+      public void u1(int value) {
+         write(value);
+      }
+
+      /**
+       * This is used to write an operand of two bytes.
+       *
+       * @param value this is the value of the operand to write
+       */
+      public void u2(int value) {
+         write(value >>> 8);
+         write(value);
+      }
+
+      /**
+       * This is used to write an operand of four bytes.
+       *
+       * @param value this is the value of the operand to write
+       */
+      public void u4(int value) {
+         u2(value >>> 16);
+         u2(value);
+      }
+
+      /**
+       * This is used to write a jump to the label provided. The offset
+       * of the jump is relative to the start of the instruction and is
+       * written when the label is marked if it is not yet known.
+       *
+       * @param code this is the jump instruction to be written
+       * @param label this is the label that is to be jumped to
+       */
+      public void jump(int code, Label label) {
+         int start = count;
+
+         write(code);
+         offset(start, label, 2);
+      }
+
+      /**
+       * This is used to write a lookup switch. Each key given is paired
+       * with a label, and the keys must be in ascending order. If the
+       * value does not match any key the default label is jumped to.
+       *
+       * @param keys these are the keys to match the value against
+       * @param labels these are the labels jumped to for each key
+       * @param other this is the label jumped to if none match
+       */
+      public void lookup(int[] keys, Label[] labels, Label other) {
+         int start = count;
+
+         write(0xab);
+
+         while(count % 4 != 0) {
+            write(0);
+         }
+         offset(start, other, 4);
+         u4(keys.length);
+
+         for(int i = 0; i < keys.length; i++) {
+            u4(keys[i]);
+            offset(start, labels[i], 4);
+         }
+      }
+
+      /**
+       * This is used to write the offset to a label. If the position
+       * of the label is not known a space is written for the offset,
+       * which is filled in when the label is marked.
+       *
+       * @param start this is the position of the jump instruction
+       * @param label this is the label that is jumped to
+       * @param size this is the number of bytes for the offset
+       */
+      private void offset(int start, Label label, int size) {
+         if(label.position < 0) {
+            label.jumps.add(new int[]{start, count, size});
+         }
+         int offset = label.position - start;
+
+         if(size == 2) {
+            u2(offset);
+         } else {
+            u4(offset);
+         }
+      }
+
+      /**
+       * This is used to mark the position of a label as the current
+       * position in the code. Any jump that has been made to the
+       * label is given the offset to this position.
+       *
+       * @param label this is the label that is to be marked
+       */
+      public void mark(Label label) {
+         label.position = count;
+
+         for(int[] jump : label.jumps) {
+            int offset = count - jump[0];
+            int at = jump[1];
+
+            if(jump[2] == 2) {
+               buf[at] = (byte)(offset >>> 8);
+               buf[at + 1] = (byte)offset;
+            } else {
+               buf[at] = (byte)(offset >>> 24);
+               buf[at + 1] = (byte)(offset >>> 16);
+               buf[at + 2] = (byte)(offset >>> 8);
+               buf[at + 3] = (byte)offset;
+            }
+         }
+      }
+   }
+}
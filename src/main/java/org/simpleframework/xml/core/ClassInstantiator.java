@@ -21,21 +21,43 @@ package org.simpleframework.xml.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.simpleframework.xml.util.ConcurrentCache;
+
 /**
  * The <code>ClassInstantiator</code> is used for instantiating 
  * objects using either the default no argument constructor or one
  * that takes deserialized values as parameters. This also exposes 
  * the parameters and constructors used to instantiate the object.
+ * <p>
+ * Selecting a constructor requires each of the constructors to be
+ * scored against the deserialized values. As the score depends only
+ * on the shape of the values, that is which values were read and
+ * the types of those values, the constructor selected for each
+ * shape is cached so that the scoring is performed only once. As
+ * optional and polymorphic values can produce many shapes the cache
+ * is limited in size, a shape that is not cached is simply scored.
+ * The cache is a concurrent cache, so threads reading the same class
+ * do not contend with each other when a constructor is selected.
  * 
  * @author Niall Gallagher
  */
 class ClassInstantiator implements Instantiator {
    
+   /**
+    * This is the maximum number of shapes cached for the class.
+    */
+   private static final int CAPACITY = 100;
+   
    /**
     * This contains a list of all the creators for the class.
     */
    private final List<Creator> creators;  
    
+   /**
+    * This is used to cache the constructor selected for each shape.
+    */
+   private final ConcurrentCache<Creator> cache;
+   
    /**
     * This is used to acquire a parameter by the parameter name.
     */
@@ -62,6 +84,7 @@ class ClassInstantiator implements Instantiator {
     * @param detail contains the details for the instantiated class
     */
    public ClassInstantiator(List<Creator> creators, Creator primary, ParameterMap registry, Detail detail) {
+      this.cache = new ConcurrentCache<Creator>();
       this.creators = creators;
       this.registry = registry;
       this.primary = primary;
@@ -117,13 +140,55 @@ class ClassInstantiator implements Instantiator {
    /**
     * This is used to acquire an <code>Instantiator</code> which is used
     * to instantiate the object. If there is no match for the instantiator
-    * then the default constructor is provided.
+    * then the default constructor is provided. The constructor that
+    * is matched is cached against the shape of the values, so that
+    * objects deserialized with the same shape are not scored again.
     * 
     * @param criteria this contains the criteria to be used for this
     * 
     * @return this returns the instantiator that has been matched
     */
    private Creator getCreator(Criteria criteria) throws Exception {
+      CreatorKey key = new CreatorKey(criteria);
+      Creator result = cache.fetch(key);
+      
+      if(result == null) {
+         result = getMatch(criteria);
+         
+         if(result != null) {
+            setCached(key, result);
+         }
+      }
+      return result;
+   }
+   
+   /**
+    * This is used to cache the <code>Creator</code> matched for the
+    * shape of values. Once the cache holds the maximum number of
+    * shapes no more are added, so a class read with many different
+    * shapes can not grow the cache for the life of the persister.
+    * Threads adding at the same time may exceed the limit slightly.
+    * 
+    * @param key this is the key representing the shape of values
+    * @param creator this is the creator matched for the shape
+    */
+   private void setCached(CreatorKey key, Creator creator) {
+      if(cache.size() < CAPACITY) {
+         cache.cache(key, creator);
+      }
+   }
+   
+   /**
+    * This is used to match an <code>Instantiator</code> by scoring
+    * each of the constructors against the values deserialized. The
+    * constructor with the highest score is matched. If there is no
+    * constructor that can be used then the default is provided.
+    * 
+    * @param criteria this contains the criteria to be used for this
+    * 
+    * @return this returns the instantiator that has been matched
+    */
+   private Creator getMatch(Criteria criteria) throws Exception {
       Creator result = primary;
       double max = 0.0;
       
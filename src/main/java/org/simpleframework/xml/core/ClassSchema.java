@@ -44,9 +44,9 @@ class ClassSchema implements Schema {
    private final Decorator decorator;
 
    /**
-    * This represents the XML section defined for the class schema.
+    * This is the scanner that creates the sections for the schema.
     */
-   private final Section section;
+   private final Scanner scanner;
    
    /**
     * This is the version annotation for the XML class schema.
@@ -94,7 +94,7 @@ class ClassSchema implements Schema {
       this.decorator = schema.getDecorator();
       this.primitive = schema.isPrimitive();
       this.version = schema.getVersion();
-      this.section = schema.getSection();
+      this.scanner = schema;
       this.text = schema.getText();
       this.type = schema.getType();
    }
@@ -179,11 +179,15 @@ class ClassSchema implements Schema {
     * section of XML that the class is represented within. A
     * section contains all the elements and attributes defined for
     * the class in a tree like structure.
+    * <p>
+    * As a section tracks the models it has visited a new section
+    * is created each time this is called. This allows the schema
+    * itself to be shared by every object of the class processed.
     * 
     * @return this returns the section defined for the schama
     */
    public Section getSection() {
-      return section;
+      return scanner.getSection();
    }
    
    /**
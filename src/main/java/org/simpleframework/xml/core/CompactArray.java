@@ -0,0 +1,614 @@
+/*
+ * CompactArray.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import org.simpleframework.xml.strategy.Type;
+import org.simpleframework.xml.stream.InputNode;
+import org.simpleframework.xml.stream.OutputNode;
+import org.simpleframework.xml.util.NumberParser;
+
+/**
+ * The <code>CompactArray</code> object is used to convert an array
+ * of primitive values to and from the text of a single element. The
+ * values are written as a whitespace separated list, so rather than
+ * an XML element for each entry the array is represented as follows.
+ * <pre>
+ *
+ *    &lt;array&gt;1 2 3 4 5&lt;/array&gt;
+ *
+ * </pre>
+ * Each value is parsed straight in to an array of the primitive
+ * type and is formatted straight from it, so no wrapper object is
+ * created for any of the values. Integral values are parsed from
+ * within the text, so no string is created for each value either.
+ * Also, as the values are counted before the array is created no
+ * length attribute is required. The strategy is still consulted
+ * for the array itself, which means any references to the array
+ * will be resolved as with other arrays.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.PrimitiveArray
+ */
+class CompactArray implements Converter {
+
+   /**
+    * This factory is used to resolve the array from the strategy.
+    */
+   private final ArrayFactory factory;
+
+   /**
+    * This is the context used to replace template variables.
+    */
+   private final Context context;
+
+   /**
+    * This is the primitive type of each entry within the array.
+    */
+   private final Class entry;
+
+   /**
+    * This is the type of the array that this represents.
+    */
+   private final Type type;
+
+   /**
+    * Constructor for the <code>CompactArray</code> object. This is
+    * given the array type and the entry type for the array. The
+    * entry type must be one of the types that can be compacted.
+    *
+    * @param context this is the context object used for serialization
+    * @param type this is the actual type for the primitive array
+    * @param entry the entry type to be stored within the array
+    */
+   public CompactArray(Context context, Type type, Type entry) {
+      this.factory = new ArrayFactory(context, type);
+      this.entry = entry.getType();
+      this.context = context;
+      this.type = type;
+   }
+
+   /**
+    * This is used to determine if an array of the specified type can
+    * be represented in a compact form. Only the numeric primitive
+    * types and the boolean type can be represented in this way, as
+    * their values can never contain any whitespace.
+    *
+    * @param type this is the entry type to determine the support of
+    *
+    * @return this returns true if the entry type can be compacted
+    */
+   public static boolean isCompact(Class type) {
+      if(type == int.class) {
+         return true;
+      }
+      if(type == long.class) {
+         return true;
+      }
+      if(type == double.class) {
+         return true;
+      }
+      if(type == float.class) {
+         return true;
+      }
+      if(type == short.class) {
+         return true;
+      }
+      if(type == byte.class) {
+         return true;
+      }
+      return type == boolean.class;
+   }
+
+   /**
+    * This <code>read</code> method will read the text of the XML
+    * element as a list of primitive values. The array is resolved
+    * using the strategy so that references can be resolved, however
+    * the array created will be sized from the number of values.
+    *
+    * @param node this is the XML element that is to be deserialized
+    *
+    * @return this returns the array of primitive values read
+    */
+   public Object read(InputNode node) throws Exception {
+      Instance value = factory.getInstance(node);
+
+      if(!value.isReference()) {
+         Object array = read(node, entry);
+
+         return value.setInstance(array);
+      }
+      return value.getInstance();
+   }
+
+   /**
+    * This <code>read</code> method will read the text of the XML
+    * element as a list of primitive values. As a compact array is
+    * always created from its text, an existing array can not be
+    * populated and so an exception is thrown if one is provided.
+    *
+    * @param node this is the XML element that is to be deserialized
+    * @param list this is an existing array that is to be populated
+    *
+    * @return this returns the array of primitive values read
+    */
+   public Object read(InputNode node, Object list) throws Exception {
+      if(list != null) {
+         throw new PersistenceException("Can not read existing %s for %s", entry, type);
+      }
+      return read(node);
+   }
+
+   /**
+    * This is used to read the text of the XML element as an array of
+    * the specified type. The values within the text are counted so
+    * that an array of the correct length can be created, then each
+    * value is parsed and set directly within the primitive array.
+    *
+    * @param node this is the XML element to acquire the text from
+    * @param type this is the entry type of the array to be created
+    *
+    * @return this returns the array of primitive values read
+    */
+   private Object read(InputNode node, Class type) throws Exception {
+      String value = node.getValue();
+      String text = getText(value);
+      int count = getCount(text);
+
+      if(type == int.class) {
+         return readInt(text, count);
+      }
+      if(type == long.class) {
+         return readLong(text, count);
+      }
+      if(type == double.class) {
+         return readDouble(text, count);
+      }
+      if(type == float.class) {
+         return readFloat(text, count);
+      }
+      if(type == short.class) {
+         return readShort(text, count);
+      }
+      if(type == byte.class) {
+         return readByte(text, count);
+      }
+      return readBoolean(text, count);
+   }
+
+   /**
+    * This is used to read the values within the text as integers.
+    * Each of the values is parsed and set within the array in turn,
+    * the array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private int[] readInt(String text, int count) throws Exception {
+      int[] array = new int[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseInt(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as longs. Each
+    * of the values is parsed and set within the array in turn, the
+    * array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private long[] readLong(String text, int count) throws Exception {
+      long[] array = new long[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseLong(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as doubles.
+    * Each of the values is parsed and set within the array in turn,
+    * the array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private double[] readDouble(String text, int count) throws Exception {
+      double[] array = new double[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseDouble(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as floats. Each
+    * of the values is parsed and set within the array in turn, the
+    * array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private float[] readFloat(String text, int count) throws Exception {
+      float[] array = new float[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseFloat(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as shorts. Each
+    * of the values is parsed and set within the array in turn, the
+    * array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private short[] readShort(String text, int count) throws Exception {
+      short[] array = new short[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseShort(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as bytes. Each
+    * of the values is parsed and set within the array in turn, the
+    * array is created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private byte[] readByte(String text, int count) throws Exception {
+      byte[] array = new byte[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = NumberParser.parseByte(text, start, off);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to read the values within the text as booleans.
+    * Each value is compared to the text "true" regardless of case,
+    * which is how a boolean value is ordinarily parsed. The array is
+    * created with the number of values in the text.
+    *
+    * @param text this is the text containing the values to read
+    * @param count this is the number of values within the text
+    *
+    * @return this returns the array of values that were read
+    */
+   private boolean[] readBoolean(String text, int count) throws Exception {
+      boolean[] array = new boolean[count];
+      int off = 0;
+
+      for(int i = 0; i < count; i++) {
+         int start = getStart(text, off);
+
+         off = getEnd(text, start);
+         array[i] = off - start == 4 && text.regionMatches(true, start, "true", 0, 4);
+      }
+      return array;
+   }
+
+   /**
+    * This is used to acquire the text to read the values from. If
+    * the element has no text then there are no values, otherwise any
+    * template variables within the text are replaced.
+    *
+    * @param value this is the text value of the XML element
+    *
+    * @return this returns the text that the values are read from
+    */
+   private String getText(String value) throws Exception {
+      if(value == null) {
+         return "";
+      }
+      return context.getProperty(value);
+   }
+
+   /**
+    * This is used to count the number of values within the text. A
+    * value is any sequence of characters that is not whitespace, so
+    * counting values requires a single pass through the text.
+    *
+    * @param text this is the text containing the values to count
+    *
+    * @return this returns the number of values within the text
+    */
+   private int getCount(String text) {
+      int length = text.length();
+      int count = 0;
+      int off = 0;
+
+      while(off < length) {
+         int start = getStart(text, off);
+
+         if(start < length) {
+            count++;
+         }
+         off = getEnd(text, start);
+      }
+      return count;
+   }
+
+   /**
+    * This is used to find the start of the next value in the text.
+    * Any whitespace from the offset provided is skipped, if there is
+    * no further value then the length of the text is returned.
+    *
+    * @param text this is the text containing the values to read
+    * @param off this is the offset to begin searching from
+    *
+    * @return this returns the offset of the start of the next value
+    */
+   private int getStart(String text, int off) {
+      int length = text.length();
+
+      while(off < length) {
+         char next = text.charAt(off);
+
+         if(!Character.isWhitespace(next)) {
+            break;
+         }
+         off++;
+      }
+      return off;
+   }
+
+   /**
+    * This is used to find the end of the value that starts at the
+    * specified offset. The end of a value is the first whitespace
+    * after it, or the length of the text if it is the last value.
+    *
+    * @param text this is the text containing the values to read
+    * @param off this is the offset of the start of the value
+    *
+    * @return this returns the offset of the end of the value
+    */
+   private int getEnd(String text, int off) {
+      int length = text.length();
+
+      while(off < length) {
+         char next = text.charAt(off);
+
+         if(Character.isWhitespace(next)) {
+            break;
+         }
+         off++;
+      }
+      return off;
+   }
+
+   /**
+    * This <code>validate</code> method will validate the XML element
+    * list against the provided node and validate its children as entry
+    * types. This ensures that the text of the element contains only
+    * values that can be parsed as the entry type of the array.
+    *
+    * @param node this is the XML element that is to be validated
+    *
+    * @return true if the element matches the XML schema class given
+    */
+   public boolean validate(InputNode node) throws Exception {
+      Instance value = factory.getInstance(node);
+
+      if(!value.isReference()) {
+         value.setInstance(null);
+         read(node, entry);
+      }
+      return true;
+   }
+
+   /**
+    * This <code>write</code> method will write the values from the
+    * provided array as a whitespace separated list within the text
+    * of the given XML element. Each value is appended directly from
+    * the primitive array so no wrapper objects are created.
+    *
+    * @param node this is the XML element to write the values to
+    * @param source this is the array of values to be serialized
+    */
+   public void write(OutputNode node, Object source) throws Exception {
+      StringBuilder builder = new StringBuilder();
+
+      if(entry == int.class) {
+         writeInt(builder, (int[])source);
+      } else if(entry == long.class) {
+         writeLong(builder, (long[])source);
+      } else if(entry == double.class) {
+         writeDouble(builder, (double[])source);
+      } else if(entry == float.class) {
+         writeFloat(builder, (float[])source);
+      } else if(entry == short.class) {
+         writeShort(builder, (short[])source);
+      } else if(entry == byte.class) {
+         writeByte(builder, (byte[])source);
+      } else {
+         writeBoolean(builder, (boolean[])source);
+      }
+      node.setValue(builder.toString());
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeInt(StringBuilder builder, int[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeLong(StringBuilder builder, long[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeDouble(StringBuilder builder, double[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeFloat(StringBuilder builder, float[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeShort(StringBuilder builder, short[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeByte(StringBuilder builder, byte[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+
+   /**
+    * This is used to append each of the values within the array to
+    * the provided builder. Each value is separated by a single space
+    * character so that they can be distinguished when read.
+    *
+    * @param builder this is the builder to append the values to
+    * @param array this is the array of values to be appended
+    */
+   private void writeBoolean(StringBuilder builder, boolean[] array) {
+      for(int i = 0; i < array.length; i++) {
+         if(i > 0) {
+            builder.append(' ');
+         }
+         builder.append(array[i]);
+      }
+   }
+}
@@ -18,10 +18,14 @@
 
 package org.simpleframework.xml.core;
 
+import java.util.Iterator;
+
 import org.simpleframework.xml.Version;
 import org.simpleframework.xml.strategy.Type;
+import org.simpleframework.xml.stream.Appender;
 import org.simpleframework.xml.stream.InputNode;
 import org.simpleframework.xml.stream.NamespaceMap;
+import org.simpleframework.xml.stream.NodeAppender;
 import org.simpleframework.xml.stream.NodeMap;
 import org.simpleframework.xml.stream.OutputNode;
 import org.simpleframework.xml.stream.Position;
@@ -166,6 +170,12 @@ class Composite implements Converter {
     */
    public Object read(InputNode node, Object source) throws Exception {
       Class type = source.getClass();
+      BindingAdapter adapter = context.getBinding(type);
+      
+      if(adapter != null) {
+         adapter.read(node, source);
+         return readResolve(node, source);
+      }
       Schema schema = context.getSchema(type);
       Caller caller = schema.getCaller();
       
@@ -195,6 +205,11 @@ class Composite implements Converter {
     * @return this returns the fully deserialized object graph
     */
    private Object read(InputNode node, Instance value, Class real) throws Exception {
+      BindingAdapter adapter = context.getBinding(real);
+      
+      if(adapter != null) {
+         return read(node, value, adapter);
+      }
       Schema schema = context.getSchema(real);
       Caller caller = schema.getCaller();
       Builder builder = read(schema, value);
@@ -207,6 +222,28 @@ class Composite implements Converter {
       return readResolve(node, source, caller);    
    }
    
+   /**
+    * This <code>read</code> method performs deserialization of a class
+    * that has been bound. The binding reads the attributes, elements,
+    * and text of the class straight in to the fields of the object,
+    * so the class schema is not consulted. A bound class can not have
+    * any callback methods, so none are invoked for the object.
+    * 
+    * @param node the XML element contact values are deserialized from
+    * @param value this is the instance for the object within the graph
+    * @param adapter this is the adapter used to read the object
+    * 
+    * @return this returns the fully deserialized object graph
+    */
+   private Object read(InputNode node, Instance value, BindingAdapter adapter) throws Exception {
+      Object source = value.getInstance();
+      
+      adapter.read(node, source);
+      value.setInstance(source);
+      
+      return readResolve(node, source);
+   }
+   
    /**
     * This <code>read</code> method performs deserialization of the XML
     * schema class type by traversing the contacts and instantiating them
@@ -271,19 +308,35 @@ class Composite implements Converter {
     */
    private Object readResolve(InputNode node, Object source, Caller caller) throws Exception {
       if(source != null) {
-         Position line = node.getPosition();
          Object value = caller.resolve(source);
-         Class expect = type.getType();
-         Class real = value.getClass();
-      
-         if(!expect.isAssignableFrom(real)) {
-            throw new ElementException("Type %s does not match %s at %s", real, expect, line);              
-         }
-         return value;
+         
+         return readResolve(node, value);
       }
       return source;
    }
    
+   /**
+    * The <code>readResolve</code> method is used to check that the
+    * object deserialized is of the type expected. If the object is
+    * not of the expected type then an exception is thrown, as it can
+    * not be assigned to the field or method it is deserialized for.
+    * 
+    * @param node the XML element object provided as a replacement
+    * @param value this is the object that has been deserialized
+    * 
+    * @return this returns the object that has been deserialized
+    */
+   private Object readResolve(InputNode node, Object value) throws Exception {
+      Position line = node.getPosition();
+      Class expect = type.getType();
+      Class real = value.getClass();
+   
+      if(!expect.isAssignableFrom(real)) {
+         throw new ElementException("Type %s does not match %s at %s", real, expect, line);              
+      }
+      return value;
+   }
+   
    /**
     * This <code>read</code> method performs deserialization of the XML
     * schema class type by traversing the contacts and instantiating them
@@ -404,7 +457,7 @@ class Composite implements Converter {
     */
    private void readAttributes(InputNode node, Object source, Section section) throws Exception {
       NodeMap<InputNode> list = node.getAttributes();
-      LabelMap map = section.getAttributes();
+      LabelSet map = new LabelSet(section.getAttributes());
 
       for(String name : list) {         
          InputNode value = node.getAttribute(name);
@@ -432,7 +485,7 @@ class Composite implements Converter {
     * @param section the XML section that contains the structure
     */
    private void readElements(InputNode node, Object source, Section section) throws Exception {
-      LabelMap map = section.getElements();
+      LabelSet map = new LabelSet(section.getElements());
       InputNode child = node.getNext();
       
       while(child != null) {         
@@ -464,7 +517,13 @@ class Composite implements Converter {
       Label label = section.getText();
       
       if(label != null) {
-         readInstance(node, source, label);
+         PrimitiveBinder binder = context.getBinder(label);
+         
+         if(source != null && binder != null) {
+            readPrimitive(node, source, binder, label);
+         } else {
+            readInstance(node, source, label);
+         }
       }
    }
    
@@ -481,7 +540,7 @@ class Composite implements Converter {
     * @param section this is the section to read the attribute from
     * @param map this is the map that contains the label objects
     */
-   private void readAttribute(InputNode node, Object source, Section section, LabelMap map) throws Exception {
+   private void readAttribute(InputNode node, Object source, Section section, LabelSet map) throws Exception {
       String name = node.getName();
       String path = section.getAttribute(name);
       Label label = map.getLabel(path);
@@ -494,9 +553,60 @@ class Composite implements Converter {
             throw new AttributeException("Attribute '%s' does not have a match in %s at %s", path, expect, line);
          }            
       } else {
-         readInstance(node, source, label);
+         readAttribute(node, source, label);
       }         
    }
+   
+   /**
+    * This <code>readAttribute</code> method is used to deserialize an
+    * attribute for a matched label. If the object has already been
+    * instantiated and the label represents a primitive field then 
+    * the value is parsed and set directly on the field, otherwise 
+    * it is collected so that it can be set once all are read.
+    * 
+    * @param node this is the XML attribute to be deserialized
+    * @param source this is the object that is being deserialized
+    * @param label this is the label that matched the attribute
+    */
+   private void readAttribute(InputNode node, Object source, Label label) throws Exception {
+      PrimitiveBinder binder = context.getBinder(label);
+      
+      if(source != null && binder != null) {
+         readPrimitive(node, source, binder, label);
+      } else {
+         readInstance(node, source, label);
+      }
+   }
+   
+   /**
+    * This <code>readPrimitive</code> method is used to deserialize
+    * the value of a primitive field. The text of the node is parsed
+    * and set directly on the field of the object by the binder, so
+    * no wrapper object is created and nothing is collected. If the
+    * node has no value then this fails in the same way as a value
+    * read by the converter for the label.
+    * 
+    * @param node this is the node that contains the field value
+    * @param source this is the object that is being deserialized
+    * @param binder this is the binder for the primitive field
+    * @param label this is the label that matched the node
+    */
+   private void readPrimitive(InputNode node, Object source, PrimitiveBinder binder, Label label) throws Exception {
+      String value = node.getValue();
+      
+      if(value == null) {
+         Position line = node.getPosition();
+         Class expect = context.getType(type, source);
+         
+         if(label.isRequired() && revision.isEqual()) {              
+            throw new ValueRequiredException("Empty value for %s in %s at %s", label, expect, line);
+         }
+      } else {
+         String text = context.getProperty(value);
+         
+         binder.read(source, text);
+      }
+   }
 
    /**
     * This <code>readElement</code> method is used for deserialization
@@ -511,7 +621,7 @@ class Composite implements Converter {
     * @param section this is the section to read the element from
     * @param map this is the map that contains the label objects
     */
-   private void readElement(InputNode node, Object source, Section section, LabelMap map) throws Exception {
+   private void readElement(InputNode node, Object source, Section section, LabelSet map) throws Exception {
       String name = node.getName();
       String path = section.getPath(name); 
       Label label = map.getLabel(path);      
@@ -529,10 +639,50 @@ class Composite implements Converter {
             node.skip();                 
          }
       } else {
-         readUnion(node, source, map, label);
+         readElement(node, source, map, label);
       }         
    }
    
+   /**
+    * This <code>readElement</code> method is used to deserialize an
+    * element for a matched label. If the object has already been
+    * instantiated and the label represents a primitive field then
+    * the value is parsed and set directly on the field. This is only
+    * done if the element has no attributes, as an attribute such as
+    * a class or reference must be resolved by the strategy.
+    * 
+    * @param node this is the XML element to be deserialized
+    * @param source this is the object that is being deserialized
+    * @param map this is the label map associated with the label
+    * @param label this is the label that matched the element
+    */
+   private void readElement(InputNode node, Object source, LabelSet map, Label label) throws Exception {
+      PrimitiveBinder binder = context.getBinder(label);
+      
+      if(source != null && binder != null && isPlain(node)) {
+         readPrimitive(node, source, binder, label);
+      } else {
+         readUnion(node, source, map, label);
+      }
+   }
+   
+   /**
+    * This is used to determine if the element has no attributes. A
+    * strategy uses the attributes of an element to override its type
+    * or to refer to another value, so an element with attributes 
+    * must always be read through the converter for its label.
+    * 
+    * @param node this is the XML element to be examined
+    * 
+    * @return this returns true if the element has no attributes
+    */
+   private boolean isPlain(InputNode node) throws Exception {
+      NodeMap<InputNode> attributes = node.getAttributes();
+      Iterator<String> names = attributes.iterator();
+      
+      return !names.hasNext();
+   }
+   
    /**
     * The <code>readUnion</code> method is determine the unions 
     * for a particular label and set the value of that union to
@@ -545,7 +695,7 @@ class Composite implements Converter {
     * @param map this is the label map associated with the label
     * @param label this is the label used to define the XML element
     */
-   private void readUnion(InputNode node, Object source, LabelMap map, Label label) throws Exception {
+   private void readUnion(InputNode node, Object source, LabelSet map, Label label) throws Exception {
       Object value = readInstance(node, source, label);
       String[] list = label.getPaths();
       
@@ -601,7 +751,7 @@ class Composite implements Converter {
     * @return this returns the original value deserialized in to
     */
    private Object readVariable(InputNode node, Object source, Label label) throws Exception {    
-      Converter reader = label.getConverter(context);   
+      Converter reader = context.getConverter(label);   
       
       if(label.isCollection()) {
          Variable variable = criteria.get(label);
@@ -635,7 +785,7 @@ class Composite implements Converter {
     * @param map this is the map to check for remaining labels
     * @param source this is the object that has been deserialized 
     */
-   private void validate(InputNode node, LabelMap map, Object source) throws Exception {
+   private void validate(InputNode node, LabelSet map, Object source) throws Exception {
       Class expect = context.getType(type, source);
       Position line = node.getPosition();
 
@@ -737,7 +887,7 @@ class Composite implements Converter {
     */
    private void validateAttributes(InputNode node, Section section) throws Exception {
       NodeMap<InputNode> list = node.getAttributes();
-      LabelMap map = section.getAttributes();
+      LabelSet map = new LabelSet(section.getAttributes());
 
       for(String name : list) {         
          InputNode value = node.getAttribute(name);
@@ -764,7 +914,7 @@ class Composite implements Converter {
     * @param section this is the section that defines the XML structure
     */
    private void validateElements(InputNode node, Section section) throws Exception {
-      LabelMap map = section.getElements();
+      LabelSet map = new LabelSet(section.getElements());
       InputNode next = node.getNext();
       
       while(next != null) {         
@@ -810,7 +960,7 @@ class Composite implements Converter {
     * @param section this is the section to validate this attribute in
     * @param map this is the map that contains the label objects
     */
-   private void validateAttribute(InputNode node, Section section, LabelMap map) throws Exception {
+   private void validateAttribute(InputNode node, Section section, LabelSet map) throws Exception {
       Position line = node.getPosition();
       String name = node.getName();
       String path = section.getAttribute(name);
@@ -838,7 +988,7 @@ class Composite implements Converter {
     * @param section this is the section to validate this element in
     * @param map this is the map that contains the label objects
     */
-   private void validateElement(InputNode node, Section section, LabelMap map) throws Exception {
+   private void validateElement(InputNode node, Section section, LabelSet map) throws Exception {
       String name = node.getName();
       String path = section.getPath(name);
       Label label = map.getLabel(path);      
@@ -871,7 +1021,7 @@ class Composite implements Converter {
     * @param map this is the label map associated with the label
     * @param label this is the label used to define the XML element
     */
-   private void validateUnion(InputNode node, LabelMap map, Label label) throws Exception {
+   private void validateUnion(InputNode node, LabelSet map, Label label) throws Exception {
       String[] list = label.getPaths();
       
       for(String key : list) {
@@ -894,7 +1044,7 @@ class Composite implements Converter {
     * @param label this is the label used to create the converter
     */
    private void validate(InputNode node, Label label) throws Exception {    
-      Converter reader = label.getConverter(context);      
+      Converter reader = context.getConverter(label);      
       Position line = node.getPosition();
       Class expect = type.getType();
       boolean valid = reader.validate(node);
@@ -916,7 +1066,7 @@ class Composite implements Converter {
     * @param node this is the node that contains the composite data
     * @param map this contains the converters to perform validation
     */
-   private void validate(InputNode node, LabelMap map) throws Exception {     
+   private void validate(InputNode node, LabelSet map) throws Exception {     
       Position line = node.getPosition();
 
       for(Label label : map) {
@@ -941,6 +1091,12 @@ class Composite implements Converter {
     */
    public void write(OutputNode node, Object source) throws Exception {
       Class type = source.getClass();
+      BindingAdapter adapter = context.getBinding(type);
+      
+      if(adapter != null) {
+         adapter.write(node, source);
+         return;
+      }
       Schema schema = context.getSchema(type);
       Caller caller = schema.getCaller();
       
@@ -1051,19 +1207,80 @@ class Composite implements Converter {
       LabelMap attributes = section.getAttributes();
 
       for(Label label : attributes) {
-         Contact contact = label.getContact();         
-         Object value = contact.get(source);
-         Class expect = context.getType(type, source);
+         PrimitiveBinder binder = context.getBinder(label);
          
-         if(value == null) {
-            value = label.getEmpty(context);
-         }
-         if(value == null && label.isRequired()) {
-            throw new AttributeException("Value for %s is null in %s", label, expect);
+         if(binder != null) {
+            writePrimitive(node, source, binder, label);
+         } else {
+            Contact contact = label.getContact();         
+            Object value = contact.get(source);
+            Class expect = context.getType(type, source);
+            
+            if(value == null) {
+               value = label.getEmpty(context);
+            }
+            if(value == null && label.isRequired()) {
+               throw new AttributeException("Value for %s is null in %s", label, expect);
+            }
+            writeAttribute(node, value, label);
          }
-         writeAttribute(node, value, label);              
       }      
    }
+   
+   /**
+    * This <code>writePrimitive</code> method is used to write the
+    * value of a primitive field as an attribute, an element, or the
+    * text of the element. The binder formats the value of the field
+    * without creating a wrapper object, and as a primitive can not
+    * be null there is no empty value to use.
+    * 
+    * @param node this is the XML element to write the value to
+    * @param source this is the source object to be serialized
+    * @param binder this is the binder for the primitive field
+    * @param label the label that contains the contact details
+    */
+   private void writePrimitive(OutputNode node, Object source, PrimitiveBinder binder, Label label) throws Exception {
+      String text = binder.write(source);
+      
+      if(label.isAttribute()) {
+         Decorator decorator = label.getDecorator();
+         String name = label.getName();
+         OutputNode done = node.setAttribute(name, text);
+         
+         decorator.decorate(done);
+      } else if(label.isText()) {
+         boolean data = label.isData();
+         
+         node.setData(data);
+         node.setValue(text);
+      } else {
+         writePrimitive(node, text, label);
+      }
+   }
+   
+   /**
+    * This <code>writePrimitive</code> method is used to write the
+    * text of a primitive field as an element. The element is given
+    * the same namespaces as it would be if the value was written by
+    * the converter for the label. As the default strategy does not
+    * add any attributes for a primitive value it is not consulted.
+    * 
+    * @param node this is the XML element to write the element to
+    * @param text this is the text of the primitive field value
+    * @param label the label that contains the contact details
+    */
+   private void writePrimitive(OutputNode node, String text, Label label) throws Exception {
+      Contact contact = label.getContact();
+      Class real = Support.getPrimitive(contact.getType());
+      Type type = label.getType(real);
+      String name = label.getName();
+      OutputNode next = node.getChild(name);
+      boolean data = label.isData();
+      
+      writeNamespaces(next, type, label);
+      next.setData(data);
+      next.setValue(text);
+   }
 
    /**
     * This write method is used to write all the element contacts from
@@ -1095,12 +1312,34 @@ class Composite implements Converter {
                if(label == null) {
                  throw new ElementException("Element '%s' not defined in %s", name, expect);
                }
-               writeUnion(node, source, section, label);
+               writeElement(node, source, section, label);
             }
          }            
       }
    }
    
+   /**
+    * This <code>writeElement</code> method is used to write the value
+    * of the contact for the label as an element. If the label is for
+    * a primitive field then the binder writes the field value as an
+    * element without creating a wrapper object, otherwise the value
+    * is written by the converter for the label.
+    * 
+    * @param node this is the XML element to write elements to
+    * @param source this is the source object to be serialized
+    * @param section this is the section associated with the label
+    * @param label this is the label used to define the XML element
+    */
+   private void writeElement(OutputNode node, Object source, Section section, Label label) throws Exception {
+      PrimitiveBinder binder = context.getBinder(label);
+      
+      if(binder != null) {
+         writePrimitive(node, source, binder, label);
+      } else {
+         writeUnion(node, source, section, label);
+      }
+   }
+   
    /**
     * The <code>writeUnion</code> method is determine the unions 
     * for a particular label and set the value of that union to
@@ -1167,17 +1406,23 @@ class Composite implements Converter {
       Label label = section.getText();
 
       if(label != null) {
-         Contact contact = label.getContact();
-         Object value = contact.get(source);
-         Class expect = context.getType(type, source);
+         PrimitiveBinder binder = context.getBinder(label);
          
-         if(value == null) {
-            value = label.getEmpty(context);
-         }
-         if(value == null && label.isRequired()) {
-            throw new TextException("Value for %s is null in %s", label, expect);
+         if(binder != null) {
+            writePrimitive(node, source, binder, label);
+         } else {
+            Contact contact = label.getContact();
+            Object value = contact.get(source);
+            Class expect = context.getType(type, source);
+            
+            if(value == null) {
+               value = label.getEmpty(context);
+            }
+            if(value == null && label.isRequired()) {
+               throw new TextException("Value for %s is null in %s", label, expect);
+            }
+            writeText(node, value, label); 
          }
-         writeText(node, value, label); 
       }         
    }
    
@@ -1195,10 +1440,17 @@ class Composite implements Converter {
    private void writeAttribute(OutputNode node, Object value, Label label) throws Exception {
       if(value != null) {         
          Decorator decorator = label.getDecorator();
+         Appender appender = factory.getAppender(value);
          String name = label.getName();
-         String text = factory.getText(value);
-         OutputNode done = node.setAttribute(name, text);
+         OutputNode done = null;
          
+         if(appender != null) {
+            done = NodeAppender.setAttribute(node, name, value, appender);
+         } else {
+            String text = factory.getText(value);
+            
+            done = node.setAttribute(name, text);
+         }
          decorator.decorate(done);
       }
    }
@@ -1232,7 +1484,7 @@ class Composite implements Converter {
             writeNamespaces(next, type, match);
          }
          if(match.isInline() || !isOverridden(next, value, type)) {
-            Converter convert = match.getConverter(context);
+            Converter convert = context.getConverter(match);
             boolean data = match.isData();
             
             next.setData(data);
@@ -1288,11 +1540,18 @@ class Composite implements Converter {
     */
    private void writeText(OutputNode node, Object value, Label label) throws Exception {
       if(value != null && !label.isTextList()) {         
-         String text = factory.getText(value); 
+         Appender appender = factory.getAppender(value);
          boolean data = label.isData();
          
          node.setData(data);
-         node.setValue(text);        
+         
+         if(appender != null) {
+            NodeAppender.setValue(node, value, appender);
+         } else {
+            String text = factory.getText(value);
+            
+            node.setValue(text);
+         }
       }
    }   
    
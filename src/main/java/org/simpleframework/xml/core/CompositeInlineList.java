@@ -236,7 +236,7 @@ class CompositeInlineList implements Repeater {
     * @param node this is the XML element container to be populated
     */ 
    public void write(OutputNode node, Object source) throws Exception {
-      Collection list = (Collection) source;              
+      Sequence list = new Sequence(source);
       OutputNode parent = node.getParent();      
       
       if(!node.isCommitted()) {
@@ -256,7 +256,7 @@ class CompositeInlineList implements Repeater {
     * @param list this is the source collection to be serialized 
     * @param node this is the XML element container to be populated
     */ 
-   public void write(OutputNode node, Collection list) throws Exception {  
+   public void write(OutputNode node, Sequence list) throws Exception {  
       for(Object item : list) {
          if(item != null) {
             Class expect = entry.getType();
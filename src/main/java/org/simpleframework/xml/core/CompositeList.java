@@ -235,7 +235,7 @@ class CompositeList implements Converter {
     * @param node this is the XML element container to be populated
     */ 
    public void write(OutputNode node, Object source) throws Exception {
-      Collection list = (Collection) source;                
+      Sequence list = new Sequence(source);
       
       for(Object item : list) {
          if(item != null) {
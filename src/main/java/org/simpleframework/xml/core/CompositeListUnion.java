@@ -124,7 +124,7 @@ class CompositeListUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
    
       return converter.read(node);
    }
@@ -141,7 +141,7 @@ class CompositeListUnion implements Repeater {
     */
    private Object readText(InputNode node) throws Exception {
       Label text = group.getText();
-      Converter converter = text.getConverter(context);
+      Converter converter = context.getConverter(text);
       
       return converter.read(node);
    }
@@ -184,7 +184,7 @@ class CompositeListUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.read(node, value);
    }
@@ -202,7 +202,7 @@ class CompositeListUnion implements Repeater {
     */
    private Object readText(InputNode node, Object value) throws Exception {
       Label label = group.getText();
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       InputNode parent = node.getParent();
       
       return converter.read(parent, value);
@@ -223,7 +223,7 @@ class CompositeListUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.validate(node);
    }
@@ -288,7 +288,7 @@ class CompositeListUnion implements Repeater {
     * @param label this is the label to used to acquire the converter     
     */
    private void write(OutputNode node, Object item, Label label) throws Exception {
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       Collection list = Collections.singleton(item);
 
       if(!label.isInline()) {
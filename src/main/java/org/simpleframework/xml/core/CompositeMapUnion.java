@@ -104,7 +104,7 @@ class CompositeMapUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.read(node);
    }
@@ -125,7 +125,7 @@ class CompositeMapUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.read(node, value);
    }
@@ -145,7 +145,7 @@ class CompositeMapUnion implements Repeater {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.validate(node);
    }
@@ -213,7 +213,7 @@ class CompositeMapUnion implements Repeater {
     * @param label this is the label to used to acquire the converter     
     */
    private void write(OutputNode node, Object key, Object item, Label label) throws Exception {  
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       Map map = Collections.singletonMap(key, item);
       
       if(!label.isInline()) {
@@ -94,7 +94,7 @@ class CompositeUnion implements Converter {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.read(node);
    }
@@ -115,7 +115,7 @@ class CompositeUnion implements Converter {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.read(node, value);
    }
@@ -135,7 +135,7 @@ class CompositeUnion implements Converter {
       String name = node.getName();
       String element = path.getElement(name);
       Label label = elements.get(element);
-      Converter converter = label.getConverter(context);
+      Converter converter = context.getConverter(label);
       
       return converter.validate(node);
    }
@@ -172,7 +172,7 @@ class CompositeUnion implements Converter {
     * @param label this is the label to used to acquire the converter
     */
    private void write(OutputNode node, Object object, Label label) throws Exception {
-      label.getConverter(context).write(node, object);
+      context.getConverter(label).write(node, object);
    }
 
 }
@@ -199,6 +199,56 @@ interface Context {
     */
    Version getVersion(Class type) throws Exception;
    
+   /**
+    * This is used to acquire the <code>Converter</code> for a label.
+    * The converter returned may have been created earlier in the
+    * same context, which avoids creating a converter for the same
+    * label each time an object of the declaring type is processed.
+    * 
+    * @param label this is the label to acquire the converter for
+    * 
+    * @return this returns the converter to be used for the label
+    */
+   Converter getConverter(Label label) throws Exception;
+   
+   /**
+    * This is used to acquire a <code>PrimitiveBinder</code> for the
+    * label. A binder is only provided for an attribute, element or
+    * text declared on a field of a primitive type, where the stock
+    * transforms are used and no empty value has been declared. If
+    * the label can not be bound directly then this returns null.
+    * 
+    * @param label this is the label to acquire the binder for
+    * 
+    * @return this returns the binder for the label or null
+    */
+   PrimitiveBinder getBinder(Label label) throws Exception;
+   
+   /**
+    * This is used to acquire an <code>ArrayBinder</code> for arrays
+    * of the specified type. A binder is only provided if the type is
+    * primitive, the stock transforms are used, and the strategy is
+    * the default strategy, which adds nothing to each array entry.
+    * If the entries can not be bound directly this returns null.
+    * 
+    * @param type this is the component type of the array
+    * 
+    * @return this returns the binder for the arrays or null
+    */
+   ArrayBinder getBinder(Class type) throws Exception;
+   
+   /**
+    * This is used to acquire a <code>BindingAdapter</code> for the
+    * class. An adapter is only provided if a binding is available
+    * for the class and the strategy is the default strategy, as the
+    * adapter does not consult the strategy for the bound class.
+    * 
+    * @param type this is the class to acquire the adapter for
+    * 
+    * @return this returns the adapter for the class or null
+    */
+   BindingAdapter getBinding(Class type) throws Exception;
+   
    /**
     * This will acquire the <code>Decorator</code> for the type.
     * A decorator is an object that adds various details to the
@@ -221,7 +271,7 @@ interface Context {
     * 
     * @param type the schema class the schema is created for
     * 
-    * @return a new schema that can track visits within the schema
+    * @return a schema that describes how the class is serialized
     * 
     * @throws Exception if the class contains an illegal schema 
     */   
@@ -0,0 +1,227 @@
+/*
+ * CreatorKey.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+/**
+ * The <code>CreatorKey</code> object is used to create a key that
+ * describes the shape of the values collected for an object. The
+ * score of each <code>Creator</code> depends only on which of the
+ * keys have values and the types of those values. As the contact
+ * for each key is fixed for a class, whether a read only value is
+ * missing from a constructor is determined by the keys also. So two
+ * objects with the same key will always select the same creator.
+ * <p>
+ * The key pairs each of the keys collected with the type of its
+ * value, and both the hash code and the comparison of two keys do
+ * not depend on the order the pairs were collected in. This means
+ * that documents with elements in a different order will share the
+ * same key and so the same constructor.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.ClassInstantiator
+ */
+class CreatorKey {
+
+   /**
+    * This contains each of the keys that values were collected for.
+    */
+   private final Object[] keys;
+
+   /**
+    * This contains the type of value collected for each key.
+    */
+   private final Class[] types;
+
+   /**
+    * This is the hash code computed from the types of the key.
+    */
+   private final int hash;
+
+   /**
+    * Constructor for the <code>CreatorKey</code> object. This is used
+    * to examine the values collected for an object and record the
+    * type of each against the key it was collected with. Once all
+    * of the values have been recorded the hash code is computed.
+    *
+    * @param criteria this contains the values collected for an object
+    */
+   public CreatorKey(Criteria criteria) throws Exception {
+      this.keys = new Object[count(criteria)];
+      this.types = new Class[keys.length];
+      this.hash = scan(criteria);
+   }
+
+   /**
+    * This is used to count the number of values that have been 
+    * collected. This determines the size of the arrays used to
+    * hold the keys and the types of the values for the key.
+    *
+    * @param criteria this contains the values collected for an object
+    *
+    * @return this returns the number of values that were collected
+    */
+   private int count(Criteria criteria) {
+      int count = 0;
+
+      for(Object key : criteria) {
+         count++;
+      }
+      return count;
+   }
+
+   /**
+    * This is used to populate the types of the key from the values
+    * that have been collected. Once all of the values have been
+    * examined this returns the hash code computed for the types.
+    * The hash code of each pair is summed, so that the hash code
+    * does not depend on the order of the values.
+    *
+    * @param criteria this contains the values collected for an object
+    *
+    * @return this returns the hash code computed for the key
+    */
+   private int scan(Criteria criteria) throws Exception {
+      int hash = 0;
+      int index = 0;
+
+      for(Object key : criteria) {
+         Variable variable = criteria.get(key);
+         Class type = getType(variable);
+
+         keys[index] = key;
+         types[index++] = type;
+         hash += key.hashCode() ^ type.hashCode();
+      }
+      return hash;
+   }
+
+   /**
+    * This is used to acquire the type of the value collected. If
+    * there is no value then this will return the void type, which
+    * ensures that it is not confused with a missing value.
+    *
+    * @param variable this is the variable holding the value
+    *
+    * @return this returns the type of the value that was collected
+    */
+   private Class getType(Variable variable) {
+      Object value = variable.getValue();
+
+      if(value != null) {
+         return value.getClass();
+      }
+      return void.class;
+   }
+
+   /**
+    * This is used to generate a hash code from the types of the key.
+    * The hash code is computed once when the key is created, so that
+    * it can be used repeatedly without examining the types again.
+    *
+    * @return this returns the hash code computed for the key
+    */
+   public int hashCode() {
+      return hash;
+   }
+
+   /**
+    * This is used to determine if two keys are the same. Two keys
+    * are the same if the same keys have values and the types of
+    * those values are the same for each of the keys.
+    *
+    * @param value this is the value to compare against this key
+    *
+    * @return this returns true if the two keys are the same
+    */
+   public boolean equals(Object value) {
+      if(value instanceof CreatorKey) {
+         return equals((CreatorKey)value);
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if two keys are the same. Two keys
+    * are the same if the same keys have values and the types of
+    * those values are the same for each of the keys.
+    *
+    * @param key this is the key to compare against this key
+    *
+    * @return this returns true if the two keys are the same
+    */
+   private boolean equals(CreatorKey key) {
+      if(hash != key.hash) {
+         return false;
+      }
+      if(keys.length != key.keys.length) {
+         return false;
+      }
+      for(int i = 0; i < keys.length; i++) {
+         if(!key.contains(keys[i], types[i], i)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to determine if this key contains the specified
+    * pair. As values are usually collected in the same order the
+    * position the pair was found at in the other key is checked
+    * first, and only if the keys differ are the others searched.
+    *
+    * @param name this is the key that the value was collected for
+    * @param type this is the type of value that was collected
+    * @param index this is the position the pair is expected at
+    *
+    * @return this returns true if this key contains the pair
+    */
+   private boolean contains(Object name, Class type, int index) {
+      if(name.equals(keys[index])) {
+         return type == types[index];
+      }
+      for(int i = 0; i < keys.length; i++) {
+         if(name.equals(keys[i])) {
+            return type == types[i];
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This returns a string representation of the key. This is only
+    * used for debugging purposes and shows the type of each value.
+    *
+    * @return this returns a string representation of the key
+    */
+   public String toString() {
+      StringBuilder builder = new StringBuilder();
+
+      for(int i = 0; i < keys.length; i++) {
+         if(i > 0) {
+            builder.append(", ");
+         }
+         builder.append(keys[i]);
+         builder.append('=');
+         builder.append(types[i]);
+      }
+      return builder.toString();
+   }
+}
@@ -131,8 +131,6 @@ class DetailScanner implements Detail {
     * @param override this is the override used for this detail
     */
    public DetailScanner(Class type, DefaultType override) {
-      this.methods = new LinkedList<MethodDetail>();
-      this.fields = new LinkedList<FieldDetail>();
       this.labels = type.getDeclaredAnnotations();
       this.override = override;
       this.strict = true;
@@ -296,10 +294,15 @@ class DetailScanner implements Detail {
     * This returns a list of the methods that belong to this type. 
     * The methods here do not include any methods from the super
     * types and simply provides a means of caching method data.
+    * The methods are scanned only when first requested, as types
+    * such as primitives never need their methods examined.
     * 
     * @return returns the list of methods declared for the type
     */
-   public List<MethodDetail> getMethods() {
+   public synchronized List<MethodDetail> getMethods() {
+      if(methods == null) {
+         methods = methods(type);
+      }
       return methods;
    }
    
@@ -307,10 +310,15 @@ class DetailScanner implements Detail {
     * This returns a list of the fields that belong to this type. 
     * The fields here do not include any fields from the super
     * types and simply provides a means of caching method data.
+    * The fields are scanned only when first requested, as types
+    * such as primitives never need their fields examined.
     * 
     * @return returns the list of fields declared for the type
     */
-   public List<FieldDetail> getFields() {
+   public synchronized List<FieldDetail> getFields() {
+      if(fields == null) {
+         fields = fields(type);
+      }
       return fields;
    }
    
@@ -355,16 +363,14 @@ class DetailScanner implements Detail {
    }
    
    /**
-    * This method is used to scan the type for all of its annotations
-    * as well as its methods and fields. Everything that is scanned 
-    * is cached within the instance to ensure that it can be reused
-    * when ever an object of this type is to be scanned.
+    * This method is used to scan the type for all of its annotations.
+    * Everything that is scanned is cached within the instance to 
+    * ensure that it can be reused when ever an object of this type
+    * is to be scanned. The methods and fields are scanned later.
     * 
     * @param type this is the type to scan for details
     */
    private void scan(Class type) {
-      methods(type);
-      fields(type);
       extract(type);
    }
    
@@ -403,14 +409,18 @@ class DetailScanner implements Detail {
     * annotations. This improves performance on some platforms.
     * 
     * @param type this is the type to scan for declared annotations
+    * 
+    * @return this returns the list of methods declared for the type
     */
-   private void methods(Class type) {
+   private List<MethodDetail> methods(Class type) {
+      List<MethodDetail> methods = new LinkedList<MethodDetail>();
       Method[] list = type.getDeclaredMethods();
       
       for(Method method : list) {
          MethodDetail detail = new MethodDetail(method);
          methods.add(detail);
       }
+      return methods;
    }
    
    /**
@@ -420,14 +430,18 @@ class DetailScanner implements Detail {
     * annotations. This improves performance on some platforms.
     * 
     * @param type this is the type to scan for declared annotations
+    * 
+    * @return this returns the list of fields declared for the type
     */
-   private void fields(Class type) {
+   private List<FieldDetail> fields(Class type) {
+      List<FieldDetail> fields = new LinkedList<FieldDetail>();
       Field[] list = type.getDeclaredFields();
       
       for(Field field : list) {
          FieldDetail detail = new FieldDetail(field);
          fields.add(detail);
       }
+      return fields;
    }
 
    /**
@@ -89,6 +89,11 @@ class ElementArrayLabel extends TemplateLabel {
     */
    private boolean data;
    
+   /**
+    * This is used to determine if the array is in compact form.
+    */
+   private boolean compact;
+   
    /**
     * Constructor for the <code>ElementArrayLabel</code> object. This
     * creates a label object, which can be used to convert an element
@@ -102,6 +107,7 @@ class ElementArrayLabel extends TemplateLabel {
       this.detail = new Introspector(contact, this, format);
       this.decorator = new Qualifier(contact);
       this.required = label.required();
+      this.compact = label.compact();
       this.type = contact.getType();
       this.entry = label.entry();
       this.data = label.data();
@@ -156,11 +162,35 @@ class ElementArrayLabel extends TemplateLabel {
       Type entry = getDependent();
       Type type = getContact();
       
+      if(compact) {
+         return getCompact(context, type, entry);
+      }
       if(!context.isPrimitive(entry)) { 
          return new CompositeArray(context, type, entry, name);        
       }
       return new PrimitiveArray(context, type, entry, name);            
    }
+   
+   /**
+    * This will create a <code>Converter</code> for transforming the
+    * text of an XML element in to an array of primitive values. Only
+    * arrays of the numeric primitive types and booleans are able to
+    * be represented in this manner, all others cause an exception.
+    * 
+    * @param context this is the context object used for serialization
+    * @param type this is the array type that is to be converted
+    * @param entry this is the entry type for the array 
+    * 
+    * @return this returns the converter for the compact array
+    */
+   private Converter getCompact(Context context, Type type, Type entry) throws Exception {
+      Class real = entry.getType();
+      
+      if(!CompactArray.isCompact(real)) {
+         throw new InstantiationException("Compact array of %s not supported for %s", real, type);
+      }
+      return new CompactArray(context, type, entry);
+   }
 
    /**
     * This is used to provide a configured empty value used when the
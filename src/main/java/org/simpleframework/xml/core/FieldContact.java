@@ -131,6 +131,17 @@ class FieldContact implements Contact {
       return field.getType();
    }
    
+   /**
+    * This is used to acquire the field that this contact represents.
+    * The field is used when a binding is generated for the class so
+    * that the value can be read and written without the contact.
+    *
+    * @return this returns the field that this contact represents
+    */
+   public Field getField() {
+      return field;
+   }
+   
    /**
     * This provides the dependent class for the contact. This will
     * actually represent a generic type for the actual type. For
@@ -252,6 +263,24 @@ class FieldContact implements Contact {
       return field.get(source);
    }
    
+   /**
+    * This is used to acquire a binder for the field if it has been
+    * declared with a primitive type. A binder allows the value of
+    * the field to be read and written as text without creating a
+    * wrapper object for the primitive. If the field does not have a
+    * primitive type then this will return null.
+    * 
+    * @return this returns a binder for the primitive field or null
+    */
+   public PrimitiveBinder getBinder() {
+      Class type = field.getType();
+      
+      if(type.isPrimitive()) {
+         return new PrimitiveBinder(field);
+      }
+      return null;
+   }
+   
    /**
     * This is used to describe the contact as it exists within the
     * owning class. It is used to provide error messages that can
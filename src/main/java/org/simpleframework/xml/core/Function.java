@@ -83,7 +83,7 @@ class Function {
          if(contextual) {              
             return method.invoke(source, table);           
          }
-         return method.invoke(source);
+         return method.invoke(source, Reflector.EMPTY);
       }
       return null;
    }
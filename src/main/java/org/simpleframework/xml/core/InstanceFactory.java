@@ -36,7 +36,7 @@ import org.simpleframework.xml.util.ConcurrentCache;
  * @see org.simpleframework.xml.core.Instance
  */
 class InstanceFactory {
-
+   
    /**
     * This is used to cache the constructors for the given types.
     */
@@ -97,7 +97,7 @@ class InstanceFactory {
          }
          cache.cache(type, method);
       }
-      return method.newInstance();   
+      return method.newInstance(Reflector.EMPTY);   
    }
    
    /**
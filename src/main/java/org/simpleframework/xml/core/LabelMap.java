@@ -18,9 +18,14 @@
 
 package org.simpleframework.xml.core;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,6 +45,16 @@ class LabelMap extends LinkedHashMap<String, Label> implements Iterable<Label> {
     * This is policy used to determine the type of mappings used.
     */        
    private final Policy policy;
+   
+   /**
+    * This is used to resolve each key to the slot of its label.
+    */
+   private final Map<String, Slot> index;
+   
+   /**
+    * This contains the slot for each ordinal assigned by the map.
+    */
+   private final List<Slot> slots;
         
    /**
     * Constructor for the <code>LabelMap</code> object is used to 
@@ -56,8 +71,129 @@ class LabelMap extends LinkedHashMap<String, Label> implements Iterable<Label> {
     * like construct which avoids having to use the generic type.
     */ 
    public LabelMap(Policy policy) {
+      this.index = new HashMap<String, Slot>();
+      this.slots = new ArrayList<Slot>();
       this.policy = policy;
    }
+   
+   /**
+    * This is used to insert a label in to the map. As well as adding
+    * the label this will assign an ordinal to the key if it has not
+    * been seen before. Ordinals are never reused, so even if a key
+    * is removed the ordinals of the remaining keys remain stable.
+    * 
+    * @param key this is the name or path the label is mapped to
+    * @param label this is the label that is to be inserted
+    * 
+    * @return this returns the label previously mapped to the key
+    */
+   @Override
+   public Label put(String key, Label label) {
+      Slot slot = index.get(key);
+      
+      if(slot == null) {
+         slot = new Slot(slots.size());
+         index.put(key, slot);
+         slots.add(slot);
+      }
+      slot.label = label;
+      return super.put(key, label);
+   }
+   
+   /**
+    * This is used to remove the label mapped to the specified key.
+    * As well as removing the label from the map this will clear the
+    * slot for the ordinal of the key, however the ordinal itself is
+    * retained so that the ordinals of other keys remain stable.
+    * 
+    * @param key this is the name or path of the label to remove
+    * 
+    * @return this returns the label that was mapped to the key
+    */
+   @Override
+   public Label remove(Object key) {
+      Slot slot = index.get(key);
+      
+      if(slot != null) {
+         slot.label = null;
+      }
+      return super.remove(key);
+   }
+   
+   /**
+    * This is used to insert all of the labels from the specified map.
+    * Each label is inserted with the <code>put</code> method so that
+    * an ordinal is assigned to every key, just as if the labels had
+    * been inserted one at a time.
+    * 
+    * @param map this contains the labels that are to be inserted
+    */
+   @Override
+   public void putAll(Map<? extends String, ? extends Label> map) {
+      for(Map.Entry<? extends String, ? extends Label> entry : map.entrySet()) {
+         put(entry.getKey(), entry.getValue());
+      }
+   }
+   
+   /**
+    * This is used to remove all of the labels from the map. As well
+    * as removing the labels this will discard the ordinals that have
+    * been assigned, so a key inserted after this is given a new 
+    * ordinal starting again from zero.
+    */
+   @Override
+   public void clear() {
+      index.clear();
+      slots.clear();
+      super.clear();
+   }
+   
+   /**
+    * This is used to take the label mapped to the specified key if
+    * it has not already been taken. The key is resolved to its slot
+    * with a single probe, the slot holds both the ordinal used to
+    * record the label as taken and the label itself. This map is
+    * not modified, so it can be shared by all concurrent reads.
+    * 
+    * @param key this is the name or path of the label to take
+    * @param taken this contains the ordinals already taken
+    * 
+    * @return this returns the label or null if it was taken
+    */
+   public Label getLabel(String key, BitSet taken) {
+      Slot slot = index.get(key);
+      
+      if(slot == null || taken.get(slot.index)) {
+         return null;
+      }
+      taken.set(slot.index);
+      return slot.label;
+   }
+   
+   /**
+    * This is used to acquire the number of ordinals that have been
+    * assigned by this map. This can be used to size a structure 
+    * that is indexed by the ordinals of the keys in this map.
+    * 
+    * @return this returns the number of ordinals assigned
+    */
+   public int getCapacity() {
+      return slots.size();
+   }
+   
+   /**
+    * This is used to acquire the label for the specified ordinal. 
+    * The ordinals run from zero up to the capacity of the map, in
+    * the order the keys were first inserted. If the key for the
+    * ordinal was removed from the map then this returns null.
+    * 
+    * @param index this is the ordinal of the label to acquire
+    * 
+    * @return this returns the label for the specified ordinal
+    */
+   public Label getLabel(int index) {
+      return slots.get(index).label;
+   }
 
    /**
     * This allows the <code>Label</code> objects within the label map
@@ -72,17 +208,17 @@ class LabelMap extends LinkedHashMap<String, Label> implements Iterable<Label> {
    }
 
    /**
-    * This performs a <code>remove</code> that will remove the label
-    * from the map and return that label. This method allows the 
-    * values within the map to be exclusively taken one at a time,
-    * which enables the user to determine which labels remain.
+    * This is used to acquire the label mapped to the specified name.
+    * As the maps built by a model are shared by every read of the
+    * class this does not modify the map. To track which labels have
+    * been consumed while reading a <code>LabelSet</code> is used.
     *
     * @param name this is the name of the element of attribute
     *
     * @return this is the label object representing the XML node
     */ 
    public Label getLabel(String name) {
-      return remove(name);    
+      return get(name);    
    }
 
    /**
@@ -131,8 +267,8 @@ class LabelMap extends LinkedHashMap<String, Label> implements Iterable<Label> {
    /**
     * This method is used to clone the label map such that mappings
     * can be maintained in the original even if they are modified
-    * in the clone. This is used to that the <code>Schema</code> can
-    * remove mappings from the label map as they are visited. 
+    * in the clone. The labels in the clone are keyed by their path
+    * so that they can be matched to the paths of the XML nodes.
     *
     * @return this returns a cloned representation of this map
     */ 
@@ -180,4 +316,34 @@ class LabelMap extends LinkedHashMap<String, Label> implements Iterable<Label> {
       }
       return context.isStrict() && policy.isStrict();           
    }
+   
+   /**
+    * The <code>Slot</code> object is used to hold the label for a
+    * key along with the ordinal assigned to that key. Resolving a
+    * key to its slot provides both with a single hash lookup. If
+    * the key is removed the slot is kept, with no label, so that
+    * the ordinal assigned to the key remains the same.
+    */
+   private static class Slot {
+      
+      /**
+       * This is the ordinal that has been assigned to the key.
+       */
+      private final int index;
+      
+      /**
+       * This is the label currently mapped to the key, if any.
+       */
+      private Label label;
+      
+      /**
+       * Constructor for the <code>Slot</code> object. This creates
+       * an empty slot for the ordinal assigned to a new key.
+       * 
+       * @param index this is the ordinal assigned to the key
+       */
+      public Slot(int index) {
+         this.index = index;
+      }
+   }
 }
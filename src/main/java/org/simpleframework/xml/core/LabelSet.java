@@ -0,0 +1,113 @@
+/*
+ * LabelSet.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The <code>LabelSet</code> object is used to track the labels that
+ * have been consumed while reading a single XML element. Rather than
+ * copying the <code>LabelMap</code> for every element read, this is
+ * a view over a shared map where each consumed label is recorded in
+ * a bit set keyed by the ordinal of its path. This means the shared
+ * map is never modified and can be used by any number of reads.
+ * 
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.LabelMap
+ */
+class LabelSet implements Iterable<Label> {
+   
+   /**
+    * This is the shared map that contains the labels to be read.
+    */
+   private final LabelMap map;
+   
+   /**
+    * This contains the ordinals of the labels that were consumed.
+    */
+   private final BitSet taken;
+   
+   /**
+    * Constructor for the <code>LabelSet</code> object. This creates
+    * a view over the provided map where none of the labels have yet
+    * been consumed. The map provided is never modified by this.
+    * 
+    * @param map this is the shared map of labels to be read
+    */
+   public LabelSet(LabelMap map) {
+      this.taken = new BitSet(map.getCapacity());
+      this.map = map;
+   }
+   
+   /**
+    * This is used to take the label mapped to the specified path. 
+    * Once a label has been taken it is considered consumed and it
+    * will not be returned again. This enables the labels remaining
+    * to be determined once all of the XML nodes have been read.
+    * 
+    * @param path this is the path of the element or attribute
+    * 
+    * @return this returns the label if it has not been consumed
+    */
+   public Label getLabel(String path) {
+      return map.getLabel(path, taken);
+   }
+   
+   /**
+    * This allows the labels that have not been consumed to be
+    * iterated within for each loops. This is used once all XML 
+    * nodes have been read to determine if any required labels 
+    * have not been satisfied by the XML element that was read.
+    * 
+    * @return this returns an iterator for the remaining labels
+    */
+   public Iterator<Label> iterator() {
+      List<Label> list = new ArrayList<Label>();
+      int size = map.getCapacity();
+      
+      for(int i = 0; i < size; i++) {
+         if(!taken.get(i)) {
+            Label label = map.getLabel(i);
+            
+            if(label != null) {
+               list.add(label);
+            }
+         }
+      }
+      return list.iterator();
+   }
+   
+   /**
+    * This method is used to determine whether strict mappings are
+    * required. Strict mapping means that all labels in the class
+    * schema must match the XML elements and attributes in the
+    * source XML document. This is determined by the shared map.
+    * 
+    * @param context this is used to determine if this is strict
+    *
+    * @return true if strict parsing is enabled, false otherwise
+    */ 
+   public boolean isStrict(Context context) {
+      return map.isStrict(context);
+   }
+}
@@ -47,6 +47,16 @@ class MethodContact implements Contact {
     * This is the get method which is used to get the value.
     */
    private MethodPart get;
+   
+   /**
+    * This is the method that is invoked to set the value.
+    */
+   private Method writer;
+   
+   /**
+    * This is the method that is invoked to get the value.
+    */
+   private Method reader;
 
    /**
     * This is the dependent types as taken from the get method.
@@ -89,12 +99,16 @@ class MethodContact implements Contact {
     * Constructor for the <code>MethodContact</code> object. This is
     * used to compose a point of contact that makes use of a get and
     * set method on a class. The specified methods will be invoked
-    * during the serialization process to get and set values.
+    * during the serialization process to get and set values. The
+    * methods are resolved and made accessible once here so that
+    * no further checks are required each time a value is accessed.
     *
     * @param get this forms the get method for the object
     * @param set this forms the get method for the object 
     */ 
    public MethodContact(MethodPart get, MethodPart set) {
+      this.writer = set != null ? set.getMethod() : null;
+      this.reader = get.getMethod();
       this.owner = get.getDeclaringClass();
       this.label = get.getAnnotation();   
       this.items = get.getDependents();
@@ -239,13 +253,12 @@ class MethodContact implements Contact {
     * @param value this is the value that is to be set on the object
     */    
    public void set(Object source, Object value) throws Exception{
-      Method method = get.getMethod();
-      Class type = method.getDeclaringClass();
+      Class type = reader.getDeclaringClass();
       
-      if(set == null) {
+      if(writer == null) {
          throw new MethodException("Property '%s' is read only in %s", name, type);
       }
-      set.getMethod().invoke(source, value);
+      writer.invoke(source, value);
    }
    
    /**
@@ -259,7 +272,7 @@ class MethodContact implements Contact {
     * @return this is the value that is acquired from the object
     */ 
    public Object get(Object source) throws Exception {
-      return get.getMethod().invoke(source);
+      return reader.invoke(source, Reflector.EMPTY);
    }
    
    /**
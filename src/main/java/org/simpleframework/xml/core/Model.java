@@ -208,24 +208,22 @@ interface Model extends Iterable<String> {
    Model lookup(Expression path);
    
    /**
-    * This is used to build a map from a <code>Context</code> object.
-    * Building a map in this way ensures that any style specified by
-    * the context can be used to create the XML element and attribute
-    * names in the styled format. It also ensures that the model
-    * remains immutable as it only provides copies of its data.
+    * This is used to acquire a map of labels keyed by their paths.
+    * Once the model has been validated the map returned is shared
+    * and must not be modified. Any labels consumed while reading
+    * should be tracked separately, for example with a label set.
     * 
-    * @return this returns a map built from the specified context
+    * @return this returns a map of labels keyed by their paths
     */
    LabelMap getElements() throws Exception;
    
    /**
-    * This is used to build a map from a <code>Context</code> object.
-    * Building a map in this way ensures that any style specified by
-    * the context can be used to create the XML element and attribute
-    * names in the styled format. It also ensures that the model
-    * remains immutable as it only provides copies of its data.
+    * This is used to acquire a map of labels keyed by their paths.
+    * Once the model has been validated the map returned is shared
+    * and must not be modified. Any labels consumed while reading
+    * should be tracked separately, for example with a label set.
     * 
-    * @return this returns a map built from the specified context
+    * @return this returns a map of labels keyed by their paths
     */
    LabelMap getAttributes() throws Exception;
    
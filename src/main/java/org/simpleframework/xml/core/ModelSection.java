@@ -224,16 +224,16 @@ class ModelSection implements Section {
     * over the names of the elements in the section a specific one
     * of interest can be acquired. 
     * <p>
-    * To ensure that elements of the same name are not referenced
-    * more than once this will remove the element once acquired. 
-    * This ensures that they are visited only once in serialization.
+    * The elements are shared by every read and write of the class
+    * so the element is not removed once acquired. Each name in the
+    * section is only iterated once, so each is visited only once.
     * 
     * @param name the name of the element that is to be acquired
     * 
     * @return this returns the label associated with the name
     */
    public Label getElement(String name) throws Exception {
-      return getElements().getLabel(name);
+      return getElements().get(name);
    }
 
    /**
@@ -0,0 +1,146 @@
+/*
+ * NodeIterator.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.simpleframework.xml.stream.InputNode;
+
+/**
+ * The <code>NodeIterator</code> is used to lazily deserialize the
+ * child elements of an XML element one at a time. Each child is only
+ * read from the document when the iterator is advanced, so only the
+ * entry that was most recently read is held in memory. This allows
+ * documents containing a huge list of entries to be processed with
+ * constant memory regardless of the size of the document.
+ * <p>
+ * All of the entries are read with the same context, so the schemas
+ * and converters it builds are reused for every entry. However, the
+ * session is cleared before each entry is read, so any references 
+ * across entries, such as those written by a cycle strategy, can not
+ * be resolved. Any failure to read an entry is reported by throwing
+ * an <code>IllegalStateException</code> with the original cause.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.core.Persister
+ */
+class NodeIterator<T> implements Iterator<T> {
+   
+   /**
+    * This is the context used to deserialize each of the entries.
+    */
+   private final Context context;
+   
+   /**
+    * This is the type of the entries that are to be deserialized.
+    */
+   private final Class<? extends T> type;
+   
+   /**
+    * This is the XML element that contains the entries to be read.
+    */
+   private final InputNode parent;
+   
+   /**
+    * This is the entry that has been read but not yet returned.
+    */
+   private T next;
+   
+   /**
+    * Constructor for the <code>NodeIterator</code> object. This is
+    * used to create an iterator that will deserialize each child of
+    * the provided element as an instance of the specified type.
+    * 
+    * @param context this is used to deserialize each entry
+    * @param type this is the type of the entries to be read
+    * @param parent this is the element containing the entries
+    */
+   public NodeIterator(Context context, Class<? extends T> type, InputNode parent) {
+      this.context = context;
+      this.parent = parent;
+      this.type = type;
+   }
+   
+   /**
+    * This is used to determine if there are any more entries to be
+    * read from the element. If the next entry has not been read then
+    * it is read from the document and held until it is taken.
+    * 
+    * @return this returns true if there is another entry to read
+    */
+   public boolean hasNext() {
+      if(next == null) {
+         try {
+            next = read();
+         } catch(Exception cause) {
+            throw new IllegalStateException("Could not read " + type, cause);
+         }
+      }
+      return next != null;
+   }
+
+   /**
+    * This is used to take the next entry from the element. Once it
+    * has been taken the iterator no longer references the entry so
+    * it can be collected once the caller no longer requires it.
+    * 
+    * @return this returns the next entry read from the element
+    */
+   public T next() {
+      if(hasNext()) {
+         T value = next;
+         
+         next = null;
+         return value;
+      }
+      throw new NoSuchElementException("No more entries for " + type);
+   }
+   
+   /**
+    * This is used to read the next child of the element. If there
+    * are no more children then this will return null. The session
+    * is cleared before each child is read so that nothing retained
+    * from the previous entry grows as the document is read.
+    * 
+    * @return this returns the next entry or null if there are none
+    */
+   @SuppressWarnings("unchecked")
+   private T read() throws Exception {
+      InputNode node = parent.getNext();
+      
+      if(node != null) {
+         Session session = context.getSession();
+         Traverser traverser = new Traverser(context);
+         
+         session.clear();
+         return (T)traverser.read(node, type);
+      }
+      return null;
+   }
+
+   /**
+    * Entries are read from a stream so they can not be removed. This 
+    * will always throw an <code>UnsupportedOperationException</code>.
+    */
+   public void remove() {
+      throw new UnsupportedOperationException("Can not remove entries");
+   }
+}
@@ -23,12 +23,13 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.simpleframework.xml.Serializer;
 import org.simpleframework.xml.filter.Filter;
@@ -872,6 +873,169 @@ public class Persister implements Serializer {
       return (T)new Traverser(context).read(node, value);
    }   
    
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   public <T> Iterator<T> iterate(Class<? extends T> type, InputStream source, String path) throws Exception {
+      return iterate(type, source, path, true);
+   }
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * @param strict this determines whether to read in strict mode
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   public <T> Iterator<T> iterate(Class<? extends T> type, InputStream source, String path, boolean strict) throws Exception {
+      return iterate(type, NodeBuilder.read(source), path, strict);
+   }
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   public <T> Iterator<T> iterate(Class<? extends T> type, Reader source, String path) throws Exception {
+      return iterate(type, source, path, true);
+   }
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. The path identifies the
+    * element containing the entries, starting with the root element,
+    * for example "export/entries". Each child of that element is
+    * deserialized as the specified type only when the iterator is
+    * advanced, so the memory used does not depend on the document size.
+    * Failures are reported with an <code>IllegalStateException</code>.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param source this provides the source of the XML document
+    * @param path this is the path of the element with the entries
+    * @param strict this determines whether to read in strict mode
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   public <T> Iterator<T> iterate(Class<? extends T> type, Reader source, String path, boolean strict) throws Exception {
+      return iterate(type, NodeBuilder.read(source), path, strict);
+   }
+   
+   /**
+    * This <code>iterate</code> method will lazily read the entries of
+    * a list from the XML document provided. This will first locate 
+    * the element identified by the path, skipping any other elements
+    * along the way, and then returns an iterator over its children.
+    * 
+    * @param type this is the class type of each entry in the list
+    * @param node this is the root element of the XML document
+    * @param path this is the path of the element with the entries
+    * @param strict this determines whether to read in strict mode
+    * 
+    * @return an iterator that reads each entry from the document
+    * 
+    * @throws Exception if the path does not exist in the document
+    */
+   private <T> Iterator<T> iterate(Class<? extends T> type, InputNode node, String path, boolean strict) throws Exception {
+      String[] list = path.split("/");
+      String root = node.getName();
+      
+      if(!list[0].equals(root)) {
+         throw new PathException("Path '%s' does not match root '%s'", path, root);
+      }
+      for(int i = 1; i < list.length; i++) {
+         InputNode next = node.getNext(list[i]);
+         
+         while(next == null) {
+            InputNode other = node.getNext();
+            
+            if(other == null) {
+               throw new PathException("Path '%s' not found in document", path);
+            }
+            other.skip();
+            next = node.getNext(list[i]);
+         }
+         node = next;
+      }
+      Session session = new Session(strict);
+      Context context = new Source(strategy, support, session);
+      
+      return new NodeIterator<T>(context, type, node);
+   }
+   
+   /**
+    * This <code>prepare</code> method will scan the specified classes
+    * and every class reachable from them so that they are ready to
+    * be serialized. This includes the types of elements, the entry
+    * types of lists and maps and the options of any unions. Scanning
+    * up front means the first read or write of each class does not
+    * pay for the scan, and that schema errors are reported early.
+    * 
+    * @param types these are the root classes that are to be scanned
+    * 
+    * @throws Exception if any reachable class has an invalid schema
+    */
+   public void prepare(Class... types) throws Exception {
+      new Preparer(support).prepare(types);
+   }
+   
+   /**
+    * This <code>prepare</code> method will scan the specified classes
+    * and every class reachable from them so that they are ready to
+    * be serialized. Each class discovered is scanned as a separate
+    * task on the executor provided, so the classes can be scanned in
+    * parallel. This will block until all of the classes are scanned.
+    * While it waits the calling thread scans any class whose task
+    * has not yet been started, so this can be called from a task
+    * running on the same executor, even if it has a single thread.
+    * 
+    * @param executor this is used to execute each of the scan tasks
+    * @param types these are the root classes that are to be scanned
+    * 
+    * @throws Exception if any reachable class has an invalid schema
+    */
+   public void prepare(Executor executor, Class... types) throws Exception {
+      new Preparer(support, executor).prepare(types);
+   }
+   
    /**
     * This <code>validate</code> method will validate the contents of
     * the XML document against the specified XML class schema. This is
@@ -1238,7 +1402,7 @@ public class Persister implements Serializer {
     * @throws Exception if the schema for the object is not valid
     */  
    public void write(Object source, OutputStream out, String charset) throws Exception {
-      write(source, new OutputStreamWriter(out, charset));
+      write(source, NodeBuilder.write(out, format, charset));
    }
    
    /**
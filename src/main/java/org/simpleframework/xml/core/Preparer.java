@@ -0,0 +1,373 @@
+/*
+ * Preparer.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.simpleframework.xml.strategy.Type;
+
+/**
+ * The <code>Preparer</code> object is used to scan a set of schema
+ * classes, and every class reachable from them, before they are
+ * serialized. Scanning a class populates the caches held by the
+ * <code>Support</code> object, so that the first read or write of
+ * the class does not pay for the scan. Each class discovered is
+ * scanned as a separate task on the executor provided, which means
+ * the scanning can be performed in parallel.
+ * <p>
+ * Classes are discovered by examining the labels of each scanned
+ * class. The type of each label is followed, as are the entry
+ * types of lists, arrays and maps and the options of any unions.
+ * Interfaces and abstract classes are not scanned as the concrete
+ * types they represent can only be known during serialization.
+ * <p>
+ * Classes are queued with the preparer and each task given to the
+ * executor scans the next queued class. The thread that calls the
+ * <code>prepare</code> method also scans queued classes while it
+ * waits, and only blocks while other threads are scanning. So it
+ * is safe to prepare from a task running on the executor itself,
+ * even a single thread executor, as the calling thread will scan
+ * any class whose task is queued behind it. The executor may run
+ * the tasks in any order, or reject them, without any effect.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.Support
+ */
+class Preparer {
+
+   /**
+    * This contains the classes that failed to scan successfully.
+    */
+   private final List<Class> failures;
+
+   /**
+    * This contains the classes that are waiting to be scanned.
+    */
+   private final LinkedList<Class> queue;
+
+   /**
+    * This contains every class that has been submitted for scanning.
+    */
+   private final Set<Class> done;
+
+   /**
+    * This is the executor used to execute each of the scan tasks.
+    */
+   private final Executor executor;
+
+   /**
+    * This is the support that contains the caches to populate.
+    */
+   private final Support support;
+
+   /**
+    * This is the first failure that occurred during the scan.
+    */
+   private Throwable cause;
+
+   /**
+    * This is the number of classes that have not yet been scanned.
+    */
+   private int pending;
+
+   /**
+    * Constructor for the <code>Preparer</code> object. This will
+    * create an object that scans each class on the calling thread.
+    * As each class is scanned in turn the caches will be populated
+    * when the <code>prepare</code> method returns.
+    *
+    * @param support this is the support containing the caches
+    */
+   public Preparer(Support support) {
+      this(support, null);
+   }
+
+   /**
+    * Constructor for the <code>Preparer</code> object. This will
+    * create an object that scans each class as a task on the given
+    * executor. Regardless of the executor used the caches will be
+    * populated when the <code>prepare</code> method returns.
+    *
+    * @param support this is the support containing the caches
+    * @param executor this is used to execute each scan task
+    */
+   public Preparer(Support support, Executor executor) {
+      this.failures = new ArrayList<Class>();
+      this.queue = new LinkedList<Class>();
+      this.done = new HashSet<Class>();
+      this.executor = executor;
+      this.support = support;
+   }
+
+   /**
+    * This is used to scan the specified classes and every class that
+    * is reachable from them. This will block until every class has
+    * been scanned, scanning queued classes on the calling thread
+    * rather than waiting for the executor to run their tasks. If any
+    * of the classes can not be scanned then an exception is thrown
+    * that names every class that failed.
+    *
+    * @param types these are the root classes that are to be scanned
+    */
+   public void prepare(Class... types) throws Exception {
+      for(Class type : types) {
+         submit(type);
+      }
+      while(true) {
+         Class type = take();
+
+         if(type == null) {
+            break;
+         }
+         execute(type);
+      }
+      if(cause != null) {
+         throw new PersistenceException(cause, "Unable to prepare %s", failures);
+      }
+   }
+
+   /**
+    * This is used to take the next class to scan for the thread that
+    * called the <code>prepare</code> method. If no class is queued
+    * but other threads are still scanning then this will wait, as
+    * those scans may queue further classes. Once every class has
+    * been scanned this returns null.
+    *
+    * @return this returns the next class to scan or null if done
+    */
+   private synchronized Class take() throws Exception {
+      while(queue.isEmpty()) {
+         if(pending == 0) {
+            return null;
+         }
+         wait();
+      }
+      return queue.removeFirst();
+   }
+
+   /**
+    * This is used to submit a class to be scanned. If the class has
+    * already been submitted then this will do nothing. Otherwise the
+    * class is queued, the number of pending classes is raised so the
+    * <code>prepare</code> method waits for it, and a task is given to
+    * the executor so that the class can be scanned in parallel. If
+    * the executor rejects the task the class remains queued, so it
+    * is scanned by the thread waiting in <code>prepare</code>.
+    *
+    * @param type this is the class that is to be scanned
+    */
+   private void submit(Class type) {
+      synchronized(this) {
+         if(!done.add(type)) {
+            return;
+         }
+         queue.add(type);
+         pending++;
+         notifyAll();
+      }
+      if(executor != null) {
+         try {
+            executor.execute(new Task());
+         } catch(RejectedExecutionException e) {
+            return;
+         }
+      }
+   }
+
+   /**
+    * This is used to scan the specified class and record that it is
+    * done. If the scan fails the failure is recorded so that it can
+    * be reported when all of the classes are done. This includes
+    * errors, such as a class that can not be initialized.
+    *
+    * @param type this is the class that is to be scanned
+    */
+   private void execute(Class type) {
+      Throwable failure = null;
+
+      try {
+         scan(type);
+      } catch(Throwable e) {
+         failure = e;
+      } finally {
+         finish(type, failure);
+      }
+   }
+
+   /**
+    * This is used to record the completion of a scan. If the scan
+    * failed then the class is recorded so that it is reported once
+    * all classes are done. When the last pending class is finished
+    * the thread waiting in the <code>prepare</code> method is woken.
+    *
+    * @param type this is the class that has been scanned
+    * @param failure this is the failure that occurred, if any
+    */
+   private synchronized void finish(Class type, Throwable failure) {
+      if(failure != null) {
+         if(cause == null) {
+            cause = failure;
+         }
+         failures.add(type);
+      }
+      if(--pending == 0) {
+         notifyAll();
+      }
+   }
+
+   /**
+    * This is used to scan the specified class. Scanning a class will
+    * populate the caches for the class. Once scanned the labels of
+    * the class are examined so that any classes they reference can
+    * be submitted to be scanned also.
+    *
+    * @param type this is the class that is to be scanned
+    */
+   private void scan(Class type) throws Exception {
+      if(type.isArray()) {
+         submit(type.getComponentType());
+      } else if(isScannable(type)) {
+         Scanner scanner = support.getScanner(type);
+         Section section = scanner.getSection();
+         Label text = scanner.getText();
+
+         if(text != null) {
+            scan(text);
+         }
+         scan(section);
+      }
+   }
+
+   /**
+    * This is used to scan the labels within the provided section.
+    * Each attribute and element of the section is examined, as is
+    * the text label, and every child section is examined in turn.
+    * This ensures that classes referenced by paths are scanned.
+    *
+    * @param section this is the section that is to be examined
+    */
+   private void scan(Section section) throws Exception {
+      Label text = section.getText();
+
+      for(Label label : section.getAttributes()) {
+         scan(label);
+      }
+      for(Label label : section.getElements()) {
+         scan(label);
+      }
+      for(String name : section) {
+         Section child = section.getSection(name);
+
+         if(child != null) {
+            scan(child);
+         }
+      }
+      if(text != null) {
+         scan(text);
+      }
+   }
+
+   /**
+    * This is used to submit the classes referenced by a label. The
+    * type of the label is submitted as well as its dependent type,
+    * which for a list or array is the entry type. For a map both
+    * the key and the value types of the contact are submitted.
+    *
+    * @param label this is the label to submit the classes for
+    */
+   private void scan(Label label) throws Exception {
+      Contact contact = label.getContact();
+      Class[] dependents = contact.getDependents();
+      Type dependent = label.getDependent();
+      Class type = label.getType();
+
+      if(dependent != null) {
+         submit(dependent.getType());
+      }
+      for(Class entry : dependents) {
+         submit(entry);
+      }
+      submit(type);
+   }
+
+   /**
+    * This is used to determine whether a class should be scanned. A
+    * class is not scanned if it is a primitive, as it is serialized
+    * with a transform, or if it is a container, interface or abstract
+    * class. Determining if the class is primitive populates the cache
+    * of transforms, so that too is prepared for serialization.
+    *
+    * @param type this is the class that is to be examined
+    *
+    * @return this returns true if the class is to be scanned
+    */
+   private boolean isScannable(Class type) throws Exception {
+      int modifiers = type.getModifiers();
+
+      if(type == Object.class) {
+         return false;
+      }
+      if(support.isPrimitive(type)) {
+         return false;
+      }
+      if(support.isContainer(type)) {
+         return false;
+      }
+      if(type.isInterface()) {
+         return false;
+      }
+      return !Modifier.isAbstract(modifiers);
+   }
+
+   /**
+    * The <code>Task</code> object is used to scan a queued class on
+    * the executor. If the class has already been taken, typically by
+    * the thread waiting in the <code>prepare</code> method, then the
+    * task does nothing. Any classes discovered during the scan are
+    * queued and submitted as separate tasks.
+    */
+   private class Task implements Runnable {
+
+      /**
+       * This is used to scan the next queued class, if there is one.
+       * Taking the class from the queue ensures that each class is
+       * scanned by exactly one thread.
+       */
+      public void run() {
+         Class type = null;
+
+         synchronized(Preparer.this) {
+            if(!queue.isEmpty()) {
+               type = queue.removeFirst();
+            }
+         }
+         if(type != null) {
+            execute(type);
+         }
+      }
+   }
+}
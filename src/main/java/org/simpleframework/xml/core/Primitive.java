@@ -19,7 +19,9 @@
 package org.simpleframework.xml.core;
 
 import org.simpleframework.xml.strategy.Type;
+import org.simpleframework.xml.stream.Appender;
 import org.simpleframework.xml.stream.InputNode;
+import org.simpleframework.xml.stream.NodeAppender;
 import org.simpleframework.xml.stream.OutputNode;
 
 /**
@@ -168,7 +170,24 @@ class Primitive implements Converter {
       if(empty != null && value.equals(empty)) {
          return empty;         
       }
-      return readTemplate(value, type);
+      if(isTemplate(value)) {
+         return readTemplate(value, type);
+      }
+      return factory.getInstance(value, type);
+   }
+   
+   /**
+    * This is used to determine if the text read from the node could
+    * contain template variables. If it does not then the text can
+    * be converted straight from the text provided by the node
+    * without giving it to the template engine first.
+    * 
+    * @param value this is the text that has been read from the node
+    * 
+    * @return this returns true if the text could be a template
+    */
+   private boolean isTemplate(String value) {
+      return value.indexOf('$') >= 0;
    }
    
    /**
@@ -285,10 +304,16 @@ class Primitive implements Converter {
     * @param node this is the XML element to have its text set
     */  
    public void write(OutputNode node, Object source) throws Exception {
-      String text = factory.getText(source);
+      Appender appender = factory.getAppender(source);
+      
+      if(appender != null) {
+         NodeAppender.setValue(node, source, appender);
+      } else {
+         String text = factory.getText(source);
     
-      if(text != null) {
-         node.setValue(text);
+         if(text != null) {
+            node.setValue(text);
+         }
       }  
    }
 }
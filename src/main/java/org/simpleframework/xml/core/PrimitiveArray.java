@@ -19,9 +19,11 @@
 package org.simpleframework.xml.core;
 
 import java.lang.reflect.Array;
+import java.util.Iterator;
 
 import org.simpleframework.xml.strategy.Type;
 import org.simpleframework.xml.stream.InputNode;
+import org.simpleframework.xml.stream.NodeMap;
 import org.simpleframework.xml.stream.OutputNode;
 import org.simpleframework.xml.stream.Position;
 
@@ -46,6 +48,12 @@ import org.simpleframework.xml.stream.Position;
  * a from a parent XML element, which is specified in the annotation.
  * For serialization the reverse is done, each element taken from the 
  * array is written into an element created from the parent element.
+ * <p>
+ * If the array has a primitive component type, and the stock format
+ * and strategy are used, then the text of each entry is bound to
+ * the array directly with an <code>ArrayBinder</code>. This means
+ * no wrapper object is created for each entry, and the XML that is
+ * read and written is exactly the same as for any other array.
  * 
  * @author Niall Gallagher
  *
@@ -58,6 +66,16 @@ class PrimitiveArray implements Converter {
     * This factory is used to create an array for the contact.
     */
    private final ArrayFactory factory;
+   
+   /**
+    * This is used to bind primitive entries directly to the array.
+    */
+   private final ArrayBinder binder;
+   
+   /**
+    * This is the context object used for the serialization.
+    */
+   private final Context context;
 
    /**
     * This performs the serialization of the primitive element.
@@ -90,9 +108,11 @@ class PrimitiveArray implements Converter {
     * @param entry the entry type to be stored within the array
     * @param parent this is the name to wrap the array element with     
     */    
-   public PrimitiveArray(Context context, Type type, Type entry, String parent) {
+   public PrimitiveArray(Context context, Type type, Type entry, String parent) throws Exception {
+      this.binder = context.getBinder(entry.getType());
       this.factory = new ArrayFactory(context, type); 
       this.root = new Primitive(context, entry);          
+      this.context = context;
       this.parent = parent;
       this.entry = entry;
       this.type = type;
@@ -142,10 +162,56 @@ class PrimitiveArray implements Converter {
          if(pos >= length){
             throw new ElementException("Array length missing or incorrect for %s at %s", type, line);
          }
-         Array.set(list, pos, root.read(next));
+         read(next, list, pos);
       } 
    }    
    
+   /**
+    * This <code>read</code> method is used to read a single entry of
+    * the array. If the entries can be bound directly and the entry
+    * element has no attributes, which the strategy would otherwise
+    * need to resolve, then the text is parsed straight in to the
+    * array. Otherwise the entry is read by the primitive converter.
+    * An entry with no value is set as null, which is rejected by the
+    * array in the same way as a null read by the converter would be.
+    * 
+    * @param node this is the XML element for the array entry
+    * @param list this is the array to read the entry value in to
+    * @param index this is the index of the entry within the array
+    */
+   private void read(InputNode node, Object list, int index) throws Exception {
+      if(binder != null && isPlain(node)) {
+         String value = node.getValue();
+         
+         if(value != null) {
+            String text = context.getProperty(value);
+            
+            binder.read(list, index, text);
+         } else {
+            Array.set(list, index, value);
+         }
+      } else {
+         Array.set(list, index, root.read(node));
+      }
+   }
+   
+   /**
+    * This is used to determine if the element has no attributes. A
+    * strategy uses the attributes of an element to override its type
+    * or to refer to another value, so an entry with attributes must 
+    * always be read through the primitive converter.
+    * 
+    * @param node this is the XML element to be examined
+    * 
+    * @return this returns true if the element has no attributes
+    */
+   private boolean isPlain(InputNode node) throws Exception {
+      NodeMap<InputNode> attributes = node.getAttributes();
+      Iterator<String> names = attributes.iterator();
+      
+      return !names.hasNext();
+   }
+   
    /**
     * This <code>validate</code> method will validate the XML element list 
     * from the provided node and validate its children as entry types.
@@ -217,19 +283,26 @@ class PrimitiveArray implements Converter {
     * This <code>write</code> method will write the specified object
     * to the given XML element as as array entries. Each entry within
     * the given array must be assignable to the array component type.
-    * This will deserialize each entry type as a primitive value. In
-    * order to do this the parent string provided forms the element.
+    * This will serialize each entry type as a primitive value. If
+    * the entries are bound directly then the strategy, which adds
+    * nothing for a primitive entry, is not consulted for the entry.
     * 
     * @param source this is the source object array to be serialized 
     * @param node this is the XML element container to be populated
     * @param index this is the position in the array to set the item
     */ 
    private void write(OutputNode node, Object source, int index) throws Exception {   
-      Object item = Array.get(source, index);         
-      
-      if(item != null) {         
-         if(!isOverridden(node, item)) {
-            root.write(node, item);
+      if(binder != null) {
+         String text = binder.write(source, index);
+         
+         node.setValue(text);
+      } else {
+         Object item = Array.get(source, index);         
+         
+         if(item != null) {         
+            if(!isOverridden(node, item)) {
+               root.write(node, item);
+            }
          }
       }      
    }
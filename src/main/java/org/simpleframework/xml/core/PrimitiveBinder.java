@@ -0,0 +1,197 @@
+/*
+ * PrimitiveBinder.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.simpleframework.xml.transform.InvalidFormatException;
+import org.simpleframework.xml.util.NumberParser;
+
+/**
+ * The <code>PrimitiveBinder</code> is used to bind text directly to
+ * a field declared with a primitive type. Rather than converting the
+ * text to a wrapper object and setting the field with that object,
+ * the text is parsed straight to the primitive and set with a typed
+ * field accessor. Likewise the field is read with a typed accessor
+ * and formatted without creating a wrapper object.
+ * <p>
+ * The text produced and accepted is identical to that of the stock
+ * transforms for the primitive types. As such a binder must only be
+ * used when no transform has been registered for the primitive type
+ * or its wrapper, and when no empty value has been declared.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.FieldContact
+ */
+class PrimitiveBinder {
+
+   /**
+    * This is the field that the primitive value is bound to.
+    */
+   private final Field field;
+
+   /**
+    * This is the primitive type declared for the field.
+    */
+   private final Class type;
+   
+   /**
+    * This determines if the field can be set by this binder.
+    */
+   private final boolean constant;
+
+   /**
+    * Constructor for the <code>PrimitiveBinder</code> object. This
+    * is used to create a binder for the specified field. The field
+    * provided must have a primitive type and must be accessible.
+    *
+    * @param field this is the primitive field that is to be bound
+    */
+   public PrimitiveBinder(Field field) {
+      this.constant = Modifier.isFinal(field.getModifiers());
+      this.type = field.getType();
+      this.field = field;
+   }
+
+   /**
+    * This is used to parse the provided text and set the primitive
+    * value on the field of the given object. The text is parsed in
+    * the same way as the stock transform for the primitive type, so
+    * the same exceptions are thrown for text that is not valid. As
+    * with the field contact the value of a final field is not set.
+    *
+    * @param source this is the object to set the field value on
+    * @param text this is the text to be parsed to the primitive
+    */
+   public void read(Object source, CharSequence text) throws Exception {
+      int length = text.length();
+      
+      if(constant) {
+         return;
+      }
+      if(type == int.class) {
+         field.setInt(source, NumberParser.parseInt(text, 0, length));
+      } else if(type == double.class) {
+         field.setDouble(source, NumberParser.parseDouble(text, 0, length));
+      } else if(type == long.class) {
+         field.setLong(source, NumberParser.parseLong(text, 0, length));
+      } else if(type == boolean.class) {
+         field.setBoolean(source, readBoolean(text));
+      } else if(type == float.class) {
+         field.setFloat(source, NumberParser.parseFloat(text, 0, length));
+      } else if(type == short.class) {
+         field.setShort(source, NumberParser.parseShort(text, 0, length));
+      } else if(type == byte.class) {
+         field.setByte(source, NumberParser.parseByte(text, 0, length));
+      } else {
+         field.setChar(source, readCharacter(text));
+      }
+   }
+
+   /**
+    * This is used to parse the provided text as a boolean. As with
+    * the <code>Boolean.valueOf</code> method used by the stock
+    * transform this is true only if the text is "true", ignoring
+    * case, any other text, including text that is not valid, is false.
+    *
+    * @param text this is the text to be parsed to a boolean
+    *
+    * @return this returns the boolean that has been parsed
+    */
+   public static boolean readBoolean(CharSequence text) throws Exception {
+      String expect = "true";
+      int length = text.length();
+      
+      if(length != expect.length()) {
+         return false;
+      }
+      for(int i = 0; i < length; i++) {
+         char next = Character.toLowerCase(text.charAt(i));
+         
+         if(next != expect.charAt(i)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to parse the provided text as a character. The
+    * text must contain exactly one character, if it does not then
+    * an exception is thrown in the same way as the stock transform.
+    *
+    * @param text this is the text to be parsed to a character
+    *
+    * @return this returns the character that has been parsed
+    */
+   public static char readCharacter(CharSequence text) throws Exception {
+      if(text.length() != 1) {
+         throw new InvalidFormatException("Cannot convert '%s' to a character", text);
+      }
+      return text.charAt(0);
+   }
+
+   /**
+    * This is used to acquire the primitive value from the field of
+    * the given object and format it as text. The text produced is
+    * the same as that of the stock transform for the primitive type
+    * however no wrapper object is created to produce it.
+    *
+    * @param source this is the object to acquire the field value from
+    *
+    * @return this returns the text representing the field value
+    */
+   public String write(Object source) throws Exception {
+      if(type == int.class) {
+         return Integer.toString(field.getInt(source));
+      }
+      if(type == double.class) {
+         return Double.toString(field.getDouble(source));
+      }
+      if(type == long.class) {
+         return Long.toString(field.getLong(source));
+      }
+      if(type == boolean.class) {
+         return String.valueOf(field.getBoolean(source));
+      }
+      if(type == float.class) {
+         return Float.toString(field.getFloat(source));
+      }
+      if(type == short.class) {
+         return Short.toString(field.getShort(source));
+      }
+      if(type == byte.class) {
+         return Byte.toString(field.getByte(source));
+      }
+      return String.valueOf(field.getChar(source));
+   }
+
+   /**
+    * This is used to provide a description of the binder. This is
+    * useful for debugging as it describes the field that is bound
+    * by this binder, which includes its type and declaring class.
+    *
+    * @return this returns a description of the bound field
+    */
+   public String toString() {
+      return field.toString();
+   }
+}
@@ -20,6 +20,7 @@ package org.simpleframework.xml.core;
 
 import org.simpleframework.xml.strategy.Type;
 import org.simpleframework.xml.strategy.Value;
+import org.simpleframework.xml.stream.Appender;
 import org.simpleframework.xml.stream.InputNode;
 
 /**
@@ -105,6 +106,22 @@ class PrimitiveFactory extends Factory {
       return support.read(text, type);
    }
    
+   /**
+    * This will instantiate an object of the field type using the
+    * provided characters. This is the same as instantiating it from
+    * a string except that the characters can be taken directly from
+    * the buffer of the reader, so if the transform for the type can
+    * read from characters then no string is created for the value.
+    * 
+    * @param text this is the value to be transformed to an object
+    * @param type this is the type of the primitive to instantiate
+    * 
+    * @return this returns an instance of the field type
+    */         
+   public Object getInstance(CharSequence text, Class type) throws Exception {          
+      return support.read(text, 0, text.length(), type);
+   }
+   
    /**
     * This is used to acquire a text value for the specified object.
     * This will convert the object to a string using the transformer
@@ -127,4 +144,20 @@ class PrimitiveFactory extends Factory {
       }
       return support.write(source, type);
    }
+   
+   /**
+    * This is used to acquire an <code>Appender</code> for the given
+    * object. If the transform for the type of the object can append
+    * its text to the output then the value can be set on the node
+    * with the appender rather than first converting it to text.
+    * 
+    * @param source this is the object instance to get the appender for
+    * 
+    * @return this returns the appender for the object or null
+    */
+   public Appender getAppender(Object source) throws Exception {
+      Class type = source.getClass();
+      
+      return support.getAppender(type);
+   }
 }
@@ -215,7 +215,7 @@ class PrimitiveInlineList implements Repeater {
     * @param mode this is used to determine whether to output CDATA    
     */ 
    private void write(OutputNode node, Object source, Mode mode) throws Exception {
-      Collection list = (Collection) source;
+      Sequence list = new Sequence(source);
       
       for(Object item : list) {
          if(item != null) {
@@ -39,6 +39,12 @@ import java.lang.reflect.Type;
  */
 final class Reflector {
    
+   /**
+    * This is used to invoke methods and constructors without any
+    * arguments, so that an argument array is not created per call.
+    */
+   public static final Object[] EMPTY = new Object[0];
+   
    /**
     * This method is used to acquire a generic parameter dependent 
     * from the specified field. This will acquire the field class and
@@ -0,0 +1,70 @@
+/*
+ * Sequence.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.util.Iterator;
+
+/**
+ * The <code>Sequence</code> object is used to write the entries of a
+ * list that is not necessarily a <code>Collection</code>. As well as
+ * collections this accepts any <code>Iterable</code> or an
+ * <code>Iterator</code>, which allows entries to be pulled from a 
+ * source such as a database cursor as they are written. Because each
+ * entry is committed once written only one entry is held at a time.
+ * <p>
+ * An <code>Iterator</code> can only be traversed once, so a list that
+ * is provided as an iterator will be exhausted once it is written.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.core.CompositeList
+ */
+class Sequence implements Iterable<Object> {
+   
+   /**
+    * This is the source object that contains the list entries.
+    */
+   private final Object source;
+   
+   /**
+    * Constructor for the <code>Sequence</code> object. This is used
+    * to create a sequence over the provided source, which must be
+    * either an <code>Iterable</code> or an <code>Iterator</code>.
+    * 
+    * @param source this is the source containing the list entries
+    */
+   public Sequence(Object source) {
+      this.source = source;
+   }
+   
+   /**
+    * This is used to acquire an iterator over the list entries. If
+    * the source is an iterator then it is returned directly, other
+    * wise the source is used to provide a new iterator.
+    * 
+    * @return this returns an iterator over the list entries
+    */
+   @SuppressWarnings("unchecked")
+   public Iterator<Object> iterator() {
+      if(source instanceof Iterator) {
+         return (Iterator<Object>)source;
+      }
+      return ((Iterable<Object>)source).iterator();
+   }
+}
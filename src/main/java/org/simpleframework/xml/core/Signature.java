@@ -225,7 +225,7 @@ class Signature implements Iterable<Parameter> {
       if(!factory.isAccessible()) {
          factory.setAccessible(true);
       } 
-      return factory.newInstance();
+      return factory.newInstance(Reflector.EMPTY);
    }
    
    /**
@@ -152,10 +152,8 @@ class SignatureCreator implements Creator {
     * @return this returns the score based on the criteria provided
     */
    public double getScore(Criteria criteria) throws Exception {
-      Signature match = signature.copy();
-      
       for(Object key : criteria) {
-         Parameter parameter = match.get(key);
+         Parameter parameter = signature.get(key);
          Variable label = criteria.get(key);
          Contact contact = label.getContact();
 
@@ -0,0 +1,198 @@
+/*
+ * Slot.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import java.lang.reflect.Field;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Text;
+
+/**
+ * The <code>Slot</code> object describes a single field bound by a
+ * <code>Binding</code>. Each slot is declared as an attribute, an
+ * element, or the text of the element, and it is identified by its
+ * index within the binding. The index is what the binding uses to
+ * read and write the field, so that no name or field needs to be
+ * looked up while an object is being serialized.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.core.Binding
+ */
+class Slot {
+
+   /**
+    * This is the description of the slot used in error messages.
+    */
+   private final String description;
+
+   /**
+    * This is the annotation type used to declare the slot.
+    */
+   private final Class kind;
+
+   /**
+    * This is the field that the slot reads and writes values to.
+    */
+   private final Field field;
+
+   /**
+    * This is the name of the attribute or element for the slot.
+    */
+   private final String name;
+
+   /**
+    * This determines whether a value is required for the slot.
+    */
+   private final boolean required;
+
+   /**
+    * This determines whether the value is written as CDATA.
+    */
+   private final boolean data;
+
+   /**
+    * This is the index of the slot within its binding.
+    */
+   private final int index;
+
+   /**
+    * Constructor for the <code>Slot</code> object. This is used to
+    * describe a field bound by a binding. The description provided
+    * is used in the messages of any exceptions thrown for the slot,
+    * which allows a slot taken from a label to be reported exactly
+    * as the label itself would be reported.
+    *
+    * @param kind this is the annotation type that declares the slot
+    * @param field this is the field that the slot is bound to
+    * @param name this is the name of the attribute or element
+    * @param required this determines if a value is required
+    * @param data this determines if the value is written as CDATA
+    * @param index this is the index of the slot in the binding
+    * @param description this is used to describe the slot
+    */
+   public Slot(Class kind, Field field, String name, boolean required, boolean data, int index, String description) {
+      this.description = description;
+      this.required = required;
+      this.field = field;
+      this.index = index;
+      this.kind = kind;
+      this.name = name;
+      this.data = data;
+   }
+
+   /**
+    * This is used to acquire the field that this slot is bound to.
+    * The field is accessible so that it can be used directly when
+    * the binding does not access the field itself.
+    *
+    * @return this returns the field that this slot is bound to
+    */
+   public Field getField() {
+      return field;
+   }
+
+   /**
+    * This is used to acquire the type of the field for the slot. The
+    * type determines how values are converted for the slot, and for
+    * the primitive types whether the typed accessors can be used.
+    *
+    * @return this returns the type declared for the field
+    */
+   public Class getType() {
+      return field.getType();
+   }
+
+   /**
+    * This is used to acquire the name of the attribute or element
+    * that the slot is bound to. If the slot represents the text of
+    * the element then this will return null as it has no name.
+    *
+    * @return this returns the name of the attribute or element
+    */
+   public String getName() {
+      return name;
+   }
+
+   /**
+    * This is used to acquire the index of the slot. The index is
+    * used with the accessors of the binding to read and write the
+    * value of the field the slot is bound to.
+    *
+    * @return this returns the index of the slot in the binding
+    */
+   public int getIndex() {
+      return index;
+   }
+
+   /**
+    * This is used to determine if the slot represents an attribute.
+    * Attributes are written before the elements of an object and
+    * are matched using the attribute names of the binding.
+    *
+    * @return this returns true if the slot is an attribute
+    */
+   public boolean isAttribute() {
+      return kind == Attribute.class;
+   }
+
+   /**
+    * This is used to determine if the slot represents the text of
+    * the element. There can only be one such slot for a binding
+    * and if it exists the binding can not have any elements.
+    *
+    * @return this returns true if the slot is the element text
+    */
+   public boolean isText() {
+      return kind == Text.class;
+   }
+
+   /**
+    * This is used to determine if a value is required for the slot.
+    * If a required value is missing from the XML or is null when
+    * the object is written then an exception is thrown.
+    *
+    * @return this returns true if the slot requires a value
+    */
+   public boolean isRequired() {
+      return required;
+   }
+
+   /**
+    * This is used to determine if the value of the slot is to be
+    * written as a CDATA block. This only applies to elements and
+    * to the text of the element, attributes are never CDATA.
+    *
+    * @return this returns true if the value is written as CDATA
+    */
+   public boolean isData() {
+      return data;
+   }
+
+   /**
+    * This is used to describe the slot. The description is the one
+    * provided when the slot was created, which for slots taken from
+    * a label is the description of the label itself.
+    *
+    * @return this returns a description of the slot
+    */
+   public String toString() {
+      return description;
+   }
+}
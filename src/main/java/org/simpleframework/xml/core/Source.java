@@ -18,10 +18,14 @@
 
 package org.simpleframework.xml.core;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.simpleframework.xml.Version;
 import org.simpleframework.xml.filter.Filter;
 import org.simpleframework.xml.strategy.Type;
 import org.simpleframework.xml.strategy.Strategy;
+import org.simpleframework.xml.strategy.TreeStrategy;
 import org.simpleframework.xml.strategy.Value;
 import org.simpleframework.xml.stream.InputNode;
 import org.simpleframework.xml.stream.NodeMap;
@@ -76,6 +80,26 @@ class Source implements Context {
     */ 
    private Filter filter;
    
+   /**
+    * This is used to hold the converters created for each label.
+    */
+   private Map<Label, Converter> converters;
+   
+   /**
+    * This is used to hold the binders acquired for each label.
+    */
+   private Map<Label, PrimitiveBinder> binders;
+   
+   /**
+    * This is used to hold the binding adapters for each class.
+    */
+   private Map<Class, BindingAdapter> adapters;
+   
+   /**
+    * This is used to hold the schemas created for each class.
+    */
+   private Map<Class, Schema> schemas;
+   
    /**
     * Constructor for the <code>Source</code> object. This is used to
     * maintain a context during the serialization process. It holds 
@@ -88,6 +112,10 @@ class Source implements Context {
     * @param session this is the session to use for this context
     */       
    public Source(Strategy strategy, Support support, Session session) {
+      this.adapters = new HashMap<Class, BindingAdapter>();
+      this.converters = new HashMap<Label, Converter>();
+      this.binders = new HashMap<Label, PrimitiveBinder>();
+      this.schemas = new HashMap<Class, Schema>();
       this.filter = new TemplateFilter(this, support);           
       this.engine = new TemplateEngine(filter);     
       this.strategy = strategy;
@@ -271,18 +299,194 @@ class Source implements Context {
       return support.getScanner(type);
    }
    
+   /**
+    * This is used to acquire the <code>Converter</code> for a label.
+    * Rather than creating a new converter for every field of every
+    * object serialized, the converter for a label is created once
+    * and reused for the remainder of this context. Converters for
+    * a <code>Variable</code> are never cached as the label exists
+    * for a single object only, nor is a <code>Composite</code> as
+    * it maintains state for the object it is currently processing.
+    * 
+    * @param label this is the label to acquire the converter for
+    * 
+    * @return this returns the converter to be used for the label
+    */
+   public Converter getConverter(Label label) throws Exception {
+      Converter converter = converters.get(label);
+      
+      if(converter == null) {
+         converter = label.getConverter(this);
+         
+         if(label instanceof Variable) {
+            return converter;
+         }
+         if(converter instanceof Composite) {
+            return converter;
+         }
+         converters.put(label, converter);
+      }
+      return converter;
+   }
+   
+   /**
+    * This is used to acquire a <code>PrimitiveBinder</code> for the
+    * label. A binder is only provided for an attribute, element or
+    * text declared on a field of a primitive type, where the stock
+    * transforms are used and no empty value has been declared. The
+    * result is held so that each label is only examined once.
+    * 
+    * @param label this is the label to acquire the binder for
+    * 
+    * @return this returns the binder for the label or null
+    */
+   public PrimitiveBinder getBinder(Label label) throws Exception {
+      PrimitiveBinder binder = binders.get(label);
+      
+      if(binder == null) {
+         if(!binders.containsKey(label)) {
+            binder = getBinder(label, label.getContact());
+            binders.put(label, binder);
+         }
+      }
+      return binder;
+   }
+   
+   /**
+    * This is used to create a <code>PrimitiveBinder</code> for the
+    * label. If the label can not be bound, or if a transform has
+    * been registered for the primitive type or its wrapper, then no
+    * binder is created as the stock format can not be assumed.
+    * 
+    * @param label this is the label to create the binder for
+    * @param contact this is the contact the label represents
+    * 
+    * @return this returns the binder for the label or null
+    */
+   private PrimitiveBinder getBinder(Label label, Contact contact) throws Exception {
+      Class type = contact.getType();
+      Class real = Support.getPrimitive(type);
+      
+      if(isBound(label) && contact instanceof FieldContact) {
+         if(label.getEmpty(this) != null) {
+            return null;
+         }
+         if(support.getTransform(type) != null) {
+            return null;
+         }
+         if(support.getTransform(real) != null) {
+            return null;
+         }
+         return ((FieldContact)contact).getBinder();
+      }
+      return null;
+   }
+   
+   /**
+    * This is used to acquire an <code>ArrayBinder</code> for arrays
+    * of the specified type. A binder is only provided if the type is
+    * primitive, the stock transforms are used, and the strategy is
+    * the default strategy, which adds nothing to each array entry.
+    * If the entries can not be bound directly this returns null.
+    * 
+    * @param type this is the component type of the array
+    * 
+    * @return this returns the binder for the arrays or null
+    */
+   public ArrayBinder getBinder(Class type) throws Exception {
+      Class real = Support.getPrimitive(type);
+      
+      if(type.isPrimitive() && isDefault()) {
+         if(support.getTransform(type) != null) {
+            return null;
+         }
+         if(support.getTransform(real) != null) {
+            return null;
+         }
+         return new ArrayBinder(type);
+      }
+      return null;
+   }
+   
+   /**
+    * This is used to acquire a <code>BindingAdapter</code> for the
+    * class. An adapter is only provided if a binding is available
+    * for the class and the strategy is the default strategy, as the
+    * adapter does not consult the strategy for the bound class.
+    * 
+    * @param type this is the class to acquire the adapter for
+    * 
+    * @return this returns the adapter for the class or null
+    */
+   public BindingAdapter getBinding(Class type) throws Exception {
+      BindingAdapter adapter = adapters.get(type);
+      
+      if(!adapters.containsKey(type)) {
+         Binding binding = support.getBinding(type);
+         
+         if(binding != null && isDefault()) {
+            adapter = new BindingAdapter(this, binding);
+         }
+         adapters.put(type, adapter);
+      }
+      return adapter;
+   }
+   
+   /**
+    * This is used to determine if the strategy used is the default
+    * strategy. The default strategy does not add any attributes to
+    * an element holding a primitive value, and reads nothing from 
+    * an element with no attributes, so it need not be consulted.
+    * 
+    * @return this returns true if the default strategy is used
+    */
+   private boolean isDefault() {
+      Class type = strategy.getClass();
+      
+      return type == TreeStrategy.class;
+   }
+   
+   /**
+    * This is used to determine if the label can be bound directly to
+    * its field. An attribute can always be bound. An element or text
+    * can only be bound if the default strategy is used, as another
+    * strategy may add attributes to the element or read them, and
+    * it must not be a union, an inline element, or a list of text.
+    * 
+    * @param label this is the label that is to be examined
+    * 
+    * @return this returns true if the label can be bound directly
+    */
+   private boolean isBound(Label label) throws Exception {
+      if(label.isAttribute()) {
+         return true;
+      }
+      if(label.isUnion() || label.isInline()) {
+         return false;
+      }
+      if(label.isCollection() || label.isTextList()) {
+         return false;
+      }
+      return isDefault();
+   }
+   
    /**
     * This will acquire the <code>Decorator</code> for the type.
     * A decorator is an object that adds various details to the
     * node without changing the overall structure of the node. For
     * example comments and namespaces can be added to the node with
-    * a decorator as they do not affect the deserialization.
+    * a decorator as they do not affect the deserialization. A class
+    * that is bound can not declare any namespaces, so it has no
+    * decorator and it does not need to be scanned.
     * 
     * @param type this is the type to acquire the decorator for 
     *
     * @return this returns the decorator associated with this
     */
    public Decorator getDecorator(Class type) throws Exception {
+      if(support.getBinding(type) != null) {
+         return null;
+      }
       return getScanner(type).getDecorator();
    }
 
@@ -297,7 +501,7 @@ class Source implements Context {
     * @return this returns the caller for the specified type
     */
    public Caller getCaller(Class type) throws Exception {
-      return getScanner(type).getCaller(this);
+      return getSchema(type).getCaller();
    }
    
    /**
@@ -306,20 +510,30 @@ class Source implements Context {
     * maintains information when a field from within the schema is
     * visited, this allows the serialization and deserialization
     * process to determine if all required XML annotations are used.
+    * <p>
+    * As the schema depends only on the class and this context, it
+    * is created once when the class is first encountered and then
+    * reused for every other object of the class that is processed.
     * 
     * @param type the schema class the schema is created for
     * 
-    * @return a new schema that can track visits within the schema
+    * @return a schema that describes how the class is serialized
     * 
     * @throws Exception if the class contains an illegal schema 
     */   
    public Schema getSchema(Class type) throws Exception {
-      Scanner schema = getScanner(type);
+      Schema schema = schemas.get(type);
       
       if(schema == null) {
-         throw new PersistenceException("Invalid schema class %s", type);
+         Scanner scanner = getScanner(type);
+         
+         if(scanner == null) {
+            throw new PersistenceException("Invalid schema class %s", type);
+         }
+         schema = new ClassSchema(scanner, this);
+         schemas.put(type, schema);
       }
-      return new ClassSchema(schema, this);
+      return schema;
    }
    
    /**
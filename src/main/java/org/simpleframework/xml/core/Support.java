@@ -29,6 +29,7 @@ import org.simpleframework.xml.DefaultType;
 import org.simpleframework.xml.filter.Filter;
 import org.simpleframework.xml.filter.PlatformFilter;
 import org.simpleframework.xml.strategy.Value;
+import org.simpleframework.xml.stream.Appender;
 import org.simpleframework.xml.stream.Format;
 import org.simpleframework.xml.stream.Style;
 import org.simpleframework.xml.transform.Matcher;
@@ -53,6 +54,11 @@ class Support implements Filter {
     */
    private final InstanceFactory instances;
    
+   /**
+    * This is used to acquire the bindings for the schema classes.
+    */
+   private final BindingFactory bindings;
+   
    /**
     * This will perform the scanning of types are provide scanners.
     */
@@ -78,6 +84,11 @@ class Support implements Filter {
     */
    private final Transformer transform;
    
+   /**
+    * This is used to append values using the transformer.
+    */
+   private final Appender appender;
+   
    /**
     * This is the matcher used to acquire the transform objects.
     */
@@ -140,7 +151,9 @@ class Support implements Filter {
     */
    public Support(Filter filter, Matcher matcher, Format format) {
       this.defaults = new DetailExtractor(this, FIELD);
+      this.bindings = new BindingFactory(this, format);
       this.transform = new Transformer(matcher);
+      this.appender = new TransformAppender(this);
       this.scanners = new ScannerFactory(this);
       this.details = new DetailExtractor(this);
       this.labels = new LabelExtractor(format);
@@ -357,6 +370,20 @@ class Support implements Filter {
       return scanners.getInstance(type);
    }
    
+   /**
+    * This is used to acquire a <code>Binding</code> for the class. A
+    * binding reads and writes the fields of a schema class directly,
+    * and is only available if the format asks for the generated
+    * backend and the class schema is simple enough to be bound.
+    * 
+    * @param type the schema class the binding is acquired for
+    * 
+    * @return this returns the binding for the class or null
+    */ 
+   public Binding getBinding(Class type) throws Exception {
+      return bindings.getInstance(type);
+   }
+   
    /**
     * This method is used to convert the string value given to an
     * appropriate representation. This is used when an object is
@@ -372,6 +399,23 @@ class Support implements Filter {
       return transform.read(value, type);
    }
    
+   /**
+    * This method is used to convert the slice of text given to an
+    * appropriate representation. This allows a value to be read
+    * from the buffer of the reader without creating a string, if
+    * the transform for the type can read from a slice of text.
+    * 
+    * @param text this is the text that contains the value
+    * @param off this is the offset the value starts at
+    * @param len this is the number of characters in the value
+    * @param type this is the type to convert the text value to
+    * 
+    * @return this returns an appropriate instanced to be used
+    */
+   public Object read(CharSequence text, int off, int len, Class type) throws Exception {
+      return transform.read(text, off, len, type);
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
@@ -387,6 +431,37 @@ class Support implements Filter {
       return transform.write(value, type);
    }
    
+   /**
+    * This method is used to append the text of the provided value to
+    * the given target. This allows a value such as a number to be
+    * written straight to the output buffer without creating a string,
+    * if the transform for the type can append the text of the value.
+    * 
+    * @param value this is the value to append the text of
+    * @param type this is the type to convert to a string value
+    * @param target this is the target the text is appended to
+    */
+   public void write(Object value, Class type, Appendable target) throws Exception {
+      transform.write(value, type, target);
+   }
+   
+   /**
+    * This is used to acquire an <code>Appender</code> that can write
+    * values of the specified type straight to the output. This is
+    * only available for types whose transform is an append transform,
+    * for all other types this returns null and text must be used.
+    *
+    * @param type this is the type to acquire the appender for
+    * 
+    * @return this returns an appender for the type or null
+    */ 
+   public Appender getAppender(Class type) throws Exception {  
+      if(transform.isAppendable(type)) {
+         return appender;
+      }
+      return null;
+   }
+   
    /**
     * This method is used to determine if the type specified can be
     * transformed. This will use the <code>Matcher</code> to find a
@@ -407,7 +482,9 @@ class Support implements Filter {
     * the <code>Root</code> annotation for the class. This will 
     * use either the name explicitly provided by the annotation or
     * it will use the name of the class that the annotation was
-    * placed on if there is no explicit name for the root.
+    * placed on if there is no explicit name for the root. If the
+    * class is bound then the name is taken from the binding so that
+    * the class does not need to be scanned.
     * 
     * @param type this is the type to acquire the root name for
     * 
@@ -416,6 +493,11 @@ class Support implements Filter {
     * @throws Exception if the class contains an illegal schema
     */
    public String getName(Class type) throws Exception {
+      Binding binding = getBinding(type);
+      
+      if(binding != null) {
+         return binding.getName();
+      }
       Scanner schema = getScanner(type);
       String name = schema.getName();
       
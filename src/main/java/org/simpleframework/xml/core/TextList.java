@@ -130,7 +130,7 @@ class TextList implements Repeater {
     * @param node this is the element that is to be populated
     */
    public void write(OutputNode node, Object object) throws Exception {
-      Collection list = (Collection) object;
+      Sequence list = new Sequence(object);
       OutputNode parent = node.getParent();
       
       for(Object item : list) {
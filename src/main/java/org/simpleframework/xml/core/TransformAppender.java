@@ -0,0 +1,69 @@
+/*
+ * TransformAppender.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.core;
+
+import org.simpleframework.xml.stream.Appender;
+
+/**
+ * The <code>TransformAppender</code> is used to write the text of a
+ * value to the output using the transforms of the support object.
+ * This is set on an <code>OutputNode</code> with the value, so that
+ * when the node is written the transform appends the text straight
+ * to the buffer of the formatter rather than creating a string.
+ * <p>
+ * This must only be used for values whose transform is an append
+ * transform, such as numbers, booleans and enumerations. These are
+ * immutable and their text never contains any markup characters.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.AppendTransform
+ */
+class TransformAppender implements Appender {
+
+   /**
+    * This is the support object used to acquire the transforms.
+    */
+   private final Support support;
+
+   /**
+    * Constructor for the <code>TransformAppender</code> object. This
+    * is used to create an appender that will write values using the
+    * transforms that have been registered with the support object.
+    *
+    * @param support this is used to acquire the transforms to use
+    */
+   public TransformAppender(Support support) {
+      this.support = support;
+   }
+
+   /**
+    * This is used to append the text of the value provided to the
+    * given target. The transform used is taken from the type of the
+    * value, which is the same transform used to create its text.
+    *
+    * @param value this is the value that is to be appended
+    * @param target this is the target the text is appended to
+    */
+   public void append(Object value, Appendable target) throws Exception {
+      Class type = value.getClass();
+
+      support.write(value, type, target);
+   }
+}
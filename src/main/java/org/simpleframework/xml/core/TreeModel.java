@@ -54,6 +54,16 @@ class TreeModel implements Model {
     */
    private LabelMap elements;
    
+   /**
+    * This is the shared map of attributes keyed by their paths.
+    */
+   private LabelMap attributePaths;
+   
+   /**
+    * This is the shared map of elements keyed by their paths.
+    */
+   private LabelMap elementPaths;
+   
    /**
     * This holds the mappings for the models within this instance.
     */
@@ -262,29 +272,33 @@ class TreeModel implements Model {
    }
 
    /**
-    * This is used to build a map from a <code>Context</code> object.
-    * Building a map in this way ensures that any style specified by
-    * the context can be used to create the XML element and attribute
-    * names in the styled format. It also ensures that the model
-    * remains immutable as it only provides copies of its data.
+    * This is used to acquire the attributes keyed by their paths.
+    * Once the model has been validated the map returned is shared
+    * by every read and write, so it must not be modified. Readers
+    * track the labels they consume with a <code>LabelSet</code>.
     * 
-    * @return this returns a map built from the specified context
+    * @return this returns the attributes keyed by their paths
     */   
    public LabelMap getAttributes() throws Exception {
-      return attributes.getLabels();
+      if(attributePaths == null) {
+         return attributes.getLabels();
+      }
+      return attributePaths;
    }
 
    /**
-    * This is used to build a map from a <code>Context</code> object.
-    * Building a map in this way ensures that any style specified by
-    * the context can be used to create the XML element and attribute
-    * names in the styled format. It also ensures that the model
-    * remains immutable as it only provides copies of its data.
+    * This is used to acquire the elements keyed by their paths.
+    * Once the model has been validated the map returned is shared
+    * by every read and write, so it must not be modified. Readers
+    * track the labels they consume with a <code>LabelSet</code>.
     * 
-    * @return this returns a map built from the specified context
+    * @return this returns the elements keyed by their paths
     */
    public LabelMap getElements() throws Exception{
-      return elements.getLabels();
+      if(elementPaths == null) {
+         return elements.getLabels();
+      }
+      return elementPaths;
    }
    
    /**
@@ -360,6 +374,18 @@ class TreeModel implements Model {
       validateElements(type);
       validateModels(type);
       validateText(type);
+      commit();
+   }
+   
+   /**
+    * Once the model has been validated no further labels will be
+    * registered with it. This is used to build the maps of labels
+    * keyed by their paths a single time, so that they can be shared
+    * rather than copied each time an object is read or written.
+    */
+   private void commit() throws Exception {
+      attributePaths = attributes.getLabels();
+      elementPaths = elements.getLabels();
    }
    
    /**
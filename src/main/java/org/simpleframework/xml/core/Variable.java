@@ -151,7 +151,7 @@ class Variable implements Label {
     * @return this returns an object that is used for conversion
     */
    public Converter getConverter(Context context) throws Exception {
-      Converter reader = label.getConverter(context);
+      Converter reader = context.getConverter(label);
       
       if(reader instanceof Adapter) {
          return reader;
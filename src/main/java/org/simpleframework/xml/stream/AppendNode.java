@@ -0,0 +1,78 @@
+/*
+ * AppendNode.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>AppendNode</code> is an output node that can hold a value
+ * along with the <code>Appender</code> used to write it. This allows
+ * the node writer to have the formatter append the value straight
+ * to its buffer rather than asking the node for the text value.
+ * As this is not part of the public <code>OutputNode</code> it is
+ * reached from outside the package through <code>NodeAppender</code>.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.NodeWriter
+ */
+interface AppendNode extends OutputNode {
+
+   /**
+    * This is used to acquire the appender used to write the value
+    * of the node. If the value of the node has been set as text or
+    * has not been set at all then this will return null.
+    *
+    * @return this returns the appender used to write the value
+    */
+   Appender getAppender();
+
+   /**
+    * This is used to acquire the value that is to be written by the
+    * appender. This is only valid if the node has an appender, if
+    * not then the text value of the node should be used instead.
+    *
+    * @return this returns the value to be written by the appender
+    */
+   Object getObject();
+
+   /**
+    * This is used to set a value to the node that is written by the
+    * given appender. Rather than converting the value to text when
+    * it is set, the appender writes the text of the value to the
+    * output when the node is written. The text written by the
+    * appender is not escaped so it must not contain markup.
+    *
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    */
+   void setValue(Object value, Appender appender);
+
+   /**
+    * This method is used for convenience to add an attribute node
+    * whose value is written by the given appender. The text of the
+    * value is written by the appender when the element is written
+    * and is not escaped, so the text must not contain markup.
+    *
+    * @param name this is the name of the attribute to be added
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    *
+    * @return this returns the node that has just been added
+    */
+   OutputNode setAttribute(String name, Object value, Appender appender);
+}
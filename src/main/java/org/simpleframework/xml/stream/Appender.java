@@ -0,0 +1,50 @@
+/*
+ * Appender.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>Appender</code> interface is used to write the text of
+ * a value straight to the output. Rather than converting a value to
+ * a string when it is set on an <code>OutputNode</code> the value
+ * and its appender are held by the node until it is written. The
+ * formatter then has the appender write the text to its buffer, so
+ * for values such as numbers no intermediate string is created.
+ * <p>
+ * The text appended is written to the document as is, it is not
+ * escaped. So an appender must only be used for values whose text
+ * can never contain markup characters, and as the value is held
+ * until the node is committed the value should be immutable.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.NodeAppender
+ */
+public interface Appender {
+
+   /**
+    * This is used to append the text of the value provided to the
+    * given target. The text appended must be the same as the text
+    * that would be set on the node if the value was converted to
+    * a string, and it must not contain any markup characters.
+    *
+    * @param value this is the value that is to be appended
+    * @param target this is the target the text is appended to
+    */
+   void append(Object value, Appendable target) throws Exception;
+}
@@ -0,0 +1,47 @@
+/*
+ * Backend.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>Backend</code> enumeration is used to specify how schema
+ * classes are serialized. By default each class is serialized by
+ * interpreting the schema built by scanning its annotations. With
+ * the generated backend a class is generated for each schema class
+ * the first time it is serialized, which reads and writes the fields
+ * of the class directly. Classes that can not be bound this way, for
+ * example those with unions, paths, or callback methods, are always
+ * serialized by interpreting the schema, as are all classes when a
+ * strategy other than the default strategy is used.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.stream.Format
+ */
+public enum Backend {
+   
+   /**
+    * This specifies that classes are serialized from their schema.
+    */
+   INTERPRET,
+   
+   /**
+    * This specifies that classes are bound with generated classes.
+    */
+   GENERATE;
+}
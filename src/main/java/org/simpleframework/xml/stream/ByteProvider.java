@@ -0,0 +1,126 @@
+/*
+ * ByteProvider.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * The <code>ByteProvider</code> object is used to provide an event
+ * reader that parses the bytes of a document directly. This has no
+ * dependencies on any third party parser and does not decode the
+ * document through a <code>Reader</code>. Only documents encoded in
+ * UTF-8 or ASCII without a document type definition can be parsed
+ * in this way, all others are handed to the fallback provider, as
+ * are any documents that have already been decoded to characters.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.ByteReader
+ */
+class ByteProvider implements Provider {
+
+   /**
+    * This is the provider used for documents that are not supported.
+    */
+   private final Provider provider;
+
+   /**
+    * This is the size of the buffer used to read the document.
+    */
+   private final int size;
+
+   /**
+    * This determines if the readers provided recycle events.
+    */
+   private final boolean recycle;
+
+   /**
+    * Constructor for the <code>ByteProvider</code> object. This will
+    * create a provider that uses the specified fallback provider
+    * to read any documents that can not be parsed as bytes.
+    *
+    * @param provider this is the provider used for other documents
+    */
+   public ByteProvider(Provider provider) {
+      this(provider, 8192);
+   }
+
+   /**
+    * Constructor for the <code>ByteProvider</code> object. This will
+    * create a provider that uses the specified fallback provider
+    * to read any documents that can not be parsed as bytes.
+    *
+    * @param provider this is the provider used for other documents
+    * @param size this is the size of the buffer used for reading
+    */
+   public ByteProvider(Provider provider, int size) {
+      this(provider, size, false);
+   }
+
+   /**
+    * Constructor for the <code>ByteProvider</code> object. This will
+    * create a provider that uses the specified fallback provider
+    * to read any documents that can not be parsed as bytes. If
+    * recycling is enabled the readers provided will reuse the events
+    * they produce, so the consumer must copy what it needs.
+    *
+    * @param provider this is the provider used for other documents
+    * @param size this is the size of the buffer used for reading
+    * @param recycle this determines if events are to be recycled
+    */
+   public ByteProvider(Provider provider, int size, boolean recycle) {
+      this.provider = provider;
+      this.recycle = recycle;
+      this.size = size;
+   }
+
+   /**
+    * This provides an <code>EventReader</code> that will read from
+    * the specified input stream. If the prolog of the document shows
+    * it is UTF-8 or ASCII then the bytes are parsed directly. If not
+    * then the document is replayed to the fallback provider.
+    *
+    * @param source this is the stream to read the document with
+    *
+    * @return this is used to return the event reader implementation
+    */
+   public EventReader provide(InputStream source) throws Exception {
+      ByteSource buffer = new ByteSource(source, size);
+
+      if(buffer.isSupported()) {
+         return new ByteReader(buffer, recycle);
+      }
+      return provider.provide(buffer.getStream());
+   }
+
+   /**
+    * This provides an <code>EventReader</code> that will read from
+    * the specified reader. As the document has already been decoded
+    * to characters it can not be parsed as bytes, so the fallback
+    * provider is used to read the document.
+    *
+    * @param source this is the reader to read the document with
+    *
+    * @return this is used to return the event reader implementation
+    */
+   public EventReader provide(Reader source) throws Exception {
+      return provider.provide(source);
+   }
+}
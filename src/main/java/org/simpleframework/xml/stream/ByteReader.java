@@ -0,0 +1,1969 @@
+/*
+ * ByteReader.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The <code>ByteReader</code> object is an XML pull parser that reads
+ * the bytes of a UTF-8 document directly. All of the XML markup is
+ * ASCII, so it can be recognised without decoding the bytes. Only
+ * names, text and attribute values are decoded, and plain ASCII runs
+ * are copied without any decoding at all. Element and attribute
+ * names are cached for the document, so each distinct name results
+ * in a single string regardless of how many times it is used.
+ * <p>
+ * This reader supports everything the core reader requires, that is
+ * elements, attributes, text, CDATA sections, namespace prefixes and
+ * references, and line numbers. Comments and processing instructions
+ * are skipped. Only the predefined entities and character references
+ * are resolved, documents with a document type declaration are left
+ * to another parser by the <code>ByteSource</code>.
+ * <p>
+ * As the document is read it is checked to ensure it is well formed.
+ * The UTF-8 sequences, characters, names, namespace declarations and
+ * prefixes, attributes and the structure of the document are all
+ * checked, so that a document rejected by a StAX parser will also
+ * be rejected by this reader rather than being read silently.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.ByteProvider
+ */
+class ByteReader implements EventReader {
+
+   /**
+    * This is the namespace reference bound to the "xml" prefix.
+    */
+   private static final String XML = "http://www.w3.org/XML/1998/namespace";
+
+   /**
+    * This is the namespace reference bound to the "xmlns" prefix.
+    */
+   private static final String XMLNS = "http://www.w3.org/2000/xmlns/";
+
+   /**
+    * This is the end event, which can be shared as it has no state.
+    */
+   private static final End END = new End();
+
+   /**
+    * This is used to recycle the start events read by this reader.
+    */
+   private final EventRing<Start> starts;
+
+   /**
+    * This is used to recycle the text events read by this reader.
+    */
+   private final EventRing<Text> texts;
+
+   /**
+    * This is the source used to acquire the bytes of the document.
+    */
+   private final ByteSource source;
+
+   /**
+    * This is used to cache the names encountered in the document.
+    */
+   private final String[] cache;
+
+   /**
+    * This is used to accumulate names, text and attribute values.
+    */
+   private char[] text;
+
+   /**
+    * This is the number of characters held in the text buffer.
+    */
+   private int length;
+
+   /**
+    * This holds the prefixes of the namespaces currently in scope.
+    */
+   private String[] prefixes;
+
+   /**
+    * This holds the references of the namespaces currently in scope.
+    */
+   private String[] references;
+
+   /**
+    * This is the number of namespaces currently in scope.
+    */
+   private int size;
+
+   /**
+    * This holds the qualified names of the open elements.
+    */
+   private String[] elements;
+
+   /**
+    * This holds the number of namespaces in scope for each element.
+    */
+   private int[] scopes;
+
+   /**
+    * This is the number of elements that are currently open.
+    */
+   private int depth;
+
+   /**
+    * This holds the prefixes of the attributes for an element.
+    */
+   private String[] keys;
+
+   /**
+    * This holds the names of the attributes for an element.
+    */
+   private String[] names;
+
+   /**
+    * This holds the values of the attributes for an element.
+    */
+   private String[] values;
+
+   /**
+    * This is the number of attributes read for an element.
+    */
+   private int count;
+
+   /**
+    * This determines if an empty element tag is yet to be closed.
+    */
+   private boolean close;
+
+   /**
+    * This determines if nothing has been read from the document yet.
+    */
+   private boolean initial;
+
+   /**
+    * This determines if the root element of the document has ended.
+    */
+   private boolean done;
+
+   /**
+    * This is used to keep track of any events that were peeked.
+    */
+   private EventNode peek;
+
+   /**
+    * Constructor for the <code>ByteReader</code> object. This will
+    * create a reader that parses the bytes provided by the source.
+    * The source should have been checked to ensure the document is
+    * encoded in UTF-8 or ASCII before being given to this reader.
+    *
+    * @param source this is the source providing the document bytes
+    */
+   public ByteReader(ByteSource source) {
+      this(source, false);
+   }
+
+   /**
+    * Constructor for the <code>ByteReader</code> object. This will
+    * create a reader that parses the bytes provided by the source.
+    * If recycling is enabled the events produced by this reader are
+    * reused, which requires that the consumer copies what it needs
+    * before reading further events from this reader.
+    *
+    * @param source this is the source providing the document bytes
+    * @param recycle this determines if events are to be recycled
+    */
+   public ByteReader(ByteSource source, boolean recycle) {
+      this.starts = new EventRing<Start>(recycle);
+      this.texts = new EventRing<Text>(recycle);
+      this.references = new String[8];
+      this.prefixes = new String[8];
+      this.elements = new String[16];
+      this.scopes = new int[16];
+      this.values = new String[8];
+      this.names = new String[8];
+      this.keys = new String[8];
+      this.cache = new String[256];
+      this.text = new char[256];
+      this.source = source;
+      this.initial = true;
+   }
+
+   /**
+    * This is used to peek at the node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the document
+    */
+   public EventNode peek() throws Exception {
+      if(peek == null) {
+         peek = next();
+      }
+      return peek;
+   }
+
+   /**
+    * This is used to take the next node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the source XML
+    */
+   public EventNode next() throws Exception {
+      EventNode next = peek;
+
+      if(next == null) {
+         next = read();
+      } else {
+         peek = null;
+      }
+      return next;
+   }
+
+   /**
+    * This is used to read the next node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the document
+    */
+   private EventNode read() throws Exception {
+      if(close) {
+         return end();
+      }
+      while(true) {
+         int next = source.peek();
+
+         if(next == -1) {
+            if(depth > 0) {
+               throw new NodeException(String.format("Document ended before '%s' closed at line %s", elements[depth - 1], source.getLine()));
+            }
+            if(!done) {
+               throw new NodeException(String.format("Document has no root element at line %s", source.getLine()));
+            }
+            return null;
+         }
+         if(next == '<') {
+            EventNode event = markup();
+
+            if(event != null) {
+               return event;
+            }
+         } else if(depth > 0) {
+            return text();
+         } else {
+            source.read();
+
+            if(!isSpace(next)) {
+               throw new NodeException(String.format("Text is not allowed outside the root element at line %s", source.getLine()));
+            }
+            initial = false;
+         }
+      }
+   }
+
+   /**
+    * This is used to read markup from the document. Markup is any
+    * sequence of bytes beginning with the less than character. If
+    * the markup is not relevant to the core reader, such as comments
+    * and processing instructions, then it is skipped and this will
+    * return null to indicate that no event was produced.
+    *
+    * @return this returns an event for the markup or null
+    */
+   private EventNode markup() throws Exception {
+      int line = source.getLine();
+      boolean first = initial;
+
+      source.read();
+      initial = false;
+
+      if(source.skip("/")) {
+         return close();
+      }
+      if(source.skip("?")) {
+         return instruction(first);
+      }
+      if(source.skip("!--")) {
+         return comment();
+      }
+      if(source.skip("![CDATA[")) {
+         return data();
+      }
+      if(source.skip("!")) {
+         return declaration();
+      }
+      if(depth <= 0 && done) {
+         throw new NodeException(String.format("Document has more than one root element at line %s", source.getLine()));
+      }
+      return start(line);
+   }
+
+   /**
+    * This is used to read a start tag from the document. All of the
+    * attributes for the element are read before the element is built
+    * as any namespace declarations must be in scope before prefixes
+    * for the element and its attributes can be resolved.
+    *
+    * @param line this is the line number the start tag began on
+    *
+    * @return this returns a start event for the element
+    */
+   private Start start(int line) throws Exception {
+      int colon = name();
+      String qualified = intern(0, length);
+      String prefix = prefix(colon);
+      String name = local(qualified, colon);
+
+      count = 0;
+
+      while(true) {
+         boolean gap = isSpace(source.peek());
+         int next = space();
+
+         if(next == '>') {
+            source.read();
+            break;
+         }
+         if(next == '/') {
+            source.read();
+            expect('>');
+            close = true;
+            break;
+         }
+         if(!gap) {
+            throw new NodeException(String.format("Whitespace expected before attribute at line %s", source.getLine()));
+         }
+         attribute();
+      }
+      push(qualified);
+      return start(name, prefix, line);
+   }
+
+   /**
+    * This is used to build the start event once the start tag has
+    * been read. This will declare any namespaces the element has in
+    * its attributes. Once declared the prefixes for the element and
+    * its attributes can be resolved to namespace references.
+    *
+    * @param name this is the local name of the element
+    * @param prefix this is the namespace prefix of the element
+    * @param line this is the line number the start tag began on
+    *
+    * @return this returns a start event for the element
+    */
+   private Start start(String name, String prefix, int line) throws Exception {
+      for(int i = 0; i < count; i++) {
+         if(keys[i] == null && names[i].equals("xmlns")) {
+            declare("", values[i]);
+         } else if(keys[i] != null && keys[i].equals("xmlns")) {
+            declare(names[i], values[i]);
+         }
+      }
+      String reference = resolve(prefix);
+
+      if(prefix != null && reference == null) {
+         throw new NodeException(String.format("Prefix '%s' is not bound at line %s", prefix, source.getLine()));
+      }
+      Start event = starts.take();
+
+      if(event == null) {
+         event = starts.put(new Start(source, name, prefix, reference, line));
+      } else {
+         event.reset(name, prefix, reference, line);
+      }
+      for(int i = 0; i < count; i++) {
+         if(!isReserved(keys[i], names[i])) {
+            event.add(attribute(event, i));
+         }
+      }
+      return event;
+   }
+
+   /**
+    * This is used to create an attribute entry for the start event.
+    * The prefix of the attribute, if it has one, is resolved to the
+    * namespace reference that is in scope for the element. If two
+    * attributes resolve to the same namespace and name this fails.
+    *
+    * @param event this is the start event the attribute belongs to
+    * @param index this is the index of the attribute to create
+    *
+    * @return this returns an attribute entry for the start event
+    */
+   private Entry attribute(Start event, int index) throws Exception {
+      String prefix = keys[index];
+      String reference = null;
+
+      if(prefix != null) {
+         reference = resolve(prefix);
+
+         if(reference == null) {
+            throw new NodeException(String.format("Prefix '%s' is not bound at line %s", prefix, source.getLine()));
+         }
+         if(isDuplicate(index, reference)) {
+            throw new NodeException(String.format("Duplicate attribute '%s' at line %s", names[index], source.getLine()));
+         }
+      }
+      if(starts.isRecycle()) {
+         return event.entry(names[index], prefix, reference, values[index]);
+      }
+      return new Entry(source, names[index], prefix, reference, values[index]);
+   }
+
+   /**
+    * This is used to read an attribute from within a start tag. The
+    * name and the value of the attribute are read and held until
+    * the whole start tag has been read from the document. If the
+    * element already has an attribute with the name this will fail.
+    */
+   private void attribute() throws Exception {
+      int colon = name();
+      String qualified = intern(0, length);
+      String prefix = prefix(colon);
+      String name = local(qualified, colon);
+
+      for(int i = 0; i < count; i++) {
+         if(names[i].equals(name) && isEqual(keys[i], prefix)) {
+            throw new NodeException(String.format("Duplicate attribute '%s' at line %s", qualified, source.getLine()));
+         }
+      }
+      space();
+      expect('=');
+      space();
+
+      if(count >= names.length) {
+         keys = expand(keys);
+         names = expand(names);
+         values = expand(values);
+      }
+      keys[count] = prefix;
+      names[count] = name;
+      values[count++] = value();
+   }
+
+   /**
+    * This is used to read an end tag from the document. The name of
+    * the end tag must match the name of the element that is open,
+    * if it does not then the document is not well formed and this
+    * will throw an exception.
+    *
+    * @return this returns an end event for the element
+    */
+   private End close() throws Exception {
+      name();
+
+      if(depth <= 0) {
+         throw new NodeException(String.format("Unexpected end tag at line %s", source.getLine()));
+      }
+      String open = elements[depth - 1];
+
+      if(!isMatch(open)) {
+         throw new NodeException(String.format("End tag does not match '%s' at line %s", open, source.getLine()));
+      }
+      space();
+      expect('>');
+      return end();
+   }
+
+   /**
+    * This is used to create an event to signify that an element has
+    * just ended. End events are important as they allow the core
+    * reader to determine if a node is still in context. When ended
+    * any namespaces declared by the element go out of scope.
+    *
+    * @return this returns an end event to signify an element close
+    */
+   private End end() throws Exception {
+      depth--;
+      size = scopes[depth];
+      close = false;
+      done = depth == 0;
+      return END;
+   }
+
+   /**
+    * This is used to read the text between element tags. Runs of
+    * plain ASCII are copied in bulk from the source, and only the
+    * entities, line breaks and UTF-8 sequences are examined. The
+    * text ends when the next markup is found in the document. As
+    * the sequence "]]&gt;" is not allowed in text it is checked for
+    * when a greater than character is encountered.
+    *
+    * @return this returns a text event for the text read
+    */
+   private Text text() throws Exception {
+      int mark = 0;
+
+      length = 0;
+
+      while(true) {
+         if(length >= text.length) {
+            expand();
+         }
+         length += source.copy(text, length);
+
+         int next = source.peek();
+
+         if(next == -1 || next == '<') {
+            break;
+         }
+         if(length < text.length) {
+            source.read();
+
+            if(next == '&') {
+               entity();
+               mark = length;
+            } else {
+               if(next == '>' && isSection(mark)) {
+                  throw new NodeException(String.format("Sequence ']]>' is not allowed in text at line %s", source.getLine()));
+               }
+               character(next);
+            }
+         }
+      }
+      return text(length);
+   }
+
+   /**
+    * This is used to read a CDATA section from the document. The
+    * contents of the section are not examined for entities or any
+    * markup, they are simply decoded until the end of the section.
+    *
+    * @return this returns a text event for the CDATA section
+    */
+   private Text data() throws Exception {
+      int window = 0;
+
+      if(depth <= 0) {
+         throw new NodeException(String.format("Text is not allowed outside the root element at line %s", source.getLine()));
+      }
+      length = 0;
+
+      while((window & 0xffffff) != 0x5d5d3e) {
+         int next = source.read();
+
+         if(next == -1) {
+            throw new NodeException(String.format("CDATA section not closed at line %s", source.getLine()));
+         }
+         window = (window << 8) | next;
+         character(next);
+      }
+      return text(length - 3);
+   }
+
+   /**
+    * This is used to create a text event for the text that has been
+    * read from the document. If events are being recycled then the
+    * text event is taken from the ring and updated with the value.
+    * The characters are copied to the event, which means that no
+    * string is created unless the value of the event is requested.
+    *
+    * @param count this is the number of characters read as text
+    *
+    * @return this returns a text event for the text read
+    */
+   private Text text(int count) {
+      Text event = texts.take();
+
+      if(event == null) {
+         event = texts.put(new Text());
+      }
+      return event.reset(text, count);
+   }
+
+   /**
+    * This is used to reject a declaration within the document. The
+    * <code>ByteSource</code> leaves any document with a document type
+    * declaration in its prolog to another parser, so a declaration
+    * read here is within or after the root element, where it is not
+    * allowed by the XML specification.
+    *
+    * @return this never returns as an exception is always thrown
+    */
+   private EventNode declaration() throws Exception {
+      throw new NodeException(String.format("Declaration is not allowed at line %s", source.getLine()));
+   }
+
+   /**
+    * This is used to skip a processing instruction. The target of
+    * the instruction is read so that an XML declaration can be found,
+    * as a declaration is only allowed at the very start of the document.
+    *
+    * @param first this determines if this starts the document
+    *
+    * @return this always returns null as no event is produced
+    */
+   private EventNode instruction(boolean first) throws Exception {
+      name();
+
+      if(isTarget()) {
+         if(!first || !isMatch("xml")) {
+            throw new NodeException(String.format("Declaration must start the document at line %s", source.getLine()));
+         }
+         return prolog();
+      }
+      int next = source.peek();
+
+      if(next != '?' && !isSpace(next)) {
+         throw new NodeException(String.format("Whitespace expected after target at line %s", source.getLine()));
+      }
+      return skip('?', '>');
+   }
+
+   /**
+    * This is used to read the XML declaration that starts the
+    * document. The declaration must declare the version, and it
+    * may then declare the encoding and whether the document is
+    * standalone, in that order. No other pseudo attributes are
+    * allowed, and the value of each must be of the right form.
+    *
+    * @return this always returns null as no event is produced
+    */
+   private EventNode prolog() throws Exception {
+      String name = pseudo();
+
+      if(name == null || !name.equals("version")) {
+         throw new NodeException(String.format("Declaration must begin with the version at line %s", source.getLine()));
+      }
+      if(!isVersion(literal())) {
+         throw new NodeException(String.format("Invalid version in declaration at line %s", source.getLine()));
+      }
+      name = pseudo();
+
+      if(name != null && name.equals("encoding")) {
+         if(!isEncoding(literal())) {
+            throw new NodeException(String.format("Invalid encoding in declaration at line %s", source.getLine()));
+         }
+         name = pseudo();
+      }
+      if(name != null && name.equals("standalone")) {
+         String value = literal();
+
+         if(!value.equals("yes") && !value.equals("no")) {
+            throw new NodeException(String.format("Invalid standalone value in declaration at line %s", source.getLine()));
+         }
+         name = pseudo();
+      }
+      if(name != null) {
+         throw new NodeException(String.format("Invalid attribute '%s' in declaration at line %s", name, source.getLine()));
+      }
+      return null;
+   }
+
+   /**
+    * This is used to read the name of the next pseudo attribute in
+    * the XML declaration along with the following equals sign. Each
+    * pseudo attribute must be preceded by whitespace. If the end of
+    * the declaration is found instead then this will return null.
+    *
+    * @return this returns the name of the next pseudo attribute
+    */
+   private String pseudo() throws Exception {
+      boolean space = isSpace(source.peek());
+      int next = space();
+
+      if(next == '?') {
+         source.read();
+         expect('>');
+         return null;
+      }
+      if(!space) {
+         throw new NodeException(String.format("Whitespace expected in declaration at line %s", source.getLine()));
+      }
+      name();
+
+      String name = new String(text, 0, length);
+
+      space();
+      expect('=');
+      space();
+      return name;
+   }
+
+   /**
+    * This is used to read the value of a pseudo attribute from the
+    * XML declaration. Unlike an attribute value this can not contain
+    * references or whitespace, it is a quoted run of ASCII letters,
+    * digits and punctuation which is checked by the caller.
+    *
+    * @return this returns the value of the pseudo attribute
+    */
+   private String literal() throws Exception {
+      int quote = source.read();
+
+      if(quote != '"' && quote != '\'') {
+         throw new NodeException(String.format("Declaration value not quoted at line %s", source.getLine()));
+      }
+      length = 0;
+
+      while(true) {
+         int next = source.read();
+
+         if(next == quote) {
+            break;
+         }
+         if(next <= ' ' || next >= 0x7f || next == '<' || next == '&') {
+            throw new NodeException(String.format("Invalid declaration value at line %s", source.getLine()));
+         }
+         append((char)next);
+      }
+      return new String(text, 0, length);
+   }
+
+   /**
+    * This is used to skip a comment. The characters of the comment
+    * are checked as they are skipped, and because the comment must
+    * not contain a double hyphen the first one found ends it.
+    *
+    * @return this always returns null as no event is produced
+    */
+   private EventNode comment() throws Exception {
+      skip('-', '-');
+
+      if(source.read() != '>') {
+         throw new NodeException(String.format("Comment contains '--' at line %s", source.getLine()));
+      }
+      return null;
+   }
+
+   /**
+    * This is used to skip over markup that ends with the specified
+    * ASCII characters. This is used to skip comments as well as
+    * processing instructions, neither of which produce an event.
+    * Although skipped, the characters within are still checked.
+    *
+    * @param token this is the sequence that ends the markup
+    *
+    * @return this always returns null as no event is produced
+    */
+   private EventNode skip(char... token) throws Exception {
+      int mask = (1 << (token.length * 8)) - 1;
+      int pattern = 0;
+      int window = 0;
+
+      for(char next : token) {
+         pattern = (pattern << 8) | next;
+      }
+      while((window & mask) != pattern) {
+         int next = source.read();
+
+         if(next == -1) {
+            throw new NodeException(String.format("Markup not closed at line %s", source.getLine()));
+         }
+         if(next >= 0x80) {
+            decode(next);
+         } else if(!isSpace(next)) {
+            validate(next);
+         }
+         window = (window << 8) | next;
+      }
+      return null;
+   }
+
+   /**
+    * This is used to read an attribute value from the document. The
+    * value must be quoted with either single or double quotes. As
+    * required by XML any whitespace characters within the value are
+    * normalized to a space, and entities are resolved.
+    *
+    * @return this returns the value of the attribute
+    */
+   private String value() throws Exception {
+      int quote = source.read();
+
+      if(quote != '"' && quote != '\'') {
+         throw new NodeException(String.format("Attribute value not quoted at line %s", source.getLine()));
+      }
+      length = 0;
+
+      while(true) {
+         int next = source.read();
+
+         if(next == quote) {
+            break;
+         }
+         if(next == -1 || next == '<') {
+            throw new NodeException(String.format("Attribute value not closed at line %s", source.getLine()));
+         }
+         if(next == '&') {
+            entity();
+         } else if(next == '\r') {
+            if(source.peek() == '\n') {
+               source.read();
+            }
+            append(' ');
+         } else if(next == '\n' || next == '\t') {
+            append(' ');
+         } else if(next >= 0x80) {
+            append(decode(next));
+         } else {
+            append(validate(next));
+         }
+      }
+      return new String(text, 0, length);
+   }
+
+   /**
+    * This is used to read a name from the document in to the text
+    * buffer. A name ends at the first character that can not be part
+    * of a name. As the name is qualified it may contain at most one
+    * separator, which can not start or end the name. If the name has
+    * a prefix then the position of the separator is returned so that
+    * the prefix and local name can be extracted.
+    *
+    * @return this returns the position of the prefix separator
+    */
+   private int name() throws Exception {
+      int colon = -1;
+
+      length = 0;
+
+      while(true) {
+         int next = source.peek();
+
+         if(next < 0x80) {
+            if(!isName(next)) {
+               break;
+            }
+            source.read();
+
+            if(next == ':') {
+               if(colon >= 0) {
+                  throw new NodeException(String.format("Name has more than one prefix at line %s", source.getLine()));
+               }
+               colon = length;
+            }
+            append((char)next);
+         } else {
+            source.read();
+
+            int code = decode(next);
+
+            if(!isName(code)) {
+               throw new NodeException(String.format("Invalid name character at line %s", source.getLine()));
+            }
+            append(code);
+         }
+      }
+      if(length == 0) {
+         throw new NodeException(String.format("Name expected at line %s", source.getLine()));
+      }
+      if(colon == 0 || colon == length - 1) {
+         throw new NodeException(String.format("Invalid qualified name at line %s", source.getLine()));
+      }
+      return colon;
+   }
+
+   /**
+    * This is used to resolve an entity or character reference. The
+    * name of the entity is read up to the terminating semicolon and
+    * the character it represents is appended to the text buffer.
+    * As only the predefined entities can be resolved a long name is
+    * rejected before it is complete, numeric references are bound
+    * by their value so that leading zeros are accepted.
+    */
+   private void entity() throws Exception {
+      int start = length;
+
+      if(source.peek() == '#') {
+         source.read();
+         append(reference());
+      } else {
+         while(true) {
+            int next = source.read();
+
+            if(next == ';') {
+               break;
+            }
+            if(next == -1 || next == '<' || length - start > 10) {
+               throw new NodeException(String.format("Entity not terminated at line %s", source.getLine()));
+            }
+            append((char)next);
+         }
+         String name = new String(text, start, length - start);
+
+         length = start;
+         append(replace(name));
+      }
+   }
+
+   /**
+    * This is used to resolve the named entity to the character it
+    * represents. Only the predefined XML entities can be resolved
+    * as no DTD is processed.
+    *
+    * @param name this is the name of the entity to be resolved
+    *
+    * @return this returns the character the entity represents
+    */
+   private int replace(String name) throws Exception {
+      if(name.equals("lt")) {
+         return '<';
+      }
+      if(name.equals("gt")) {
+         return '>';
+      }
+      if(name.equals("amp")) {
+         return '&';
+      }
+      if(name.equals("quot")) {
+         return '"';
+      }
+      if(name.equals("apos")) {
+         return '\'';
+      }
+      throw new NodeException(String.format("Undeclared entity '%s' at line %s", name, source.getLine()));
+   }
+
+   /**
+    * This is used to resolve a numeric character reference. Only the
+    * ASCII digits of the radix are accepted, so there can be no sign
+    * or whitespace. The value is checked as each digit is read so
+    * any number of leading zeros can be used. The character must be
+    * one allowed by XML, which excludes most control characters,
+    * surrogates and any character beyond the last Unicode code point.
+    *
+    * @return this returns the character the reference represents
+    */
+   private int reference() throws Exception {
+      int radix = 10;
+      int count = 0;
+      int code = 0;
+
+      if(source.peek() == 'x') {
+         source.read();
+         radix = 16;
+      }
+      while(true) {
+         int next = source.read();
+
+         if(next == ';') {
+            break;
+         }
+         if(next == -1 || next == '<') {
+            throw new NodeException(String.format("Entity not terminated at line %s", source.getLine()));
+         }
+         int digit = next < 0x80 ? Character.digit((char)next, radix) : -1;
+
+         if(digit < 0) {
+            throw new NodeException(String.format("Invalid character reference at line %s", source.getLine()));
+         }
+         code = code * radix + digit;
+
+         if(code > 0x10ffff) {
+            throw new NodeException(String.format("Character reference out of range at line %s", source.getLine()));
+         }
+         count++;
+      }
+      if(count == 0 || !isChar(code)) {
+         throw new NodeException(String.format("Invalid character reference at line %s", source.getLine()));
+      }
+      return code;
+   }
+
+   /**
+    * This is used to append a character read from text content. Any
+    * carriage return is normalized to a line feed as required by the
+    * XML specification. Bytes that begin a UTF-8 sequence are decoded.
+    *
+    * @param next this is the byte that has been read
+    */
+   private void character(int next) throws Exception {
+      if(next == '\r') {
+         if(source.peek() == '\n') {
+            source.read();
+         }
+         append('\n');
+      } else if(next >= 0x80) {
+         append(decode(next));
+      } else {
+         append(validate(next));
+      }
+   }
+
+   /**
+    * This is used to check an ASCII character read from the document.
+    * The only control characters allowed by XML are the tab, the line
+    * feed and the carriage return. Any other is rejected.
+    *
+    * @param next this is the byte that has been read
+    *
+    * @return this returns the byte as a character if it is allowed
+    */
+   private char validate(int next) throws Exception {
+      if(next < 0x20 && !isSpace(next)) {
+         throw new NodeException(String.format("Invalid character %s at line %s", next, source.getLine()));
+      }
+      return (char)next;
+   }
+
+   /**
+    * This is used to decode a UTF-8 sequence from the document. The
+    * lead byte has already been read, the remaining bytes of the
+    * sequence are read and the resulting code point is returned. Only
+    * the shortest form of each code point is accepted. Surrogates,
+    * code points beyond U+10FFFF and the non-characters U+FFFE and
+    * U+FFFF are rejected, as these are not characters within XML.
+    *
+    * @param first this is the lead byte of the UTF-8 sequence
+    *
+    * @return this returns the code point that was decoded
+    */
+   private int decode(int first) throws Exception {
+      if(first >= 0xc2) {
+         if(first < 0xe0) {
+            return ((first & 0x1f) << 6) | follow(0x80, 0xbf);
+         }
+         if(first < 0xf0) {
+            int low = first == 0xe0 ? 0xa0 : 0x80;
+            int high = first == 0xed ? 0x9f : 0xbf;
+            int code = ((first & 0x0f) << 12) | (follow(low, high) << 6) | follow(0x80, 0xbf);
+
+            if(code < 0xfffe) {
+               return code;
+            }
+         } else if(first < 0xf5) {
+            int low = first == 0xf0 ? 0x90 : 0x80;
+            int high = first == 0xf4 ? 0x8f : 0xbf;
+
+            return ((first & 0x07) << 18) | (follow(low, high) << 12) | (follow(0x80, 0xbf) << 6) | follow(0x80, 0xbf);
+         }
+      }
+      throw new NodeException(String.format("Invalid UTF-8 sequence at line %s", source.getLine()));
+   }
+
+   /**
+    * This is used to read a continuation byte of a UTF-8 sequence.
+    * If the byte read is not a continuation byte within the range
+    * allowed for its position then the document is not valid UTF-8
+    * and an exception is thrown.
+    *
+    * @param low this is the lowest value allowed for the byte
+    * @param high this is the highest value allowed for the byte
+    *
+    * @return this returns the six bits held by the continuation
+    */
+   private int follow(int low, int high) throws Exception {
+      int next = source.read();
+
+      if(next < low || next > high) {
+         throw new NodeException(String.format("Invalid UTF-8 sequence at line %s", source.getLine()));
+      }
+      return next & 0x3f;
+   }
+
+   /**
+    * This is used to skip any whitespace within markup. Once the
+    * whitespace has been skipped the next byte is returned without
+    * consuming it. If the document has ended an exception is thrown.
+    *
+    * @return this returns the next byte following the whitespace
+    */
+   private int space() throws Exception {
+      int next = source.peek();
+
+      while(isSpace(next)) {
+         source.read();
+         next = source.peek();
+      }
+      if(next == -1) {
+         throw new NodeException(String.format("Document ended within markup at line %s", source.getLine()));
+      }
+      return next;
+   }
+
+   /**
+    * This is used to read the expected character from the markup. If
+    * the next byte is not the expected character then the document
+    * is not well formed and an exception is thrown.
+    *
+    * @param expect this is the character that is expected
+    */
+   private void expect(char expect) throws Exception {
+      int next = source.read();
+
+      if(next != expect) {
+         throw new NodeException(String.format("Expected '%s' at line %s", expect, source.getLine()));
+      }
+   }
+
+   /**
+    * This is used to determine if the name in the text buffer is
+    * the same as the provided name. This is used to check that end
+    * tags match the element that is open without creating a string.
+    *
+    * @param name this is the name to compare the text buffer with
+    *
+    * @return this returns true if the names are the same
+    */
+   private boolean isMatch(String name) {
+      if(name.length() != length) {
+         return false;
+      }
+      for(int i = 0; i < length; i++) {
+         if(name.charAt(i) != text[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to determine if the version declared is of the
+    * form required by XML 1.0, which is "1." followed by digits. The
+    * source only hands a document to this parser if it declares the
+    * version 1.0, however this checks the value that was declared.
+    *
+    * @param version this is the version declared by the document
+    *
+    * @return this returns true if the version is of the right form
+    */
+   private boolean isVersion(String version) {
+      int length = version.length();
+
+      if(length < 3 || !version.startsWith("1.")) {
+         return false;
+      }
+      for(int i = 2; i < length; i++) {
+         char next = version.charAt(i);
+
+         if(next < '0' || next > '9') {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to determine if the encoding declared is a valid
+    * encoding name. The name must start with a letter, and may then
+    * contain letters, digits, periods, underscores and hyphens. The
+    * source has already checked that the encoding is supported.
+    *
+    * @param encoding this is the encoding declared by the document
+    *
+    * @return this returns true if the encoding name is valid
+    */
+   private boolean isEncoding(String encoding) {
+      int length = encoding.length();
+
+      for(int i = 0; i < length; i++) {
+         char next = encoding.charAt(i);
+         boolean letter = (next >= 'a' && next <= 'z') || (next >= 'A' && next <= 'Z');
+
+         if(!letter) {
+            if(i == 0) {
+               return false;
+            }
+            if((next < '0' || next > '9') && next != '.' && next != '_' && next != '-') {
+               return false;
+            }
+         }
+      }
+      return length > 0;
+   }
+
+   /**
+    * This is used to determine if the name in the text buffer is a
+    * processing instruction target reserved for the XML declaration.
+    * Any target that matches "xml" regardless of case is reserved.
+    *
+    * @return this returns true if the name is a reserved target
+    */
+   private boolean isTarget() {
+      if(length != 3) {
+         return false;
+      }
+      char first = Character.toLowerCase(text[0]);
+      char second = Character.toLowerCase(text[1]);
+      char third = Character.toLowerCase(text[2]);
+
+      return first == 'x' && second == 'm' && third == 'l';
+   }
+
+   /**
+    * This is used to determine if the text buffer ends with the two
+    * brackets that begin the sequence "]]&gt;". Only the brackets
+    * read directly from the document, that is those after the mark,
+    * are considered, as a character reference may represent them.
+    *
+    * @param mark this is the end of the last resolved reference
+    *
+    * @return this returns true if the buffer ends with two brackets
+    */
+   private boolean isSection(int mark) {
+      if(length - mark < 2) {
+         return false;
+      }
+      return text[length - 1] == ']' && text[length - 2] == ']';
+   }
+
+   /**
+    * This is used to determine if the byte is XML whitespace. Only
+    * the space, tab, carriage return and line feed are considered
+    * whitespace within XML.
+    *
+    * @param next this is the byte that is to be examined
+    *
+    * @return this returns true if the byte is whitespace
+    */
+   private boolean isSpace(int next) {
+      return next == ' ' || next == '\n' || next == '\t' || next == '\r';
+   }
+
+   /**
+    * This is used to determine if the code point is a character that
+    * is allowed within an XML document. This excludes the control
+    * characters other than whitespace, the surrogates, U+FFFE and
+    * U+FFFF, as well as anything beyond the last Unicode code point.
+    *
+    * @param code this is the code point that is to be examined
+    *
+    * @return this returns true if this is an XML character
+    */
+   private boolean isChar(int code) {
+      if(code < 0x20) {
+         return isSpace(code);
+      }
+      if(code < 0xd800) {
+         return true;
+      }
+      if(code < 0xe000) {
+         return false;
+      }
+      if(code < 0xfffe) {
+         return true;
+      }
+      return code >= 0x10000 && code <= 0x10ffff;
+   }
+
+   /**
+    * This is used to determine if the code point can form part of a
+    * name. If the text buffer is empty the code point will start the
+    * name, so it must be a name start character, otherwise it can be
+    * any name character. The characters are those of XML 1.0.
+    *
+    * @param code this is the code point that is to be examined
+    *
+    * @return this returns true if this can be part of the name
+    */
+   private boolean isName(int code) {
+      if(code >= 'a' && code <= 'z' || code >= 'A' && code <= 'Z') {
+         return true;
+      }
+      if(code == '_' || code == ':') {
+         return true;
+      }
+      if(length > 0) {
+         if(code >= '0' && code <= '9' || code == '-' || code == '.') {
+            return true;
+         }
+         if(code == 0xb7 || code >= 0x300 && code <= 0x36f || code == 0x203f || code == 0x2040) {
+            return true;
+         }
+      }
+      if(code < 0xc0) {
+         return false;
+      }
+      if(code <= 0x2ff) {
+         return code != 0xd7 && code != 0xf7;
+      }
+      if(code < 0x2000) {
+         return code >= 0x370 && code != 0x37e;
+      }
+      if(code < 0x3001) {
+         return code == 0x200c || code == 0x200d || code >= 0x2070 && code <= 0x218f || code >= 0x2c00 && code <= 0x2fef;
+      }
+      if(code < 0xf900) {
+         return code <= 0xd7ff;
+      }
+      if(code < 0x10000) {
+         return code <= 0xfdcf || code >= 0xfdf0 && code <= 0xfffd;
+      }
+      return code <= 0xeffff;
+   }
+
+   /**
+    * This is used to determine if two prefixes are the same. As the
+    * prefix of an attribute is null if it has none, then two null
+    * prefixes are considered to be the same.
+    *
+    * @param prefix this is the first prefix to be compared
+    * @param other this is the second prefix to be compared
+    *
+    * @return this returns true if the prefixes are the same
+    */
+   private boolean isEqual(String prefix, String other) {
+      if(prefix == null) {
+         return other == null;
+      }
+      return prefix.equals(other);
+   }
+
+   /**
+    * This is used to determine if an attribute has the same name and
+    * namespace as an attribute before it. Attributes with different
+    * prefixes can still be duplicates if the prefixes are bound to
+    * the same namespace reference, which is not allowed.
+    *
+    * @param index this is the index of the attribute to check
+    * @param reference this is the namespace of the attribute
+    *
+    * @return this returns true if the attribute is a duplicate
+    */
+   private boolean isDuplicate(int index, String reference) {
+      for(int i = 0; i < index; i++) {
+         if(keys[i] != null && !isReserved(keys[i], names[i])) {
+            if(names[i].equals(names[index]) && reference.equals(resolve(keys[i]))) {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   /**
+    * This is used to determine if an attribute is reserved. Reserved
+    * attributes are namespace declarations, which are not exposed
+    * as attributes of the element by any of the XML parsers.
+    *
+    * @param prefix this is the prefix of the attribute if any
+    * @param name this is the local name of the attribute
+    *
+    * @return this returns true if the attribute is reserved
+    */
+   private boolean isReserved(String prefix, String name) {
+      if(prefix == null) {
+         return name.equals("xmlns");
+      }
+      return prefix.equals("xmlns");
+   }
+
+   /**
+    * This is used to extract the prefix from the qualified name. The
+    * prefix is taken from the text buffer and cached so that the same
+    * prefix is represented by a single string for the document.
+    *
+    * @param colon this is the position of the prefix separator
+    *
+    * @return this returns the prefix or null if there is none
+    */
+   private String prefix(int colon) {
+      if(colon < 0) {
+         return null;
+      }
+      return intern(0, colon);
+   }
+
+   /**
+    * This is used to extract the local name from the qualified name.
+    * If there is no prefix then the qualified name is the local name.
+    * Otherwise the local name is taken from the text buffer.
+    *
+    * @param qualified this is the qualified name that was read
+    * @param colon this is the position of the prefix separator
+    *
+    * @return this returns the local name without the prefix
+    */
+   private String local(String qualified, int colon) {
+      if(colon < 0) {
+         return qualified;
+      }
+      return intern(colon + 1, length - colon - 1);
+   }
+
+   /**
+    * This is used to acquire a string for the characters in the text
+    * buffer. Names are cached in a small hash table, so that when the
+    * same name is read again no new string needs to be created.
+    *
+    * @param start this is the start of the name in the text buffer
+    * @param size this is the number of characters in the name
+    *
+    * @return this returns a string for the characters specified
+    */
+   private String intern(int start, int size) {
+      int hash = 0;
+
+      for(int i = 0; i < size; i++) {
+         hash = 31 * hash + text[start + i];
+      }
+      int index = (hash ^ (hash >>> 16)) & (cache.length - 1);
+      String name = cache[index];
+
+      if(name != null && name.length() == size) {
+         for(int i = 0; i < size; i++) {
+            if(name.charAt(i) != text[start + i]) {
+               return cache[index] = new String(text, start, size);
+            }
+         }
+         return name;
+      }
+      return cache[index] = new String(text, start, size);
+   }
+
+   /**
+    * This is used to resolve the namespace reference for a prefix.
+    * The most recently declared namespace with the prefix is used.
+    * If there is no prefix then the default namespace is used.
+    *
+    * @param prefix this is the prefix that is to be resolved
+    *
+    * @return this returns the reference bound to the prefix
+    */
+   private String resolve(String prefix) {
+      String name = prefix;
+
+      if(name == null) {
+         name = "";
+      } else if(name.equals("xml")) {
+         return XML;
+      }
+      for(int i = size - 1; i >= 0; i--) {
+         if(prefixes[i].equals(name)) {
+            return references[i];
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to declare a namespace for the current element. The
+    * namespace is checked before it is bound, the "xml" prefix and its
+    * namespace can only be bound to each other, the "xmlns" prefix and
+    * namespace can not be declared, and only the default namespace
+    * can be undeclared with an empty reference.
+    *
+    * @param prefix this is the prefix that is being declared
+    * @param reference this is the namespace reference it is bound to
+    */
+   private void declare(String prefix, String reference) throws Exception {
+      boolean xml = reference.equals(XML);
+
+      if(prefix.equals("xmlns") || reference.equals(XMLNS) || prefix.equals("xml") != xml) {
+         throw new NodeException(String.format("Namespace '%s' can not be bound to '%s' at line %s", reference, prefix, source.getLine()));
+      }
+      if(prefix.length() > 0 && reference.length() == 0) {
+         throw new NodeException(String.format("Prefix '%s' can not be undeclared at line %s", prefix, source.getLine()));
+      }
+      bind(prefix, reference);
+   }
+
+   /**
+    * This is used to declare a namespace for the current element. It
+    * will remain in scope until the end of the element is reached.
+    *
+    * @param prefix this is the prefix that is being declared
+    * @param reference this is the namespace reference it is bound to
+    */
+   private void bind(String prefix, String reference) {
+      if(size >= prefixes.length) {
+         prefixes = expand(prefixes);
+         references = expand(references);
+      }
+      prefixes[size] = prefix;
+      references[size++] = reference;
+   }
+
+   /**
+    * This is used to push an element on to the stack of elements
+    * that are open. The number of namespaces in scope is recorded
+    * so that the element's declarations can be removed at its end.
+    *
+    * @param name this is the qualified name of the element
+    */
+   private void push(String name) {
+      if(depth >= elements.length) {
+         int[] copy = new int[depth * 2];
+
+         System.arraycopy(scopes, 0, copy, 0, depth);
+         elements = expand(elements);
+         scopes = copy;
+      }
+      scopes[depth] = size;
+      elements[depth++] = name;
+   }
+
+   /**
+    * This is used to append a code point to the text buffer. If the
+    * code point is outside the basic multilingual plane then it is
+    * appended as a surrogate pair.
+    *
+    * @param code this is the code point to be appended
+    */
+   private void append(int code) {
+      if(code >= 0x10000) {
+         append((char)(((code - 0x10000) >> 10) + 0xd800));
+         append((char)(((code - 0x10000) & 0x3ff) + 0xdc00));
+      } else {
+         append((char)code);
+      }
+   }
+
+   /**
+    * This is used to append a character to the text buffer. If the
+    * buffer is full then it is expanded to accommodate the character.
+    *
+    * @param next this is the character to be appended
+    */
+   private void append(char next) {
+      if(length >= text.length) {
+         expand();
+      }
+      text[length++] = next;
+   }
+
+   /**
+    * This is used to expand the text buffer. The buffer is doubled
+    * in size, which ensures the cost of expanding remains small.
+    */
+   private void expand() {
+      char[] copy = new char[text.length * 2];
+
+      System.arraycopy(text, 0, copy, 0, length);
+      text = copy;
+   }
+
+   /**
+    * This is used to expand the provided array of strings. The array
+    * returned is double the size and contains all the strings from
+    * the array provided.
+    *
+    * @param list this is the array of strings to be expanded
+    *
+    * @return this returns an expanded copy of the array
+    */
+   private String[] expand(String[] list) {
+      String[] copy = new String[list.length * 2];
+
+      System.arraycopy(list, 0, copy, 0, list.length);
+      return copy;
+   }
+
+   /**
+    * The <code>Entry</code> object is used to represent an attribute
+    * within a start element. This holds the name and value of the
+    * attribute as well as the namespace prefix and reference. These
+    * details can be used to represent the attribute so that should
+    * the core reader require these details they can be acquired.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Entry extends EventAttribute {
+
+      /**
+       * This is the byte source the attribute was read from.
+       */
+      private final ByteSource source;
+
+      /**
+       * This is the XML namespace reference used by the attribute.
+       */
+      private String reference;
+
+      /**
+       * This is the XML namespace prefix used by the attribute.
+       */
+      private String prefix;
+
+      /**
+       * This is the name that is used by this attribute.
+       */
+      private String name;
+
+      /**
+       * This is the value that is used by this attribute.
+       */
+      private String value;
+
+      /**
+       * Constructor for the <code>Entry</code> object. This creates
+       * an attribute object that holds the name, value, namespace
+       * prefix and namespace reference read from the document.
+       *
+       * @param source this is the byte source the attribute is from
+       * @param name this is the local name of the attribute
+       * @param prefix this is the namespace prefix if there is one
+       * @param reference this is the namespace reference if any
+       * @param value this is the value of the attribute
+       */
+      public Entry(ByteSource source, String name, String prefix, String reference, String value) {
+         this.source = source;
+         this.reset(name, prefix, reference, value);
+      }
+
+      /**
+       * This is used to update the attribute with the details of a
+       * new attribute read from the document. This allows the entry
+       * to be recycled once the core reader has copied out all of
+       * the details of the attribute it requires.
+       *
+       * @param name this is the local name of the attribute
+       * @param prefix this is the namespace prefix if there is one
+       * @param reference this is the namespace reference if any
+       * @param value this is the value of the attribute
+       *
+       * @return this returns this entry with the new details
+       */
+      public Entry reset(String name, String prefix, String reference, String value) {
+         this.reference = reference;
+         this.prefix = prefix;
+         this.value = value;
+         this.name = name;
+         return this;
+      }
+
+      /**
+       * This provides the name of the attribute. This will be the
+       * name of the XML attribute without any namespace prefix. If
+       * the name begins with "xml" then this attribute is reserved.
+       * according to the namespaces for XML 1.0 specification.
+       *
+       * @return this returns the name of this attribute object
+       */
+      public String getName() {
+         return name;
+      }
+
+      /**
+       * This returns the value of the event. This will be the value
+       * that the attribute contains. If the attribute does not have
+       * a value then this returns null or an empty string.
+       *
+       * @return this returns the value represented by this object
+       */
+      public String getValue() {
+         return value;
+      }
+
+      /**
+       * This is used to acquire the namespace reference that this
+       * attribute is in. A namespace is normally associated with an
+       * attribute if that attribute is prefixed with a known token.
+       * If there is no prefix then this will return null.
+       *
+       * @return this provides the associated namespace reference
+       */
+      public String getReference() {
+         return reference;
+      }
+
+      /**
+       * This is used to acquire the namespace prefix associated with
+       * this attribute. A prefix is used to qualify the attribute
+       * within a namespace. So, if this has a prefix then it should
+       * have a reference associated with it.
+       *
+       * @return this returns the namespace prefix for the attribute
+       */
+      public String getPrefix() {
+         return prefix;
+      }
+
+      /**
+       * This is used to return the node for the attribute. Because
+       * this is read directly from the bytes of the document the
+       * byte source is returned. This helps with debugging issues.
+       *
+       * @return this will return the source object for this
+       */
+      public Object getSource() {
+         return source;
+      }
+   }
+
+   /**
+    * The <code>Start</code> object is used to represent the start of
+    * an XML element. This will hold the attributes associated with
+    * the element and will provide the name, the namespace reference
+    * and the namespace prefix. For debugging purposes the byte source
+    * the element was read from is provided for this start event.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Start extends EventElement {
+
+      /**
+       * This is the byte source the element was read from.
+       */
+      private final ByteSource source;
+
+      /**
+       * This is the XML namespace reference used by the element.
+       */
+      private String reference;
+
+      /**
+       * This is the XML namespace prefix used by the element.
+       */
+      private String prefix;
+
+      /**
+       * This is the name that is used by this element.
+       */
+      private String name;
+
+      /**
+       * This is the line number where this element was read.
+       */
+      private int line;
+
+      /**
+       * This contains the attribute entries that can be recycled.
+       */
+      private List<Entry> entries;
+
+      /**
+       * This is the number of recycled attribute entries in use.
+       */
+      private int count;
+
+      /**
+       * Constructor for the <code>Start</code> object. This creates
+       * an event for an element read from the document. The name,
+       * namespace prefix and namespace reference are provided along
+       * with the line number the element was read from.
+       *
+       * @param source this is the byte source the element is from
+       * @param name this is the local name of the element
+       * @param prefix this is the namespace prefix if there is one
+       * @param reference this is the namespace reference if any
+       * @param line this is the line number the element was read on
+       */
+      public Start(ByteSource source, String name, String prefix, String reference, int line) {
+         this.source = source;
+         this.reset(name, prefix, reference, line);
+      }
+
+      /**
+       * This is used to update the start event with the details of
+       * a new element read from the document. Any attributes the
+       * event held are removed, however the entries used for them
+       * are kept so that they can be recycled for the new element.
+       *
+       * @param name this is the local name of the element
+       * @param prefix this is the namespace prefix if there is one
+       * @param reference this is the namespace reference if any
+       * @param line this is the line number the element was read on
+       *
+       * @return this returns this event with the new details
+       */
+      public Start reset(String name, String prefix, String reference, int line) {
+         this.reference = reference;
+         this.prefix = prefix;
+         this.name = name;
+         this.line = line;
+         this.count = 0;
+         this.clear();
+         return this;
+      }
+
+      /**
+       * This is used to acquire an attribute entry for an attribute
+       * of this element. Entries are recycled from previous elements
+       * read with this event, so a new entry is created only when
+       * this element has more attributes than any before it.
+       *
+       * @param name this is the local name of the attribute
+       * @param prefix this is the namespace prefix if there is one
+       * @param reference this is the namespace reference if any
+       * @param value this is the value of the attribute
+       *
+       * @return this returns an entry holding the attribute details
+       */
+      public Entry entry(String name, String prefix, String reference, String value) {
+         if(entries == null) {
+            entries = new ArrayList<Entry>();
+         }
+         if(count < entries.size()) {
+            return entries.get(count++).reset(name, prefix, reference, value);
+         }
+         Entry entry = new Entry(source, name, prefix, reference, value);
+
+         entries.add(entry);
+         count++;
+         return entry;
+      }
+
+      /**
+       * This is used to provide the line number the XML event was
+       * encountered at within the XML document. If there is no line
+       * number available for the node then this will return a -1.
+       *
+       * @return this returns the line number if it is available
+       */
+      public int getLine() {
+         return line;
+      }
+
+      /**
+       * This provides the name of the event. This will be the name
+       * of an XML element the event represents. If there is a prefix
+       * associated with the element, this extracts that prefix.
+       *
+       * @return this returns the name without the namespace prefix
+       */
+      public String getName() {
+         return name;
+      }
+
+      /**
+       * This is used to acquire the namespace reference that this
+       * node is in. A namespace is normally associated with an XML
+       * element or attribute, so text events and element close events
+       * are not required to contain any namespace references.
+       *
+       * @return this will provide the associated namespace reference
+       */
+      public String getReference() {
+         return reference;
+      }
+
+      /**
+       * This is used to acquire the namespace prefix associated with
+       * this node. A prefix is used to qualify an XML element or
+       * attribute within a namespace. So, if this represents a text
+       * event then a namespace prefix is not required.
+       *
+       * @return this returns the namespace prefix for this event
+       */
+      public String getPrefix() {
+         return prefix;
+      }
+
+      /**
+       * This is used to return the node for the element. Because
+       * this is read directly from the bytes of the document the
+       * byte source is returned. This helps with debugging issues.
+       *
+       * @return this will return the source object for this
+       */
+      public Object getSource() {
+         return source;
+      }
+   }
+
+   /**
+    * The <code>Text</code> object is used to represent a text event.
+    * If wraps the text read from the document between the element
+    * tags. These are used by <code>InputNode</code> objects to extract
+    * the text values for elements.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Text extends EventToken {
+
+      /**
+       * This holds the characters of the text read from the XML.
+       */
+      private final StringBuilder data;
+
+      /**
+       * This is the text value created when it is first requested.
+       */
+      private String text;
+
+      /**
+       * Constructor for the <code>Text</code> object. This creates
+       * an event that provides text to the core reader. Text can be
+       * in the form of a CDATA section or a normal text entry.
+       */
+      public Text() {
+         this.data = new StringBuilder();
+      }
+
+      /**
+       * This is used to update the text event with new characters
+       * read from the document. This allows the event to be recycled
+       * once the core reader has consumed the text.
+       *
+       * @param buffer this is the buffer holding the text read
+       * @param count this is the number of characters read as text
+       *
+       * @return this returns this event with the new text value
+       */
+      public Text reset(char[] buffer, int count) {
+         data.setLength(0);
+         data.append(buffer, 0, count);
+         text = null;
+         return this;
+      }
+
+      /**
+       * This is true as this event represents a text token. Text
+       * tokens are required to provide a value only. So namespace
+       * details and the node name will always return null.
+       *
+       * @return this returns true as this event represents text
+       */
+      public boolean isText() {
+         return true;
+      }
+
+      /**
+       * This returns the value of the event. This will return the
+       * text value contained within the node. If there is no
+       * text within the node this should return an empty string.
+       *
+       * @return this returns the value represented by this event
+       */
+      public String getValue() {
+         if(text == null) {
+            text = data.toString();
+         }
+         return text;
+      }
+
+      /**
+       * This returns the value of the event as a sequence of chars.
+       * The characters are provided without creating a string, so
+       * they remain valid only until this event is recycled.
+       *
+       * @return this returns the characters held by this event
+       */
+      public CharSequence getText() {
+         return data;
+      }
+   }
+
+   /**
+    * The <code>End</code> object is used to represent the end of an
+    * element. It is used by the core reader to determine which nodes
+    * are in context and which ones are out of context. This allows
+    * the input nodes to determine if it can read any more children.
+    *
+    * @author Niall Gallagher
+    */
+   private static class End extends EventToken {
+
+      /**
+       * This is true as this event represents an element end. Such
+       * events are required by the core reader to determine if a
+       * node is still in context. This helps to determine if there
+       * are any more children to be read from a specific node.
+       *
+       * @return this returns true as this token represents an end
+       */
+      public boolean isEnd() {
+         return true;
+      }
+   }
+}
@@ -0,0 +1,514 @@
+/*
+ * ByteSource.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * The <code>ByteSource</code> object is used to buffer the bytes of
+ * an XML document so that they can be scanned by a byte parser. As
+ * well as providing the bytes this will keep track of the current
+ * line number. Before parsing begins the source can check the prolog
+ * of the document to determine whether the document is encoded in
+ * a form the byte parser understands, that is UTF-8 or ASCII. If it
+ * is not then the buffered bytes can be replayed to another parser.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.ByteReader
+ */
+class ByteSource {
+
+   /**
+    * This is the stream that the document bytes are read from.
+    */
+   private final InputStream stream;
+
+   /**
+    * This is the buffer used to hold the bytes read from the stream.
+    */
+   private byte[] buffer;
+
+   /**
+    * This is the offset within the buffer of the next byte to read.
+    */
+   private int offset;
+
+   /**
+    * This is the number of valid bytes held within the buffer.
+    */
+   private int count;
+
+   /**
+    * This is the line number of the last byte read from the source.
+    */
+   private int line;
+
+   /**
+    * This is the last byte that was consumed from the source.
+    */
+   private int last;
+
+   /**
+    * Constructor for the <code>ByteSource</code> object. This will
+    * create a source that buffers the bytes of the specified stream.
+    * The size of the buffer determines how many bytes are requested
+    * from the stream each time the buffer is drained.
+    *
+    * @param stream this is the stream to read the document from
+    * @param size this is the initial size of the byte buffer
+    */
+   public ByteSource(InputStream stream, int size) {
+      this.buffer = new byte[size];
+      this.stream = stream;
+      this.line = 1;
+   }
+
+   /**
+    * This is used to provide the line number of the last byte that
+    * was read from the source. Line numbers begin at one and are
+    * incremented for each line break read from the document, which
+    * is a line feed, a carriage return, or both together.
+    *
+    * @return this returns the line number for the current byte
+    */
+   public int getLine() {
+      return line;
+   }
+
+   /**
+    * This is used to read the next byte from the document. If there
+    * are no more bytes available in the buffer then the buffer is
+    * filled from the stream. When there are no more bytes this will
+    * return -1 to indicate the document has ended.
+    *
+    * @return this returns the next byte or -1 if there is none
+    */
+   public int read() throws IOException {
+      if(offset >= count) {
+         if(!fill()) {
+            return -1;
+         }
+      }
+      int next = buffer[offset++] & 0xff;
+
+      if(next == '\r') {
+         line++;
+      } else if(next == '\n' && last != '\r') {
+         line++;
+      }
+      last = next;
+      return next;
+   }
+
+   /**
+    * This is used to peek at the next byte from the document. This
+    * does not consume the byte, so the next read will return the
+    * same value. If the document has ended this will return -1.
+    *
+    * @return this returns the next byte or -1 if there is none
+    */
+   public int peek() throws IOException {
+      if(offset >= count) {
+         if(!fill()) {
+            return -1;
+         }
+      }
+      return buffer[offset] & 0xff;
+   }
+
+   /**
+    * This is used to consume the specified ASCII token if it is the
+    * next sequence of bytes in the document. If the token does not
+    * match then nothing is consumed. This is used to recognise the
+    * markup such as comments and CDATA sections without decoding.
+    *
+    * @param token this is the ASCII token that is to be matched
+    *
+    * @return this returns true if the token was matched
+    */
+   public boolean skip(String token) throws IOException {
+      int length = token.length();
+
+      if(offset + length > buffer.length) {
+         compact();
+      }
+      if(!ensure(offset + length - 1)) {
+         return false;
+      }
+      for(int i = 0; i < length; i++) {
+         if(buffer[offset + i] != token.charAt(i)) {
+            return false;
+         }
+      }
+      last = token.charAt(length - 1);
+      offset += length;
+      return true;
+   }
+
+   /**
+    * This is used to copy a run of ASCII bytes in to the provided
+    * buffer. The run ends at the first byte that is not plain ASCII
+    * text, that is any markup, entity, carriage return, greater than
+    * character, control character or the lead byte of a UTF-8
+    * sequence. This allows the bulk of text to be
+    * copied without examining each byte individually by the parser.
+    *
+    * @param text this is the character buffer to copy in to
+    * @param start this is the position in the buffer to start at
+    *
+    * @return this returns the number of characters copied
+    */
+   public int copy(char[] text, int start) throws IOException {
+      int limit = Math.min(count, offset + text.length - start);
+      int mark = offset;
+
+      while(offset < limit) {
+         byte next = buffer[offset];
+
+         if(next < 0 || next == '<' || next == '&' || next == '>') {
+            break;
+         }
+         if(next < 0x20 && next != '\n' && next != '\t') {
+            break;
+         }
+         if(next == '\n' && last != '\r') {
+            line++;
+         }
+         text[start++] = (char)next;
+         last = next;
+         offset++;
+      }
+      return offset - mark;
+   }
+
+   /**
+    * This is used to determine whether the document can be read by
+    * a byte parser. To determine this the prolog of the document is
+    * examined, if it has a byte order mark other than UTF-8 or it
+    * declares an encoding other than UTF-8 or ASCII then it is not
+    * supported. Also, if the document has a document type definition
+    * then this is not supported, as it may declare entities.
+    *
+    * @return this returns true if a byte parser can read this
+    */
+   public boolean isSupported() throws IOException {
+      if(!ensure(offset + 3)) {
+         return ensure(offset) && buffer[offset] == '<';
+      }
+      if(isMark()) {
+         offset += 3;
+      }
+      int start = buffer[offset];
+
+      if(start != '<' && !isSpace(start)) {
+         return false;
+      }
+      if(isMatch(offset, "<?xml")) {
+         return isProlog();
+      }
+      return isProlog(offset);
+   }
+
+   /**
+    * This is used to provide a stream that will replay the document
+    * from the start. This is used if the document is not supported
+    * by the byte parser, so that it can be handed to another parser
+    * with all of the bytes examined by this source still present.
+    *
+    * @return this returns a stream that replays the whole document
+    */
+   public InputStream getStream() {
+      InputStream head = new ByteArrayInputStream(buffer, 0, count);
+
+      return new SequenceInputStream(head, stream);
+   }
+
+   /**
+    * This is used to determine whether the buffer begins with the
+    * UTF-8 byte order mark. If so then it should be skipped before
+    * the document is examined, as it does not form part of the XML.
+    *
+    * @return this returns true if there is a UTF-8 byte order mark
+    */
+   private boolean isMark() {
+      int first = buffer[offset] & 0xff;
+      int second = buffer[offset + 1] & 0xff;
+      int third = buffer[offset + 2] & 0xff;
+
+      return first == 0xef && second == 0xbb && third == 0xbf;
+   }
+
+   /**
+    * This is used to examine the XML declaration that starts the
+    * document. If the declaration specifies an encoding then it
+    * must be UTF-8 or ASCII for the byte parser to read it, and the
+    * version must be 1.0 as the byte parser checks the characters
+    * and names of the document with the rules of XML 1.0. Once
+    * the declaration has been checked the rest of the prolog is
+    * examined for any document type definitions.
+    *
+    * @return this returns true if the declaration is supported
+    */
+   private boolean isProlog() throws IOException {
+      int end = find(offset, "?>");
+
+      if(end < 0) {
+         return false;
+      }
+      String text = new String(buffer, offset, end - offset, "ISO-8859-1");
+      String encoding = getValue(text, "encoding");
+      String version = getValue(text, "version");
+
+      if(encoding != null) {
+         if(!isEncoding(encoding)) {
+            return false;
+         }
+      }
+      if(version != null) {
+         if(!version.equals("1.0")) {
+            return false;
+         }
+      }
+      return isProlog(end + 2);
+   }
+
+   /**
+    * This is used to examine the prolog of the document from the
+    * specified position. Any comments, whitespace and processing
+    * instructions are skipped until the root element is found. If
+    * a document type definition is found this will return false.
+    *
+    * @param index this is the position to examine the prolog from
+    *
+    * @return this returns true if the prolog is supported
+    */
+   private boolean isProlog(int index) throws IOException {
+      while(ensure(index)) {
+         int next = buffer[index];
+
+         if(isSpace(next)) {
+            index++;
+         } else if(isMatch(index, "<!--")) {
+            index = find(index, "-->");
+
+            if(index < 0) {
+               return false;
+            }
+         } else if(isMatch(index, "<?")) {
+            index = find(index, "?>");
+
+            if(index < 0) {
+               return false;
+            }
+         } else {
+            return !isMatch(index, "<!");
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to extract a value from the XML declaration, such
+    * as the encoding or the version. If the declaration does not
+    * contain the value then this will return null, in which case
+    * UTF-8 is assumed for the encoding of the document.
+    *
+    * @param text this is the XML declaration to be examined
+    * @param name this is the name of the value to be extracted
+    *
+    * @return this returns the value declared by the document
+    */
+   private String getValue(String text, String name) {
+      int index = text.indexOf(name);
+
+      if(index > 0) {
+         int start = index + name.length();
+         int length = text.length();
+
+         while(start < length) {
+            char quote = text.charAt(start++);
+
+            if(quote == '"' || quote == '\'') {
+               int end = text.indexOf(quote, start);
+
+               if(end > start) {
+                  return text.substring(start, end);
+               }
+               return null;
+            }
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to determine if the named encoding is one that is
+    * supported by the byte parser. Only UTF-8 and ASCII, which is a
+    * subset of UTF-8, can be read by the byte parser. Other names
+    * for these encodings, which a parser may reject, are left to
+    * the other parser so that it can decide.
+    *
+    * @param encoding this is the encoding declared by the document
+    *
+    * @return this returns true if the encoding is supported
+    */
+   private boolean isEncoding(String encoding) {
+      if(encoding.equalsIgnoreCase("UTF-8")) {
+         return true;
+      }
+      return encoding.equalsIgnoreCase("US-ASCII");
+   }
+
+   /**
+    * This is used to find the end of the specified ASCII token from
+    * the given position in the document. If the token is found then
+    * this returns the index of the first byte after the token. If it
+    * could not be found before the end of the document then this
+    * will return -1.
+    *
+    * @param index this is the position to begin the search from
+    * @param token this is the ASCII token that is to be found
+    *
+    * @return this returns the index of the byte after the token
+    */
+   private int find(int index, String token) throws IOException {
+      while(ensure(index + token.length() - 1)) {
+         if(isMatch(index, token)) {
+            return index + token.length();
+         }
+         index++;
+      }
+      return -1;
+   }
+
+   /**
+    * This is used to determine if the bytes at the given position
+    * match the specified ASCII token. If there are not enough bytes
+    * in the document to match the token then this returns false.
+    *
+    * @param index this is the position to begin the match from
+    * @param token this is the ASCII token that is to be matched
+    *
+    * @return this returns true if the bytes match the token
+    */
+   private boolean isMatch(int index, String token) throws IOException {
+      int length = token.length();
+
+      if(!ensure(index + length - 1)) {
+         return false;
+      }
+      for(int i = 0; i < length; i++) {
+         if(buffer[index + i] != token.charAt(i)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * This is used to determine if the byte is XML whitespace. Only
+    * the space, tab, carriage return and line feed are considered
+    * whitespace within XML markup.
+    *
+    * @param next this is the byte that is to be examined
+    *
+    * @return this returns true if the byte is whitespace
+    */
+   private boolean isSpace(int next) {
+      return next == ' ' || next == '\t' || next == '\n' || next == '\r';
+   }
+
+   /**
+    * This is used to ensure the byte at the specified index within
+    * the buffer has been read from the stream. If the buffer is not
+    * large enough to hold the byte then it is expanded. This is used
+    * to look ahead through the document without consuming bytes.
+    *
+    * @param index this is the index of the byte that is required
+    *
+    * @return this returns true if the byte has been buffered
+    */
+   private boolean ensure(int index) throws IOException {
+      while(index >= count) {
+         if(index >= buffer.length) {
+            expand(index + 1);
+         }
+         int size = stream.read(buffer, count, buffer.length - count);
+
+         if(size < 0) {
+            return false;
+         }
+         count += size;
+      }
+      return true;
+   }
+
+   /**
+    * This is used to expand the buffer so that it can hold at least
+    * the specified number of bytes. Expansion is only required when
+    * looking ahead through the prolog of the document.
+    *
+    * @param size this is the minimum size required for the buffer
+    */
+   private void expand(int size) {
+      byte[] copy = new byte[Math.max(size, buffer.length * 2)];
+
+      System.arraycopy(buffer, 0, copy, 0, count);
+      buffer = copy;
+   }
+
+   /**
+    * This is used to move the bytes that are yet to be read to the
+    * start of the buffer. This ensures that when looking ahead near
+    * the end of the buffer there is no need to expand the buffer.
+    */
+   private void compact() {
+      int remaining = count - offset;
+
+      System.arraycopy(buffer, offset, buffer, 0, remaining);
+      count = remaining;
+      offset = 0;
+   }
+
+   /**
+    * This is used to fill the buffer with bytes from the stream. It
+    * is only called once all the bytes in the buffer have been read,
+    * and so the buffer is reused from the start. If there are no
+    * more bytes in the stream then this will return false.
+    *
+    * @return this returns true if bytes were read from the stream
+    */
+   private boolean fill() throws IOException {
+      int size = stream.read(buffer, 0, buffer.length);
+
+      while(size == 0) {
+         size = stream.read(buffer, 0, buffer.length);
+      }
+      if(size < 0) {
+         return false;
+      }
+      offset = 0;
+      count = size;
+      return true;
+   }
+}
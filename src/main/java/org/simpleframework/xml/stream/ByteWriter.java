@@ -0,0 +1,309 @@
+/*
+ * ByteWriter.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * The <code>ByteWriter</code> object is used to encode characters
+ * directly in to a byte buffer that is written to a stream. This is
+ * used instead of an <code>OutputStreamWriter</code> wrapped in a
+ * buffered writer, which passes every character through two buffers
+ * and a character encoder. Only UTF-8, ASCII, and ISO-8859-1 are 
+ * supported, as these can be encoded without any lookup tables. As
+ * this is already buffered it is not wrapped by the formatter.
+ * <p>
+ * Characters that can not be encoded, such as characters above 
+ * 0xFF in ISO-8859-1 or unpaired surrogates, are replaced with a
+ * question mark, which is what the standard encoders would write.
+ * 
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.Formatter
+ */
+class ByteWriter extends Writer {
+   
+   /**
+    * This is the stream that the encoded bytes are written to.
+    */
+   private final OutputStream stream;
+   
+   /**
+    * This is the buffer that the characters are encoded in to.
+    */
+   private final byte[] buffer;
+   
+   /**
+    * This is the highest character that can be encoded as a byte.
+    */
+   private final int limit;
+   
+   /**
+    * This is a high surrogate waiting for its low surrogate.
+    */
+   private char high;
+   
+   /**
+    * This is the number of bytes that are in the buffer.
+    */
+   private int count;
+   
+   /**
+    * Constructor for the <code>ByteWriter</code> object. This is
+    * used to create a writer that will encode characters in to a 
+    * buffer of the specified size using the named character set.
+    * The character set must be one that is supported by this.
+    * 
+    * @param stream this is the stream to write the bytes to
+    * @param charset this is the character set to encode with
+    * @param size this is the size of the buffer to use
+    */
+   public ByteWriter(OutputStream stream, String charset, int size) {
+      this.buffer = new byte[Math.max(size, 16)];
+      this.limit = getLimit(charset);
+      this.stream = stream;
+   }
+   
+   /**
+    * This is used to determine if the named character set can be
+    * encoded by this writer. If the name is not a legal character
+    * set name, or if it is not known, then this returns false so
+    * that the usual encoder can report the problem.
+    * 
+    * @param charset this is the name of the character set
+    * 
+    * @return this returns true if the character set is supported
+    */
+   public static boolean isSupported(String charset) {
+      return getLimit(charset) >= 0;
+   }
+   
+   /**
+    * This is used to determine the highest character that can be
+    * written as a single byte in the named character set. For the
+    * UTF-8 character set this returns zero, as any character can
+    * be encoded. If the character set is not supported this will
+    * return minus one.
+    * 
+    * @param charset this is the name of the character set
+    * 
+    * @return this returns the highest single byte character
+    */
+   private static int getLimit(String charset) {
+      try {
+         String name = Charset.forName(charset).name();
+         
+         if(name.equals("UTF-8")) {
+            return 0;
+         }
+         if(name.equals("US-ASCII")) {
+            return 0x7f;
+         }
+         if(name.equals("ISO-8859-1")) {
+            return 0xff;
+         }
+      } catch(Exception e) {
+         return -1;
+      }
+      return -1;
+   }
+   
+   /**
+    * This is used to write a single character to the buffer. If
+    * the buffer is full it is written to the stream before the 
+    * character is encoded.
+    * 
+    * @param ch this is the character to be encoded
+    */
+   @Override
+   public void write(int ch) throws IOException {
+      encode((char)ch);
+   }
+   
+   /**
+    * This is used to write the characters from the array to the 
+    * buffer. Characters in the ASCII range are copied directly as
+    * bytes, all other characters are encoded individually.
+    * 
+    * @param text this is the array of characters to write
+    * @param off this is the offset within the array to start
+    * @param len this is the number of characters to write
+    */
+   @Override
+   public void write(char[] text, int off, int len) throws IOException {
+      int end = off + len;
+      
+      for(int i = off; i < end; i++) {
+         char ch = text[i];
+         
+         if(ch < 0x80 && high == 0) {
+            if(count == buffer.length) {
+               drain();
+            }
+            buffer[count++] = (byte)ch;
+         } else {
+            encode(ch);
+         }
+      }
+   }
+   
+   /**
+    * This is used to write the characters from the string to the 
+    * buffer. Unlike the default implementation this does not copy
+    * the characters in to an intermediate array before encoding.
+    * 
+    * @param text this is the string of characters to write
+    */
+   @Override
+   public void write(String text) throws IOException {
+      write(text, 0, text.length());
+   }
+   
+   /**
+    * This is used to write the characters from the string to the 
+    * buffer. Characters in the ASCII range are copied directly as
+    * bytes, all other characters are encoded individually.
+    * 
+    * @param text this is the string of characters to write
+    * @param off this is the offset within the string to start
+    * @param len this is the number of characters to write
+    */
+   @Override
+   public void write(String text, int off, int len) throws IOException {
+      int end = off + len;
+      
+      for(int i = off; i < end; i++) {
+         char ch = text.charAt(i);
+         
+         if(ch < 0x80 && high == 0) {
+            if(count == buffer.length) {
+               drain();
+            }
+            buffer[count++] = (byte)ch;
+         } else {
+            encode(ch);
+         }
+      }
+   }
+   
+   /**
+    * This is used to encode a single character in to the buffer. If
+    * there are fewer than four bytes remaining in the buffer then 
+    * it is written to the stream first. Surrogate pairs are joined
+    * and written as a single code point when encoding to UTF-8.
+    * 
+    * @param ch this is the character to be encoded
+    */
+   private void encode(char ch) throws IOException {
+      if(count + 4 > buffer.length) {
+         drain();
+      }
+      if(high != 0) {
+         if(Character.isLowSurrogate(ch)) {
+            int code = Character.toCodePoint(high, ch);
+            
+            high = 0;
+            encode(code);
+            return;
+         }
+         buffer[count++] = '?';
+         high = 0;
+      }
+      if(Character.isHighSurrogate(ch)) {
+         high = ch;
+      } else if(Character.isLowSurrogate(ch)) {
+         buffer[count++] = '?';
+      } else {
+         encode((int)ch);
+      }
+   }
+   
+   /**
+    * This is used to encode a single code point in to the buffer.
+    * The caller must ensure that there are at least four bytes 
+    * remaining in the buffer. If the code point can not be encoded
+    * in the character set then a question mark is written.
+    * 
+    * @param code this is the code point to be encoded
+    */
+   private void encode(int code) {
+      if(code < 0x80) {
+         buffer[count++] = (byte)code;
+      } else if(limit > 0) {
+         if(code <= limit) {
+            buffer[count++] = (byte)code;
+         } else {
+            buffer[count++] = '?';
+         }
+      } else if(code < 0x800) {
+         buffer[count++] = (byte)(0xc0 | (code >> 6));
+         buffer[count++] = (byte)(0x80 | (code & 0x3f));
+      } else if(code < 0x10000) {
+         buffer[count++] = (byte)(0xe0 | (code >> 12));
+         buffer[count++] = (byte)(0x80 | ((code >> 6) & 0x3f));
+         buffer[count++] = (byte)(0x80 | (code & 0x3f));
+      } else {
+         buffer[count++] = (byte)(0xf0 | (code >> 18));
+         buffer[count++] = (byte)(0x80 | ((code >> 12) & 0x3f));
+         buffer[count++] = (byte)(0x80 | ((code >> 6) & 0x3f));
+         buffer[count++] = (byte)(0x80 | (code & 0x3f));
+      }
+   }
+   
+   /**
+    * This is used to write the contents of the buffer to the stream.
+    * Once written the buffer is empty and can be reused. This does
+    * not flush the stream, so the bytes may be buffered further.
+    */
+   private void drain() throws IOException {
+      if(count > 0) {
+         stream.write(buffer, 0, count);
+         count = 0;
+      }
+   }
+
+   /**
+    * This is used to write the contents of the buffer to the stream
+    * and then flush the stream. A pending high surrogate remains in
+    * the writer as its low surrogate may yet be written.
+    */
+   @Override
+   public void flush() throws IOException {
+      drain();
+      stream.flush();
+   }
+
+   /**
+    * This is used to write the contents of the buffer to the stream
+    * and then close the stream. Any pending high surrogate can no 
+    * longer be completed so it is written as a question mark.
+    */
+   @Override
+   public void close() throws IOException {
+      if(high != 0) {
+         high = 0;
+         encode('?');
+      }
+      flush();
+      stream.close();
+   }
+}
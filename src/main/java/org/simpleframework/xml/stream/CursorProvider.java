@@ -0,0 +1,116 @@
+/*
+ * CursorProvider.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The <code>CursorProvider</code> object is used to provide event
+ * reader implementations for the StAX cursor API. Unlike the event
+ * based <code>StreamProvider</code> this does not require the StAX
+ * implementation to allocate an event object for each token in the
+ * document, instead the details are read directly from the cursor.
+ * This makes it the most efficient provider when StAX is present.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.CursorReader
+ */
+class CursorProvider implements Provider {
+
+   /**
+    * This is the factory that is used to create StAX parsers.
+    */
+   private final XMLInputFactory factory;
+   
+   /**
+    * This determines if the readers provided recycle events.
+    */
+   private final boolean recycle;
+
+   /**
+    * Constructor for the <code>CursorProvider</code> object. This
+    * is used to instantiate a parser factory that will be used to
+    * create parsers when requested. Instantiating the factory up
+    * front also checks that the framework is fully supported.
+    */
+   public CursorProvider() {
+      this(false);
+   }
+
+   /**
+    * Constructor for the <code>CursorProvider</code> object. This
+    * is used to instantiate a parser factory that will be used to
+    * create parsers when requested. Instantiating the factory up
+    * front also checks that the framework is fully supported.
+    * If recycling is enabled the readers provided will reuse the
+    * events they produce, which requires that the consumer copies
+    * what it needs from each event before reading the next one.
+    * 
+    * @param recycle this determines if events are to be recycled
+    */
+   public CursorProvider(boolean recycle) {
+      this.factory = XMLInputFactory.newInstance();
+      this.recycle = recycle;
+   }
+
+   /**
+    * This provides an <code>EventReader</code> that will read from
+    * the specified input stream. When reading from an input stream
+    * the character encoding should be taken from the XML prolog or
+    * it should default to the UTF-8 character encoding.
+    *
+    * @param source this is the stream to read the document with
+    *
+    * @return this is used to return the event reader implementation
+    */
+   public EventReader provide(InputStream source) throws Exception {
+      return provide(factory.createXMLStreamReader(source));
+   }
+
+   /**
+    * This provides an <code>EventReader</code> that will read from
+    * the specified reader. When reading from a reader the character
+    * encoding should be the same as the source XML document.
+    *
+    * @param source this is the reader to read the document with
+    *
+    * @return this is used to return the event reader implementation
+    */
+   public EventReader provide(Reader source) throws Exception {
+      return provide(factory.createXMLStreamReader(source));
+   }
+
+   /**
+    * This provides an <code>EventReader</code> that will read from
+    * the specified cursor. The returned event reader extracts the
+    * details it needs from the cursor as each token is reached.
+    *
+    * @param source this is the cursor to read the document with
+    *
+    * @return this is used to return the event reader implementation
+    */
+   private EventReader provide(XMLStreamReader source) throws Exception {
+      return new CursorReader(source, recycle);
+   }
+}
@@ -0,0 +1,652 @@
+/*
+ * CursorReader.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The <code>CursorReader</code> object provides an implementation
+ * for reading XML events using the StAX cursor API. Rather than
+ * wrapping an <code>XMLEvent</code> for each token, this will read
+ * the element name, namespace details, attributes and text straight
+ * from the cursor as it is positioned on each token. This avoids the
+ * allocation of the StAX event objects and the qualified names they
+ * hold, leaving only the events that the core reader consumes.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.CursorProvider
+ */
+class CursorReader implements EventReader {
+
+   /**
+    * This is the end event, which can be shared as it has no state.
+    */
+   private static final End END = new End();
+
+   /**
+    * This is the StAX cursor that is used to parse the document.
+    */
+   private XMLStreamReader reader;
+
+   /**
+    * This is used to recycle the start events read by this reader.
+    */
+   private EventRing<Start> starts;
+
+   /**
+    * This is used to recycle the text events read by this reader.
+    */
+   private EventRing<Text> texts;
+
+   /**
+    * This is used to keep track of any events that were peeked.
+    */
+   private EventNode peek;
+
+   /**
+    * Constructor for the <code>CursorReader</code> object. This
+    * creates a reader that extracts events from the provided cursor.
+    * Each event produced by this reader is built from the details
+    * the cursor exposes when it is positioned on the token.
+    *
+    * @param reader this is the cursor used to parse the XML source
+    */
+   public CursorReader(XMLStreamReader reader) {
+      this(reader, false);
+   }
+
+   /**
+    * Constructor for the <code>CursorReader</code> object. This
+    * creates a reader that extracts events from the provided cursor.
+    * If recycling is enabled the events produced by this reader are
+    * reused, which requires that the consumer copies what it needs
+    * before reading further events from this reader.
+    *
+    * @param reader this is the cursor used to parse the XML source
+    * @param recycle this determines if events are to be recycled
+    */
+   public CursorReader(XMLStreamReader reader, boolean recycle) {
+      this.starts = new EventRing<Start>(recycle);
+      this.texts = new EventRing<Text>(recycle);
+      this.reader = reader;
+   }
+
+   /**
+    * This is used to peek at the node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the document
+    */
+   public EventNode peek() throws Exception {
+      if(peek == null) {
+         peek = next();
+      }
+      return peek;
+   }
+
+   /**
+    * This is used to take the next node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the source XML
+    */
+   public EventNode next() throws Exception {
+      EventNode next = peek;
+
+      if(next == null) {
+         next = read();
+      } else {
+         peek = null;
+      }
+      return next;
+   }
+
+   /**
+    * This is used to read the next node from the document. This will
+    * scan through the document, ignoring any comments to find the
+    * next relevant XML event to acquire. Typically events will be
+    * the start and end of an element, as well as any text nodes.
+    *
+    * @return this returns the next event taken from the document
+    */
+   private EventNode read() throws Exception {
+      while(reader.hasNext()) {
+         int event = reader.next();
+
+         if(event == END_DOCUMENT) {
+            return null;
+         }
+         if(event == START_ELEMENT) {
+            return start();
+         }
+         if(event == CHARACTERS || event == CDATA || event == SPACE) {
+            return text();
+         }
+         if(event == END_ELEMENT) {
+            return end();
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to convert the current token to a start event. The
+    * conversion process ensures the node can be digested by the core
+    * reader and used to provide an <code>InputNode</code> that can
+    * be used to represent an XML elements within the source document.
+    *
+    * @return this returns a start event created from the cursor
+    */
+   private Start start() throws Exception {
+      Start event = starts.take();
+
+      if(event == null) {
+         event = starts.put(new Start(reader));
+      } else {
+         event.reset(reader);
+      }
+      if(event.isEmpty()) {
+         return build(event);
+      }
+      return event;
+   }
+
+   /**
+    * This is used to build the attributes that are to be used to
+    * populate the start event. Populating the start event with the
+    * attributes it contains is required so that each element will
+    * contain its associated attributes. Only attributes that are
+    * not reserved will be added to the start event.
+    *
+    * @param event this is the start event that is to be populated
+    *
+    * @return this returns a start event with its attributes
+    */
+   private Start build(Start event) throws Exception {
+      int count = reader.getAttributeCount();
+
+      for(int i = 0; i < count; i++) {
+         Entry entry = attribute(event, i);
+
+         if(!entry.isReserved()) {
+            event.add(entry);
+         }
+      }
+      return event;
+   }
+
+   /**
+    * This is used to convert the attribute at the specified index
+    * to an attribute event. The conversion process ensures the node
+    * can be digested by the core reader and used to provide an
+    * <code>InputNode</code> to represent an XML attribute.
+    *
+    * @param event this is the start event the attribute belongs to
+    * @param index this is the index of this attribute to create
+    *
+    * @return this returns an attribute created from the cursor
+    */
+   private Entry attribute(Start event, int index) throws Exception {
+      if(starts.isRecycle()) {
+         return event.entry(reader, index);
+      }
+      return new Entry(reader, index);
+   }
+
+   /**
+    * This is used to convert the current token to a text event. The
+    * conversion process ensures the node can be digested by the core
+    * reader and used to provide an <code>InputNode</code> that can
+    * be used to represent an XML attribute within the source document.
+    *
+    * @return this returns the text event created from the cursor
+    */
+   private Text text() throws Exception {
+      Text event = texts.take();
+
+      if(event == null) {
+         return texts.put(new Text(reader));
+      }
+      return event.reset(reader);
+   }
+
+   /**
+    * This is used to create an event to signify that an element has
+    * just ended. End events are important as they allow the core
+    * reader to determine if a node is still in context. This provides
+    * a more convenient way to use <code>InputNode</code> objects as
+    * they should only ever be able to extract their children.
+    *
+    * @return this returns an end event to signify an element close
+    */
+   private End end() throws Exception {
+      return END;
+   }
+
+   /**
+    * The <code>Entry</code> object is used to represent an attribute
+    * within a start element. This holds the name and value of the
+    * attribute as well as the namespace prefix and reference. These
+    * details are copied from the cursor when the event is created
+    * as the cursor will move on once the next token is read.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Entry extends EventAttribute {
+
+      /**
+       * This is the StAX cursor source that is used for this.
+       */
+      private XMLStreamReader source;
+
+      /**
+       * This is the XML namespace reference used by the attribute.
+       */
+      private String reference;
+
+      /**
+       * This is the XML namespace prefix used by the attribute.
+       */
+      private String prefix;
+
+      /**
+       * This is the name that is used by this attribute.
+       */
+      private String name;
+
+      /**
+       * This is the value that is used by this attribute.
+       */
+      private String value;
+
+      /**
+       * Constructor for the <code>Entry</code> object. This creates
+       * an attribute object that is used to extract the name, value
+       * namespace prefix, and namespace reference from the provided
+       * cursor. This is used to populate any start events created.
+       *
+       * @param source this is the cursor used to get the attribute
+       * @param index this is the index of the attribute to get
+       */
+      public Entry(XMLStreamReader source, int index) {
+         this.reset(source, index);
+      }
+
+      /**
+       * This is used to update the attribute with the details of
+       * the attribute at the specified index. This allows the entry
+       * to be recycled once the core reader has copied out all of
+       * the details of the attribute it requires.
+       *
+       * @param source this is the cursor used to get the attribute
+       * @param index this is the index of the attribute to get
+       *
+       * @return this returns this entry with the new details
+       */
+      public Entry reset(XMLStreamReader source, int index) {
+         this.reference = source.getAttributeNamespace(index);
+         this.prefix = source.getAttributePrefix(index);
+         this.name = source.getAttributeLocalName(index);
+         this.value = source.getAttributeValue(index);
+         this.source = source;
+         return this;
+      }
+
+      /**
+       * This provides the name of the attribute. This will be the
+       * name of the XML attribute without any namespace prefix. If
+       * the name begins with "xml" then this attribute is reserved.
+       * according to the namespaces for XML 1.0 specification.
+       *
+       * @return this returns the name of this attribute object
+       */
+      public String getName() {
+         return name;
+      }
+
+      /**
+       * This returns the value of the event. This will be the value
+       * that the attribute contains. If the attribute does not have
+       * a value then this returns null or an empty string.
+       *
+       * @return this returns the value represented by this object
+       */
+      public String getValue() {
+         return value;
+      }
+
+      /**
+       * This is used to acquire the namespace reference that this
+       * attribute is in. A namespace is normally associated with an
+       * attribute if that attribute is prefixed with a known token.
+       * If there is no prefix then this will return null.
+       *
+       * @return this provides the associated namespace reference
+       */
+      public String getReference() {
+         return reference;
+      }
+
+      /**
+       * This is used to acquire the namespace prefix associated with
+       * this attribute. A prefix is used to qualify the attribute
+       * within a namespace. So, if this has a prefix then it should
+       * have a reference associated with it.
+       *
+       * @return this returns the namespace prefix for the attribute
+       */
+      public String getPrefix() {
+         return prefix;
+      }
+
+      /**
+       * This is used to return the node for the attribute. Because
+       * this represents a StAX cursor the cursor is returned. This
+       * is returned purely to help with certain debugging issues.
+       *
+       * @return this will return the source object for this
+       */
+      public Object getSource() {
+         return source;
+      }
+   }
+
+   /**
+    * The <code>Start</code> object is used to represent the start of
+    * an XML element. This will hold the attributes associated with
+    * the element and will provide the name, the namespace reference
+    * and the namespace prefix. All of these are taken directly from
+    * the cursor when it is positioned on the start element.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Start extends EventElement {
+
+      /**
+       * This is the StAX cursor source that is used for this.
+       */
+      private XMLStreamReader source;
+
+      /**
+       * This is the XML namespace reference used by the element.
+       */
+      private String reference;
+
+      /**
+       * This is the XML namespace prefix used by the element.
+       */
+      private String prefix;
+
+      /**
+       * This is the name that is used by this element.
+       */
+      private String name;
+
+      /**
+       * This is the line number where this element was read.
+       */
+      private int line;
+
+      /**
+       * This contains the attribute entries that can be recycled.
+       */
+      private List<Entry> entries;
+
+      /**
+       * This is the number of recycled attribute entries in use.
+       */
+      private int count;
+
+      /**
+       * Constructor for the <code>Start</code> object. This will
+       * copy the required details from the cursor such as the name,
+       * namespace prefix and namespace reference. The cursor can be
+       * acquired from the event for debugging purposes.
+       *
+       * @param source this is the cursor positioned on the element
+       */
+      public Start(XMLStreamReader source) {
+         this.reset(source);
+      }
+
+      /**
+       * This is used to update the start event with the details of
+       * the element the cursor is positioned at. Any attributes the
+       * event held are removed, however the entries used for them
+       * are kept so that they can be recycled for the new element.
+       *
+       * @param source this is the cursor positioned on the element
+       *
+       * @return this returns this event with the new details
+       */
+      public Start reset(XMLStreamReader source) {
+         Location location = source.getLocation();
+
+         this.reference = source.getNamespaceURI();
+         this.line = location.getLineNumber();
+         this.prefix = source.getPrefix();
+         this.name = source.getLocalName();
+         this.source = source;
+         this.count = 0;
+         this.clear();
+         return this;
+      }
+
+      /**
+       * This is used to acquire an attribute entry for the attribute
+       * at the specified index. Entries are recycled from previous
+       * elements read with this event, so a new entry is created
+       * only when this element has more attributes than any before.
+       *
+       * @param source this is the cursor used to get the attribute
+       * @param index this is the index of the attribute to get
+       *
+       * @return this returns an entry holding the attribute details
+       */
+      public Entry entry(XMLStreamReader source, int index) {
+         if(entries == null) {
+            entries = new ArrayList<Entry>();
+         }
+         if(count < entries.size()) {
+            return entries.get(count++).reset(source, index);
+         }
+         Entry entry = new Entry(source, index);
+
+         entries.add(entry);
+         count++;
+         return entry;
+      }
+
+      /**
+       * This is used to provide the line number the XML event was
+       * encountered at within the XML document. If there is no line
+       * number available for the node then this will return a -1.
+       *
+       * @return this returns the line number if it is available
+       */
+      public int getLine() {
+         return line;
+      }
+
+      /**
+       * This provides the name of the event. This will be the name
+       * of an XML element the event represents. If there is a prefix
+       * associated with the element, this extracts that prefix.
+       *
+       * @return this returns the name without the namespace prefix
+       */
+      public String getName() {
+         return name;
+      }
+
+      /**
+       * This is used to acquire the namespace reference that this
+       * node is in. A namespace is normally associated with an XML
+       * element or attribute, so text events and element close events
+       * are not required to contain any namespace references.
+       *
+       * @return this will provide the associated namespace reference
+       */
+      public String getReference() {
+         return reference;
+      }
+
+      /**
+       * This is used to acquire the namespace prefix associated with
+       * this node. A prefix is used to qualify an XML element or
+       * attribute within a namespace. So, if this represents a text
+       * event then a namespace prefix is not required.
+       *
+       * @return this returns the namespace prefix for this event
+       */
+      public String getPrefix() {
+         return prefix;
+      }
+
+      /**
+       * This is used to return the node for the element. Because
+       * this represents a StAX cursor the cursor is returned. This
+       * is returned purely to help with certain debugging issues.
+       *
+       * @return this will return the source object for this
+       */
+      public Object getSource() {
+         return source;
+      }
+   }
+
+   /**
+    * The <code>Text</code> object is used to represent a text event.
+    * If wraps the text consumed from the document by the cursor.
+    * These are used by <code>InputNode</code> objects to extract the
+    * text values for elements For debugging this exposes the cursor.
+    *
+    * @author Niall Gallagher
+    */
+   private static class Text extends EventToken {
+
+      /**
+       * This is the StAX cursor used to extract this text event.
+       */
+      private XMLStreamReader source;
+
+      /**
+       * This is the text value that has been extracted from the XML.
+       */
+      private String text;
+
+      /**
+       * Constructor for the <code>Text</code> object. This creates
+       * an event that provides text to the core reader. Text can be
+       * in the form of a CDATA section or a normal text entry.
+       *
+       * @param source this is the cursor positioned on the text
+       */
+      public Text(XMLStreamReader source) {
+         this.reset(source);
+      }
+
+      /**
+       * This is used to update the text event with the text that
+       * the cursor is positioned at. This allows the event to be
+       * recycled once the core reader has consumed the text.
+       *
+       * @param source this is the cursor positioned on the text
+       *
+       * @return this returns this event with the new text value
+       */
+      public Text reset(XMLStreamReader source) {
+         this.text = source.getText();
+         this.source = source;
+         return this;
+      }
+
+      /**
+       * This is true as this event represents a text token. Text
+       * tokens are required to provide a value only. So namespace
+       * details and the node name will always return null.
+       *
+       * @return this returns true as this event represents text
+       */
+      public boolean isText() {
+         return true;
+      }
+
+      /**
+       * This returns the value of the event. This will return the
+       * text value contained within the node. If there is no
+       * text within the node this should return an empty string.
+       *
+       * @return this returns the value represented by this event
+       */
+      public String getValue() {
+         return text;
+      }
+
+      /**
+       * This is used to return the node for the text. Because
+       * this represents a StAX cursor the cursor is returned. This
+       * is returned purely to help with certain debugging issues.
+       *
+       * @return this will return the source object for this
+       */
+      public Object getSource() {
+         return source;
+      }
+   }
+
+   /**
+    * The <code>End</code> object is used to represent the end of an
+    * element. It is used by the core reader to determine which nodes
+    * are in context and which ones are out of context. This allows
+    * the input nodes to determine if it can read any more children.
+    *
+    * @author Niall Gallagher
+    */
+   private static class End extends EventToken {
+
+      /**
+       * This is true as this event represents an element end. Such
+       * events are required by the core reader to determine if a
+       * node is still in context. This helps to determine if there
+       * are any more children to be read from a specific node.
+       *
+       * @return this returns true as this token represents an end
+       */
+      public boolean isEnd() {
+         return true;
+      }
+   }
+}
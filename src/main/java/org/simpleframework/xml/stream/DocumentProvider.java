@@ -45,6 +45,11 @@ class DocumentProvider implements Provider {
     */
    private final DocumentBuilderFactory factory;
    
+   /**
+    * This determines if the readers provided recycle events.
+    */
+   private final boolean recycle;
+   
    /**
     * Constructor for the <code>DocumentProvider</code> object. This
     * is used to instantiate a parser factory that will be used to
@@ -52,8 +57,24 @@ class DocumentProvider implements Provider {
     * front also checks that the framework is fully supported.
     */
    public DocumentProvider() {
+      this(false);
+   }
+
+   /**
+    * Constructor for the <code>DocumentProvider</code> object. This
+    * is used to instantiate a parser factory that will be used to
+    * create parsers when requested. Instantiating the factory up
+    * front also checks that the framework is fully supported.
+    * If recycling is enabled the readers provided will reuse the
+    * events they produce, which requires that the consumer copies
+    * what it needs from each event before reading the next one.
+    * 
+    * @param recycle this determines if events are to be recycled
+    */
+   public DocumentProvider(boolean recycle) {
       this.factory = DocumentBuilderFactory.newInstance();
       this.factory.setNamespaceAware(true);
+      this.recycle = recycle;
    }
    
    /**
@@ -96,6 +117,6 @@ class DocumentProvider implements Provider {
       DocumentBuilder builder = factory.newDocumentBuilder();       
       Document document = builder.parse(source);
       
-      return new DocumentReader(document);   
+      return new DocumentReader(document, recycle);   
    }
 }
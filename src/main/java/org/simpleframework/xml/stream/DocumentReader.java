@@ -20,6 +20,9 @@ package org.simpleframework.xml.stream;
 
 import static org.w3c.dom.Node.ELEMENT_NODE;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
@@ -45,6 +48,21 @@ class DocumentReader implements EventReader {
     */
    private static final String RESERVED = "xml";
    
+   /**
+    * This is the end event, which can be shared as it has no state.
+    */
+   private static final End END = new End();
+   
+   /**
+    * This is used to recycle the start events read by this reader.
+    */
+   private EventRing<Start> starts;
+   
+   /**
+    * This is used to recycle the text events read by this reader.
+    */
+   private EventRing<Text> texts;
+   
    /**
     * This is used to extract the nodes from the provided document.
     */
@@ -70,7 +88,23 @@ class DocumentReader implements EventReader {
     * @param document this is the document that is to be read
     */
    public DocumentReader(Document document) {
+      this(document, false);
+   }
+   
+   /**
+    * Constructor for the <code>DocumentReader</code> object. This
+    * makes use of a DOM document to extract events and provide them
+    * to the core framework. If recycling is enabled the events that
+    * are produced by this reader are reused, which requires that the
+    * consumer copies what it needs before reading further events.
+    * 
+    * @param document this is the document that is to be read
+    * @param recycle this determines if events are to be recycled
+    */
+   public DocumentReader(Document document, boolean recycle) {
       this.queue = new NodeExtractor(document);
+      this.starts = new EventRing<Start>(recycle);
+      this.texts = new EventRing<Text>(recycle);
       this.stack = new NodeStack();
       this.stack.push(document);
    }
@@ -186,8 +220,13 @@ class DocumentReader implements EventReader {
     * @return this returns a start event created from the given node
     */
    private Start start(Node node) {
-      Start event = new Start(node);
+      Start event = starts.take();
 
+      if(event == null) {
+         event = starts.put(new Start(node));
+      } else {
+         event.reset(node);
+      }
       if(event.isEmpty()) {
          return build(event);
       }
@@ -211,7 +250,7 @@ class DocumentReader implements EventReader {
 
       for (int i = 0; i < length; i++) {
          Node node = list.item(i);
-         Attribute value = attribute(node);
+         Attribute value = attribute(event, node);
          
          if(!value.isReserved()) {
             event.add(value);
@@ -226,11 +265,15 @@ class DocumentReader implements EventReader {
     * reader and used to provide an <code>InputNode</code> that can
     * be used to represent an XML attribute within the source document.
     * 
+    * @param event this is the start event the attribute belongs to
     * @param node the node that is to be converted to an attribute
     *
     * @return this returns an attribute created from the given node
     */
-   private Entry attribute(Node node) {
+   private Entry attribute(Start event, Node node) {
+      if(starts.isRecycle()) {
+         return event.entry(node);
+      }
       return new Entry(node);
    }
    
@@ -245,7 +288,12 @@ class DocumentReader implements EventReader {
     * @return this returns the text event created from the given node
     */
    private Text text(Node node) {
-      return new Text(node);
+      Text event = texts.take();
+      
+      if(event == null) {
+         return texts.put(new Text(node));
+      }
+      return event.reset(node);
    }
    
    /**
@@ -258,7 +306,7 @@ class DocumentReader implements EventReader {
     * @return this returns an end event to signify an element close
     */
    private End end() {
-      return new End();
+      return END;
    }
    
    /**
@@ -275,7 +323,7 @@ class DocumentReader implements EventReader {
       /**
        * This is the node that is to be represented as an attribute.
        */
-      private final Node node;
+      private Node node;
       
       /**
        * Constructor for the <code>Entry</code> object. This creates
@@ -289,6 +337,20 @@ class DocumentReader implements EventReader {
          this.node = node;
       }
       
+      /**
+       * This is used to update the entry so that it represents the
+       * provided node. This allows the entry to be recycled once the
+       * core reader has copied out all of the details it needs.
+       * 
+       * @param node this is the node that represents the attribute
+       * 
+       * @return this returns this entry with the new attribute
+       */
+      public Entry reset(Node node) {
+         this.node = node;
+         return this;
+      }
+      
       /**
        * This provides the name of the attribute. This will be the
        * name of the XML attribute without any namespace prefix. If
@@ -380,7 +442,17 @@ class DocumentReader implements EventReader {
       /**
        * This is the element that is represented by this start event.
        */
-      private final Element element;
+      private Element element;
+      
+      /**
+       * This contains the attribute entries that can be recycled.
+       */
+      private List<Entry> entries;
+      
+      /**
+       * This is the number of recycled attribute entries in use.
+       */
+      private int count;
       
       /**
        * Constructor for the <code>Start</code> object. This will 
@@ -394,6 +466,47 @@ class DocumentReader implements EventReader {
          this.element = (Element)element;
       }
       
+      /**
+       * This is used to update the start event so that it wraps the
+       * provided node. Any attributes the event held are removed,
+       * however the entries used for them are kept so that they can
+       * be recycled for the attributes of the new element.
+       * 
+       * @param element this is the element being wrapped by this
+       * 
+       * @return this returns this event wrapping the new element
+       */
+      public Start reset(Node element) {
+         this.element = (Element)element;
+         this.count = 0;
+         this.clear();
+         return this;
+      }
+      
+      /**
+       * This is used to acquire an attribute entry for the provided
+       * node. Entries are recycled from previous elements read with
+       * this event, so a new entry is created only when this element
+       * has more attributes than any before it.
+       * 
+       * @param node this is the node that represents the attribute
+       * 
+       * @return this returns an entry wrapping the attribute
+       */
+      public Entry entry(Node node) {
+         if(entries == null) {
+            entries = new ArrayList<Entry>();
+         }
+         if(count < entries.size()) {
+            return entries.get(count++).reset(node);
+         }
+         Entry entry = new Entry(node);
+         
+         entries.add(entry);
+         count++;
+         return entry;
+      }
+      
       /**
        * This provides the name of the event. This will be the name 
        * of an XML element the event represents. If there is a prefix
@@ -465,7 +578,7 @@ class DocumentReader implements EventReader {
       /**
        * This is the node that is used to represent the text value.
        */
-      private final Node node;
+      private Node node;
       
       /**
        * Constructor for the <code>Text</code> object. This creates
@@ -478,6 +591,20 @@ class DocumentReader implements EventReader {
          this.node = node;
       } 
       
+      /**
+       * This is used to update the text event so that it wraps the
+       * provided node. This allows the event to be recycled once the
+       * core reader has consumed the text it represents.
+       * 
+       * @param node this is the node that represents the text value
+       * 
+       * @return this returns this event wrapping the new text
+       */
+      public Text reset(Node node) {
+         this.node = node;
+         return this;
+      }
+      
       /**
        * This is true as this event represents a text token. Text 
        * tokens are required to provide a value only. So namespace
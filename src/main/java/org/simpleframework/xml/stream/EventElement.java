@@ -57,6 +57,17 @@ abstract class EventElement extends ArrayList<Attribute> implements EventNode {
       return null;
    }
 
+   /**
+    * This returns the value of the event as a character sequence.
+    * Only text events are required to produce a value, and if the
+    * event holds the value as a string then that string is used.
+    * 
+    * @return this returns the value represented by this event
+    */
+   public CharSequence getText() {
+      return getValue();
+   }
+
    /**
     * This is true when the node represents an element close. Such
     * events are required by the core reader to determine if a 
@@ -63,6 +63,17 @@ interface EventNode extends Iterable<Attribute> {
     */
    String getValue();
    
+   /**
+    * This returns the value of the event as a character sequence.
+    * Text events that hold their value as characters can provide
+    * it without creating a string. As events can be recycled the
+    * sequence is only valid until the next event is read, so if it
+    * is required for longer it must be copied by the reader.
+    * 
+    * @return this returns the value represented by this event
+    */
+   CharSequence getText();
+   
    /**
     * This is used to acquire the namespace reference that this 
     * node is in. A namespace is normally associated with an XML
@@ -0,0 +1,101 @@
+/*
+ * EventRing.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>EventRing</code> object is used by an event reader to
+ * recycle the events it creates. The core reader only ever examines
+ * the event it has just taken and a single peeked event, and it
+ * copies out everything it needs before moving on. So a ring of two
+ * events of each type is enough to ensure no event is modified while
+ * it is still in use. If recycling is disabled this holds nothing
+ * and the reader must create a new event each time.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.NodeReader
+ */
+class EventRing<T> {
+
+   /**
+    * This contains the events that can be recycled by the reader.
+    */
+   private final Object[] ring;
+
+   /**
+    * This is the index of the slot that was most recently taken.
+    */
+   private int index;
+
+   /**
+    * Constructor for the <code>EventRing</code> object. This will
+    * create a ring of two events if recycling is enabled. If it is
+    * not enabled then no events are held and none are recycled.
+    *
+    * @param recycle this determines if events are to be recycled
+    */
+   public EventRing(boolean recycle) {
+      this.ring = new Object[recycle ? 2 : 0];
+   }
+
+   /**
+    * This is used to determine if events are recycled by the ring.
+    * If they are not then the reader must create new events and
+    * can not reuse any of the attributes it has previously created.
+    *
+    * @return this returns true if events are to be recycled
+    */
+   public boolean isRecycle() {
+      return ring.length > 0;
+   }
+
+   /**
+    * This is used to take the next event in the ring so that it can
+    * be updated with new details. If the slot has not yet been
+    * filled, or if recycling is disabled, then this returns null
+    * and the reader should create a new event and put it in the ring.
+    *
+    * @return this returns the event to be recycled or null
+    */
+   @SuppressWarnings("unchecked")
+   public T take() {
+      if(ring.length > 0) {
+         index = (index + 1) % ring.length;
+         return (T)ring[index];
+      }
+      return null;
+   }
+
+   /**
+    * This is used to put a newly created event in the slot that was
+    * last taken. Once in the ring the event will be recycled when
+    * the slot is taken again. If recycling is disabled then the
+    * event is simply returned.
+    *
+    * @param event this is the event that has been created
+    *
+    * @return this returns the event that was provided
+    */
+   public T put(T event) {
+      if(ring.length > 0) {
+         ring[index] = event;
+      }
+      return event;
+   }
+}
@@ -68,6 +68,17 @@ abstract class EventToken implements EventNode  {
    public String getValue() {
       return null;
    }
+
+   /**
+    * This returns the value of the event as a character sequence.
+    * Only text events are required to produce a value, and if the
+    * event holds the value as a string then that string is used.
+    * 
+    * @return this returns the value represented by this event
+    */
+   public CharSequence getText() {
+      return getValue();
+   }
    
    /**
     * This is used to acquire the namespace reference that this 
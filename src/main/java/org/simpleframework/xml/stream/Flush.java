@@ -0,0 +1,45 @@
+/*
+ * Flush.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>Flush</code> enumeration is used to specify when the
+ * generated XML is flushed to the underlying output. Flushing after
+ * every element ensures each element is visible as soon as it has
+ * been written, however when writing to a socket or a file this
+ * results in a write to the output for every element. Flushing at
+ * the end of the document allows the output to be written in blocks
+ * the size of the buffer specified by the <code>Format</code>.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.stream.Format
+ */
+public enum Flush {
+   
+   /**
+    * This specifies that the output is flushed after each element.
+    */
+   ELEMENT,
+   
+   /**
+    * This specifies that the output is flushed after the document.
+    */
+   DOCUMENT;
+}
@@ -18,6 +18,8 @@
 
 package org.simpleframework.xml.stream;
 
+import static org.simpleframework.xml.stream.Backend.INTERPRET;
+import static org.simpleframework.xml.stream.Flush.ELEMENT;
 import static org.simpleframework.xml.stream.Verbosity.HIGH;
 
 /**
@@ -31,10 +33,31 @@ import static org.simpleframework.xml.stream.Verbosity.HIGH;
  * less then no indentation is done, and the generated XML will be on
  * the same line. The prolog can contain any legal XML heading, which
  * can domain a DTD declaration and XML comments if required.
+ * <p>
+ * By default the generated XML is flushed to the output as each 
+ * element is written, so a reader of a stream sees every element
+ * as soon as it is complete. If this is not required a policy of
+ * <code>DOCUMENT</code> can be specified, in which case the output
+ * is only written when the buffer fills or the document completes.
  *
  * @author Niall Gallagher
  */ 
 public class Format {
+   
+   /**
+    * This is the default size of the buffer used for the output.
+    */
+   private static final int BUFFER = 8192;
+   
+   /**
+    * This determines how schema classes are serialized.
+    */
+   private final Backend backend;
+   
+   /**
+    * This is used to determine when the output is to be flushed.
+    */
+   private final Flush flush;
 
    /**
     * This is used to determine the verbosity preference of XML.
@@ -55,6 +78,11 @@ public class Format {
     * Represents the indent size to use for the generated XML.
     */ 
    private final int indent;        
+   
+   /**
+    * Represents the size of the buffer used for the output.
+    */
+   private final int buffer;
 
    /**
     * Constructor for the <code>Format</code> object. This creates an
@@ -205,9 +233,100 @@ public class Format {
     * @param verbosity this indicates the verbosity of the format
     */    
    public Format(int indent, String prolog, Style style, Verbosity verbosity) {
+      this(indent, prolog, style, verbosity, ELEMENT);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified policy
+    * to determine when the generated XML is flushed to the output.
+    *
+    * @param flush this determines when the output is flushed
+    */ 
+   public Format(Flush flush) {
+      this(flush, BUFFER);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified policy
+    * to determine when the generated XML is flushed to the output.
+    *
+    * @param flush this determines when the output is flushed
+    * @param buffer this is the size of the buffer for the output
+    */ 
+   public Format(Flush flush, int buffer) {
+      this(3, null, new IdentityStyle(), HIGH, flush, buffer);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified indent
+    * size and the text to use in the generated prolog.
+    *
+    * @param indent this is the number of spaces used in the indent
+    * @param prolog this is the prolog for the generated XML document
+    * @param style this is the style to apply to the format object
+    * @param verbosity this indicates the verbosity of the format
+    * @param flush this determines when the output is flushed
+    */    
+   public Format(int indent, String prolog, Style style, Verbosity verbosity, Flush flush) {
+      this(indent, prolog, style, verbosity, flush, BUFFER);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified indent
+    * size and the text to use in the generated prolog.
+    *
+    * @param indent this is the number of spaces used in the indent
+    * @param prolog this is the prolog for the generated XML document
+    * @param style this is the style to apply to the format object
+    * @param verbosity this indicates the verbosity of the format
+    * @param flush this determines when the output is flushed
+    * @param buffer this is the size of the buffer for the output
+    */    
+   public Format(int indent, String prolog, Style style, Verbosity verbosity, Flush flush, int buffer) {
+      this(indent, prolog, style, verbosity, flush, buffer, INTERPRET);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified backend
+    * to determine how the schema classes are serialized.
+    *
+    * @param backend this determines how schema classes are serialized
+    */ 
+   public Format(Backend backend) {
+      this(3, null, new IdentityStyle(), HIGH, ELEMENT, BUFFER, backend);
+   }
+   
+   /**
+    * Constructor for the <code>Format</code> object. This creates an
+    * object that is used to describe how the formatter should create
+    * the XML document. This constructor uses the specified indent
+    * size and the text to use in the generated prolog.
+    *
+    * @param indent this is the number of spaces used in the indent
+    * @param prolog this is the prolog for the generated XML document
+    * @param style this is the style to apply to the format object
+    * @param verbosity this indicates the verbosity of the format
+    * @param flush this determines when the output is flushed
+    * @param buffer this is the size of the buffer for the output
+    * @param backend this determines how schema classes are serialized
+    */    
+   public Format(int indent, String prolog, Style style, Verbosity verbosity, Flush flush, int buffer, Backend backend) {
       this.verbosity = verbosity;
+      this.backend = backend;
       this.prolog = prolog;           
       this.indent = indent;       
+      this.buffer = buffer;
+      this.flush = flush;
       this.style = style;
    }
    
@@ -221,6 +340,30 @@ public class Format {
    public int getIndent() {
       return indent;            
    }   
+   
+   /**
+    * This method returns the size of the buffer used when writing
+    * the generated XML to the output. A larger buffer means fewer
+    * writes are made to the output, which is significant when the 
+    * output is a socket or a file and it is only flushed at the end.
+    * 
+    * @return returns the size of the buffer used for the output
+    */ 
+   public int getBuffer() {
+      return buffer;
+   }
+   
+   /**
+    * This method returns the policy used to determine when the XML
+    * generated is flushed to the output. By default the output is
+    * flushed after each element so that it is visible immediately,
+    * however it can be flushed only once the document is complete.
+    * 
+    * @return returns the policy used to flush the output
+    */ 
+   public Flush getFlush() {
+      return flush;
+   }
 
    /**
     * This method returns the prolog that is to be used at the start
@@ -257,4 +400,16 @@ public class Format {
    public Verbosity getVerbosity() {
       return verbosity;
    }
+   
+   /**
+    * This is used to determine how the schema classes are to be
+    * serialized. By default each class is serialized by interpreting
+    * its schema, however a class can be generated to bind each of
+    * the schema classes that only declare plain fields.
+    * 
+    * @return this returns the backend used for the schema classes
+    */
+   public Backend getBackend() {
+      return backend;
+   }
 }
\ No newline at end of file
@@ -64,6 +64,11 @@ class Formatter {
     */ 
    private static final char[] AND = { '&', 'a', 'm', 'p', ';' };
    
+   /**
+    * This contains the escape sequences used for text and values.
+    */
+   private static final char[][] ESCAPE = build();
+   
    /**
     * This is used to open a comment section within the document.
     */
@@ -84,6 +89,11 @@ class Formatter {
     */         
    private Indenter indenter;
    
+   /**
+    * This is used to cache the markup used to open and close tags.
+    */
+   private TagCache tags;
+   
    /**
     * This is the writer that is used to write the XML document.
     */
@@ -94,6 +104,11 @@ class Formatter {
     */ 
    private String prolog;
    
+   /**
+    * This is used to determine when the output is to be flushed.
+    */
+   private Flush flush;
+   
    /**
     * Represents the last type of content that was written.
     */ 
@@ -108,10 +123,30 @@ class Formatter {
     * @param format this is the format object to use 
     */ 
    public Formatter(Writer result, Format format){
-       this.result = new BufferedWriter(result, 1024);
+       this.result = buffer(result, format);
        this.indenter = new Indenter(format);
+       this.tags = new TagCache();
        this.buffer = new OutputBuffer();
        this.prolog = format.getProlog();      
+       this.flush = format.getFlush();
+   }
+
+   /**
+    * This is used to buffer the writer that the XML is written to.
+    * If the writer is a <code>ByteWriter</code> then it is already
+    * encoding in to a buffer, so wrapping it in another buffer would
+    * only add a further copy of every character written.
+    *
+    * @param result this is where the XML should be written to
+    * @param format this provides the size of the buffer to use
+    * 
+    * @return this returns the writer that the XML is written to
+    */
+   private static Writer buffer(Writer result, Format format) {
+      if(result instanceof ByteWriter) {
+         return result;
+      }
+      return new BufferedWriter(result, format.getBuffer());
    }
 
    /**
@@ -168,15 +203,14 @@ class Formatter {
       if(last == Tag.START) {
          append('>');    
       }        
-      flush();
-      append(text);
-      append('<');
-      
-      if(!isEmpty(prefix)) {
-         append(prefix);
-         append(':');
+      if(flush == Flush.ELEMENT) {
+         flush();
+      } else {
+         buffer.write(result);
+         buffer.clear();
       }
-      append(name);
+      append(text);
+      append(tags.getStart(name, prefix));
       last = Tag.START;
    }
   
@@ -202,6 +236,30 @@ class Formatter {
       write('"');               
    }
    
+   /**
+    * This is used to write a name value attribute pair where the 
+    * value is written by the given appender. The text of the value
+    * is appended to the buffer and is not escaped, this avoids the
+    * need to create a string for values such as numbers.
+    * 
+    * @param name this is the name of the attribute to be written
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    *
+    * @throws Exception thrown if there is an I/O exception
+    */  
+   public void writeAttribute(String name, Object value, Appender appender, String prefix) throws Exception{
+      if(last != Tag.START) {
+         throw new NodeException("Start element required");              
+      }         
+      write(' ');
+      write(name, prefix);
+      write('=');
+      write('"');
+      buffer.append(value, appender);
+      write('"');               
+   }
+   
    /**
     * This is used to write the namespace to the element. This will
     * write the special attribute using the prefix and reference
@@ -263,6 +321,33 @@ class Formatter {
       last = Tag.TEXT;
    }
    
+   /**
+    * This is used to write a value to the writer using the appender
+    * given. If the last tag written was a start tag then it is closed.
+    * The text of the value is appended to the buffer and as it can
+    * not contain markup it is not escaped, however if the mode is
+    * for CDATA then the text is still enclosed in a CDATA block.
+    *
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    * @param mode this is the output mode the value is written with
+    *
+    * @throws Exception thrown if there is an I/O exception
+    */ 
+   public void writeText(Object value, Appender appender, Mode mode) throws Exception{
+      if(last == Tag.START) {
+         write('>');
+      }                
+      if(mode == Mode.DATA) {
+         write("<![CDATA[");
+         buffer.append(value, appender);
+         write("]]>");
+      } else {
+         buffer.append(value, appender);
+      }         
+      last = Tag.TEXT;
+   }
+   
    /**
     * This is used to write an end element tag to the writer. This
     * will close the element with a short <code>/&gt;</code> if the
@@ -284,10 +369,7 @@ class Formatter {
             write(text);   
          }                        
          if(last != Tag.START) {
-            write('<');
-            write('/');
-            write(name, prefix);
-            write('>');
+            write(tags.getEnd(name, prefix));
          }                    
       }                    
       last = Tag.END;
@@ -401,45 +483,48 @@ class Formatter {
    
    /**
     * This is used to write the specified value to the output with
-    * translation to any symbol characters or non text characters.
-    * This will translate the symbol characters such as "&amp;",
-    * "&gt;", "&lt;", and "&quot;". This also writes any non text
-    * and non symbol characters as integer values like "&#123;".
+    * translation to any symbol characters. Rather than writing each
+    * character individually this scans for the next character that
+    * has an escape sequence in the table, and writes the run of
+    * characters before it in a single write. If the value contains
+    * no characters that need to be escaped it is written at once.
     *
     * @param value the text value to be escaped and written
     */ 
    private void escape(String value) throws Exception {
       int size = value.length();
+      int start = 0;
+      
+      buffer.write(result);
+      buffer.clear();
 
       for(int i = 0; i < size; i++){
-         escape(value.charAt(i));
-      }
-   }
-
-   /**
-    * This is used to write the specified value to the output with
-    * translation to any symbol characters or non text characters.
-    * This will translate the symbol characters such as "&amp;",
-    * "&gt;", "&lt;", and "&quot;". This also writes any non text
-    * and non symbol characters as integer values like "&#123;".
-    *
-    * @param ch the text character to be escaped and written
-    */ 
-   private void escape(char ch) throws Exception {
-      char[] text = symbol(ch);
+         char ch = value.charAt(i);
          
-      if(text != null) {
-         write(text);
-      } else {
-         write(ch);                 
+         if(ch < ESCAPE.length) {
+            char[] text = ESCAPE[ch];
+            
+            if(text != null) {
+               if(i > start) {
+                  result.write(value, start, i - start);
+               }
+               result.write(text);
+               start = i + 1;
+            }
+         }
+      }
+      if(start == 0) {
+         result.write(value);
+      } else if(start < size) {
+         result.write(value, start, size - start);
       }
-   }   
+   }
 
    /**
     * This is used to flush the writer when the XML if it has been
     * buffered. The flush method is used by the node writer after an
-    * end element has been written. Flushing ensures that buffering
-    * does not affect the result of the node writer.
+    * end element has been written, or once the document has been
+    * completed, depending on the flush policy of the format.
     */ 
    public void flush() throws Exception{
       buffer.write(result);
@@ -499,28 +584,23 @@ class Formatter {
    }
 
    /**
-    * This is used to convert the specified character to an XML text
-    * symbol if the specified character can be converted. If the
-    * character cannot be converted to a symbol null is returned.
-    *
-    * @param ch this is the character that is to be converted
+    * This is used to build the table of escape sequences used when
+    * writing values. The table is indexed by character and contains
+    * the escape sequence for each character that must be escaped.
+    * Quotes are escaped in both text and attribute values so that
+    * the output is the same as when each character was escaped.
     *
-    * @return this is the symbol character that has been resolved
+    * @return this returns the table of escape sequences to use
     */ 
-   private char[] symbol(char ch) {
-      switch(ch) {
-      case '<':
-        return LESS;
-      case '>':
-        return GREATER;
-      case '"':
-        return DOUBLE;
-      case '\'':
-        return SINGLE;
-      case '&':
-        return AND;
-      }
-      return null;
+   private static char[][] build() {
+      char[][] table = new char['>' + 1][];
+      
+      table['<'] = LESS;
+      table['>'] = GREATER;
+      table['&'] = AND;
+      table['"'] = DOUBLE;
+      table['\''] = SINGLE;
+      return table;
   }  
    
    /**
@@ -47,15 +47,37 @@ class InputElement implements InputNode {
    private final InputNode parent;
    
    /**
-    * This is the XML element that this node provides access to.
+    * This is the source object for the XML element of this node.
     */         
-   private final EventNode node;
+   private final Object source;
+   
+   /**
+    * This is the namespace reference for the XML element.
+    */
+   private final String reference;
+   
+   /**
+    * This is the namespace prefix for the XML element.
+    */
+   private final String prefix;
+   
+   /**
+    * This is the name of the XML element without any prefix.
+    */
+   private final String name;
+   
+   /**
+    * This is the line number the XML element was read from.
+    */
+   private final int line;
  
    /**
     * Constructor for the <code>InputElement</code> object. This 
     * is used to create an input node that will provide access to 
     * an XML element. All attributes associated with the element 
     * given are extracted and exposed via the attribute node map.
+    * The details of the element are copied from the event so that
+    * the event reader is free to reuse the event once read.
     *
     * @param parent this is the parent XML element for this 
     * @param reader this is the reader used to read XML elements
@@ -63,9 +85,13 @@ class InputElement implements InputNode {
     */ 
    public InputElement(InputNode parent, NodeReader reader, EventNode node) {
       this.map = new InputNodeMap(this, node);      
+      this.reference = node.getReference();
+      this.source = node.getSource();
+      this.prefix = node.getPrefix();
+      this.name = node.getName();
+      this.line = node.getLine();
       this.reader = reader;           
       this.parent = parent;
-      this.node = node;
    }
    
    /**
@@ -77,7 +103,7 @@ class InputElement implements InputNode {
     * @return this returns the source of this input node
     */
    public Object getSource() {
-      return node.getSource();
+      return source;
    }
    
    /**
@@ -101,7 +127,7 @@ class InputElement implements InputNode {
     * @return this returns the position of the XML read cursor
     */      
    public Position getPosition() {
-      return new InputPosition(node);           
+      return new InputPosition(line);           
    }   
 
    /**
@@ -112,7 +138,7 @@ class InputElement implements InputNode {
     * @return returns the name of the node that this represents
     */   
    public String getName() {
-      return node.getName();           
+      return name;           
    }
    
    /**
@@ -125,7 +151,7 @@ class InputElement implements InputNode {
     * @return this returns the prefix associated with this node
     */
    public String getPrefix() {
-      return node.getPrefix();
+      return prefix;
    }
    
    /**
@@ -138,7 +164,7 @@ class InputElement implements InputNode {
     * @return this returns the associated namespace reference URI 
     */
    public String getReference() {
-      return node.getReference();
+      return reference;
    }
    
    /**
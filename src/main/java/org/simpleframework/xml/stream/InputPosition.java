@@ -29,20 +29,20 @@ package org.simpleframework.xml.stream;
 class InputPosition implements Position {
 
    /**
-    * This is the XML event that the position is acquired for.
+    * This is the line number the XML event was encountered at.
     */         
-   private EventNode source;
+   private final int line;
         
    /**
     * Constructor for the <code>InputPosition</code> object. This is
-    * used to create a position description if the provided event 
-    * is not null. This will return -1 if the specified event does
-    * not provide any location information.    
+    * used to create a position description for the line an event 
+    * was read from. The line should be -1 if the event that was
+    * read did not provide any location information.    
     *
-    * @param source this is the XML event to get the position of
+    * @param line this is the line number of the XML event
     */ 
-   public InputPosition(EventNode source) {
-      this.source = source;
+   public InputPosition(int line) {
+      this.line = line;
    }
 
    /**
@@ -54,7 +54,7 @@ class InputPosition implements Position {
     * @return this returns the line number of an XML event 
     */ 
    public int getLine() {  
-      return source.getLine();
+      return line;
    }
 
    /**
@@ -0,0 +1,101 @@
+/*
+ * NodeAppender.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+/**
+ * The <code>NodeAppender</code> is used to set values on an output
+ * node that are written by an <code>Appender</code>. If the node was
+ * created by the node writer then the value and its appender are
+ * held by the node until it is written, so no string is created for
+ * the value. Any other <code>OutputNode</code> implementation is
+ * given the text written by the appender as a string instead.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.stream.Appender
+ */
+public final class NodeAppender {
+
+   /**
+    * Constructor for the <code>NodeAppender</code> object. This is
+    * private as this only provides static methods for output nodes.
+    */
+   private NodeAppender() {
+      super();
+   }
+
+   /**
+    * This is used to set a value to the node that is written by the
+    * given appender. If the node can hold an appender then the text
+    * of the value is written when the node is written, otherwise the
+    * text is written by the appender now and set as the node value.
+    *
+    * @param node this is the node that the value is to be set on
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    */
+   public static void setValue(OutputNode node, Object value, Appender appender) throws Exception {
+      if(node instanceof AppendNode) {
+         ((AppendNode)node).setValue(value, appender);
+      } else {
+         String text = getText(value, appender);
+
+         node.setValue(text);
+      }
+   }
+
+   /**
+    * This is used to add an attribute to the node whose value is
+    * written by the given appender. If the node can hold an appender
+    * then the text of the value is written when the node is written,
+    * otherwise the attribute is added with the text of the value.
+    *
+    * @param node this is the node that the attribute is added to
+    * @param name this is the name of the attribute to be added
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    *
+    * @return this returns the node that has just been added
+    */
+   public static OutputNode setAttribute(OutputNode node, String name, Object value, Appender appender) throws Exception {
+      if(node instanceof AppendNode) {
+         return ((AppendNode)node).setAttribute(name, value, appender);
+      }
+      String text = getText(value, appender);
+
+      return node.setAttribute(name, text);
+   }
+
+   /**
+    * This is used to create the text of a value using its appender.
+    * This is used only when the node the value is set on is not able
+    * to hold the appender, so the text must be created as a string.
+    *
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    *
+    * @return this returns the text written by the appender
+    */
+   private static String getText(Object value, Appender appender) throws Exception {
+      StringBuilder text = new StringBuilder();
+
+      appender.append(value, text);
+      return text.toString();
+   }
+}
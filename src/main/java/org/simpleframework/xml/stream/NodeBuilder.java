@@ -19,6 +19,8 @@
 package org.simpleframework.xml.stream;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 
@@ -39,11 +41,7 @@ public final class NodeBuilder {
    /**
     * This is the XML provider implementation that creates readers.
     */         
-   private static Provider PROVIDER;
-
-   static {
-      PROVIDER = ProviderFactory.getInstance();                    
-   }
+   private static volatile Provider PROVIDER;
 
    /**
     * This is used to create an <code>InputNode</code> that can be 
@@ -55,7 +53,7 @@ public final class NodeBuilder {
     * @throws Exception thrown if there is an I/O exception
     */   
    public static InputNode read(InputStream source) throws Exception {
-      return read(PROVIDER.provide(source));   
+      return read(getProvider().provide(source));   
    }
         
    /**
@@ -68,7 +66,7 @@ public final class NodeBuilder {
     * @throws Exception thrown if there is an I/O exception
     */   
    public static InputNode read(Reader source) throws Exception {
-      return read(PROVIDER.provide(source));   
+      return read(getProvider().provide(source));   
    }
 
    /**
@@ -84,6 +82,35 @@ public final class NodeBuilder {
       return new NodeReader(source).readRoot();           
    }
    
+   /**
+    * This is used to acquire the provider that creates the readers.
+    * Acquiring the provider involves locating and instantiating an
+    * XML parser, which is expensive. So this is done only when a
+    * document is first read, which ensures that a process that only
+    * writes documents never pays for the parser to be initialized.
+    * <p>
+    * The provider is held in a volatile field and is created while
+    * holding the lock for this class, so it is created only once
+    * and every thread that reads a document sees the same provider.
+    * 
+    * @return this returns the provider used to create the readers
+    */
+   private static Provider getProvider() {
+      Provider provider = PROVIDER;
+      
+      if(provider == null) {
+         synchronized(NodeBuilder.class) {
+            provider = PROVIDER;
+            
+            if(provider == null) {
+               provider = ProviderFactory.getInstance();
+               PROVIDER = provider;
+            }
+         }
+      }
+      return provider;
+   }
+   
    /**
     * This is used to create an <code>OutputNode</code> that can be
     * used to write a well formed XML document. The writer specified
@@ -112,4 +139,27 @@ public final class NodeBuilder {
    public static OutputNode write(Writer result, Format format) throws Exception {
       return new NodeWriter(result, format).writeRoot();
    }   
+   
+   /**
+    * This is used to create an <code>OutputNode</code> that can be
+    * used to write a well formed XML document. The stream specified
+    * will have XML elements, attributes, and text written to it as
+    * output nodes are created and populated. If the character set 
+    * is UTF-8, ASCII, or ISO-8859-1 the characters are encoded 
+    * directly to bytes, otherwise a standard encoder is used.
+    * 
+    * @param result this contains the result of the generated XML
+    * @param format this is the format to use for the document
+    * @param charset this is the character encoding to be used
+    *
+    * @throws Exception this is thrown if there is an I/O error
+    */ 
+   public static OutputNode write(OutputStream result, Format format, String charset) throws Exception {
+      int size = format.getBuffer();
+      
+      if(ByteWriter.isSupported(charset)) {
+         return write(new ByteWriter(result, charset, size), format);
+      }
+      return write(new OutputStreamWriter(result, charset), format);
+   }
 }
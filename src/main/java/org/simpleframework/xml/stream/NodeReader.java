@@ -37,7 +37,17 @@ class NodeReader {
    /**
     * This is used to collect the text between the element tags.
     */
-   private final StringBuilder text;
+   private StringBuilder text;
+   
+   /**
+    * This holds the text most recently handed out as a sequence.
+    */
+   private StringBuilder spare;
+   
+   /**
+    * This is the first segment of text, held without being copied.
+    */
+   private String segment;
    
    /**
     * Represents the XML event reader used to read all elements.
@@ -56,6 +66,7 @@ class NodeReader {
     * @param reader this is the event reader for the XML document
     */ 
    public NodeReader(EventReader reader) {
+      this.spare = new StringBuilder();
       this.text = new StringBuilder();
       this.stack = new InputStack();
       this.reader = reader;            
@@ -179,6 +190,7 @@ class NodeReader {
       if(text.length() > 0) {
          text.setLength(0);
       }
+      segment = null;
       if(event.isStart()) {
          return stack.push(input);
       }
@@ -215,10 +227,31 @@ class NodeReader {
     * @return this returns the characters from the specified node
     */ 
    public String readValue(InputNode from) throws Exception {
+      CharSequence value = readText(from);
+      
+      if(value != null) {
+         return value.toString();
+      }
+      return null;
+   } 
+   
+   /**
+    * Read the contents of the characters between the specified XML
+    * element tags, if the read is currently at that element. This 
+    * is the same as <code>readValue</code> except that the text is
+    * provided as a sequence of characters, which can be the buffer
+    * the text was collected in. As such the sequence is only valid
+    * until the next value is read from the document.
+    *
+    * @param from this is the input node to read the value from
+    *
+    * @return this returns the characters from the specified node
+    */ 
+   public CharSequence readText(InputNode from) throws Exception {
       if(!stack.isRelevant(from)) { 
          return null;
       }
-      int length = text.length();
+      int length = getLength();
       
       if(length <= 0) {
          EventNode event = reader.peek();
@@ -232,7 +265,7 @@ class NodeReader {
             event = reader.next();
          }
       }
-      return readText(from);
+      return readCharacters(from);
    } 
    
    /**
@@ -245,7 +278,7 @@ class NodeReader {
     *
     * @return this returns the characters from the specified node
     */ 
-   private String readText(InputNode from) throws Exception {
+   private CharSequence readCharacters(InputNode from) throws Exception {
       EventNode event = reader.peek();
       
       while(stack.top() == from) {   
@@ -264,18 +297,29 @@ class NodeReader {
     * This is used to read the text between element tags. If there
     * is any text held in the buffer then this will return that
     * text and clear the buffer. Clearing the buffer in this
-    * way means that the text can only ever be read once.
+    * way means that the text can only ever be read once. If the
+    * text was read as a single segment then it is returned as is,
+    * otherwise the buffer is handed out and replaced by a spare
+    * buffer, so the text remains valid until the next read.
     * 
     * @param from this is the node to read the text from
     * 
-    * @return this returns the string within the buffer if any
+    * @return this returns the text within the buffer if any
     */
-   private String readBuffer(InputNode from) throws Exception {
+   private CharSequence readBuffer(InputNode from) throws Exception {
       int length = text.length();
       
+      if(segment != null) {
+         String value = segment;
+         
+         segment = null;
+         return value;
+      }
       if(length > 0) {
-         String value = text.toString();
+         StringBuilder value = text;
          
+         text = spare;
+         spare = value;
          text.setLength(0);
          return value;
       }
@@ -296,12 +340,34 @@ class NodeReader {
       EventNode event = reader.peek();
       
       if(event.isText()) {
-         String data = event.getValue();
+         CharSequence data = event.getText();
          
-         text.append(data); 
+         if(segment != null) {
+            text.append(segment);
+            segment = null;
+         }
+         if(text.length() > 0 || !(data instanceof String)) {
+            text.append(data);
+         } else if(data.length() > 0) {
+            segment = (String)data;
+         }
       }
    }  
    
+   /**
+    * This is used to determine the length of the text that has been
+    * read between the element tags. The text is either held as a
+    * single segment or has been collected within the buffer.
+    * 
+    * @return this returns the length of the text that was read
+    */
+   private int getLength() {
+      if(segment != null) {
+         return segment.length();
+      }
+      return text.length();
+   }
+   
    /**
     * This is used to determine if this input node is empty. An
     * empty node is one with no attributes or children. This can
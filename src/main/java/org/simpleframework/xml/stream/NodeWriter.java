@@ -47,6 +47,11 @@ class NodeWriter {
     */ 
    private final Formatter writer;
    
+   /**
+    * This is used to determine when the output is to be flushed.
+    */
+   private final Flush flush;
+   
    /**
     * Contains the set of as yet uncommitted elements blocks.
     */ 
@@ -94,6 +99,7 @@ class NodeWriter {
     */ 
    private NodeWriter(Writer result, Format format, boolean verbose) {
       this.writer = new Formatter(result, format);
+      this.flush = format.getFlush();
       this.active = new HashSet();
       this.stack = new OutputStack(active);    
       this.verbose = verbose;
@@ -166,6 +172,10 @@ class NodeWriter {
          }
          writeEnd(parent);
          stack.pop();
+         
+         if(stack.isEmpty()) {
+            writer.flush();
+         }
       }
    } 
    
@@ -298,39 +308,92 @@ class NodeWriter {
     */  
    private void writeValue(OutputNode node) throws Exception {
       Mode mode = node.getMode();
-      String value = node.getValue();
-  
-      if(value != null) {
-         for(OutputNode next : stack) {         
-            if(mode != Mode.INHERIT) {
-               break; 
-            }
-            mode = next.getMode();
+      Appender appender = getAppender(node);
+      
+      if(appender != null) {
+         Object value = getObject(node);
+         
+         writer.writeText(value, appender, getMode(mode));
+      } else {
+         String value = node.getValue();
+         
+         if(value != null) {
+            writer.writeText(value, getMode(mode));
          }
-         writer.writeText(value, mode);
       }
       node.setValue(null);
    }
    
+   /**
+    * This is used to determine the mode a value is to be written
+    * with. If the mode of the node is to inherit then the nodes on
+    * the stack are searched for the first mode that is specified.
+    * 
+    * @param mode this is the mode that has been set on the node
+    * 
+    * @return this returns the mode the value is to be written with
+    */
+   private Mode getMode(Mode mode) {
+      for(OutputNode next : stack) {         
+         if(mode != Mode.INHERIT) {
+            break; 
+         }
+         mode = next.getMode();
+      }
+      return mode;
+   }
+   
+   /**
+    * This is used to acquire the appender used to write the value
+    * of the node. Only nodes created by this writer can hold a value
+    * to be written by an appender, for any other node or for a node
+    * that has a text value this will return null.
+    * 
+    * @param node this is the node to acquire the appender from
+    * 
+    * @return this returns the appender used to write the value
+    */
+   private Appender getAppender(OutputNode node) {
+      if(node instanceof AppendNode) {
+         return ((AppendNode)node).getAppender();
+      }
+      return null;
+   }
+   
+   /**
+    * This is used to acquire the value that is to be written by the
+    * appender of the node. This must only be used if the node has
+    * an appender, otherwise the text value of the node is used.
+    * 
+    * @param node this is the node to acquire the value from
+    * 
+    * @return this returns the value to be written by the appender
+    */
+   private Object getObject(OutputNode node) {
+      return ((AppendNode)node).getObject();
+   }
+   
    /**
     * This is used to write a new end element to the resulting XML
     * document. This will acquire the name and value of the given
     * node, if the node has a value that is written. Finally a new
-    * end tag is written to the document and the output is flushed.
+    * end tag is written to the document and if the flush policy
+    * requires it the output is flushed.
     *
     * @param node this is the node that is to have an end tag
     */  
    private void writeEnd(OutputNode node) throws Exception {
       String name = node.getName();
       String prefix = node.getPrefix(verbose);
-      String value = node.getValue();
       
-      if(value != null) {
-         writeValue(node);
-      }
+      writeValue(node);
+      
       if(name != null) {
          writer.writeEnd(name, prefix);
-         writer.flush();
+         
+         if(flush == Flush.ELEMENT) {
+            writer.flush();
+         }
       }
    }
    
@@ -346,10 +409,18 @@ class NodeWriter {
       
       for(String name : map) {
          OutputNode entry = map.get(name);
-         String value = entry.getValue();
+         Appender appender = getAppender(entry);
          String prefix = entry.getPrefix(verbose);
          
-         writer.writeAttribute(name, value, prefix);
+         if(appender != null) {
+            Object value = getObject(entry);
+            
+            writer.writeAttribute(name, value, appender, prefix);
+         } else {
+            String value = entry.getValue();
+            
+            writer.writeAttribute(name, value, prefix);
+         }
       }
       active.remove(node);
    }
@@ -28,7 +28,7 @@ package org.simpleframework.xml.stream;
  *
  * @see org.simpleframework.xml.stream.Node
  */ 
-class OutputAttribute implements OutputNode {
+class OutputAttribute implements AppendNode {
    
    /**
     * This contains the namespaces for the parent element.
@@ -54,6 +54,16 @@ class OutputAttribute implements OutputNode {
     * Represents the value of this node object instance.
     */  
    private String value;
+   
+   /**
+    * This is the value that is to be written by the appender.
+    */
+   private Object object;
+   
+   /**
+    * This is used to write the value without creating any text.
+    */
+   private Appender appender;
         
    /**
     * Constructor for the <code>OutputAttribute</code> object. This 
@@ -67,7 +77,24 @@ class OutputAttribute implements OutputNode {
       this.source = source;
       this.value = value;              
       this.name = name;              
-   }         
+   }
+   
+   /**
+    * Constructor for the <code>OutputAttribute</code> object. This 
+    * is used to create an attribute holding a value that is to be
+    * written by the given appender when the element is written.
+    *
+    * @param name this is the name that is used for the node
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    */ 
+   public OutputAttribute(OutputNode source, String name, Object value, Appender appender) {
+      this.scope = source.getNamespaces();
+      this.appender = appender;
+      this.source = source;
+      this.object = value;              
+      this.name = name;              
+   }
    
    /**
     * Returns the value for the node that this represents. This   
@@ -77,9 +104,37 @@ class OutputAttribute implements OutputNode {
     *    
     * @return the name of the value for this node instance
     */      
-   public String getValue() {
+   public String getValue() throws Exception {
+      if(appender != null && value == null) {
+         StringBuilder text = new StringBuilder();
+         
+         appender.append(object, text);
+         value = text.toString();
+      }
       return value;              
    }
+   
+   /**
+    * This is used to acquire the appender used to write the value
+    * of the attribute. If the value of the attribute has been set
+    * as text then there is no appender and this returns null.
+    *
+    * @return this returns the appender used to write the value
+    */
+   public Appender getAppender() {
+      return appender;
+   }
+   
+   /**
+    * This is used to acquire the value that is to be written by the
+    * appender. This is only valid if the attribute has an appender,
+    * if it does not then the text value is used instead.
+    *
+    * @return this returns the value to be written by the appender
+    */
+   public Object getObject() {
+      return object;
+   }
 
    /**
     * This is used to set a text value to the attribute. This should
@@ -89,9 +144,26 @@ class OutputAttribute implements OutputNode {
     * @param value this is the text value to add to this attribute
     */
    public void setValue(String value) {
+      this.appender = null;
+      this.object = null;
       this.value = value;           
    }
    
+   /**
+    * This is used to set a value to the attribute that is written
+    * by the given appender. The text of the value is not created
+    * unless it is requested, instead the appender writes the text
+    * to the output when the parent element is written.
+    *
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    */
+   public void setValue(Object value, Appender appender) {
+      this.appender = appender;
+      this.object = value;
+      this.value = null;
+   }
+   
    /**
     * This is used to change the name of an output node. This will
     * only affect the name of the node if the node has not yet been
@@ -296,6 +368,21 @@ class OutputAttribute implements OutputNode {
    public OutputNode setAttribute(String name, String value) {
       return null;           
    }
+   
+   /**
+    * This method is used for convenience to add an attribute node 
+    * to the attribute <code>NodeMap</code>. As an attribute can not
+    * have attributes of its own this does nothing and returns null.
+    * 
+    * @param name this is the name of the attribute to be added
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    * 
+    * @return this returns the node that has just been added
+    */ 
+   public OutputNode setAttribute(String name, Object value, Appender appender) {
+      return null;           
+   }
 
    /**
     * This is used to remove any uncommitted changes. Removal of an
@@ -348,6 +435,9 @@ class OutputAttribute implements OutputNode {
     * @return this returns the details of this output node
     */
    public String toString() {
+       if(appender != null) {
+          return String.format("attribute %s='%s'", name, object);
+       }
        return String.format("attribute %s='%s'", name, value);
    }
 }
@@ -38,6 +38,11 @@ class OutputBuffer {
     */
    private StringBuilder text;
    
+   /** 
+    * This is used to copy the characters out to the writer.
+    */
+   private char[] data;
+   
    /** 
     * Constructor for <code>OutputBuffer</code>. The default 
     * <code>OutputBuffer</code> stores 16 characters before a
@@ -45,6 +50,7 @@ class OutputBuffer {
     */
    public OutputBuffer() {
       this.text = new StringBuilder();     
+      this.data = new char[64];
    }
    
    /** 
@@ -116,6 +122,19 @@ class OutputBuffer {
       text.append(value, off, len);
    }
    
+   /**
+    * This will have the given appender add the text of the value to
+    * the end of the buffer. As the appender is given the builder
+    * used by the buffer it can append numbers and other values to
+    * it directly, without first creating a string for the value.
+    *
+    * @param value this is the value that is to be appended
+    * @param appender this is used to append the text of the value
+    */
+   public void append(Object value, Appender appender) throws Exception {
+      appender.append(value, text);
+   }
+   
    /**
     * This method is used to write the contents of the buffer to the
     * specified <code>Writer</code> object. This is used when the
@@ -126,7 +145,15 @@ class OutputBuffer {
     * @throws IOException thrown if there is an I/O problem
     */
    public void write(Writer out) throws IOException {
-      out.append(text);      
+      int size = text.length();
+      
+      if(size > 0) {
+         if(data.length < size) {
+            data = new char[Math.max(size, data.length * 2)];
+         }
+         text.getChars(0, size, data, 0);
+         out.write(data, 0, size);
+      }
    }
    
    /** 
@@ -27,7 +27,7 @@ package org.simpleframework.xml.stream;
  * 
  * @author Niall Gallagher
  */ 
-class OutputElement implements OutputNode {
+class OutputElement implements AppendNode {
    
    /**
     * Represents the attributes that have been set for the element.
@@ -63,6 +63,16 @@ class OutputElement implements OutputNode {
     * Represents the value that has been set for the element.
     */ 
    private String value;
+   
+   /**
+    * This is the value that is to be written by the appender.
+    */
+   private Object object;
+   
+   /**
+    * This is used to write the value without creating any text.
+    */
+   private Appender appender;
 
    /**
     * Represents the name of the element for this output node.
@@ -197,10 +207,38 @@ class OutputElement implements OutputNode {
     * 
     * @return the name of the value for this node instance
     */   
-   public String getValue() {
+   public String getValue() throws Exception {
+      if(appender != null && value == null) {
+         StringBuilder text = new StringBuilder();
+         
+         appender.append(object, text);
+         value = text.toString();
+      }
       return value;
    }
    
+   /**
+    * This is used to acquire the appender used to write the value
+    * of the element. If the value of the element has been set as
+    * text or has not been set then this will return null.
+    *
+    * @return this returns the appender used to write the value
+    */
+   public Appender getAppender() {
+      return appender;
+   }
+   
+   /**
+    * This is used to acquire the value that is to be written by the
+    * appender. This is only valid if the element has an appender,
+    * if it does not then the text value is used instead.
+    *
+    * @return this returns the value to be written by the appender
+    */
+   public Object getObject() {
+      return object;
+   }
+   
    /**
     * This is used to get the text comment for the element. This can
     * be null if no comment has been set. If no comment is set on 
@@ -283,9 +321,26 @@ class OutputElement implements OutputNode {
     * @param value this is the text value to add to this element
     */    
    public void setValue(String value) {
+      this.appender = null;
+      this.object = null;
       this.value = value;
    }
    
+   /**
+    * This is used to set a value to the element that is written by
+    * the given appender. The text of the value is not created unless
+    * it is requested, instead the appender writes the text straight
+    * to the output when the element is written.
+    * 
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    */    
+   public void setValue(Object value, Appender appender) {
+      this.appender = appender;
+      this.object = value;
+      this.value = null;
+   }
+   
    /**
     * This is used to change the name of an output node. This will
     * only affect the name of the node if the node has not yet been
@@ -328,6 +383,21 @@ class OutputElement implements OutputNode {
    public OutputNode setAttribute(String name, String value) {
       return table.put(name, value);
    }
+   
+   /**
+    * This method is used for convenience to add an attribute node 
+    * to the attribute <code>NodeMap</code>. The value of the added
+    * attribute is written by the appender when this is written.
+    * 
+    * @param name this is the name of the attribute to be added
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    *
+    * @return this will return the attribute that was just set
+    */    
+   public OutputNode setAttribute(String name, Object value, Appender appender) {
+      return table.put(name, value, appender);
+   }
 
    /**
     * This is used to create a child element within the element that
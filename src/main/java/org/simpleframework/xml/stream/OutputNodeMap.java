@@ -87,6 +87,26 @@ class OutputNodeMap extends LinkedHashMap<String, OutputNode> implements NodeMap
       return node;
    }
    
+   /**
+    * This is used to add a new <code>Node</code> to the map. The
+    * node that is created holds a value that is written by the
+    * given appender when the element owning the map is written.
+    *
+    * @param name this is the name of the node to be created
+    * @param value this is the value to be written by the appender
+    * @param appender this is used to write the text of the value
+    * 
+    * @return this is the node that has been added to the map
+    */    
+   public OutputNode put(String name, Object value, Appender appender) {
+      OutputNode node = new OutputAttribute(source, name, value, appender);
+      
+      if(source != null) {
+         put(name, node);
+      }
+      return node;
+   }
+   
    /**
     * This is used to remove the <code>Node</code> mapped to the
     * given name.  This returns a name value pair that represents
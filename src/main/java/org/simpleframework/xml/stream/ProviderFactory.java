@@ -25,6 +25,8 @@ package org.simpleframework.xml.stream;
  * is what will be used to process XML. If however StAX can not be
  * used then a DOM implementation is provided. A DOM provider as a
  * default suits most Java profiles as it is a very common parser.
+ * Regardless of the parser chosen, streams that are encoded in 
+ * UTF-8 are parsed by the built in byte parser.
  * 
  * @author Niall Gallagher
  * 
@@ -32,25 +34,45 @@ package org.simpleframework.xml.stream;
  */
 final class ProviderFactory {
 
+   /**
+    * This is used to acquire the <code>Provider</code> to be used 
+    * to process XML documents. Documents read from a stream that are
+    * encoded in UTF-8 or ASCII are parsed directly as bytes, which
+    * avoids decoding the document before it is parsed. All other
+    * documents are handed to the most suitable parser available.
+    * The byte parser checks that the documents are well formed, so
+    * a malformed document is rejected as it would be by the others.
+    * As the <code>NodeReader</code> copies the details it needs from
+    * each event the providers created here recycle their events.
+    * 
+    * @return this returns the provider that has been instantiate
+    */
+   public static Provider getInstance() {
+      Provider provider = getProvider();
+      return new ByteProvider(provider, 8192, true);
+   }
+
    /**
     * This is used to acquire the <code>Provider</code> to be used 
     * to process XML documents. The provider returned is determined
     * by scanning the classpath for StAX dependencies, if they are
     * available then the provider used is StAX otherwise it is DOM. 
+    * When StAX is used the cursor API is preferred over the event
+    * API as it avoids allocating an event object for each token.
     * Scanning the classpath in this manner ensures the most suitable
     * parser is used for the host platform.
     * 
     * @return this returns the provider that has been instantiate
     */
-   public static Provider getInstance() {
+   private static Provider getProvider() {
       try {
          try {
-            return new StreamProvider();
+            return new CursorProvider(true);
          } catch(Throwable e) {
-            return new PullProvider();
+            return new PullProvider(true);
          }
       } catch(Throwable e) {
-         return new DocumentProvider();
+         return new DocumentProvider(true);
       }
    }
 }
\ No newline at end of file
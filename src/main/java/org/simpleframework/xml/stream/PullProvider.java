@@ -41,6 +41,11 @@ class PullProvider implements Provider {
     */
    private final XmlPullParserFactory factory;
    
+   /**
+    * This determines if the readers provided recycle events.
+    */
+   private final boolean recycle;
+   
    /**
     * Constructor for the <code>PullProvider</code> object. This
     * will instantiate a namespace aware pull parser factory that
@@ -48,8 +53,24 @@ class PullProvider implements Provider {
     * the framework. If XML pull is not available this will fail.
     */
    public PullProvider() throws Exception {
+      this(false);
+   }
+
+   /**
+    * Constructor for the <code>PullProvider</code> object. This
+    * will instantiate a namespace aware pull parser factory that
+    * will be used to parse the XML documents that are read by
+    * the framework. If XML pull is not available this will fail.
+    * If recycling is enabled the readers provided will reuse the
+    * events they produce, which requires that the consumer copies
+    * what it needs from each event before reading the next one.
+    * 
+    * @param recycle this determines if events are to be recycled
+    */
+   public PullProvider(boolean recycle) throws Exception {
       this.factory = XmlPullParserFactory.newInstance();
       this.factory.setNamespaceAware(true);
+      this.recycle = recycle;
    }
    
    /**
@@ -68,7 +89,7 @@ class PullProvider implements Provider {
       if(source != null) {
          parser.setInput(source, null);
       }
-      return new PullReader(parser);  
+      return new PullReader(parser, recycle);  
    }
    
    /**
@@ -86,6 +107,6 @@ class PullProvider implements Provider {
       if(source != null) {
          parser.setInput(source);
       }
-      return new PullReader(parser);
+      return new PullReader(parser, recycle);
    }
 }
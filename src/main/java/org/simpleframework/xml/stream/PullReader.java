@@ -23,6 +23,9 @@ import static org.xmlpull.v1.XmlPullParser.END_TAG;
 import static org.xmlpull.v1.XmlPullParser.START_TAG;
 import static org.xmlpull.v1.XmlPullParser.TEXT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.xmlpull.v1.XmlPullParser;
 
 /**
@@ -36,12 +39,27 @@ import org.xmlpull.v1.XmlPullParser;
  * @author Niall Gallagher
  */
 class PullReader implements EventReader {
+   
+   /**
+    * This is the end event, which can be shared as it has no state.
+    */
+   private static final End END = new End();
 
    /**
     * This is the XML pull parser that is used to create events.
     */
    private XmlPullParser parser;
    
+   /**
+    * This is used to recycle the start events read by this reader.
+    */
+   private EventRing<Start> starts;
+   
+   /**
+    * This is used to recycle the text events read by this reader.
+    */
+   private EventRing<Text> texts;
+   
    /**
     * This is the previous node that has been read by a peek.
     */
@@ -56,6 +74,22 @@ class PullReader implements EventReader {
     * @param parser this is the parser used to create all events
     */
    public PullReader(XmlPullParser parser) {
+      this(parser, false);
+   }
+   
+   /**
+    * Constructor for the <code>PullReader</code> object. This is
+    * provided an XML pull parser which has been initialized with
+    * the XML source document. If recycling is enabled the events
+    * produced by this reader are reused, which requires that the
+    * consumer copies what it needs before reading further events.
+    * 
+    * @param parser this is the parser used to create all events
+    * @param recycle this determines if events are to be recycled
+    */
+   public PullReader(XmlPullParser parser, boolean recycle) {
+      this.starts = new EventRing<Start>(recycle);
+      this.texts = new EventRing<Text>(recycle);
       this.parser = parser;
    }
 
@@ -128,7 +162,12 @@ class PullReader implements EventReader {
     * @return this returns the text event from the XML pull parser
     */
    private Text text() throws Exception {
-      return new Text(parser);
+      Text event = texts.take();
+      
+      if(event == null) {
+         return texts.put(new Text(parser));
+      }
+      return event.reset(parser);
    }
    
    /**
@@ -140,8 +179,13 @@ class PullReader implements EventReader {
     * @return this returns a start event created from the parser
     */
    private Start start() throws Exception {
-      Start event = new Start(parser);
+      Start event = starts.take();
       
+      if(event == null) {
+         event = starts.put(new Start(parser));
+      } else {
+         event.reset(parser);
+      }
       if(event.isEmpty()) {
          return build(event);
       }
@@ -163,7 +207,7 @@ class PullReader implements EventReader {
       int count = parser.getAttributeCount();
       
       for(int i = 0; i < count; i++) {
-         Entry entry = attribute(i);
+         Entry entry = attribute(event, i);
 
          if(!entry.isReserved()) {
             event.add(entry);
@@ -178,11 +222,15 @@ class PullReader implements EventReader {
     * reader and used to provide an <code>InputNode</code> that can
     * be used to represent an XML attribute within the source document.
     * 
+    * @param event this is the start event the attribute belongs to
     * @param index this is the index of this attribute to create
     *
     * @return this returns an attribute created from the given object
     */
-   private Entry attribute(int index) throws Exception {
+   private Entry attribute(Start event, int index) throws Exception {
+      if(starts.isRecycle()) {
+         return event.entry(parser, index);
+      }
       return new Entry(parser, index);
    }
    
@@ -196,7 +244,7 @@ class PullReader implements EventReader {
     * @return this returns an end event to signify an element close
     */
    private End end() throws Exception {
-      return new End();
+      return END;
    } 
    
    /**
@@ -213,27 +261,27 @@ class PullReader implements EventReader {
       /**
        * This is the XML pull parser source that is used for this.
        */
-      private final XmlPullParser source;
+      private XmlPullParser source;
       
       /**
        * This is the XML namespace reference used by the attribute.
        */
-      private final String reference;
+      private String reference;
       
       /**
        * This is the XML namespace prefix used by the attribute.
        */
-      private final String prefix;
+      private String prefix;
       
       /**
        * This is the name that is used by this attribute.
        */
-      private final String name;
+      private String name;
       
       /**
        * This is the value that is used by this attribute.
        */
-      private final String value;
+      private String value;
       
       /**
        * Constructor for the <code>Entry</code> object. This creates
@@ -245,11 +293,27 @@ class PullReader implements EventReader {
        * @param index this is the index of the attribute to get
        */
       public Entry(XmlPullParser source, int index) {
+         this.reset(source, index);
+      }
+      
+      /**
+       * This is used to update the attribute with the details of
+       * the attribute at the specified index. This allows the entry
+       * to be recycled once the core reader has copied out all of
+       * the details of the attribute it requires.
+       * 
+       * @param source this is the parser used to get the attribute
+       * @param index this is the index of the attribute to get
+       * 
+       * @return this returns this entry with the new details
+       */
+      public Entry reset(XmlPullParser source, int index) {
          this.reference = source.getAttributeNamespace(index);
          this.prefix = source.getAttributePrefix(index);
          this.value = source.getAttributeValue(index);
          this.name = source.getAttributeName(index);
          this.source = source;
+         return this;
       }
       
       /**
@@ -337,27 +401,37 @@ class PullReader implements EventReader {
       /**
        * This is the XML pull parser source that is used for this.
        */
-      private final XmlPullParser source;
+      private XmlPullParser source;
       
       /**
        * This is the XML namespace reference used by the attribute.
        */
-      private final String reference;
+      private String reference;
       
       /**
        * This is the XML namespace prefix used by the attribute.
        */
-      private final String prefix;
+      private String prefix;
       
       /**
        * This is the name that is used by this attribute.
        */
-      private final String name;
+      private String name;
       
       /**
        * This is the line number where this element was read.
        */
-      private final int line;
+      private int line;
+      
+      /**
+       * This contains the attribute entries that can be recycled.
+       */
+      private List<Entry> entries;
+      
+      /**
+       * This is the number of recycled attribute entries in use.
+       */
+      private int count;
       
       /**
        * Constructor for the <code>Start</code> object. This will 
@@ -368,11 +442,53 @@ class PullReader implements EventReader {
        * @param source this is the parser being wrapped by this
        */
       public Start(XmlPullParser source) {
+         this.reset(source);
+      }
+      
+      /**
+       * This is used to update the start event with the details of
+       * the element the parser is positioned at. Any attributes the
+       * event held are removed, however the entries used for them
+       * are kept so that they can be recycled for the new element.
+       * 
+       * @param source this is the parser being wrapped by this
+       * 
+       * @return this returns this event with the new details
+       */
+      public Start reset(XmlPullParser source) {
          this.reference = source.getNamespace();
          this.line = source.getLineNumber();
          this.prefix = source.getPrefix();
          this.name = source.getName();
-         this.source = source;     
+         this.source = source;
+         this.count = 0;
+         this.clear();
+         return this;
+      }
+      
+      /**
+       * This is used to acquire an attribute entry for the attribute
+       * at the specified index. Entries are recycled from previous
+       * elements read with this event, so a new entry is created
+       * only when this element has more attributes than any before.
+       * 
+       * @param source this is the parser used to get the attribute
+       * @param index this is the index of the attribute to get
+       * 
+       * @return this returns an entry holding the attribute details
+       */
+      public Entry entry(XmlPullParser source, int index) {
+         if(entries == null) {
+            entries = new ArrayList<Entry>();
+         }
+         if(count < entries.size()) {
+            return entries.get(count++).reset(source, index);
+         }
+         Entry entry = new Entry(source, index);
+         
+         entries.add(entry);
+         count++;
+         return entry;
       }
       
       /**
@@ -446,12 +562,12 @@ class PullReader implements EventReader {
       /**
        * This is the XML pull parser used to extract this text event.
        */
-      private final XmlPullParser source;
+      private XmlPullParser source;
       
       /**
        * This is the text value that has been extracted from the XML.
        */
-      private final String text;
+      private String text;
       
       /**
        * Constructor for the <code>Text</code> object. This creates
@@ -461,8 +577,22 @@ class PullReader implements EventReader {
        * @param source this is the node that represents the text value
        */
       public Text(XmlPullParser source){
+         this.reset(source);
+      }
+      
+      /**
+       * This is used to update the text event with the text that
+       * the parser is positioned at. This allows the event to be
+       * recycled once the core reader has consumed the text.
+       * 
+       * @param source this is the node that represents the text value
+       * 
+       * @return this returns this event with the new text value
+       */
+      public Text reset(XmlPullParser source) {
          this.text = source.getText(); 
          this.source = source;
+         return this;
       }
       
       /**
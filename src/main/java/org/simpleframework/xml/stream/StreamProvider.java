@@ -42,6 +42,11 @@ class StreamProvider implements Provider {
     */
    private final XMLInputFactory factory;
    
+   /**
+    * This determines if the readers provided recycle events.
+    */
+   private final boolean recycle;
+   
    /**
     * Constructor for the <code>StreamProvider</code> object. This
     * is used to instantiate a parser factory that will be used to
@@ -49,7 +54,23 @@ class StreamProvider implements Provider {
     * front also checks that the framework is fully supported.
     */
    public StreamProvider() {
+      this(false);
+   }
+
+   /**
+    * Constructor for the <code>StreamProvider</code> object. This
+    * is used to instantiate a parser factory that will be used to
+    * create parsers when requested. Instantiating the factory up
+    * front also checks that the framework is fully supported.
+    * If recycling is enabled the readers provided will reuse the
+    * events they produce, which requires that the consumer copies
+    * what it needs from each event before reading the next one.
+    * 
+    * @param recycle this determines if events are to be recycled
+    */
+   public StreamProvider(boolean recycle) {
       this.factory = XMLInputFactory.newInstance();
+      this.recycle = recycle;
    }
 
    /**
@@ -89,6 +110,6 @@ class StreamProvider implements Provider {
     * @return this is used to return the event reader implementation
     */
    private EventReader provide(XMLEventReader source) throws Exception {
-      return new StreamReader(source);
+      return new StreamReader(source, recycle);
    }
 }
\ No newline at end of file
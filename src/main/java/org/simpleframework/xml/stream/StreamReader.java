@@ -18,7 +18,9 @@
 
 package org.simpleframework.xml.stream;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import javax.xml.stream.Location;
 import javax.xml.stream.XMLEventReader;
@@ -42,10 +44,25 @@ import javax.xml.stream.events.XMLEvent;
  */
 class StreamReader implements EventReader {
    
+   /**
+    * This is the end event, which can be shared as it has no state.
+    */
+   private static final End END = new End();
+   
    /**
     * This is the reader that is used to parse the XML document.
     */
    private XMLEventReader reader;
+   
+   /**
+    * This is used to recycle the start events read by this reader.
+    */
+   private EventRing<Start> starts;
+   
+   /**
+    * This is used to recycle the text events read by this reader.
+    */
+   private EventRing<Text> texts;
  
    /**
     * This is used to keep track of any events that were peeked.
@@ -61,6 +78,22 @@ class StreamReader implements EventReader {
     * @param reader this is the reader used to parse the XML source
     */
    public StreamReader(XMLEventReader reader) {
+      this(reader, false);
+   }
+   
+   /**
+    * Constructor for the <code>StreamReader</code> object. This 
+    * creates a reader that extracts events from the provided object.
+    * If recycling is enabled the events produced by this reader are
+    * reused, which requires that the consumer copies what it needs
+    * before reading further events from this reader.
+    * 
+    * @param reader this is the reader used to parse the XML source
+    * @param recycle this determines if events are to be recycled
+    */
+   public StreamReader(XMLEventReader reader, boolean recycle) {
+      this.starts = new EventRing<Start>(recycle);
+      this.texts = new EventRing<Text>(recycle);
       this.reader = reader;
    }
 
@@ -135,8 +168,13 @@ class StreamReader implements EventReader {
     * @return this returns a start event created from the given event
     */
    private Start start(XMLEvent event) {
-      Start node = new Start(event);
+      Start node = starts.take();
       
+      if(node == null) {
+         node = starts.put(new Start(event));
+      } else {
+         node.reset(event);
+      }
       if(node.isEmpty()) {
          return build(node);
       }
@@ -159,7 +197,7 @@ class StreamReader implements EventReader {
 
       while (list.hasNext()) {
          Attribute node = list.next();
-         Entry entry = attribute(node);
+         Entry entry = attribute(event, node);
          
          if(!entry.isReserved()) {
             event.add(entry);
@@ -174,11 +212,15 @@ class StreamReader implements EventReader {
     * reader and used to provide an <code>InputNode</code> that can
     * be used to represent an XML attribute within the source document.
     * 
+    * @param event this is the start event the attribute belongs to
     * @param entry the object that is to be converted to an attribute
     *
     * @return this returns an attribute created from the given object
     */
-   private Entry attribute(Attribute entry) {
+   private Entry attribute(Start event, Attribute entry) {
+      if(starts.isRecycle()) {
+         return event.entry(entry);
+      }
       return new Entry(entry);
    }
 
@@ -193,7 +235,12 @@ class StreamReader implements EventReader {
     * @return this returns the text event created from the given event
     */
    private Text text(XMLEvent event) {
-      return new Text(event);
+      Text node = texts.take();
+      
+      if(node == null) {
+         return texts.put(new Text(event));
+      }
+      return node.reset(event);
    }
    
    /**
@@ -206,7 +253,7 @@ class StreamReader implements EventReader {
     * @return this returns an end event to signify an element close
     */
    private End end() {
-      return new End();
+      return END;
    }
    
    /**
@@ -223,7 +270,7 @@ class StreamReader implements EventReader {
       /**
        * This is the attribute object representing this attribute.
        */
-      private final Attribute entry;
+      private Attribute entry;
       
       /**
        * Constructor for the <code>Entry</code> object. This creates
@@ -237,6 +284,20 @@ class StreamReader implements EventReader {
          this.entry = entry;
       }
       
+      /**
+       * This is used to update the entry so that it represents the
+       * provided attribute. This allows the entry to be recycled once
+       * the core reader has copied out all of the details it needs.
+       * 
+       * @param entry this is the node that represents the attribute
+       * 
+       * @return this returns this entry with the new attribute
+       */
+      public Entry reset(Attribute entry) {
+         this.entry = entry;
+         return this;
+      }
+      
       /**
        * This provides the name of the attribute. This will be the
        * name of the XML attribute without any namespace prefix. If
@@ -322,12 +383,22 @@ class StreamReader implements EventReader {
       /**
        * This is the start element to be used by this start event.
        */
-      private final StartElement element;
+      private StartElement element;
       
       /**
        * This is the element location used to detmine line numbers.
        */
-      private final Location location;
+      private Location location;
+      
+      /**
+       * This contains the attribute entries that can be recycled.
+       */
+      private List<Entry> entries;
+      
+      /**
+       * This is the number of recycled attribute entries in use.
+       */
+      private int count;
       
       /**
        * Constructor for the <code>Start</code> object. This will 
@@ -342,6 +413,48 @@ class StreamReader implements EventReader {
          this.location = event.getLocation();
       }
       
+      /**
+       * This is used to update the start event so that it wraps the
+       * provided node. Any attributes the event held are removed,
+       * however the entries used for them are kept so that they can
+       * be recycled for the attributes of the new element.
+       * 
+       * @param event this is the element being wrapped by this
+       * 
+       * @return this returns this event wrapping the new element
+       */
+      public Start reset(XMLEvent event) {
+         this.element = event.asStartElement();
+         this.location = event.getLocation();
+         this.count = 0;
+         this.clear();
+         return this;
+      }
+      
+      /**
+       * This is used to acquire an attribute entry for the provided
+       * attribute. Entries are recycled from previous elements read
+       * with this event, so a new entry is created only when this
+       * element has more attributes than any before it.
+       * 
+       * @param attribute this is the node that represents the attribute
+       * 
+       * @return this returns an entry wrapping the attribute
+       */
+      public Entry entry(Attribute attribute) {
+         if(entries == null) {
+            entries = new ArrayList<Entry>();
+         }
+         if(count < entries.size()) {
+            return entries.get(count++).reset(attribute);
+         }
+         Entry entry = new Entry(attribute);
+         
+         entries.add(entry);
+         count++;
+         return entry;
+      }
+      
       /**
        * This is used to provide the line number the XML event was
        * encountered at within the XML document. If there is no line
@@ -424,7 +537,7 @@ class StreamReader implements EventReader {
       /**
        * This is the event that is used to represent the text value.
        */
-      private final Characters text;
+      private Characters text;
       
       /**
        * Constructor for the <code>Text</code> object. This creates
@@ -437,6 +550,20 @@ class StreamReader implements EventReader {
          this.text = event.asCharacters();
       }
       
+      /**
+       * This is used to update the text event so that it wraps the
+       * provided node. This allows the event to be recycled once the
+       * core reader has consumed the text it represents.
+       * 
+       * @param event this is the node that represents the text value
+       * 
+       * @return this returns this event wrapping the new text
+       */
+      public Text reset(XMLEvent event) {
+         this.text = event.asCharacters();
+         return this;
+      }
+      
       /**
        * This is true as this event represents a text token. Text 
        * tokens are required to provide a value only. So namespace
@@ -0,0 +1,189 @@
+/*
+ * TagCache.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.stream;
+
+import org.simpleframework.xml.util.Cache;
+import org.simpleframework.xml.util.LimitedCache;
+
+/**
+ * The <code>TagCache</code> object is used to cache the fragments of
+ * markup used to open and close an element. Rather than writing the
+ * bracket, prefix, separator, and name each time an element is 
+ * written, the formatter can write a single fragment. Fragments are
+ * keyed by the styled name of the element and remember the prefix
+ * they were built with, so if the namespace for a name is stable
+ * the fragment is built only once for the whole document.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.stream.Formatter
+ */
+class TagCache {
+   
+   /**
+    * This is used to cache the fragments by the element name.
+    */
+   private final Cache<Fragment> cache;
+   
+   /**
+    * Constructor for the <code>TagCache</code> object. This creates
+    * a cache with a limited capacity, which ensures that documents
+    * with a large number of distinct element names, for example an
+    * element for each key of a map, do not consume much memory.
+    */
+   public TagCache() {
+      this(1000);
+   }
+   
+   /**
+    * Constructor for the <code>TagCache</code> object. This creates
+    * a cache with a limited capacity, which ensures that documents
+    * with a large number of distinct element names, for example an
+    * element for each key of a map, do not consume much memory.
+    * 
+    * @param capacity this is the number of fragments to cache
+    */
+   public TagCache(int capacity) {
+      this.cache = new LimitedCache<Fragment>(capacity);
+   }
+   
+   /**
+    * This is used to acquire the fragment that opens an element. 
+    * The fragment contains the opening bracket and the qualified
+    * name of the element, the attributes and the closing bracket
+    * are written separately by the formatter.
+    * 
+    * @param name this is the name of the element to be opened
+    * @param prefix this is the prefix for the element, if any
+    * 
+    * @return this returns the fragment for the start tag
+    */
+   public char[] getStart(String name, String prefix) {
+      return getFragment(name, prefix).start;
+   }
+   
+   /**
+    * This is used to acquire the fragment that closes an element. 
+    * The fragment contains the opening bracket, the slash, the 
+    * qualified name of the element, and the closing bracket.
+    * 
+    * @param name this is the name of the element to be closed
+    * @param prefix this is the prefix for the element, if any
+    * 
+    * @return this returns the fragment for the end tag
+    */
+   public char[] getEnd(String name, String prefix) {
+      return getFragment(name, prefix).end;
+   }
+   
+   /**
+    * This is used to acquire the fragments for the named element. 
+    * If the fragments cached for the name were built with another
+    * prefix then they are rebuilt with the prefix provided, which
+    * means an element switching prefixes is still written correctly.
+    * 
+    * @param name this is the name of the element to be written
+    * @param prefix this is the prefix for the element, if any
+    * 
+    * @return this returns the fragments for the element
+    */
+   private Fragment getFragment(String name, String prefix) {
+      Fragment fragment = cache.fetch(name);
+      
+      if(fragment == null || !fragment.isMatch(prefix)) {
+         fragment = new Fragment(name, prefix);
+         cache.cache(name, fragment);
+      }
+      return fragment;
+   }
+   
+   /**
+    * The <code>Fragment</code> object is used to hold the markup that
+    * is used to open and close an element with a specific prefix. As
+    * an element without a prefix is the most common case an empty or
+    * null prefix is considered to be the same.
+    */
+   private static class Fragment {
+      
+      /**
+       * This is the markup used to open the element.
+       */
+      private final char[] start;
+      
+      /**
+       * This is the markup used to close the element.
+       */
+      private final char[] end;
+      
+      /**
+       * This is the prefix that was used to build the fragments.
+       */
+      private final String prefix;
+      
+      /**
+       * Constructor for the <code>Fragment</code> object. This will
+       * build the markup used to open and close the element using 
+       * the name and prefix provided.
+       * 
+       * @param name this is the name of the element to be written
+       * @param prefix this is the prefix for the element, if any
+       */
+      public Fragment(String name, String prefix) {
+         String qualified = name;
+         
+         if(!isEmpty(prefix)) {
+            qualified = prefix + ":" + name;
+         }
+         this.start = ("<" + qualified).toCharArray();
+         this.end = ("</" + qualified + ">").toCharArray();
+         this.prefix = prefix;
+      }
+      
+      /**
+       * This is used to determine if the fragment was built with the
+       * prefix provided. An empty prefix and a null prefix are both
+       * considered to represent an element without a prefix.
+       * 
+       * @param other this is the prefix to compare with
+       * 
+       * @return this returns true if the prefix is the same
+       */
+      public boolean isMatch(String other) {
+         if(isEmpty(prefix)) {
+            return isEmpty(other);
+         }
+         return prefix.equals(other);
+      }
+      
+      /**
+       * This is used to determine if a prefix is empty. A prefix that
+       * is null or of zero length is considered to be empty.
+       * 
+       * @param value this is the prefix to determine if it is empty
+       * 
+       * @return this returns true if the prefix is empty
+       */
+      private boolean isEmpty(String value) {
+         if(value != null) {
+            return value.length() == 0;
+         }
+         return true;
+      }
+   }
+}
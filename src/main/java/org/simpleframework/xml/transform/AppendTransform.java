@@ -0,0 +1,54 @@
+/*
+ * AppendTransform.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+/**
+ * An <code>AppendTransform</code> is a transform that can write the
+ * text of a value to an <code>Appendable</code> target. This allows
+ * a value to be written straight to the output without creating a
+ * string for it. For example, a number can be appended to the buffer
+ * used to write the XML document as its digits are produced.
+ * <pre>
+ *
+ *    &#64;Attribute
+ *    private Integer number;
+ *
+ * </pre>
+ * The text appended must be the same as the text returned from the
+ * <code>write</code> method for the value. As the text appended is
+ * not escaped it must never contain markup characters, so this is
+ * suitable only for values such as numbers and enumerations.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.Transformer
+ */
+public interface AppendTransform<T> extends Transform<T> {
+
+   /**
+    * This method is used to append the text for the provided value
+    * to the given target. The text appended must be the same as the
+    * text returned from <code>write</code>, and the target must not
+    * be retained by the transform once this method returns.
+    *
+    * @param value this is the value to append the text of
+    * @param target this is the target the text is appended to
+    */
+   void write(T value, Appendable target) throws Exception;
+}
@@ -19,6 +19,7 @@
 package org.simpleframework.xml.transform;
 
 import org.simpleframework.xml.transform.StringArrayTransform;
+import org.simpleframework.xml.util.NumberParser;
 import java.lang.reflect.Array;
 
 /**
@@ -39,6 +40,11 @@ import java.lang.reflect.Array;
  * Aside from the obvious difference, the element annotation has an
  * advantage over the attribute annotation in that it can maintain
  * any references using the <code>CycleStrategy</code> object. 
+ * <p>
+ * The values are found within the text by their bounds, so a string
+ * is created only for values that are given to the delegate. Arrays
+ * of integral primitives using the stock transforms are populated by
+ * parsing each value directly from the text.
  * 
  * @author Niall Gallagher
  */
@@ -85,10 +91,22 @@ class ArrayTransform implements Transform {
     * @return this returns an appropriate instanced to be used
     */
    public Object read(String value) throws Exception {
-      String[] list = split.read(value);      
-      int length = list.length;
+      int[] bounds = split.split(value);      
+      int length = bounds.length / 2;
 
-      return read(list, length);
+      if(entry == int.class && delegate instanceof IntegerTransform) {
+         return readInt(value, bounds, length);
+      }
+      if(entry == long.class && delegate instanceof LongTransform) {
+         return readLong(value, bounds, length);
+      }
+      if(entry == short.class && delegate instanceof ShortTransform) {
+         return readShort(value, bounds, length);
+      }
+      if(entry == byte.class && delegate instanceof ByteTransform) {
+         return readByte(value, bounds, length);
+      }
+      return read(value, bounds, length);
    }
    
    /**
@@ -97,16 +115,18 @@ class ArrayTransform implements Transform {
     * being deserialized from the XML document and the value for
     * the string representation is required.
     * 
-    * @param list this is the string representation of the value
+    * @param value this is the string representation of the value
+    * @param bounds this contains the bounds of each of the values
     * @param length this is the number of string values to use
     * 
     * @return this returns an appropriate instanced to be used
     */
-   private Object read(String[] list, int length) throws Exception {
+   private Object read(String value, int[] bounds, int length) throws Exception {
       Object array = Array.newInstance(entry, length);
 
       for(int i = 0; i < length; i++) {
-         Object item = delegate.read(list[i]);
+         String text = value.substring(bounds[i * 2], bounds[i * 2 + 1]);
+         Object item = delegate.read(text);
 
          if(item != null) {
             Array.set(array, i, item);                 
@@ -115,6 +135,90 @@ class ArrayTransform implements Transform {
       return array;
    }
    
+   /**
+    * This is used to read the values within the text as integers. As
+    * the stock transform is used for the entries each value is parsed
+    * directly from the text, without creating a string or an object
+    * for the value, and is set within the array created.
+    * 
+    * @param value this is the string representation of the value
+    * @param bounds this contains the bounds of each of the values
+    * @param length this is the number of values within the text
+    * 
+    * @return this returns the array of values that were read
+    */
+   private int[] readInt(String value, int[] bounds, int length) throws Exception {
+      int[] array = new int[length];
+
+      for(int i = 0; i < length; i++) {
+         array[i] = NumberParser.parseInt(value, bounds[i * 2], bounds[i * 2 + 1]);
+      }
+      return array;
+   }
+   
+   /**
+    * This is used to read the values within the text as longs. As
+    * the stock transform is used for the entries each value is parsed
+    * directly from the text, without creating a string or an object
+    * for the value, and is set within the array created.
+    * 
+    * @param value this is the string representation of the value
+    * @param bounds this contains the bounds of each of the values
+    * @param length this is the number of values within the text
+    * 
+    * @return this returns the array of values that were read
+    */
+   private long[] readLong(String value, int[] bounds, int length) throws Exception {
+      long[] array = new long[length];
+
+      for(int i = 0; i < length; i++) {
+         array[i] = NumberParser.parseLong(value, bounds[i * 2], bounds[i * 2 + 1]);
+      }
+      return array;
+   }
+   
+   /**
+    * This is used to read the values within the text as shorts. As
+    * the stock transform is used for the entries each value is parsed
+    * directly from the text, without creating a string or an object
+    * for the value, and is set within the array created.
+    * 
+    * @param value this is the string representation of the value
+    * @param bounds this contains the bounds of each of the values
+    * @param length this is the number of values within the text
+    * 
+    * @return this returns the array of values that were read
+    */
+   private short[] readShort(String value, int[] bounds, int length) throws Exception {
+      short[] array = new short[length];
+
+      for(int i = 0; i < length; i++) {
+         array[i] = NumberParser.parseShort(value, bounds[i * 2], bounds[i * 2 + 1]);
+      }
+      return array;
+   }
+   
+   /**
+    * This is used to read the values within the text as bytes. As
+    * the stock transform is used for the entries each value is parsed
+    * directly from the text, without creating a string or an object
+    * for the value, and is set within the array created.
+    * 
+    * @param value this is the string representation of the value
+    * @param bounds this contains the bounds of each of the values
+    * @param length this is the number of values within the text
+    * 
+    * @return this returns the array of values that were read
+    */
+   private byte[] readByte(String value, int[] bounds, int length) throws Exception {
+      byte[] array = new byte[length];
+
+      for(int i = 0; i < length; i++) {
+         array[i] = NumberParser.parseByte(value, bounds[i * 2], bounds[i * 2 + 1]);
+      }
+      return array;
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
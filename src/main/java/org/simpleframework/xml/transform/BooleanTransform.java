@@ -39,7 +39,7 @@ package org.simpleframework.xml.transform;
  * 
  * @author Niall Gallagher
  */
-class BooleanTransform implements Transform<Boolean> {
+class BooleanTransform implements AppendTransform<Boolean> {
 
    /**
     * This method is used to convert the string value given to an
@@ -68,4 +68,21 @@ class BooleanTransform implements Transform<Boolean> {
    public String write(Boolean value) {
       return value.toString();
    }
+   
+   /**
+    * This method is used to append the text of the provided value
+    * to the given target. If the target is a string builder then
+    * the boolean is appended to it directly, which produces the
+    * same text as <code>write</code> without creating a string.
+    * 
+    * @param value this is the value to append the text of
+    * @param target this is the target the text is appended to
+    */
+   public void write(Boolean value, Appendable target) throws Exception {
+      if(target instanceof StringBuilder) {
+         ((StringBuilder)target).append(value.booleanValue());
+      } else {
+         target.append(value.toString());
+      }
+   }
 }
\ No newline at end of file
@@ -0,0 +1,372 @@
+/*
+ * DateConverter.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * The <code>DateConverter</code> is used to format and parse dates
+ * in the formats described by <code>DateType</code> without the use
+ * of a <code>SimpleDateFormat</code>. As this holds no state other
+ * than the time zone and its names, which are never modified, it is
+ * safe to use from any number of threads without locking.
+ * <p>
+ * Only the dates that can be handled with certainty are formatted
+ * or parsed. Dates are formatted if they fall between the years 1601
+ * and 9999, where the Gregorian calendar applies without exception.
+ * Text is parsed if it has exactly the expected structure and its
+ * time zone is GMT or UTC. For anything else this will indicate the
+ * date was not handled, so a date format can be used instead.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.DateType
+ */
+class DateConverter {
+
+   /**
+    * This is returned from a parse if the text was not handled.
+    */
+   public static final long UNKNOWN = Long.MIN_VALUE;
+
+   /**
+    * This is the number of milliseconds within a single day.
+    */
+   private static final long DAY = 86400000L;
+
+   /**
+    * This is the time zone that dates are formatted within.
+    */
+   private final TimeZone zone;
+
+   /**
+    * This is the short name of the zone outside daylight time.
+    */
+   private final String standard;
+
+   /**
+    * This is the short name of the zone within daylight time.
+    */
+   private final String daylight;
+
+   /**
+    * Constructor for the <code>DateConverter</code> object. This is
+    * used to create a formatter that writes dates within the given
+    * time zone. The names of the time zone are determined once, for
+    * the provided locale, so that they are not acquired each time.
+    *
+    * @param zone this is the time zone dates are formatted within
+    * @param locale this is the locale used to name the time zone
+    */
+   public DateConverter(TimeZone zone, Locale locale) {
+      this.standard = zone.getDisplayName(false, TimeZone.SHORT, locale);
+      this.daylight = zone.getDisplayName(true, TimeZone.SHORT, locale);
+      this.zone = zone;
+   }
+
+   /**
+    * This is used to format the date in the full date format, which
+    * is the format "yyyy-MM-dd HH:mm:ss.S z". If the date is outside
+    * the range of years that can be formatted with certainty then
+    * this will return null so that a date format can be used.
+    *
+    * @param date this is the date that is to be formatted
+    *
+    * @return this returns the formatted date or null if not handled
+    */
+   public String getText(Date date) {
+      long time = date.getTime();
+      long local = time + zone.getOffset(time);
+      long days = local / DAY;
+      long rest = local % DAY;
+
+      if(rest < 0) {
+         rest += DAY;
+         days--;
+      }
+      return getText(date, days, (int)rest);
+   }
+
+   /**
+    * This is used to format the date in the full date format. The
+    * day is converted to a year, month and day of month using the
+    * Gregorian calendar, then each of the fields is written in turn
+    * followed by the name of the time zone at that instant.
+    *
+    * @param date this is the date that is to be formatted
+    * @param days this is the number of days since the epoch
+    * @param rest this is the number of milliseconds into the day
+    *
+    * @return this returns the formatted date or null if not handled
+    */
+   private String getText(Date date, long days, int rest) {
+      long shift = days + 719468;
+      long era = (shift >= 0 ? shift : shift - 146096) / 146097;
+      int offset = (int)(shift - era * 146097);
+      int index = (offset - offset / 1460 + offset / 36524 - offset / 146096) / 365;
+      int yearday = offset - (365 * index + index / 4 - index / 100);
+      int position = (5 * yearday + 2) / 153;
+      int day = yearday - (153 * position + 2) / 5 + 1;
+      int month = position < 10 ? position + 3 : position - 9;
+      long year = index + era * 400 + (month <= 2 ? 1 : 0);
+
+      if(year < 1601 || year > 9999) {
+         return null;
+      }
+      StringBuilder builder = new StringBuilder(32);
+
+      append(builder, (int)year, 4);
+      builder.append('-');
+      append(builder, month, 2);
+      builder.append('-');
+      append(builder, day, 2);
+      builder.append(' ');
+      append(builder, rest / 3600000, 2);
+      builder.append(':');
+      append(builder, rest / 60000 % 60, 2);
+      builder.append(':');
+      append(builder, rest / 1000 % 60, 2);
+      builder.append('.');
+      builder.append(rest % 1000);
+      builder.append(' ');
+      builder.append(getZone(date));
+
+      return builder.toString();
+   }
+
+   /**
+    * This is used to acquire the short name of the time zone at the
+    * instant of the provided date. If the date is within daylight
+    * time for the zone then the daylight name is provided.
+    *
+    * @param date this is the date to acquire the zone name for
+    *
+    * @return this returns the short name of the time zone
+    */
+   private String getZone(Date date) {
+      if(zone.inDaylightTime(date)) {
+         return daylight;
+      }
+      return standard;
+   }
+
+   /**
+    * This is used to append a number to the provided builder. If the
+    * number has fewer digits than the width specified then it is
+    * padded with leading zeros to ensure it is the required width.
+    *
+    * @param builder this is the builder to append the number to
+    * @param value this is the value that is to be appended
+    * @param width this is the minimum number of digits to append
+    */
+   private void append(StringBuilder builder, int value, int width) {
+      for(int limit = 10; width > 1; width--) {
+         if(value < limit) {
+            builder.append('0');
+         } else {
+            limit *= 10;
+         }
+      }
+      builder.append(value);
+   }
+
+   /**
+    * This is used to parse the provided text as a date. The text
+    * must have a date, optionally followed by a time, optionally
+    * followed by milliseconds, and then a time zone of GMT or UTC.
+    * If the text does not have exactly this structure then this
+    * returns <code>UNKNOWN</code> so that a date format can be used.
+    *
+    * @param text this is the text that is to be parsed
+    * @param time this determines if the text contains a time
+    * @param millis this determines if the time has milliseconds
+    *
+    * @return this returns the time since the epoch in milliseconds
+    */
+   public long getTime(String text, boolean time, boolean millis) {
+      int length = text.length();
+      int start = getDigits(text, 0, 4);
+      int year = getNumber(text, 0, start);
+
+      if(start < 0 || year < 1601) {
+         return UNKNOWN;
+      }
+      int end = getField(text, start, '-');
+      int month = getNumber(text, start + 1, end);
+
+      if(end < 0 || month < 1 || month > 12) {
+         return UNKNOWN;
+      }
+      int next = getField(text, end, '-');
+      long days = getDays(year, month, getNumber(text, end + 1, next));
+
+      if(next < 0) {
+         return UNKNOWN;
+      }
+      long result = days * DAY;
+
+      if(time) {
+         int hour = getField(text, next, ' ');
+         int minute = getField(text, hour, ':');
+         int second = getField(text, minute, ':');
+
+         if(second < 0) {
+            return UNKNOWN;
+         }
+         result += getNumber(text, next + 1, hour) * 3600000L;
+         result += getNumber(text, hour + 1, minute) * 60000L;
+         result += getNumber(text, minute + 1, second) * 1000L;
+         next = second;
+      }
+      if(millis) {
+         int fraction = getField(text, next, '.');
+
+         if(fraction < 0) {
+            return UNKNOWN;
+         }
+         result += getNumber(text, next + 1, fraction);
+         next = fraction;
+      }
+      if(!isZone(text, next, length)) {
+         return UNKNOWN;
+      }
+      return result;
+   }
+
+   /**
+    * This is used to determine if the remaining text is a supported
+    * time zone. Only GMT and UTC are supported, as these have a zero
+    * offset regardless of the date. The name of the zone must follow
+    * a single space and must end the text.
+    *
+    * @param text this is the text that is being parsed
+    * @param off this is the offset of the space before the zone
+    * @param length this is the length of the text being parsed
+    *
+    * @return this returns true if the zone is GMT or UTC
+    */
+   private boolean isZone(String text, int off, int length) {
+      if(off + 4 != length || text.charAt(off) != ' ') {
+         return false;
+      }
+      if(text.regionMatches(true, off + 1, "GMT", 0, 3)) {
+         return true;
+      }
+      return text.regionMatches(true, off + 1, "UTC", 0, 3);
+   }
+
+   /**
+    * This is used to find the end of a numeric field that follows
+    * the specified delimiter. If the delimiter is not found at the
+    * offset, or if there are no digits following it, then this will
+    * return a negative value to indicate the field is not valid.
+    *
+    * @param text this is the text that is being parsed
+    * @param off this is the offset the delimiter is expected at
+    * @param delimiter this is the delimiter that precedes the field
+    *
+    * @return this returns the offset of the end of the field
+    */
+   private int getField(String text, int off, char delimiter) {
+      if(off < 0 || off >= text.length()) {
+         return -1;
+      }
+      if(text.charAt(off) != delimiter) {
+         return -1;
+      }
+      return getDigits(text, off + 1, 0);
+   }
+
+   /**
+    * This is used to find the end of a sequence of digits. If there
+    * are no digits, too many digits, or fewer than the number that
+    * are required, then a negative value is returned to indicate the
+    * sequence of digits is not valid.
+    *
+    * @param text this is the text that is being parsed
+    * @param off this is the offset the digits start at
+    * @param count this is the exact number of digits required
+    *
+    * @return this returns the offset of the end of the digits
+    */
+   private int getDigits(String text, int off, int count) {
+      int length = text.length();
+      int start = off;
+
+      while(off < length) {
+         char next = text.charAt(off);
+
+         if(next < '0' || next > '9') {
+            break;
+         }
+         off++;
+      }
+      if(off == start || off - start > 4) {
+         return -1;
+      }
+      if(count > 0 && off - start != count) {
+         return -1;
+      }
+      return off;
+   }
+
+   /**
+    * This is used to convert a sequence of digits to a number. The
+    * digits must have already been validated, if the end offset is
+    * negative then the digits are not valid and zero is returned.
+    *
+    * @param text this is the text that is being parsed
+    * @param off this is the offset the digits start at
+    * @param end this is the offset the digits end at
+    *
+    * @return this returns the value of the sequence of digits
+    */
+   private int getNumber(String text, int off, int end) {
+      int value = 0;
+
+      while(off < end) {
+         value = value * 10 + text.charAt(off++) - '0';
+      }
+      return value;
+   }
+
+   /**
+    * This is used to determine the number of days since the epoch for
+    * the specified date in the Gregorian calendar. The day of month
+    * is not restricted, so a day beyond the end of the month rolls
+    * in to the following month in the same way as a lenient format.
+    *
+    * @param year this is the year of the date
+    * @param month this is the month of the year from one to twelve
+    * @param day this is the day of the month
+    *
+    * @return this returns the number of days since the epoch
+    */
+   private long getDays(int year, int month, int day) {
+      int shift = month <= 2 ? year - 1 : year;
+      int era = shift / 400;
+      int index = shift - era * 400;
+      int yearday = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+      int offset = index * 365 + index / 4 - index / 100 + yearday;
+
+      return era * 146097L + offset - 719468;
+   }
+}
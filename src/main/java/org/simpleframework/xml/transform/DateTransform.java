@@ -47,6 +47,11 @@ class DateTransform<T extends Date> implements Transform<T> {
     * This represents the constructor used for creating the date.
     */
    private final DateFactory<T> factory;
+   
+   /**
+    * This is the type of date that is created by this transform.
+    */
+   private final Class<T> type;
 
    /**
     * Constructor for the <code>DateTransform</code> object. This is
@@ -59,6 +64,7 @@ class DateTransform<T extends Date> implements Transform<T> {
     */
    public DateTransform(Class<T> type) throws Exception {
       this.factory = new DateFactory<T>(type);
+      this.type = type;
    }
    
    /**
@@ -71,10 +77,12 @@ class DateTransform<T extends Date> implements Transform<T> {
     * 
     * @return this returns an appropriate instanced to be used
     */
-   public synchronized T read(String text) throws Exception {      
-      Date date = DateType.getDate(text);
-      Long time = date.getTime();
+   public T read(String text) throws Exception {      
+      long time = DateType.getTime(text);
       
+      if(type == Date.class) {
+         return type.cast(new Date(time));
+      }
       return factory.getInstance(time);
    }
    
@@ -88,7 +96,7 @@ class DateTransform<T extends Date> implements Transform<T> {
     * 
     * @return this is the string representation of the given date
     */
-   public synchronized String write(T date) throws Exception {
+   public String write(T date) throws Exception {
       return DateType.getText(date);     
    }
 }
@@ -18,8 +18,13 @@
 
 package org.simpleframework.xml.transform;
 
+import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * The <code>DateType</code> enumeration provides a set of known date
@@ -27,6 +32,13 @@ import java.util.Date;
  * representation of a date to come in several formats, from most 
  * accurate to least. Enumerating the dates ensures that resolution
  * of the format is fast by enabling inspection of the date string. 
+ * <p>
+ * Dates are formatted and parsed with a shared converter that takes
+ * no locks. Only if the converter can not handle a date is a date
+ * format used, and each thread is given its own date format. Both
+ * use the same locale, which is the default locale only if it uses
+ * the Gregorian calendar and ASCII digits, otherwise it is the US
+ * locale. This ensures a date is always read back as it was written.
  * 
  * @author Niall Gallagher
  */
@@ -35,27 +47,52 @@ enum DateType {
    /**
     * This is the default date format used by the date transform.
     */
-   FULL("yyyy-MM-dd HH:mm:ss.S z"),
+   FULL("yyyy-MM-dd HH:mm:ss.S z", true, true),
    
    /**
     * This is the date type without millisecond resolution.
     */
-   LONG("yyyy-MM-dd HH:mm:ss z"),
+   LONG("yyyy-MM-dd HH:mm:ss z", true, false),
    
    /**
     * This date type enables only the specific date to be used.
     */
-   NORMAL("yyyy-MM-dd z"),
+   NORMAL("yyyy-MM-dd z", false, false),
    
    /**
     * This is the shortest format that relies on the date locale.
     */
-   SHORT("yyyy-MM-dd");
+   SHORT("yyyy-MM-dd", false, false);
+   
+   /**
+    * This is the time zone that all dates are formatted within.
+    */
+   private static final TimeZone ZONE = TimeZone.getDefault();
+   
+   /**
+    * This is the locale that all dates are formatted within.
+    */
+   private static final Locale LOCALE = getLocale(Locale.getDefault());
+   
+   /**
+    * This is the converter that is shared by all of the date types.
+    */
+   private static final DateConverter CONVERTER = new DateConverter(ZONE, LOCALE);
 
    /**
     * This is the date formatter that is used to parse the date.
     */
-   private DateFormat format;
+   private final DateFormat format;
+   
+   /**
+    * This determines if the date type contains a time of day.
+    */
+   private final boolean time;
+   
+   /**
+    * This determines if the date type contains milliseconds.
+    */
+   private final boolean millis;
 
    /**
     * Constructor for the <code>DateType</code> enumeration. This
@@ -63,15 +100,19 @@ enum DateType {
     * parse an input string and convert it to a usable date.
     * 
     * @param format this is the format to use to parse the date
+    * @param time this determines if the format has a time of day
+    * @param millis this determines if the format has milliseconds
     */
-   private DateType(String format) {
-      this.format = new DateFormat(format);         
+   private DateType(String format, boolean time, boolean millis) {
+      this.format = new DateFormat(format);  
+      this.millis = millis;
+      this.time = time;
    }
 
    /**
     * Acquires the date format from the date type. This is then 
     * used to parse the date string and convert it to a usable
-    * date. The format returned is synchronized for safety.
+    * date. The format returned is confined to the calling thread.
     * 
     * @return this returns the date format to be used
     */
@@ -90,9 +131,14 @@ enum DateType {
     * @return this returns the string to represent the date
     */
    public static String getText(Date date) throws Exception {
-      DateFormat format = FULL.getFormat();
+      String text = CONVERTER.getText(date);
       
-      return format.getText(date);
+      if(text == null) {
+         DateFormat format = FULL.getFormat();
+         
+         return format.getText(date);
+      }
+      return text;
    }
    
    /**
@@ -106,10 +152,33 @@ enum DateType {
     * @return this returns the date parsed from the string value
     */
    public static Date getDate(String text) throws Exception {
+      long time = getTime(text);
+      
+      return new Date(time);
+   }
+   
+   /**
+    * This is used to convert the string to a time in milliseconds
+    * since the epoch. Converting to a time rather than a date means
+    * the caller can create the date type it requires directly. If 
+    * the shared converter can not parse the text then the date 
+    * format for the matching date type is used to parse it.
+    * 
+    * @param text this is the date that is converted to a time
+    * 
+    * @return this returns the time parsed from the string value
+    */
+   public static long getTime(String text) throws Exception {
       DateType type = getType(text);
-      DateFormat format = type.getFormat();
+      long time = CONVERTER.getTime(text, type.time, type.millis);
       
-      return format.getDate(text);
+      if(time == DateConverter.UNKNOWN) {
+         DateFormat format = type.getFormat();
+         Date date = format.getDate(text);
+         
+         return date.getTime();
+      }
+      return time;
    }
 
    /**
@@ -138,29 +207,81 @@ enum DateType {
    }
    
    /**
-    * The <code>DateFormat</code> provides a synchronized means for
-    * using the simple date format object. It ensures that should 
-    * there be many threads trying to gain access to the formatter 
-    * that they will not collide causing a race condition.
+    * This is used to acquire the locale that dates are formatted
+    * with. The given locale is used only if its calendar is exactly
+    * the Gregorian calendar, which the Buddhist calendar extends, and
+    * its digits are ASCII digits, as this is what the converter uses. If not then the US locale is
+    * used, so that the converter and the date formats always agree.
+    * 
+    * @param locale this is the locale that is to be checked
+    * 
+    * @return this returns the locale that dates are formatted with
+    */
+   static Locale getLocale(Locale locale) {
+      Calendar calendar = Calendar.getInstance(locale);
+      DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
+      Class type = calendar.getClass();
+      
+      if(type == GregorianCalendar.class) {
+         if(symbols.getZeroDigit() == '0') {
+            return locale;
+         }
+      }
+      return Locale.US;
+   }
+   
+   /**
+    * The <code>DateFormat</code> provides a thread confined means for
+    * using the simple date format object. Each thread is given its
+    * own simple date format, which ensures that should there be many
+    * threads trying to gain access to the format that they will not
+    * collide, and that they will not contend for a shared lock.
     * 
     * @author Niall Gallagher
     */
-   private static class DateFormat {
+   private static class DateFormat extends ThreadLocal<SimpleDateFormat> {
       
       /**
-       * This is the simple date format used to parse the string.
+       * This is the pattern used to create each simple date format.
        */
-      private SimpleDateFormat format;
+      private final String pattern;
       
       /**
        * Constructor for the <code>DateFormat</code> object. This will
        * wrap a simple date format, providing access to the conversion
        * functions which allow date to string and string to date.
        * 
-       * @param format this is the pattern to use for the date type
+       * @param pattern this is the pattern to use for the date type
+       */
+      public DateFormat(String pattern) {         
+         this.pattern = pattern;
+      }
+      
+      /**
+       * This is used to create the simple date format for a thread.
+       * The format is created the first time a thread requires it
+       * and is then reused for every conversion on that thread.
+       * 
+       * @return this returns a simple date format for the pattern
+       */
+      protected SimpleDateFormat initialValue() {
+         return new SimpleDateFormat(pattern, LOCALE);
+      }
+      
+      /**
+       * This is used to acquire the simple date format for the calling
+       * thread. As parsing a time zone name will change the time zone
+       * of the format, the time zone is restored before each use.
+       * 
+       * @return this returns the simple date format for this thread
        */
-      public DateFormat(String format) {         
-         this.format = new SimpleDateFormat(format);
+      private SimpleDateFormat getFormat() {
+         SimpleDateFormat format = get();
+         
+         if(format.getTimeZone() != ZONE) {
+            format.setTimeZone(ZONE);
+         }
+         return format;
       }
       
       /**
@@ -172,8 +293,8 @@ enum DateType {
        * 
        * @return returns the string that has be converted from a date
        */
-      public synchronized String getText(Date date) throws Exception {
-         return format.format(date);
+      public String getText(Date date) throws Exception {
+         return getFormat().format(date);
       }
       
       /**
@@ -185,8 +306,8 @@ enum DateType {
        * 
        * @return returns the date that has be converted from a string
        */
-      public synchronized Date getDate(String text) throws Exception {
-         return format.parse(text);
+      public Date getDate(String text) throws Exception {
+         return getFormat().parse(text);
       }
    }
 }  
\ No newline at end of file
@@ -26,7 +26,7 @@ package org.simpleframework.xml.transform;
  * 
  * @author Niall Gallagher
  */
-class EnumTransform implements Transform<Enum> {
+class EnumTransform implements AppendTransform<Enum> {
    
    /**
     * This is the specific enumeration that this transforms.
@@ -71,4 +71,16 @@ class EnumTransform implements Transform<Enum> {
    public String write(Enum value) throws Exception {
       return value.name();
    }
+   
+   /**
+    * This method is used to append the text of the provided value
+    * to the given target. The text appended is the name of the 
+    * enumerated value, which can not contain markup characters.
+    * 
+    * @param value this is the value to append the text of
+    * @param target this is the target the text is appended to
+    */
+   public void write(Enum value, Appendable target) throws Exception {
+      target.append(value.name());
+   }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@
 
 package org.simpleframework.xml.transform;
 
+import org.simpleframework.xml.util.NumberParser;
+
 /**
  * The <code>FloatTransform</code> object is used to transform float
  * values to and from string representations, which will be inserted
@@ -39,7 +41,7 @@ package org.simpleframework.xml.transform;
  * 
  * @author Niall Gallagher
  */
-class FloatTransform implements Transform<Float> {
+class FloatTransform implements SliceTransform<Float>, AppendTransform<Float> {
    
    /**
     * This method is used to convert the string value given to an
@@ -55,6 +57,22 @@ class FloatTransform implements Transform<Float> {
       return Float.valueOf(value);
    }
    
+   /**
+    * This method is used to convert the slice of text given to an
+    * appropriate representation. The value is parsed from the text
+    * without creating a string, the result is the same as that of
+    * reading a string containing the text within the slice.
+    * 
+    * @param text this is the text that contains the value
+    * @param off this is the offset the value starts at
+    * @param len this is the number of characters in the value
+    * 
+    * @return this returns an appropriate instanced to be used
+    */
+   public Float read(CharSequence text, int off, int len) {
+      return Float.valueOf(NumberParser.parseFloat(text, off, off + len));
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
@@ -68,4 +86,21 @@ class FloatTransform implements Transform<Float> {
    public String write(Float value) {
       return value.toString();
    }
+   
+   /**
+    * This method is used to append the text of the provided value
+    * to the given target. If the target is a string builder then
+    * the float is appended to it directly, which produces the
+    * same text as <code>write</code> without creating a string.
+    * 
+    * @param value this is the value to append the text of
+    * @param target this is the target the text is appended to
+    */
+   public void write(Float value, Appendable target) throws Exception {
+      if(target instanceof StringBuilder) {
+         ((StringBuilder)target).append(value.floatValue());
+      } else {
+         target.append(value.toString());
+      }
+   }
 }
\ No newline at end of file
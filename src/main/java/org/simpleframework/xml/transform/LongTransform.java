@@ -18,6 +18,8 @@
 
 package org.simpleframework.xml.transform;
 
+import org.simpleframework.xml.util.NumberParser;
+
 /**
  * The <code>LongTransform</code> object is used to transform long
  * values to and from string representations, which will be inserted
@@ -39,7 +41,7 @@ package org.simpleframework.xml.transform;
  * 
  * @author Niall Gallagher
  */
-class LongTransform implements Transform<Long> {
+class LongTransform implements SliceTransform<Long>, AppendTransform<Long> {
    
    /**
     * This method is used to convert the string value given to an
@@ -55,6 +57,22 @@ class LongTransform implements Transform<Long> {
       return Long.valueOf(value);
    }
    
+   /**
+    * This method is used to convert the slice of text given to an
+    * appropriate representation. The value is parsed from the text
+    * without creating a string, the result is the same as that of
+    * reading a string containing the text within the slice.
+    * 
+    * @param text this is the text that contains the value
+    * @param off this is the offset the value starts at
+    * @param len this is the number of characters in the value
+    * 
+    * @return this returns an appropriate instanced to be used
+    */
+   public Long read(CharSequence text, int off, int len) {
+      return Long.valueOf(NumberParser.parseLong(text, off, off + len));
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
@@ -68,4 +86,21 @@ class LongTransform implements Transform<Long> {
    public String write(Long value) {
       return value.toString();
    }
+   
+   /**
+    * This method is used to append the text of the provided value
+    * to the given target. If the target is a string builder then
+    * the long is appended to it directly, which produces the
+    * same text as <code>write</code> without creating a string.
+    * 
+    * @param value this is the value to append the text of
+    * @param target this is the target the text is appended to
+    */
+   public void write(Long value, Appendable target) throws Exception {
+      if(target instanceof StringBuilder) {
+         ((StringBuilder)target).append(value.longValue());
+      } else {
+         target.append(value.toString());
+      }
+   }
 }
\ No newline at end of file
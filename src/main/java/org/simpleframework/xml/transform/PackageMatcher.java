@@ -88,6 +88,9 @@ class PackageMatcher implements Matcher {
       if(name.startsWith("java.math")) {
          return matchMath(type);
       }
+      if(name.startsWith("java.time")) {
+         return matchTime(type);
+      }
       return matchEnum(type);
    }
    
@@ -180,6 +183,25 @@ class PackageMatcher implements Matcher {
       return null;
    }
    
+   /**
+    * This is used to resolve <code>Transform</code> implementations
+    * that relate to the <code>java.time</code> package. The types 
+    * are matched by name so that this will work on platforms that
+    * do not provide the <code>java.time</code> package at all.
+    * 
+    * @param type this is the type to resolve a stock transform for
+    * 
+    * @return this will return a transform for the specified type
+    */ 
+   private Transform matchTime(Class type) throws Exception {
+      TemporalType temporal = TemporalType.getType(type);
+      
+      if(temporal != null) {
+         return new TemporalTransform(type, temporal);
+      }
+      return null;
+   }
+   
    /**
     * This is used to resolve <code>Transform</code> implementations
     * that relate to the <code>java.util</code> package. If the type
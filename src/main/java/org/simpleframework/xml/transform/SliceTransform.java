@@ -0,0 +1,56 @@
+/*
+ * SliceTransform.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or 
+ * implied. See the License for the specific language governing 
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+/**
+ * A <code>SliceTransform</code> is a transform that can read a value
+ * from a slice of a character sequence. This allows the text read
+ * from an XML document to be converted without first creating a
+ * string for it. For example the text of an element can be handed
+ * to the transform straight from the buffer of the reader.
+ * <pre>
+ * 
+ *    &#64;Element
+ *    private int number;
+ *    
+ * </pre>
+ * The result of reading a slice must be the same as the result of
+ * reading a string holding the same text. So a transform can be
+ * used with either method depending on how the text is available.
+ * 
+ * @author Niall Gallagher
+ * 
+ * @see org.simpleframework.xml.transform.Transformer
+ */
+public interface SliceTransform<T> extends Transform<T> {
+   
+   /**
+    * This method is used to convert the slice of text given to an
+    * appropriate representation. The sequence provided may be the
+    * buffer of the reader, and so it is only valid for the duration
+    * of the call and must not be retained by the transform.
+    * 
+    * @param text this is the text that contains the value
+    * @param off this is the offset the value starts at
+    * @param len this is the number of characters in the value
+    * 
+    * @return this returns an appropriate instanced to be used
+    */
+   T read(CharSequence text, int off, int len) throws Exception;
+}
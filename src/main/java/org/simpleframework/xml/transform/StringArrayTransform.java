@@ -19,7 +19,6 @@
 package org.simpleframework.xml.transform;
 
 import org.simpleframework.xml.transform.Transform;
-import java.util.regex.Pattern;
 
 /**
  * The <code>StringArrayTransform</code>  is used to transform string
@@ -39,15 +38,19 @@ import java.util.regex.Pattern;
  * Aside from the obvious difference, the element annotation has an
  * advantage over the attribute annotation in that it can maintain
  * any references using the <code>CycleStrategy</code> object. 
+ * <p>
+ * The values are found using a <code>TokenSplitter</code>, which will
+ * scan the text directly for simple delimiters such as a comma. Only
+ * delimiters that are real patterns will use a regular expression.
  * 
  * @author Niall Gallagher
  */
 class StringArrayTransform implements Transform<String[]> {
 
    /**
-    * Represents the pattern used to split the string values.
+    * This is used to find the bounds of each of the string values.
     */
-   private final Pattern pattern;        
+   private final TokenSplitter splitter;        
 
    /**
     * This is the token used to split the string into an array.
@@ -57,8 +60,8 @@ class StringArrayTransform implements Transform<String[]> {
    /**
     * Constructor for the <code>StringArrayTransform</code> object.
     * This will create a transform that will split an array using a
-    * comma as the delimeter. In order to perform the split in a
-    * reasonably performant manner the pattern used is compiled.
+    * comma as the delimeter. As this is a single character the 
+    * values are found by scanning the text for the comma directly.
     */
    public StringArrayTransform() {
       this(",");           
@@ -68,12 +71,13 @@ class StringArrayTransform implements Transform<String[]> {
     * Constructor for the <code>StringArrayTransform</code> object.
     * This will create a transform that will split an array using a
     * specified regular expression pattern. To keep the performance
-    * of the transform reasonable the pattern used is compiled.
+    * of the transform reasonable the pattern is compiled only if it
+    * is not a single character or a sequence of whitespace.
     * 
     * @param token the pattern used to split the string values
     */
    public StringArrayTransform(String token) {
-      this.pattern = Pattern.compile(token);           
+      this.splitter = new TokenSplitter(token);           
       this.token = token;           
    }
    
@@ -103,18 +107,33 @@ class StringArrayTransform implements Transform<String[]> {
     * @return this returns an appropriate instanced to be used
     */
    private String[] read(String value, String token) {
-      String[] list = pattern.split(value);
+      int[] bounds = splitter.split(value);
+      String[] list = new String[bounds.length / 2];
 
       for(int i = 0; i < list.length; i++) {
-         String text = list[i];
+         int start = bounds[i * 2];
+         int end = bounds[i * 2 + 1];
 
-         if(text != null) {              
-            list[i] = text.trim();
-         }
+         list[i] = value.substring(start, end);
       }
       return list;
    }
    
+   /**
+    * This is used to find the bounds of each of the values within
+    * the provided text. The bounds are provided as pairs of offsets,
+    * the first being where a trimmed value starts and the second 
+    * being where it ends. This allows values to be converted without
+    * first creating a string for each of the values.
+    * 
+    * @param value this is the text containing the delimited values
+    * 
+    * @return this returns the bounds of the values within the text
+    */
+   public int[] split(String value) {
+      return splitter.split(value);
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
@@ -0,0 +1,298 @@
+/*
+ * TemporalFactory.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The <code>TemporalFactory</code> object is used to create instances
+ * of the <code>java.time</code> types from the components parsed by
+ * a <code>TemporalParser</code>. Instances are created with the static
+ * factory methods of each type, which are acquired reflectively so
+ * that this will load on platforms without the <code>java.time</code>
+ * package. If a factory method rejects the values provided, for
+ * example if the day does not exist within the month, then null is
+ * returned so that the text can be parsed by the type itself.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.TemporalTransform
+ */
+class TemporalFactory {
+
+   /**
+    * This is used to parse text that the parser does not accept.
+    */
+   private final Method parse;
+
+   /**
+    * This is used to create an instant from seconds and nanoseconds.
+    */
+   private final Method instant;
+
+   /**
+    * This is used to create a date from a year, month and day.
+    */
+   private final Method date;
+
+   /**
+    * This is used to create a date and time from its components.
+    */
+   private final Method time;
+
+   /**
+    * This is used to create a date and time with a zone offset.
+    */
+   private final Method offset;
+
+   /**
+    * This is used to create a date and time within a time zone.
+    */
+   private final Method zone;
+
+   /**
+    * This is used to create a duration from seconds and nanoseconds.
+    */
+   private final Method duration;
+
+   /**
+    * This is used to create a zone offset from its total seconds.
+    */
+   private final Method seconds;
+
+   /**
+    * This is used to create a time zone from its identifier.
+    */
+   private final Method region;
+
+   /**
+    * This is used to acquire the seconds from the epoch of an instant.
+    */
+   private final Method epoch;
+
+   /**
+    * This is used to acquire the nanoseconds of an instant.
+    */
+   private final Method nano;
+
+   /**
+    * Constructor for the <code>TemporalFactory</code> object. This is
+    * used to acquire the factory methods for each of the temporal
+    * types, along with the method used to parse the specified type.
+    *
+    * @param type this is the temporal type that is to be created
+    */
+   public TemporalFactory(Class<?> type) throws Exception {
+      Class<?> local = getClass(type, "java.time.LocalDateTime");
+      Class<?> offset = getClass(type, "java.time.ZoneOffset");
+      Class<?> zone = getClass(type, "java.time.ZoneId");
+      Class<?> instant = getClass(type, "java.time.Instant");
+      Class<?> date = getClass(type, "java.time.LocalDate");
+      Class<?> duration = getClass(type, "java.time.Duration");
+      Class<?> offsetTime = getClass(type, "java.time.OffsetDateTime");
+      Class<?> zoneTime = getClass(type, "java.time.ZonedDateTime");
+      Class<?> number = int.class;
+
+      this.parse = type.getMethod("parse", CharSequence.class);
+      this.instant = instant.getMethod("ofEpochSecond", long.class, long.class);
+      this.date = date.getMethod("of", number, number, number);
+      this.time = local.getMethod("of", number, number, number, number, number, number, number);
+      this.offset = offsetTime.getMethod("of", local, offset);
+      this.zone = zoneTime.getMethod("ofInstant", local, offset, zone);
+      this.duration = duration.getMethod("ofSeconds", long.class, long.class);
+      this.seconds = offset.getMethod("ofTotalSeconds", number);
+      this.region = zone.getMethod("of", String.class);
+      this.epoch = instant.getMethod("getEpochSecond");
+      this.nano = instant.getMethod("getNano");
+   }
+
+   /**
+    * This is used to load the named class from the same loader that
+    * loaded the specified type. As all of the temporal types are in
+    * the same package they will always be available together.
+    *
+    * @param type this is the type used to acquire the class loader
+    * @param name this is the fully qualified name of the class
+    *
+    * @return this returns the class that has been loaded
+    */
+   private Class<?> getClass(Class<?> type, String name) throws Exception {
+      return Class.forName(name, false, type.getClassLoader());
+   }
+
+   /**
+    * This is used to parse the provided text with the parse method of
+    * the temporal type. This is used only when the text could not be
+    * parsed by a <code>TemporalParser</code>, so any exception thrown
+    * by the parse method is propagated to the caller.
+    *
+    * @param text this is the text that is to be parsed
+    *
+    * @return this returns the temporal value parsed from the text
+    */
+   public Object getValue(String text) throws Exception {
+      try {
+         return parse.invoke(null, text);
+      } catch(InvocationTargetException e) {
+         Throwable cause = e.getCause();
+
+         if(cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+         }
+         throw e;
+      }
+   }
+
+   /**
+    * This is used to create an instant from the number of seconds
+    * since the epoch and the nanoseconds within the second.
+    *
+    * @param seconds this is the number of seconds since the epoch
+    * @param nanos this is the number of nanoseconds in the second
+    *
+    * @return this returns the instant or null if it is not valid
+    */
+   public Object getInstant(long seconds, int nanos) throws Exception {
+      return getValue(instant, seconds, (long)nanos);
+   }
+
+   /**
+    * This is used to create a local date from the date components
+    * that have been parsed by the provided parser.
+    *
+    * @param parser this is the parser that parsed the date
+    *
+    * @return this returns the date or null if it is not valid
+    */
+   public Object getDate(TemporalParser parser) throws Exception {
+      return getValue(date, parser.year, parser.month, parser.day);
+   }
+
+   /**
+    * This is used to create a local date and time from the date and
+    * time components that have been parsed by the provided parser.
+    *
+    * @param parser this is the parser that parsed the date and time
+    *
+    * @return this returns the date and time or null if not valid
+    */
+   public Object getDateTime(TemporalParser parser) throws Exception {
+      return getValue(time, parser.year, parser.month, parser.day, parser.hour, parser.minute, parser.second, parser.nano);
+   }
+
+   /**
+    * This is used to create a date and time with an offset from the
+    * components that have been parsed by the provided parser.
+    *
+    * @param parser this is the parser that parsed the date and time
+    *
+    * @return this returns the date and time or null if not valid
+    */
+   public Object getOffsetDateTime(TemporalParser parser) throws Exception {
+      Object local = getDateTime(parser);
+      Object zone = getValue(seconds, parser.offset);
+
+      if(local == null || zone == null) {
+         return null;
+      }
+      return getValue(offset, local, zone);
+   }
+
+   /**
+    * This is used to create a date and time within a time zone from
+    * the components that have been parsed by the provided parser. If
+    * there is no region then the offset is used as the time zone. The
+    * offset and date and time determine the instant, which is then
+    * viewed within the time zone as it would be by the type itself.
+    *
+    * @param parser this is the parser that parsed the date and time
+    * @param name this is the region parsed or null if there is none
+    *
+    * @return this returns the date and time or null if not valid
+    */
+   public Object getZonedDateTime(TemporalParser parser, String name) throws Exception {
+      Object local = getDateTime(parser);
+      Object shift = getValue(seconds, parser.offset);
+      Object area = shift;
+
+      if(name != null) {
+         area = getValue(region, name);
+      }
+      if(local == null || shift == null || area == null) {
+         return null;
+      }
+      return getValue(zone, local, shift, area);
+   }
+
+   /**
+    * This is used to create a duration from a number of seconds and
+    * the nanoseconds to adjust the seconds by, which may be negative.
+    *
+    * @param parser this is the parser that parsed the duration
+    *
+    * @return this returns the duration or null if it is not valid
+    */
+   public Object getDuration(TemporalParser parser) throws Exception {
+      return getValue(duration, parser.seconds, (long)parser.nano);
+   }
+
+   /**
+    * This is used to acquire the number of seconds since the epoch
+    * from the provided instant.
+    *
+    * @param value this is the instant to acquire the seconds from
+    *
+    * @return this returns the number of seconds since the epoch
+    */
+   public long getSeconds(Object value) throws Exception {
+      return (Long)epoch.invoke(value);
+   }
+
+   /**
+    * This is used to acquire the nanoseconds within the second from
+    * the provided instant.
+    *
+    * @param value this is the instant to acquire the nanoseconds from
+    *
+    * @return this returns the nanoseconds within the second
+    */
+   public int getNanos(Object value) throws Exception {
+      return (Integer)nano.invoke(value);
+   }
+
+   /**
+    * This is used to invoke the specified factory method. If the
+    * factory method rejects the values then null is returned, this
+    * allows the text to be parsed by the type so that the exception
+    * thrown is the same as would be thrown by the type itself.
+    *
+    * @param method this is the static factory method to invoke
+    * @param list this is the list of values to provide the method
+    *
+    * @return this returns the value created or null if not valid
+    */
+   private Object getValue(Method method, Object... list) throws Exception {
+      try {
+         return method.invoke(null, list);
+      } catch(InvocationTargetException e) {
+         return null;
+      }
+   }
+}
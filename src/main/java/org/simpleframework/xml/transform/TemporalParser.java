@@ -0,0 +1,403 @@
+/*
+ * TemporalParser.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+/**
+ * The <code>TemporalParser</code> is used to parse the ISO-8601 text
+ * written by the <code>java.time</code> types. Each component of the
+ * text is parsed in turn directly from the characters of the text,
+ * which means no intermediate objects are created. Only the common
+ * structure of each component is accepted, for example years must
+ * have exactly four digits. If a component does not have the common
+ * structure then parsing stops and the caller must fall back to the
+ * parser provided by the type, which will also report any errors.
+ * <p>
+ * A parser is created for each value that is parsed and should not
+ * be shared between threads. Once a component has been parsed its
+ * value is available from the public fields of the parser.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.TemporalTransform
+ */
+class TemporalParser {
+
+   /**
+    * This is the year parsed from the date component.
+    */
+   public int year;
+
+   /**
+    * This is the month of the year parsed from the date component.
+    */
+   public int month;
+
+   /**
+    * This is the day of the month parsed from the date component.
+    */
+   public int day;
+
+   /**
+    * This is the hour of the day parsed from the time component.
+    */
+   public int hour;
+
+   /**
+    * This is the minute of the hour parsed from the time component.
+    */
+   public int minute;
+
+   /**
+    * This is the second of the minute parsed from the time component.
+    */
+   public int second;
+
+   /**
+    * This is the nanosecond of the second parsed from the time.
+    */
+   public int nano;
+
+   /**
+    * This is the total seconds of the zone offset that was parsed.
+    */
+   public int offset;
+
+   /**
+    * This is the total number of seconds parsed from a duration.
+    */
+   public long seconds;
+
+   /**
+    * This is the text that is being parsed by this parser.
+    */
+   private final String text;
+
+   /**
+    * This is the number of characters within the text.
+    */
+   private final int count;
+
+   /**
+    * This is the current offset within the text being parsed.
+    */
+   private int off;
+
+   /**
+    * Constructor for the <code>TemporalParser</code> object. This is
+    * used to create a parser for the specified text. The components
+    * of the text are parsed one at a time from the start of the text.
+    *
+    * @param text this is the text that is to be parsed
+    */
+   public TemporalParser(String text) {
+      this.count = text.length();
+      this.text = text;
+   }
+
+   /**
+    * This is used to parse a date in the form "yyyy-MM-dd". The year
+    * must have exactly four digits and no sign, and the month and day
+    * must have two digits each. The month and day are checked only
+    * for range, whether the day exists within the month is not.
+    *
+    * @return this returns true if a date was parsed from the text
+    */
+   public boolean date() {
+      year = digits(4);
+
+      if(year < 0 || !skip('-')) {
+         return false;
+      }
+      month = digits(2);
+
+      if(month < 1 || month > 12 || !skip('-')) {
+         return false;
+      }
+      day = digits(2);
+      return day >= 1 && day <= 31;
+   }
+
+   /**
+    * This is used to parse a time in the form "HH:mm:ss.SSSSSSSSS".
+    * The fraction of a second is optional, and can have between one
+    * and nine digits. The seconds can be optional, as they are for
+    * local times. The time must follow the specified separator.
+    *
+    * @param separator this is the character preceding the time
+    * @param seconds this determines if the seconds are required
+    *
+    * @return this returns true if a time was parsed from the text
+    */
+   public boolean time(char separator, boolean seconds) {
+      if(!skip(separator)) {
+         return false;
+      }
+      hour = digits(2);
+
+      if(hour < 0 || hour > 23 || !skip(':')) {
+         return false;
+      }
+      minute = digits(2);
+
+      if(minute < 0 || minute > 59) {
+         return false;
+      }
+      if(skip(':')) {
+         second = digits(2);
+
+         if(second < 0 || second > 59) {
+            return false;
+         }
+         if(skip('.')) {
+            return fraction();
+         }
+         return true;
+      }
+      return !seconds;
+   }
+
+   /**
+    * This is used to parse the fraction of a second following the
+    * decimal point. Between one and nine digits are accepted, and
+    * the digits are scaled so that they represent nanoseconds.
+    *
+    * @return this returns true if a fraction was parsed
+    */
+   private boolean fraction() {
+      int start = off;
+
+      nano = 0;
+
+      while(off < count && off - start < 9) {
+         char next = text.charAt(off);
+
+         if(next < '0' || next > '9') {
+            break;
+         }
+         nano = nano * 10 + next - '0';
+         off++;
+      }
+      if(off == start) {
+         return false;
+      }
+      for(int i = off - start; i < 9; i++) {
+         nano *= 10;
+      }
+      return true;
+   }
+
+   /**
+    * This is used to parse the "Z" designator used for UTC. This is
+    * used for instants, which are always written in UTC. Unlike the
+    * offset, a numeric offset of zero is not accepted here.
+    *
+    * @return this returns true if the UTC designator was parsed
+    */
+   public boolean utc() {
+      return skip('Z');
+   }
+
+   /**
+    * This is used to parse a zone offset, which is either "Z" or a
+    * sign followed by "HH:mm" with optional seconds. The offset is
+    * provided in total seconds, and must be within eighteen hours.
+    *
+    * @return this returns true if an offset was parsed
+    */
+   public boolean offset() {
+      if(skip('Z')) {
+         offset = 0;
+         return true;
+      }
+      int sign = skip('-') ? -1 : skip('+') ? 1 : 0;
+      int hours = digits(2);
+
+      if(sign == 0 || hours < 0 || hours > 18 || !skip(':')) {
+         return false;
+      }
+      int minutes = digits(2);
+      int rest = 0;
+
+      if(minutes < 0 || minutes > 59) {
+         return false;
+      }
+      if(skip(':')) {
+         rest = digits(2);
+
+         if(rest < 0 || rest > 59) {
+            return false;
+         }
+      }
+      offset = sign * (hours * 3600 + minutes * 60 + rest);
+      return offset >= -64800 && offset <= 64800;
+   }
+
+   /**
+    * This is used to parse a zone region that is enclosed within
+    * square brackets, for example "[Europe/Paris]". If there is no
+    * region then this returns null. If there is a region then the
+    * text within the brackets is returned.
+    *
+    * @return this returns the region or null if there is none
+    */
+   public String region() {
+      if(off < count && text.charAt(off) == '[') {
+         int end = text.indexOf(']', off);
+
+         if(end > off + 1 && end == count - 1) {
+            String region = text.substring(off + 1, end);
+
+            off = count;
+            return region;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * This is used to parse a duration in the form written by the
+    * duration type, which is "PT" followed by optional hours, then
+    * minutes, then seconds with an optional fraction. Each of the
+    * components can be negative. Durations with days or with more
+    * than twelve digits in a component are not accepted.
+    *
+    * @return this returns true if a duration was parsed
+    */
+   public boolean duration() {
+      int stage = 0;
+
+      if(!skip('P') || !skip('T')) {
+         return false;
+      }
+      while(off < count) {
+         boolean negative = skip('-');
+         long value = number(12);
+
+         if(value < 0 || stage > 2) {
+            return false;
+         }
+         if(negative) {
+            value = -value;
+         }
+         if(stage < 1 && skip('H')) {
+            seconds += value * 3600;
+            stage = 1;
+         } else if(stage < 2 && skip('M')) {
+            seconds += value * 60;
+            stage = 2;
+         } else if(skip('.')) {
+            if(!fraction() || !skip('S')) {
+               return false;
+            }
+            seconds += value;
+            nano = negative ? -nano : nano;
+            stage = 3;
+         } else if(skip('S')) {
+            seconds += value;
+            stage = 3;
+         } else {
+            return false;
+         }
+      }
+      return stage > 0;
+   }
+
+   /**
+    * This is used to determine if all of the text has been parsed.
+    * If there are characters remaining once all components have been
+    * parsed then the text is not in a form this parser accepts.
+    *
+    * @return this returns true if all of the text has been parsed
+    */
+   public boolean end() {
+      return off == count;
+   }
+
+   /**
+    * This is used to skip the specified character. If the character
+    * at the current offset does not match then the offset remains
+    * unchanged and this will return false.
+    *
+    * @param value this is the character that is to be skipped
+    *
+    * @return this returns true if the character was skipped
+    */
+   private boolean skip(char value) {
+      if(off < count && text.charAt(off) == value) {
+         off++;
+         return true;
+      }
+      return false;
+   }
+
+   /**
+    * This is used to parse exactly the specified number of digits.
+    * If the digits are not present then this returns a negative
+    * value to indicate that the text could not be parsed.
+    *
+    * @param width this is the exact number of digits to parse
+    *
+    * @return this returns the value of the digits parsed
+    */
+   private int digits(int width) {
+      int value = 0;
+
+      if(off + width > count) {
+         return -1;
+      }
+      for(int i = 0; i < width; i++) {
+         char next = text.charAt(off + i);
+
+         if(next < '0' || next > '9') {
+            return -1;
+         }
+         value = value * 10 + next - '0';
+      }
+      off += width;
+      return value;
+   }
+
+   /**
+    * This is used to parse up to the specified number of digits. At
+    * least one digit must be present, if there are no digits or if
+    * there are too many digits then this returns a negative value.
+    *
+    * @param limit this is the maximum number of digits to parse
+    *
+    * @return this returns the value of the digits parsed
+    */
+   private long number(int limit) {
+      int start = off;
+      long value = 0;
+
+      while(off < count) {
+         char next = text.charAt(off);
+
+         if(next < '0' || next > '9') {
+            break;
+         }
+         value = value * 10 + next - '0';
+         off++;
+      }
+      if(off == start || off - start > limit) {
+         return -1;
+      }
+      return value;
+   }
+}
@@ -0,0 +1,324 @@
+/*
+ * TemporalTransform.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+/**
+ * The <code>TemporalTransform</code> object is used to transform the
+ * <code>java.time</code> types to and from their ISO-8601 text. This
+ * supports instants, local dates, local date times, offset date times,
+ * zoned date times and durations. Fields and methods annotated with
+ * the XML attribute or element annotations will use this.
+ * <pre>
+ *
+ *    &#64;Attribute
+ *    private Instant instant;
+ *
+ * </pre>
+ * Text is parsed with a <code>TemporalParser</code>, which reads the
+ * components of the text directly and creates the value with the
+ * static factory methods of the type. This avoids the formatter used
+ * by the parse method of each type. Only text that the parser does
+ * not accept, or values that the factory methods reject, are parsed
+ * with the parse method of the type. Values are written with their
+ * own string representation, which is built directly by each type,
+ * except for instants, whose digits are appended here directly.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.TemporalParser
+ */
+class TemporalTransform implements Transform<Object> {
+
+   /**
+    * This is the first second of the year zero in the ISO calendar.
+    */
+   private static final long MINIMUM = -62167219200L;
+
+   /**
+    * This is the last second of the year 9999 in the ISO calendar.
+    */
+   private static final long MAXIMUM = 253402300799L;
+
+   /**
+    * This is used to create the temporal values from their parts.
+    */
+   private final TemporalFactory factory;
+
+   /**
+    * This is the temporal type that this transform converts.
+    */
+   private final TemporalType type;
+
+   /**
+    * Constructor for the <code>TemporalTransform</code> object. This
+    * is used to create a transform for the specified type, which must
+    * be one of the types enumerated by <code>TemporalType</code>.
+    *
+    * @param type this is the class of the temporal type
+    * @param temporal this is the temporal type being transformed
+    */
+   public TemporalTransform(Class type, TemporalType temporal) throws Exception {
+      this.factory = new TemporalFactory(type);
+      this.type = temporal;
+   }
+
+   /**
+    * This method is used to convert the string value given to an
+    * appropriate representation. This is used when an object is
+    * being deserialized from the XML document and the value for
+    * the string representation is required.
+    *
+    * @param text this is the ISO-8601 text of the temporal value
+    *
+    * @return this returns an appropriate instanced to be used
+    */
+   public Object read(String text) throws Exception {
+      TemporalParser parser = new TemporalParser(text);
+      Object value = read(parser);
+
+      if(value == null) {
+         return factory.getValue(text);
+      }
+      return value;
+   }
+
+   /**
+    * This is used to create the temporal value from the provided
+    * parser. Each component the type requires is parsed in turn, if
+    * any component is not accepted or if there is text remaining
+    * once all components are parsed then this returns null.
+    *
+    * @param parser this is the parser used to parse the text
+    *
+    * @return this returns the temporal value or null if not parsed
+    */
+   private Object read(TemporalParser parser) throws Exception {
+      if(type == TemporalType.DURATION) {
+         if(parser.duration() && parser.end()) {
+            return factory.getDuration(parser);
+         }
+         return null;
+      }
+      if(!parser.date()) {
+         return null;
+      }
+      if(type == TemporalType.LOCAL_DATE) {
+         if(parser.end()) {
+            return factory.getDate(parser);
+         }
+         return null;
+      }
+      if(!parser.time('T', type == TemporalType.INSTANT)) {
+         return null;
+      }
+      if(type == TemporalType.LOCAL_DATE_TIME) {
+         if(parser.end()) {
+            return factory.getDateTime(parser);
+         }
+         return null;
+      }
+      if(type == TemporalType.INSTANT) {
+         if(parser.utc() && parser.end()) {
+            return readInstant(parser);
+         }
+         return null;
+      }
+      if(!parser.offset()) {
+         return null;
+      }
+      if(type == TemporalType.OFFSET_DATE_TIME) {
+         if(parser.end()) {
+            return factory.getOffsetDateTime(parser);
+         }
+         return null;
+      }
+      String region = parser.region();
+
+      if(parser.end()) {
+         return factory.getZonedDateTime(parser, region);
+      }
+      return null;
+   }
+
+   /**
+    * This is used to create an instant from the provided parser. The
+    * date and time parsed are converted to the seconds since the
+    * epoch using the ISO calendar. If the day does not exist within
+    * the month then this returns null so that the text is parsed by
+    * the instant type, which will report the error.
+    *
+    * @param parser this is the parser used to parse the text
+    *
+    * @return this returns the instant or null if it is not valid
+    */
+   private Object readInstant(TemporalParser parser) throws Exception {
+      int year = parser.year;
+      int month = parser.month;
+      int day = parser.day;
+
+      if(day > getLength(year, month)) {
+         return null;
+      }
+      long days = getDays(year, month, day);
+      long seconds = days * 86400 + parser.hour * 3600 + parser.minute * 60 + parser.second;
+
+      return factory.getInstant(seconds, parser.nano);
+   }
+
+   /**
+    * This method is used to convert the provided value into an XML
+    * usable format. This is used in the serialization process when
+    * there is a need to convert a field value in to a string so
+    * that that value can be written as a valid XML entity.
+    *
+    * @param value this is the value to be converted to a string
+    *
+    * @return this is the string representation of the given value
+    */
+   public String write(Object value) throws Exception {
+      if(type == TemporalType.INSTANT) {
+         long seconds = factory.getSeconds(value);
+         int nanos = factory.getNanos(value);
+
+         if(seconds >= MINIMUM && seconds <= MAXIMUM) {
+            return writeInstant(seconds, nanos);
+         }
+      }
+      return value.toString();
+   }
+
+   /**
+    * This is used to write an instant in the same form as the string
+    * representation of the instant type. The fraction of a second is
+    * written in groups of three digits, and is omitted if there are
+    * no nanoseconds. This is used only for years zero to 9999.
+    *
+    * @param seconds this is the number of seconds since the epoch
+    * @param nanos this is the nanoseconds within the second
+    *
+    * @return this returns the text representing the instant
+    */
+   private String writeInstant(long seconds, int nanos) {
+      long days = seconds / 86400;
+      int rest = (int)(seconds % 86400);
+
+      if(rest < 0) {
+         rest += 86400;
+         days--;
+      }
+      long shift = days + 719468;
+      long era = (shift >= 0 ? shift : shift - 146096) / 146097;
+      int offset = (int)(shift - era * 146097);
+      int index = (offset - offset / 1460 + offset / 36524 - offset / 146096) / 365;
+      int yearday = offset - (365 * index + index / 4 - index / 100);
+      int position = (5 * yearday + 2) / 153;
+      int day = yearday - (153 * position + 2) / 5 + 1;
+      int month = position < 10 ? position + 3 : position - 9;
+      int year = (int)(index + era * 400) + (month <= 2 ? 1 : 0);
+      StringBuilder builder = new StringBuilder(30);
+
+      append(builder, year, 4);
+      builder.append('-');
+      append(builder, month, 2);
+      builder.append('-');
+      append(builder, day, 2);
+      builder.append('T');
+      append(builder, rest / 3600, 2);
+      builder.append(':');
+      append(builder, rest / 60 % 60, 2);
+      builder.append(':');
+      append(builder, rest % 60, 2);
+
+      if(nanos > 0) {
+         builder.append('.');
+
+         if(nanos % 1000000 == 0) {
+            append(builder, nanos / 1000000, 3);
+         } else if(nanos % 1000 == 0) {
+            append(builder, nanos / 1000, 6);
+         } else {
+            append(builder, nanos, 9);
+         }
+      }
+      return builder.append('Z').toString();
+   }
+
+   /**
+    * This is used to append a number to the provided builder. If the
+    * number has fewer digits than the width specified then it is
+    * padded with leading zeros to ensure it is the required width.
+    *
+    * @param builder this is the builder to append the number to
+    * @param value this is the value that is to be appended
+    * @param width this is the minimum number of digits to append
+    */
+   private void append(StringBuilder builder, int value, int width) {
+      for(int limit = 10; width > 1; width--) {
+         if(value < limit) {
+            builder.append('0');
+         } else {
+            limit *= 10;
+         }
+      }
+      builder.append(value);
+   }
+
+   /**
+    * This is used to determine the number of days within a month of
+    * the ISO calendar, taking leap years in to account for February.
+    *
+    * @param year this is the year the month is within
+    * @param month this is the month of the year from one to twelve
+    *
+    * @return this returns the number of days within the month
+    */
+   private int getLength(int year, int month) {
+      if(month == 2) {
+         if(year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+         }
+         return 28;
+      }
+      if(month == 4 || month == 6 || month == 9 || month == 11) {
+         return 30;
+      }
+      return 31;
+   }
+
+   /**
+    * This is used to determine the number of days since the epoch for
+    * the specified date in the ISO calendar, which is the Gregorian
+    * calendar applied to all years.
+    *
+    * @param year this is the year of the date
+    * @param month this is the month of the year from one to twelve
+    * @param day this is the day of the month
+    *
+    * @return this returns the number of days since the epoch
+    */
+   private long getDays(int year, int month, int day) {
+      int shift = month <= 2 ? year - 1 : year;
+      int era = (shift >= 0 ? shift : shift - 399) / 400;
+      int index = shift - era * 400;
+      int yearday = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+      int offset = index * 365 + index / 4 - index / 100 + yearday;
+
+      return era * 146097L + offset - 719468;
+   }
+}
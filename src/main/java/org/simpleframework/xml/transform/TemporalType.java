@@ -0,0 +1,99 @@
+/*
+ * TemporalType.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+/**
+ * The <code>TemporalType</code> enumeration provides the set of
+ * <code>java.time</code> types supported by the temporal transform.
+ * The types are identified by name rather than by class so that
+ * this can be used on platforms without the <code>java.time</code>
+ * package, where none of the types will ever be matched.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.TemporalTransform
+ */
+enum TemporalType {
+
+   /**
+    * This represents an instant on the time line in UTC.
+    */
+   INSTANT("java.time.Instant"),
+
+   /**
+    * This represents a date without a time or a time zone.
+    */
+   LOCAL_DATE("java.time.LocalDate"),
+
+   /**
+    * This represents a date and time without a time zone.
+    */
+   LOCAL_DATE_TIME("java.time.LocalDateTime"),
+
+   /**
+    * This represents a date and time with an offset from UTC.
+    */
+   OFFSET_DATE_TIME("java.time.OffsetDateTime"),
+
+   /**
+    * This represents a date and time within a time zone.
+    */
+   ZONED_DATE_TIME("java.time.ZonedDateTime"),
+
+   /**
+    * This represents an amount of time in seconds and nanoseconds.
+    */
+   DURATION("java.time.Duration");
+
+   /**
+    * This is the fully qualified name of the temporal type.
+    */
+   private final String name;
+
+   /**
+    * Constructor for the <code>TemporalType</code> enumeration. This
+    * is used to create a temporal type that matches the class with
+    * the specified fully qualified class name.
+    *
+    * @param name this is the fully qualified name of the type
+    */
+   private TemporalType(String name) {
+      this.name = name;
+   }
+
+   /**
+    * This is used to acquire the temporal type for the specified
+    * class. If the class is not one of the supported types from the
+    * <code>java.time</code> package then this will return null.
+    *
+    * @param type this is the class to acquire the temporal type for
+    *
+    * @return this returns the temporal type for the class or null
+    */
+   public static TemporalType getType(Class type) {
+      String name = type.getName();
+
+      for(TemporalType temporal : values()) {
+         if(temporal.name.equals(name)) {
+            return temporal;
+         }
+      }
+      return null;
+   }
+}
@@ -20,6 +20,9 @@ package org.simpleframework.xml.transform;
 
 import java.util.TimeZone;
 
+import org.simpleframework.xml.util.Cache;
+import org.simpleframework.xml.util.ConcurrentCache;
+
 /**
  * The <code>TimeZoneTransform</code> is used to transform time zone
  * values to and from string representations, which will be inserted
@@ -38,11 +41,29 @@ import java.util.TimeZone;
  * Aside from the obvious difference, the element annotation has an
  * advantage over the attribute annotation in that it can maintain
  * any references using the <code>CycleStrategy</code> object. 
+ * <p>
+ * Time zones are cached by their identifier once resolved so that
+ * subsequent reads do not need to search the time zone database. 
+ * As a time zone can be modified, each read is given its own copy.
  * 
  * @author Niall Gallagher
  */
 class TimeZoneTransform implements Transform<TimeZone> {
    
+   /**
+    * This is used to cache the time zones that have been resolved.
+    */
+   private final Cache<TimeZone> cache;
+   
+   /**
+    * Constructor for the <code>TimeZoneTransform</code> object. This
+    * creates a transform that will cache each time zone it resolves
+    * so that it does not need to be searched for again.
+    */
+   public TimeZoneTransform() {
+      this.cache = new ConcurrentCache<TimeZone>();
+   }
+   
    /**
     * This method is used to convert the string value given to an
     * appropriate representation. This is used when an object is
@@ -54,7 +75,17 @@ class TimeZoneTransform implements Transform<TimeZone> {
     * @return this returns an appropriate instanced to be used
     */
    public TimeZone read(String zone) {
-      return TimeZone.getTimeZone(zone);
+      TimeZone value = cache.fetch(zone);
+      
+      if(value == null) {
+         value = TimeZone.getTimeZone(zone);
+         
+         if(zone.equals(value.getID())) {
+            cache.cache(zone, (TimeZone)value.clone());
+         }
+         return value;
+      }
+      return (TimeZone)value.clone();
    }
    
    /**
@@ -0,0 +1,324 @@
+/*
+ * TokenSplitter.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.transform;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The <code>TokenSplitter</code> is used to find the values within a
+ * delimited list of values. Rather than creating a string for each
+ * of the values this provides the bounds of each value within the
+ * text, which allows values such as numbers to be converted without
+ * first being copied. Each of the values found is trimmed.
+ * <p>
+ * The delimiter is a regular expression, and the values found are
+ * the same as those produced by splitting the text with the pattern.
+ * However, a delimiter that is a single character, an escaped single
+ * character, or a sequence of whitespace characters is found with a
+ * simple scan of the text so that the regular expression engine is
+ * used only for delimiters that are real patterns.
+ *
+ * @author Niall Gallagher
+ *
+ * @see org.simpleframework.xml.transform.StringArrayTransform
+ */
+class TokenSplitter {
+
+   /**
+    * This is the expression that matches a sequence of whitespace.
+    */
+   private static final String SPACE = "\\s+";
+
+   /**
+    * These are the characters that have a meaning in an expression.
+    */
+   private static final String META = "\\^$.|?*+()[]{}";
+
+   /**
+    * This is the pattern used if the delimiter is not a simple one.
+    */
+   private final Pattern pattern;
+
+   /**
+    * This is the delimiter character or minus one if there is none.
+    */
+   private final int delimiter;
+
+   /**
+    * This determines if the delimiter is a sequence of whitespace.
+    */
+   private final boolean space;
+
+   /**
+    * Constructor for the <code>TokenSplitter</code> object. This will
+    * create a splitter that finds values delimited by the specified
+    * regular expression. If the expression is not a simple one then
+    * it is compiled so that it can be used to find the delimiters.
+    *
+    * @param token this is the expression that delimits the values
+    */
+   public TokenSplitter(String token) {
+      this.delimiter = getDelimiter(token);
+      this.space = token.equals(SPACE);
+      this.pattern = getPattern(token);
+   }
+
+   /**
+    * This is used to compile the provided expression if it can not
+    * be found with a simple scan of the text. If the expression is a
+    * single character or a sequence of whitespace this returns null.
+    *
+    * @param token this is the expression that delimits the values
+    *
+    * @return this returns the pattern used to find the delimiters
+    */
+   private Pattern getPattern(String token) {
+      if(space || delimiter >= 0) {
+         return null;
+      }
+      return Pattern.compile(token);
+   }
+
+   /**
+    * This is used to determine the character that the expression will
+    * match if it matches only a single literal character. If the
+    * expression has any meaning other than the character itself then
+    * this will return minus one so that the pattern is used.
+    *
+    * @param token this is the expression that delimits the values
+    *
+    * @return this returns the character delimiting the values
+    */
+   private int getDelimiter(String token) {
+      int length = token.length();
+
+      if(length == 1) {
+         char first = token.charAt(0);
+
+         if(META.indexOf(first) < 0 && !isSurrogate(first)) {
+            return first;
+         }
+      }
+      if(length == 2 && token.charAt(0) == '\\') {
+         char second = token.charAt(1);
+
+         if(!Character.isLetterOrDigit(second) && !isSurrogate(second)) {
+            return second;
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * This is used to find the bounds of each value within the text.
+    * The bounds are provided as pairs, the first of each pair is the
+    * offset the value starts at and the second is the offset that it
+    * ends at, so there are two entries in the array for each value.
+    *
+    * @param text this is the text containing the delimited values
+    *
+    * @return this returns the bounds of the values within the text
+    */
+   public int[] split(String text) {
+      if(pattern != null) {
+         return splitPattern(text);
+      }
+      if(space) {
+         return splitSpace(text);
+      }
+      return splitDelimiter(text);
+   }
+
+   /**
+    * This is used to find the values that are delimited by a single
+    * character. Each occurrence of the character ends a value, with
+    * the remaining text after the last delimiter being the last value.
+    *
+    * @param text this is the text containing the delimited values
+    *
+    * @return this returns the bounds of the values within the text
+    */
+   private int[] splitDelimiter(String text) {
+      int length = text.length();
+      int[] list = new int[16];
+      int index = 0;
+      int size = 0;
+
+      for(int i = 0; i < length; i++) {
+         if(text.charAt(i) == delimiter) {
+            list = add(list, size, index, i);
+            index = i + 1;
+            size += 2;
+         }
+      }
+      return getBounds(text, list, size, index);
+   }
+
+   /**
+    * This is used to find the values that are delimited by sequences
+    * of whitespace. A sequence of whitespace at the start of the text
+    * results in an empty value, as it would with the expression.
+    *
+    * @param text this is the text containing the delimited values
+    *
+    * @return this returns the bounds of the values within the text
+    */
+   private int[] splitSpace(String text) {
+      int length = text.length();
+      int[] list = new int[16];
+      int index = 0;
+      int size = 0;
+
+      for(int i = 0; i < length; i++) {
+         if(isSpace(text.charAt(i))) {
+            int start = i;
+
+            while(i + 1 < length && isSpace(text.charAt(i + 1))) {
+               i++;
+            }
+            list = add(list, size, index, start);
+            index = i + 1;
+            size += 2;
+         }
+      }
+      return getBounds(text, list, size, index);
+   }
+
+   /**
+    * This is used to find the values that are delimited by a regular
+    * expression. As with splitting text with a pattern, a match with
+    * no width at the very start of the text does not end a value.
+    *
+    * @param text this is the text containing the delimited values
+    *
+    * @return this returns the bounds of the values within the text
+    */
+   private int[] splitPattern(String text) {
+      Matcher matcher = pattern.matcher(text);
+      int[] list = new int[16];
+      int index = 0;
+      int size = 0;
+
+      while(matcher.find()) {
+         int start = matcher.start();
+         int end = matcher.end();
+
+         if(index != 0 || start != 0 || end != 0) {
+            list = add(list, size, index, start);
+            index = end;
+            size += 2;
+         }
+      }
+      return getBounds(text, list, size, index);
+   }
+
+   /**
+    * This is used to complete the bounds of the values found. If no
+    * delimiter was found then the whole text is the only value, else
+    * the remaining text is added and any empty values at the end of
+    * the list are removed. Finally each of the values is trimmed.
+    *
+    * @param text this is the text containing the delimited values
+    * @param list this contains the bounds of the values found
+    * @param size this is the number of entries within the list
+    * @param index this is the offset after the last delimiter
+    *
+    * @return this returns the bounds of the values within the text
+    */
+   private int[] getBounds(String text, int[] list, int size, int index) {
+      int length = text.length();
+
+      if(index == 0) {
+         size = 0;
+      }
+      list = add(list, size, index, length);
+      size += 2;
+
+      while(index > 0 && size > 0 && list[size - 2] == list[size - 1]) {
+         size -= 2;
+      }
+      int[] bounds = new int[size];
+
+      for(int i = 0; i < size; i += 2) {
+         int start = list[i];
+         int end = list[i + 1];
+
+         while(start < end && text.charAt(start) <= ' ') {
+            start++;
+         }
+         while(end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+         }
+         bounds[i] = start;
+         bounds[i + 1] = end;
+      }
+      return bounds;
+   }
+
+   /**
+    * This is used to add the bounds of a value to the provided list.
+    * If the list is full then a larger list is created and the bounds
+    * that have already been found are copied in to it.
+    *
+    * @param list this contains the bounds of the values found
+    * @param size this is the number of entries within the list
+    * @param start this is the offset the value starts at
+    * @param end this is the offset the value ends at
+    *
+    * @return this returns the list containing the added bounds
+    */
+   private int[] add(int[] list, int size, int start, int end) {
+      if(size + 2 > list.length) {
+         int[] copy = new int[list.length * 2];
+
+         System.arraycopy(list, 0, copy, 0, size);
+         list = copy;
+      }
+      list[size] = start;
+      list[size + 1] = end;
+      return list;
+   }
+
+   /**
+    * This is used to determine if the character is whitespace as it
+    * is defined by regular expressions, which is a space, a tab, a
+    * line feed, a vertical tab, a form feed or a carriage return.
+    *
+    * @param next this is the character that is to be evaluated
+    *
+    * @return this returns true if the character is whitespace
+    */
+   private boolean isSpace(char next) {
+      return next == ' ' || (next >= '\t' && next <= '\r');
+   }
+
+   /**
+    * This is used to determine if the character is one half of a
+    * surrogate pair. Such a character can not be matched alone, so
+    * a delimiter made from it is left to the regular expression.
+    *
+    * @param next this is the character that is to be evaluated
+    *
+    * @return this returns true if the character is a surrogate
+    */
+   private boolean isSurrogate(char next) {
+      return Character.isHighSurrogate(next) || Character.isLowSurrogate(next);
+   }
+}
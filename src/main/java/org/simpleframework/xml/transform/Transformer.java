@@ -106,6 +106,31 @@ public class Transformer {
       return transform.read(value);
    }
    
+   /**
+    * This method is used to convert the slice of text given to an
+    * appropriate representation. If the transform for the type is
+    * a <code>SliceTransform</code> then the value is read from the
+    * text directly, otherwise a string is created for the slice.
+    * 
+    * @param text this is the text that contains the value
+    * @param off this is the offset the value starts at
+    * @param len this is the number of characters in the value
+    * @param type this is the type to convert the text value to
+    * 
+    * @return this returns an appropriate instanced to be used
+    */
+   public Object read(CharSequence text, int off, int len, Class type) throws Exception {
+      Transform transform = lookup(type);
+
+      if(transform == null) {
+         throw new TransformException("Transform of %s not supported", type);
+      }
+      if(transform instanceof SliceTransform) {
+         return ((SliceTransform)transform).read(text, off, len);
+      }
+      return transform.read(text.subSequence(off, off + len).toString());
+   }
+   
    /**
     * This method is used to convert the provided value into an XML
     * usable format. This is used in the serialization process when
@@ -125,6 +150,49 @@ public class Transformer {
       }
       return transform.write(value);
    }
+   
+   /**
+    * This method is used to append the text of the provided value to
+    * the given target. If the transform for the type is an append
+    * transform then the text is appended directly, otherwise the
+    * text of the value is converted to a string and then appended.
+    * The transform is typed for the value only by the lookup of the
+    * given type, which the compiler can not check, so the unchecked
+    * conversion of the transform is suppressed here.
+    * 
+    * @param value this is the value to append the text of
+    * @param type this is the type to convert to a string value
+    * @param target this is the target the text is appended to
+    */
+   @SuppressWarnings("unchecked")
+   public void write(Object value, Class type, Appendable target) throws Exception {
+      Transform<Object> transform = lookup(type);
+
+      if(transform == null) {
+         throw new TransformException("Transform of %s not supported", type);
+      }
+      if(transform instanceof AppendTransform) {
+         AppendTransform<Object> append = (AppendTransform<Object>)transform;
+         
+         append.write(value, target);
+      } else {
+         target.append(transform.write(value));
+      }
+   }
+   
+   /**
+    * This method is used to determine if the type specified can be
+    * appended to a target using an <code>AppendTransform</code>. If
+    * a transform has been registered for the type by the matcher
+    * then this will only return true if it too can append values.
+    *
+    * @param type the type to determine whether its appendable
+    * 
+    * @return true if the type specified can be appended by this
+    */ 
+   public boolean isAppendable(Class type) throws Exception {   
+      return lookup(type) instanceof AppendTransform;
+   }
 
    /**
     * This method is used to determine if the type specified can be
@@ -0,0 +1,391 @@
+/*
+ * NumberParser.java October 2026
+ *
+ * Copyright (C) 2026, Niall Gallagher <niallg@users.sf.net>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package org.simpleframework.xml.util;
+
+/**
+ * The <code>NumberParser</code> is used to parse numbers from a
+ * slice of a character sequence. This allows a number to be
+ * parsed from within a larger body of text, such as a delimited list
+ * of values, without first creating a string for the number alone.
+ * <p>
+ * The result of each method is identical to that of the equivalent
+ * parse method of the wrapper type, for example the result of the
+ * <code>parseInt</code> method is the same as that of the method
+ * <code>Integer.parseInt</code> given the text within the slice.
+ * Only plain decimal digits with an optional minus sign are parsed
+ * directly, anything else, including text that is not valid, is
+ * given to the wrapper type to parse so that it can be reported.
+ * Decimal numbers are parsed directly only when the digits and the
+ * power of ten are small enough to be exact, so that a single
+ * multiplication or division gives the correctly rounded result.
+ *
+ * @author Niall Gallagher
+ */
+public final class NumberParser {
+
+   /**
+    * This is returned if the digits could not be parsed directly.
+    */
+   private static final long UNKNOWN = Long.MIN_VALUE;
+
+   /**
+    * This is the maximum number of digits that can not overflow.
+    */
+   private static final int LIMIT = 18;
+
+   /**
+    * This is the largest significand a double can hold exactly.
+    */
+   private static final long DOUBLE_LIMIT = 1L << 53;
+
+   /**
+    * This is the largest significand a float can hold exactly.
+    */
+   private static final long FLOAT_LIMIT = 1L << 24;
+
+   /**
+    * These are the powers of ten that a double can hold exactly.
+    */
+   private static final double[] DOUBLE_POWERS = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+   };
+
+   /**
+    * These are the powers of ten that a float can hold exactly.
+    */
+   private static final float[] FLOAT_POWERS = {
+      1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+   };
+
+   /**
+    * Constructor for the <code>NumberParser</code> object. This is
+    * private as the number parser provides only static methods.
+    */
+   private NumberParser() {
+      super();
+   }
+
+   /**
+    * This is used to parse a <code>long</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Long.parseLong</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static long parseLong(CharSequence text, int off, int end) {
+      long value = parseDigits(text, off, end);
+
+      if(value == UNKNOWN) {
+         return Long.parseLong(getText(text, off, end));
+      }
+      return value;
+   }
+
+   /**
+    * This is used to parse an <code>int</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Integer.parseInt</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static int parseInt(CharSequence text, int off, int end) {
+      long value = parseDigits(text, off, end);
+
+      if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+         return Integer.parseInt(getText(text, off, end));
+      }
+      return (int)value;
+   }
+
+   /**
+    * This is used to parse a <code>short</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Short.parseShort</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static short parseShort(CharSequence text, int off, int end) {
+      long value = parseDigits(text, off, end);
+
+      if(value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+         return Short.parseShort(getText(text, off, end));
+      }
+      return (short)value;
+   }
+
+   /**
+    * This is used to parse a <code>byte</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Byte.parseByte</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static byte parseByte(CharSequence text, int off, int end) {
+      long value = parseDigits(text, off, end);
+
+      if(value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+         return Byte.parseByte(getText(text, off, end));
+      }
+      return (byte)value;
+   }
+
+   /**
+    * This is used to parse a <code>double</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Double.parseDouble</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static double parseDouble(CharSequence text, int off, int end) {
+      double value = parseDecimal(text, off, end, false);
+
+      if(value != value) {
+         return Double.parseDouble(getText(text, off, end));
+      }
+      return value;
+   }
+
+   /**
+    * This is used to parse a <code>float</code> from the specified
+    * slice of text. The result is the same as that returned by the
+    * <code>Float.parseFloat</code> method for the text in the slice.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the number parsed from the slice
+    */
+   public static float parseFloat(CharSequence text, int off, int end) {
+      double value = parseDecimal(text, off, end, true);
+
+      if(value != value) {
+         return Float.parseFloat(getText(text, off, end));
+      }
+      return (float)value;
+   }
+
+   /**
+    * This is used to parse a decimal number within the slice. The
+    * number is an optional minus sign, digits with an optional
+    * decimal point, and an optional exponent. If the significand
+    * and the power of ten can both be held exactly then the number
+    * is the correctly rounded result of a single multiplication or
+    * division. If not, or the slice has any other character, then
+    * this returns NaN to indicate the text must be parsed by the
+    * wrapper type. A single precision result is computed with float
+    * arithmetic, as rounding to a double first could change it.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    * @param single this determines if a float is to be produced
+    *
+    * @return this returns the value of the number or NaN
+    */
+   private static double parseDecimal(CharSequence text, int off, int end, boolean single) {
+      boolean negative = off < end && text.charAt(off) == '-';
+      boolean point = false;
+      long limit = single ? FLOAT_LIMIT : DOUBLE_LIMIT;
+      long value = 0;
+      int digits = 0;
+      int scale = 0;
+
+      if(negative) {
+         off++;
+      }
+      while(off < end) {
+         char next = text.charAt(off);
+
+         if(next == '.' && !point) {
+            point = true;
+         } else if(next >= '0' && next <= '9') {
+            value = value * 10 + next - '0';
+
+            if(value > limit) {
+               return Double.NaN;
+            }
+            if(point) {
+               scale--;
+            }
+            digits++;
+         } else {
+            break;
+         }
+         off++;
+      }
+      if(digits == 0) {
+         return Double.NaN;
+      }
+      if(off < end) {
+         int exponent = parseExponent(text, off + 1, end);
+
+         if(exponent == Integer.MIN_VALUE || (text.charAt(off) != 'e' && text.charAt(off) != 'E')) {
+            return Double.NaN;
+         }
+         scale += exponent;
+      }
+      double result = single ? scaleFloat(value, scale) : scaleDouble(value, scale);
+
+      return negative ? -result : result;
+   }
+
+   /**
+    * This is used to parse the exponent of a decimal number. The
+    * exponent has an optional sign followed by at least one digit.
+    * As only small powers of ten can be applied exactly an exponent
+    * of more than a few digits is reported as not being parsed.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the exponent digits start at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the exponent or the minimum integer
+    */
+   private static int parseExponent(CharSequence text, int off, int end) {
+      boolean negative = false;
+      int value = 0;
+
+      if(off < end && (text.charAt(off) == '-' || text.charAt(off) == '+')) {
+         negative = text.charAt(off++) == '-';
+      }
+      if(off >= end || end - off > 4) {
+         return Integer.MIN_VALUE;
+      }
+      while(off < end) {
+         char next = text.charAt(off++);
+
+         if(next < '0' || next > '9') {
+            return Integer.MIN_VALUE;
+         }
+         value = value * 10 + next - '0';
+      }
+      return negative ? -value : value;
+   }
+
+   /**
+    * This is used to apply a power of ten to an exact significand.
+    * If the power can not be held exactly as a double then NaN is
+    * returned as the result could not be correctly rounded.
+    *
+    * @param value this is the significand parsed from the digits
+    * @param scale this is the power of ten to apply to the value
+    *
+    * @return this returns the scaled value or NaN
+    */
+   private static double scaleDouble(long value, int scale) {
+      if(scale < -22 || scale > 22) {
+         return Double.NaN;
+      }
+      if(scale < 0) {
+         return value / DOUBLE_POWERS[-scale];
+      }
+      return value * DOUBLE_POWERS[scale];
+   }
+
+   /**
+    * This is used to apply a power of ten to an exact significand.
+    * If the power can not be held exactly as a float then NaN is
+    * returned as the result could not be correctly rounded.
+    *
+    * @param value this is the significand parsed from the digits
+    * @param scale this is the power of ten to apply to the value
+    *
+    * @return this returns the scaled value or NaN
+    */
+   private static double scaleFloat(long value, int scale) {
+      if(scale < -10 || scale > 10) {
+         return Double.NaN;
+      }
+      if(scale < 0) {
+         return (float)value / FLOAT_POWERS[-scale];
+      }
+      return (float)value * FLOAT_POWERS[scale];
+   }
+
+   /**
+    * This is used to parse the decimal digits within the slice. An
+    * optional minus sign can precede the digits. If the slice has
+    * no digits, has any other character, or has more digits than
+    * can be parsed without overflow then this returns a value that
+    * indicates the digits must be parsed by the wrapper type.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the value of the digits in the slice
+    */
+   private static long parseDigits(CharSequence text, int off, int end) {
+      boolean negative = off < end && text.charAt(off) == '-';
+      long value = 0;
+
+      if(negative) {
+         off++;
+      }
+      if(off >= end || end - off > LIMIT) {
+         return UNKNOWN;
+      }
+      while(off < end) {
+         char next = text.charAt(off++);
+
+         if(next < '0' || next > '9') {
+            return UNKNOWN;
+         }
+         value = value * 10 + next - '0';
+      }
+      return negative ? -value : value;
+   }
+
+   /**
+    * This is used to acquire the text within the specified slice.
+    * This is used only when the slice can not be parsed directly,
+    * typically when the text does not represent a valid number.
+    *
+    * @param text this is the text that contains the number
+    * @param off this is the offset the number starts at
+    * @param end this is the offset the number ends at
+    *
+    * @return this returns the text within the specified slice
+    */
+   private static String getText(CharSequence text, int off, int end) {
+      return text.subSequence(off, end).toString();
+   }
+}
@@ -0,0 +1,383 @@
+package org.simpleframework.xml.core;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.ElementList;
+import org.simpleframework.xml.Path;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.Text;
+import org.simpleframework.xml.ValidationTestCase;
+import org.simpleframework.xml.filter.PlatformFilter;
+import org.simpleframework.xml.strategy.CycleStrategy;
+import org.simpleframework.xml.stream.Backend;
+import org.simpleframework.xml.stream.CamelCaseStyle;
+import org.simpleframework.xml.stream.Flush;
+import org.simpleframework.xml.stream.Format;
+import org.simpleframework.xml.stream.Verbosity;
+
+public class BindingTest extends ValidationTestCase {
+
+   private static final String SAMPLE =
+   "<order id='12' number='1234567890123' rate='0.25' ratio='1.5' open='true' small='3' tiny='4' code='x' label='first' total='99' unit='KILOGRAM'>\n"+
+   "   <customer>John Smith</customer>\n"+
+   "   <quantity>7</quantity>\n"+
+   "   <price currency='EUR'>10.5</price>\n"+
+   "   <note>   <![CDATA[<none>]]>   </note>\n"+
+   "   <item name='bolt'>\n"+
+   "      <count>3</count>\n"+
+   "   </item>\n"+
+   "</order>";
+
+   public static enum Unit {
+      GRAM,
+      KILOGRAM
+   }
+
+   @Root
+   public static class Order {
+
+      @Attribute
+      public int id;
+
+      @Attribute
+      public long number;
+
+      @Attribute
+      public double rate;
+
+      @Attribute
+      public float ratio;
+
+      @Attribute
+      public boolean open;
+
+      @Attribute
+      public short small;
+
+      @Attribute
+      public byte tiny;
+
+      @Attribute
+      public char code;
+
+      @Attribute(required=false)
+      public String label;
+
+      @Attribute(required=false)
+      public Integer total;
+
+      @Attribute(required=false)
+      public Unit unit;
+
+      @Element
+      public String customer;
+
+      @Element
+      public int quantity;
+
+      @Element
+      public Price price;
+
+      @Element(required=false, data=true)
+      public String note;
+
+      @Element(required=false)
+      public Item item;
+
+      @Element(required=false)
+      public Object extra;
+   }
+
+   @Root
+   public static class Price {
+
+      @Attribute
+      public String currency;
+
+      @Text
+      public double value;
+   }
+
+   @Root(name="item")
+   private static class Item {
+
+      @Attribute
+      private String name;
+
+      @Element
+      private int count;
+   }
+
+   public static class SpecialItem extends Item {
+
+      @Element(required=false)
+      private String special;
+   }
+
+   @Root(strict=false)
+   public static class Loose {
+
+      @Element
+      public String value;
+   }
+
+   @Root
+   public static class Grouped {
+
+      @Path("group")
+      @Element
+      public String value;
+
+      @ElementList(required=false)
+      public List<Item> items;
+   }
+
+   @Root
+   public static class Named {
+
+      @Attribute
+      public String firstName;
+
+      @Element
+      public String lastName;
+   }
+
+   @Root
+   public static class Compiled {
+
+      @Attribute
+      public int id;
+
+      @Element(required=false)
+      private String value;
+   }
+
+   public static class Compiled$$Binding extends Binding {
+
+      public Compiled$$Binding() throws Exception {
+         super(Compiled.class, "compiled", true);
+         attribute("id", "id", true);
+         element("value", "value", false, false);
+      }
+
+      protected int getAttribute(String name) {
+         return name.equals("id") ? 0 : -1;
+      }
+
+      protected int getElement(String name) {
+         return name.equals("value") ? 1 : -1;
+      }
+
+      protected int getInt(Object source, int slot) throws Exception {
+         if(slot == 0) {
+            return ((Compiled)source).id;
+         }
+         return super.getInt(source, slot);
+      }
+
+      protected void setInt(Object source, int slot, int value) throws Exception {
+         if(slot == 0) {
+            ((Compiled)source).id = value;
+         } else {
+            super.setInt(source, slot, value);
+         }
+      }
+   }
+
+   public void testCompiled() throws Exception {
+      Format style = new Format(new CamelCaseStyle());
+      Support support = new Support();
+      Binding binding = support.getBinding(Compiled.class);
+      Persister persister = new Persister();
+      Compiled compiled = persister.read(Compiled.class, "<compiled id='3'><value>x</value></compiled>");
+      String text = write(persister, compiled);
+
+      assertTrue(binding instanceof Compiled$$Binding);
+      assertSame(binding, support.getBinding(Compiled.class));
+      assertNull(new Support(new PlatformFilter(), new EmptyMatcher(), style).getBinding(Compiled.class));
+      assertEquals(compiled.id, 3);
+      assertEquals(compiled.value, "x");
+      assertElementHasAttribute(text, "/compiled", "id", "3");
+      assertElementHasValue(text, "/compiled/value", "x");
+      assertNotNull(read(persister, Compiled.class, "<compiled id='3'><other/></compiled>"));
+      assertElementHasValue(write(new Persister(style), compiled), "/Compiled/Value", "x");
+   }
+
+   public void testGenerated() throws Exception {
+      Format format = new Format(Backend.GENERATE);
+      Support support = new Support(new PlatformFilter(), new EmptyMatcher(), format);
+      Binding order = support.getBinding(Order.class);
+      Binding item = support.getBinding(Item.class);
+
+      assertNotNull(order);
+      assertNotNull(item);
+      assertEquals(order.getClass().getName(), Order.class.getName() + "$$Binding");
+      assertEquals(item.getClass().getName(), Item.class.getName() + "$$Binding");
+      assertSame(order, support.getBinding(Order.class));
+      assertEquals(order.getName(), "order");
+      assertNull(support.getBinding(Grouped.class));
+      assertNull(support.getBinding(String.class));
+      assertNull(support.getBinding(Unit.class));
+      assertNull(new Support().getBinding(Order.class));
+   }
+
+   public void testRead() throws Exception {
+      Persister generate = new Persister(new Format(Backend.GENERATE));
+      Persister interpret = new Persister();
+      Order order = generate.read(Order.class, SAMPLE);
+      Order copy = interpret.read(Order.class, SAMPLE);
+
+      assertEquals(order.id, 12);
+      assertEquals(order.number, 1234567890123L);
+      assertEquals(order.rate, 0.25);
+      assertEquals(order.ratio, 1.5f);
+      assertEquals(order.open, true);
+      assertEquals(order.small, 3);
+      assertEquals(order.tiny, 4);
+      assertEquals(order.code, 'x');
+      assertEquals(order.label, "first");
+      assertEquals(order.total, new Integer(99));
+      assertEquals(order.unit, Unit.KILOGRAM);
+      assertEquals(order.customer, "John Smith");
+      assertEquals(order.quantity, 7);
+      assertEquals(order.price.currency, "EUR");
+      assertEquals(order.price.value, 10.5);
+      assertEquals(order.note, copy.note);
+      assertEquals(order.item.name, "bolt");
+      assertEquals(order.item.count, 3);
+      assertEquals(write(generate, order), write(interpret, copy));
+   }
+
+   public void testWrite() throws Exception {
+      Persister generate = new Persister(new Format(Backend.GENERATE));
+      Persister interpret = new Persister();
+      Order order = interpret.read(Order.class, SAMPLE);
+
+      order.item = new SpecialItem();
+      order.item.name = "nut";
+      order.extra = new Price();
+      ((SpecialItem)order.item).special = "left";
+      ((Price)order.extra).currency = "USD";
+      order.label = null;
+
+      String text = write(generate, order);
+      Order copy = generate.read(Order.class, text);
+
+      assertEquals(text, write(interpret, order));
+      assertElementHasAttribute(text, "/order/item", "class", SpecialItem.class.getName());
+      assertElementHasAttribute(text, "/order/extra", "class", Price.class.getName());
+      assertEquals(copy.item.getClass(), SpecialItem.class);
+      assertEquals(((SpecialItem)copy.item).special, "left");
+      assertEquals(copy.extra.getClass(), Price.class);
+      assertEquals(write(generate, copy), text);
+      validate(copy, generate);
+   }
+
+   public void testStyle() throws Exception {
+      Format generate = new Format(3, null, new CamelCaseStyle(), Verbosity.HIGH, Flush.ELEMENT, 8192, Backend.GENERATE);
+      Format interpret = new Format(new CamelCaseStyle());
+      Named named = new Named();
+
+      named.firstName = "John";
+      named.lastName = "Smith";
+
+      String text = write(new Persister(generate), named);
+      Named copy = new Persister(generate).read(Named.class, text);
+
+      assertEquals(text, write(new Persister(interpret), named));
+      assertElementHasValue(text, "/Named/LastName", "Smith");
+      assertEquals(copy.lastName, "Smith");
+   }
+
+   public void testErrors() throws Exception {
+      Persister generate = new Persister(new Format(Backend.GENERATE));
+      Persister interpret = new Persister();
+      Order order = interpret.read(Order.class, SAMPLE);
+      String[] invalid = {
+         SAMPLE.replace("id='12' ", ""),
+         SAMPLE.replace("<quantity>7</quantity>", ""),
+         SAMPLE.replace("<quantity>7</quantity>", "<quantity/>"),
+         SAMPLE.replace("<customer>", "<other/><customer>"),
+         SAMPLE.replace("open='true'", "open='true' other='1'"),
+         SAMPLE.replace("<quantity>7</quantity>", "<quantity>7</quantity><quantity>8</quantity>"),
+         SAMPLE.replace("<customer>John Smith</customer>", "<customer>a</customer><customer>b</customer>"),
+         SAMPLE.replace("id='12'", "id='x'")
+      };
+      for(String text : invalid) {
+         assertEquals(read(generate, text), read(interpret, text));
+      }
+      order.customer = null;
+      assertEquals(failure(generate, order), failure(interpret, order));
+      assertNotNull(failure(generate, order));
+   }
+
+   public void testLoose() throws Exception {
+      Persister generate = new Persister(new Format(Backend.GENERATE));
+      Loose loose = generate.read(Loose.class, "<loose extra='1'><other><a/></other><value>x</value></loose>");
+
+      assertEquals(loose.value, "x");
+   }
+
+   public void testInterpreted() throws Exception {
+      Persister generate = new Persister(new Format(Backend.GENERATE));
+      Persister interpret = new Persister();
+      Grouped grouped = new Grouped();
+      Item item = new Item();
+
+      item.name = "bolt";
+      item.count = 2;
+      grouped.value = "x";
+      grouped.items = new ArrayList<Item>();
+      grouped.items.add(item);
+
+      String text = write(generate, grouped);
+      Grouped copy = generate.read(Grouped.class, text);
+
+      assertEquals(text, write(interpret, grouped));
+      assertElementHasValue(text, "/grouped/group/value", "x");
+      assertEquals(copy.items.get(0).count, 2);
+   }
+
+   public void testStrategy() throws Exception {
+      Persister persister = new Persister(new CycleStrategy("key", "ref"), new Format(Backend.GENERATE));
+      Order order = persister.read(Order.class, SAMPLE);
+      String text = write(persister, order);
+
+      assertElementHasAttribute(text, "/order", "id", "12");
+      assertElementHasAttribute(text, "/order", "key", "0");
+      assertElementHasAttribute(text, "/order/price", "key", "3");
+   }
+
+   private static String write(Persister persister, Object value) throws Exception {
+      StringWriter writer = new StringWriter();
+
+      persister.write(value, writer);
+      return writer.toString();
+   }
+
+   private static String read(Persister persister, String text) {
+      return read(persister, Order.class, text);
+   }
+
+   private static String read(Persister persister, Class type, String text) {
+      try {
+         persister.read(type, text);
+      } catch(Exception e) {
+         return e.getClass().getName() + ": " + e.getMessage();
+      }
+      return null;
+   }
+
+   private static String failure(Persister persister, Object value) {
+      try {
+         write(persister, value);
+      } catch(Exception e) {
+         return e.getClass().getName() + ": " + e.getMessage();
+      }
+      return null;
+   }
+}
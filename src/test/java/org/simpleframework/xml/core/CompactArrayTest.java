@@ -0,0 +1,149 @@
+package org.simpleframework.xml.core;
+
+import java.io.StringWriter;
+
+import org.simpleframework.xml.ElementArray;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+import org.simpleframework.xml.strategy.CycleStrategy;
+
+public class CompactArrayTest extends ValidationTestCase {
+
+   private static final String SOURCE =
+   "<samples>\n"+
+   "   <ints>1 -2\n 3\t4   5</ints>\n"+
+   "   <longs>9223372036854775807 0</longs>\n"+
+   "   <doubles>1.5 -2.25E10 NaN</doubles>\n"+
+   "   <floats>0.5</floats>\n"+
+   "   <shorts> 12 13 </shorts>\n"+
+   "   <bytes>-128 127</bytes>\n"+
+   "   <booleans>true FALSE True</booleans>\n"+
+   "   <empty></empty>\n"+
+   "</samples>";
+
+   @Root
+   private static class Samples {
+
+      @ElementArray(compact=true)
+      private int[] ints;
+
+      @ElementArray(compact=true)
+      private long[] longs;
+
+      @ElementArray(compact=true)
+      private double[] doubles;
+
+      @ElementArray(compact=true)
+      private float[] floats;
+
+      @ElementArray(compact=true)
+      private short[] shorts;
+
+      @ElementArray(compact=true)
+      private byte[] bytes;
+
+      @ElementArray(compact=true)
+      private boolean[] booleans;
+
+      @ElementArray(compact=true, required=false)
+      private int[] empty;
+   }
+
+   @Root
+   private static class Shared {
+
+      @ElementArray(compact=true)
+      private int[] first;
+
+      @ElementArray(compact=true)
+      private int[] second;
+   }
+
+   @Root
+   private static class Invalid {
+
+      @ElementArray(compact=true)
+      private String[] values;
+   }
+
+   public void testRead() throws Exception {
+      Persister persister = new Persister();
+      Samples samples = persister.read(Samples.class, SOURCE);
+
+      assertEquals(samples.ints.length, 5);
+      assertEquals(samples.ints[1], -2);
+      assertEquals(samples.ints[4], 5);
+      assertEquals(samples.longs[0], Long.MAX_VALUE);
+      assertEquals(samples.doubles[1], -2.25E10);
+      assertTrue(Double.isNaN(samples.doubles[2]));
+      assertEquals(samples.floats[0], 0.5f);
+      assertEquals(samples.shorts.length, 2);
+      assertEquals(samples.shorts[1], 13);
+      assertEquals(samples.bytes[0], Byte.MIN_VALUE);
+      assertTrue(samples.booleans[0]);
+      assertFalse(samples.booleans[1]);
+      assertTrue(samples.booleans[2]);
+      assertEquals(samples.empty.length, 0);
+      validate(samples, persister);
+   }
+
+   public void testWrite() throws Exception {
+      Persister persister = new Persister();
+      Samples samples = persister.read(Samples.class, SOURCE);
+      StringWriter writer = new StringWriter();
+
+      persister.write(samples, writer);
+
+      String text = writer.toString();
+
+      assertElementHasValue(text, "/samples/ints", "1 -2 3 4 5");
+      assertElementHasValue(text, "/samples/doubles", "1.5 -2.25E10 NaN");
+      assertElementHasValue(text, "/samples/booleans", "true false true");
+
+      Samples copy = persister.read(Samples.class, text);
+
+      assertEquals(copy.ints.length, 5);
+      assertEquals(copy.longs[0], Long.MAX_VALUE);
+      assertEquals(copy.bytes[1], Byte.MAX_VALUE);
+   }
+
+   public void testReference() throws Exception {
+      Persister persister = new Persister(new CycleStrategy());
+      Shared shared = new Shared();
+      StringWriter writer = new StringWriter();
+
+      shared.first = new int[]{1, 2, 3};
+      shared.second = shared.first;
+      persister.write(shared, writer);
+
+      Shared copy = persister.read(Shared.class, writer.toString());
+
+      assertEquals(copy.first.length, 3);
+      assertEquals(copy.first[2], 3);
+      assertSame(copy.first, copy.second);
+   }
+
+   public void testInvalidValue() throws Exception {
+      Persister persister = new Persister();
+      boolean failure = false;
+
+      try {
+         persister.read(Samples.class, SOURCE.replace("1 -2", "1 x"));
+      } catch(NumberFormatException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+
+   public void testUnsupportedType() throws Exception {
+      Persister persister = new Persister();
+      boolean failure = false;
+
+      try {
+         persister.read(Invalid.class, "<invalid><values>a b</values></invalid>");
+      } catch(InstantiationException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+}
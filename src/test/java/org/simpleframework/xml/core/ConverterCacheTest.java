@@ -0,0 +1,109 @@
+package org.simpleframework.xml.core;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.ElementList;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+import org.simpleframework.xml.strategy.TreeStrategy;
+
+public class ConverterCacheTest extends ValidationTestCase {
+
+   @Root
+   private static class Entry {
+
+      @Attribute
+      private int id;
+
+      @Element
+      private String name;
+
+      @Element(required=false)
+      private Entry child;
+
+      @ElementList(inline=true, required=false)
+      private List<Entry> list = new ArrayList<Entry>();
+
+      public Entry() {
+         super();
+      }
+
+      public Entry(int id, String name) {
+         this.id = id;
+         this.name = name;
+      }
+   }
+
+   public void testCachedConverter() throws Exception {
+      Support support = new Support();
+      Source source = new Source(new TreeStrategy(), support, new Session());
+      Section section = support.getScanner(Entry.class).getSection();
+      Label id = section.getAttributes().get("id");
+      Label name = section.getElements().get("name");
+      Label child = section.getElements().get("child");
+
+      assertSame(source.getConverter(id), source.getConverter(id));
+      assertSame(source.getConverter(name), source.getConverter(name));
+      assertNotSame(source.getConverter(id), source.getConverter(name));
+      assertTrue(source.getConverter(child) instanceof Composite);
+      assertNotSame(source.getConverter(child), source.getConverter(child));
+   }
+
+   public void testCachedSchema() throws Exception {
+      Support support = new Support();
+      Source source = new Source(new TreeStrategy(), support, new Session());
+      Schema schema = source.getSchema(Entry.class);
+
+      assertSame(schema, source.getSchema(Entry.class));
+      assertSame(schema.getCaller(), source.getCaller(Entry.class));
+      assertNotSame(schema, new Source(new TreeStrategy(), support, new Session()).getSchema(Entry.class));
+   }
+
+   public void testSeparateContexts() throws Exception {
+      Support support = new Support();
+      Source first = new Source(new TreeStrategy(), support, new Session());
+      Source second = new Source(new TreeStrategy(), support, new Session());
+      Label id = support.getScanner(Entry.class).getSection().getAttributes().get("id");
+
+      assertNotSame(first.getConverter(id), second.getConverter(id));
+   }
+
+   public void testRecursive() throws Exception {
+      Persister persister = new Persister();
+      Entry root = new Entry(1, "root");
+      Entry child = new Entry(2, "child");
+
+      root.child = child;
+      child.child = new Entry(3, "leaf");
+
+      for(int i = 0; i < 5; i++) {
+         Entry entry = new Entry(10 + i, "entry-" + i);
+
+         entry.child = new Entry(100 + i, "nested-" + i);
+         root.list.add(entry);
+      }
+      StringWriter writer = new StringWriter();
+
+      persister.write(root, writer);
+
+      String text = writer.toString();
+      Entry copy = persister.read(Entry.class, text);
+
+      assertEquals(copy.id, 1);
+      assertEquals(copy.child.id, 2);
+      assertEquals(copy.child.child.id, 3);
+      assertEquals(copy.child.child.name, "leaf");
+      assertNull(copy.child.child.child);
+      assertEquals(copy.list.size(), 5);
+
+      for(int i = 0; i < 5; i++) {
+         assertEquals(copy.list.get(i).id, 10 + i);
+         assertEquals(copy.list.get(i).child.name, "nested-" + i);
+      }
+      validate(copy, persister);
+   }
+}
@@ -0,0 +1,177 @@
+package org.simpleframework.xml.core;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Vector;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+
+public class CreatorCacheTest extends ValidationTestCase {
+
+   private static final String FULL =
+   "<shape name='a'>\n"+
+   "   <width>10</width>\n"+
+   "   <height>20</height>\n"+
+   "</shape>";
+
+   private static final String FULL_REORDERED =
+   "<shape name='b'>\n"+
+   "   <height>40</height>\n"+
+   "   <width>30</width>\n"+
+   "</shape>";
+
+   private static final String PARTIAL =
+   "<shape name='c'>\n"+
+   "   <width>50</width>\n"+
+   "</shape>";
+
+   private static final String NAME_ONLY =
+   "<shape name='d'/>";
+
+   @Root(name="shape")
+   private static class Shape {
+
+      @Attribute(name="name")
+      private final String name;
+
+      @Element(name="width", required=false)
+      private final Integer width;
+
+      @Element(name="height", required=false)
+      private final Integer height;
+
+      private final String constructor;
+
+      public Shape(@Attribute(name="name") String name) {
+         this(name, null, null, "name");
+      }
+
+      public Shape(@Attribute(name="name") String name, @Element(name="width") Integer width) {
+         this(name, width, null, "width");
+      }
+
+      public Shape(@Attribute(name="name") String name, @Element(name="width") Integer width, @Element(name="height") Integer height) {
+         this(name, width, height, "full");
+      }
+
+      private Shape(String name, Integer width, Integer height, String constructor) {
+         this.constructor = constructor;
+         this.height = height;
+         this.width = width;
+         this.name = name;
+      }
+   }
+
+   @Root(name="holder")
+   private static class Holder {
+
+      @Element(name="value")
+      private final Object value;
+
+      public Holder(@Element(name="value") Object value) {
+         this.value = value;
+      }
+   }
+
+   public void testLimit() throws Exception {
+      Support support = new Support();
+      Scanner scanner = support.getScanner(Holder.class);
+      Label label = scanner.getSection().getElements().get("value");
+      Instantiator instantiator = scanner.getInstantiator();
+
+      for(int j = 0; j < 2; j++) {
+         for(int i = 1; i < 200; i++) {
+            Collector collector = new Collector();
+            Object value = Array.newInstance(Object.class, new int[i]);
+
+            collector.set(label, value);
+
+            Holder holder = (Holder)instantiator.getInstance(collector);
+
+            assertSame(holder.value, value);
+         }
+      }
+   }
+
+   public void testConcurrentSelection() throws Exception {
+      final Persister persister = new Persister();
+      final List<Throwable> failures = new Vector<Throwable>();
+      Thread[] threads = new Thread[8];
+
+      for(int i = 0; i < threads.length; i++) {
+         threads[i] = new Thread() {
+            public void run() {
+               try {
+                  for(int i = 0; i < 200; i++) {
+                     assertEquals(persister.read(Shape.class, FULL_REORDERED).constructor, "full");
+                     assertEquals(persister.read(Shape.class, PARTIAL).constructor, "width");
+                     assertEquals(persister.read(Shape.class, NAME_ONLY).constructor, "name");
+                  }
+               } catch(Throwable e) {
+                  failures.add(e);
+               }
+            }
+         };
+      }
+      for(Thread thread : threads) {
+         thread.start();
+      }
+      for(Thread thread : threads) {
+         thread.join();
+      }
+      assertTrue(failures.toString(), failures.isEmpty());
+   }
+
+   public void testSelection() throws Exception {
+      Persister persister = new Persister();
+
+      for(int i = 0; i < 3; i++) {
+         Shape full = persister.read(Shape.class, FULL);
+         Shape reordered = persister.read(Shape.class, FULL_REORDERED);
+         Shape partial = persister.read(Shape.class, PARTIAL);
+         Shape name = persister.read(Shape.class, NAME_ONLY);
+
+         assertEquals(full.constructor, "full");
+         assertEquals(full.width, new Integer(10));
+         assertEquals(full.height, new Integer(20));
+         assertEquals(reordered.constructor, "full");
+         assertEquals(reordered.width, new Integer(30));
+         assertEquals(reordered.height, new Integer(40));
+         assertEquals(partial.constructor, "width");
+         assertEquals(partial.width, new Integer(50));
+         assertNull(partial.height);
+         assertEquals(name.constructor, "name");
+         assertEquals(name.name, "d");
+         validate(full, persister);
+      }
+   }
+
+   public void testKey() throws Exception {
+      Support support = new Support();
+      Section section = support.getScanner(Shape.class).getSection();
+      Label name = section.getAttributes().get("name");
+      Label width = section.getElements().get("width");
+      Label height = section.getElements().get("height");
+      Collector first = new Collector();
+      Collector second = new Collector();
+      Collector third = new Collector();
+      Collector fourth = new Collector();
+
+      first.set(name, "a");
+      first.set(width, 1);
+      second.set(width, 2);
+      second.set(name, "b");
+      third.set(name, "c");
+      third.set(height, 3);
+      fourth.set(name, "d");
+      fourth.set(width, "text");
+
+      assertEquals(new CreatorKey(first), new CreatorKey(second));
+      assertEquals(new CreatorKey(first).hashCode(), new CreatorKey(second).hashCode());
+      assertFalse(new CreatorKey(first).equals(new CreatorKey(third)));
+      assertFalse(new CreatorKey(first).equals(new CreatorKey(fourth)));
+   }
+}
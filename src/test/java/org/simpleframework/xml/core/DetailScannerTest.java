@@ -1,6 +1,8 @@
 package org.simpleframework.xml.core;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import junit.framework.TestCase;
 
@@ -72,4 +74,37 @@ public class DetailScannerTest extends TestCase {
       assertTrue(scanner.getRoot() == scanner.getRoot());
       assertTrue(scanner.getAccess() == scanner.getAccess());
    }
+   
+   public void testConcurrentScan() throws Exception {
+      final DetailScanner scanner = new DetailScanner(DetailExample.class);
+      final CountDownLatch latch = new CountDownLatch(1);
+      final List[] results = new List[8];
+      Thread[] threads = new Thread[results.length];
+      
+      for(int i = 0; i < threads.length; i++) {
+         final int index = i;
+         
+         threads[i] = new Thread() {
+            public void run() {
+               try {
+                  latch.await();
+                  results[index] = index % 2 == 0 ? scanner.getMethods() : scanner.getFields();
+               } catch(Exception e) {
+                  e.printStackTrace();
+               }
+            }
+         };
+         threads[i].start();
+      }
+      latch.countDown();
+      
+      for(Thread thread : threads) {
+         thread.join();
+      }
+      for(int i = 0; i < results.length; i++) {
+         assertSame(results[i], i % 2 == 0 ? scanner.getMethods() : scanner.getFields());
+      }
+      assertEquals(scanner.getMethods().size(), 3);
+      assertEquals(scanner.getFields().size(), 1);
+   }
 }
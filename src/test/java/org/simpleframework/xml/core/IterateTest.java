@@ -0,0 +1,155 @@
+package org.simpleframework.xml.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+
+public class IterateTest extends ValidationTestCase {
+
+   private static final String SOURCE =
+   "<export>\n"+
+   "   <header>ignored <nested>content</nested></header>\n"+
+   "   <entries>\n"+
+   "      <entry id='1'><name>one</name></entry>\n"+
+   "      <entry id='2'><name>two</name></entry>\n"+
+   "      <entry id='3'><name>three</name></entry>\n"+
+   "   </entries>\n"+
+   "</export>";
+
+   private static final String UNKNOWN =
+   "<export>\n"+
+   "   <entry id='1'><name>one</name><extra/></entry>\n"+
+   "</export>";
+
+   @Root
+   private static class Entry {
+
+      @Attribute
+      private int id;
+
+      @Element
+      private String name;
+   }
+
+   @Root(name="entry")
+   private static class SessionEntry {
+
+      @Attribute
+      private int id;
+
+      @Element
+      private String name;
+
+      private int size;
+
+      @Commit
+      private void commit(Map session) {
+         size = session.size();
+         session.put(name, this);
+      }
+   }
+
+   public void testIterate() throws Exception {
+      Persister persister = new Persister();
+      Iterator<Entry> entries = persister.iterate(Entry.class, new ByteArrayInputStream(SOURCE.getBytes("UTF-8")), "export/entries");
+
+      assertTrue(entries.hasNext());
+      assertTrue(entries.hasNext());
+
+      Entry first = entries.next();
+
+      assertEquals(first.id, 1);
+      assertEquals(first.name, "one");
+      assertEquals(entries.next().name, "two");
+      assertEquals(entries.next().id, 3);
+      assertFalse(entries.hasNext());
+   }
+
+   public void testSession() throws Exception {
+      Persister persister = new Persister();
+      Iterator<SessionEntry> entries = persister.iterate(SessionEntry.class, new StringReader(SOURCE), "export/entries");
+      int count = 0;
+
+      while(entries.hasNext()) {
+         SessionEntry entry = entries.next();
+
+         assertEquals(entry.id, ++count);
+         assertEquals(entry.size, 0);
+      }
+      assertEquals(count, 3);
+   }
+
+   public void testReader() throws Exception {
+      Persister persister = new Persister();
+      Iterator<Entry> entries = persister.iterate(Entry.class, new StringReader(SOURCE), "export/entries");
+      int count = 0;
+
+      while(entries.hasNext()) {
+         assertEquals(entries.next().id, ++count);
+      }
+      assertEquals(count, 3);
+   }
+
+   public void testStrict() throws Exception {
+      Persister persister = new Persister();
+      Iterator<Entry> lenient = persister.iterate(Entry.class, new StringReader(UNKNOWN), "export", false);
+
+      assertEquals(lenient.next().name, "one");
+      assertFalse(lenient.hasNext());
+
+      Iterator<Entry> strict = persister.iterate(Entry.class, new StringReader(UNKNOWN), "export");
+      boolean failure = false;
+
+      try {
+         strict.next();
+      } catch(IllegalStateException e) {
+         assertTrue(e.getCause() instanceof ElementException);
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+
+   public void testMissingPath() throws Exception {
+      Persister persister = new Persister();
+      boolean failure = false;
+
+      try {
+         persister.iterate(Entry.class, new StringReader(SOURCE), "export/missing");
+      } catch(PathException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+      failure = false;
+
+      try {
+         persister.iterate(Entry.class, new StringReader(SOURCE), "other");
+      } catch(PathException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+
+   public void testLargeDocument() throws Exception {
+      StringBuilder builder = new StringBuilder("<export>");
+
+      for(int i = 0; i < 20000; i++) {
+         builder.append("<entry id='").append(i).append("'><name>entry</name></entry>");
+      }
+      builder.append("</export>");
+
+      Persister persister = new Persister();
+      Iterator<Entry> entries = persister.iterate(Entry.class, new ByteArrayInputStream(builder.toString().getBytes("UTF-8")), "export");
+      int count = 0;
+
+      while(entries.hasNext()) {
+         assertEquals(entries.next().id, count++);
+      }
+      assertEquals(count, 20000);
+   }
+}
@@ -0,0 +1,141 @@
+package org.simpleframework.xml.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+
+public class LabelSetTest extends ValidationTestCase {
+
+   @Root
+   private static class Example {
+
+      @Attribute
+      private String name;
+
+      @Element
+      private String first;
+
+      @Element(required=false)
+      private String second;
+   }
+
+   public void testSharedLabels() throws Exception {
+      Scanner scanner = new ObjectScanner(new DetailScanner(Example.class), new Support());
+      LabelMap elements = scanner.getSection().getElements();
+
+      assertSame(elements, scanner.getSection().getElements());
+      assertEquals(elements.size(), 2);
+
+      LabelSet set = new LabelSet(elements);
+
+      assertNotNull(set.getLabel("first"));
+      assertNull(set.getLabel("first"));
+      assertNull(set.getLabel("unknown"));
+      assertEquals(remaining(set).size(), 1);
+      assertEquals(remaining(set).get(0).getName(), "second");
+      assertEquals(elements.size(), 2);
+      assertEquals(remaining(new LabelSet(elements)).size(), 2);
+   }
+
+   public void testLabelSlots() throws Exception {
+      Scanner scanner = new ObjectScanner(new DetailScanner(Example.class), new Support());
+      LabelMap source = scanner.getSection().getElements();
+      Label first = source.get("first");
+      Label second = source.get("second");
+      LabelMap map = new LabelMap();
+
+      map.put("first", first);
+      map.put("second", second);
+
+      BitSet taken = new BitSet();
+
+      assertSame(map.getLabel(0), first);
+      assertSame(map.getLabel(1), second);
+      assertSame(map.getLabel("first", taken), first);
+      assertNull(map.getLabel("first", taken));
+      assertTrue(taken.get(0));
+      assertFalse(taken.get(1));
+
+      map.put("first", second);
+
+      assertEquals(map.getCapacity(), 2);
+      assertSame(map.getLabel(0), second);
+
+      map.remove("first");
+
+      assertEquals(map.getCapacity(), 2);
+      assertNull(map.getLabel(0));
+      assertNull(map.getLabel("first", new BitSet()));
+      assertNull(new LabelSet(map).getLabel("first"));
+      assertSame(new LabelSet(map).getLabel("second"), second);
+   }
+
+   public void testSharedMapNotModified() throws Exception {
+      Scanner scanner = new ObjectScanner(new DetailScanner(Example.class), new Support());
+      LabelMap elements = scanner.getSection().getElements();
+      Label first = elements.getLabel("first");
+
+      assertNotNull(first);
+      assertSame(first, elements.getLabel("first"));
+      assertEquals(elements.size(), 2);
+      assertSame(new LabelSet(elements).getLabel("first"), first);
+   }
+
+   public void testPutAllAndClear() throws Exception {
+      Scanner scanner = new ObjectScanner(new DetailScanner(Example.class), new Support());
+      LabelMap source = scanner.getSection().getElements();
+      LabelMap map = new LabelMap();
+
+      map.putAll(source);
+
+      assertEquals(map.size(), 2);
+      assertSame(new LabelSet(map).getLabel("first"), source.get("first"));
+      assertSame(new LabelSet(map).getLabel("second"), source.get("second"));
+      assertEquals(remaining(new LabelSet(map)).size(), 2);
+
+      map.clear();
+
+      assertTrue(map.isEmpty());
+      assertNull(new LabelSet(map).getLabel("first"));
+      assertEquals(remaining(new LabelSet(map)).size(), 0);
+
+      map.put("second", source.get("second"));
+
+      assertSame(new LabelSet(map).getLabel("second"), source.get("second"));
+      assertEquals(remaining(new LabelSet(map)).size(), 1);
+   }
+
+   public void testRepeatedReads() throws Exception {
+      Persister persister = new Persister();
+
+      for(int i = 0; i < 10; i++) {
+         Example example = persister.read(Example.class, "<example name='a'><first>"+i+"</first></example>");
+
+         assertEquals(example.first, String.valueOf(i));
+         assertNull(example.second);
+
+         boolean failure = false;
+
+         try {
+            persister.read(Example.class, "<example name='a'><second>"+i+"</second></example>");
+         } catch(ValueRequiredException e) {
+            failure = true;
+         }
+         assertTrue(failure);
+      }
+   }
+
+   private List<Label> remaining(LabelSet set) {
+      List<Label> list = new ArrayList<Label>();
+
+      for(Label label : set) {
+         list.add(label);
+      }
+      return list;
+   }
+}
@@ -101,6 +101,59 @@ public class MethodContactTest extends TestCase {
       assertEquals(example.list, types);      
    }
    
+   @Root(name="hidden")
+   private static class Hidden {
+      
+      private final String code;
+      
+      private int count;
+      
+      public Hidden(String code) {
+         this.code = code;
+      }
+      
+      @Attribute(name="code")
+      private String getCode() {
+         return code;
+      }
+      
+      @Element(name="count")
+      private int getCount() {
+         return count;
+      }
+      
+      @Element(name="count")
+      private void setCount(int count) {
+         this.count = count;
+      }
+   }
+   
+   public void testPrivateMethods() throws Exception {
+      MethodScanner scanner = new MethodScanner(new DetailScanner(Hidden.class), new Support());
+      Contact count = getContact(int.class, scanner);
+      Contact code = getContact(String.class, scanner);
+      Hidden hidden = new Hidden("abc");
+      
+      for(int i = 0; i < 10; i++) {
+         count.set(hidden, i);
+         assertEquals(count.get(hidden), i);
+         assertEquals(code.get(hidden), "abc");
+      }
+      assertTrue(code.isReadOnly());
+      assertFalse(count.isReadOnly());
+      
+      boolean failure = false;
+      
+      try {
+         code.set(hidden, "xyz");
+      } catch(MethodException e) {
+         e.printStackTrace();
+         failure = true;
+      }
+      assertTrue(failure);
+      assertEquals(code.get(hidden), "abc");
+   }
+   
    public Contact getContact(Class type, ContactList from) {      
       for(Contact contact : from) {
          if(type == contact.getType()) {
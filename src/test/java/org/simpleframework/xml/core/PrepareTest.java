@@ -0,0 +1,278 @@
+package org.simpleframework.xml.core;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.ElementArray;
+import org.simpleframework.xml.ElementList;
+import org.simpleframework.xml.ElementMap;
+import org.simpleframework.xml.ElementUnion;
+import org.simpleframework.xml.Path;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+
+public class PrepareTest extends ValidationTestCase {
+
+   @Root
+   private static class Catalog {
+
+      @Attribute
+      private String name;
+
+      @Element
+      private Owner owner;
+
+      @ElementList
+      private List<Product> products = new ArrayList<Product>();
+
+      @ElementMap
+      private Map<String, Price> prices = new HashMap<String, Price>();
+
+      @ElementArray(required=false)
+      private Tag[] tags;
+
+      @ElementUnion({
+         @Element(name="text", type=TextNote.class),
+         @Element(name="link", type=LinkNote.class)
+      })
+      private Object note;
+
+      @Path("extra/detail")
+      @Element(required=false)
+      private Detail detail;
+   }
+
+   @Root
+   private static class Owner {
+
+      @Element
+      private String name;
+   }
+
+   @Root
+   private static class Product {
+
+      @Attribute
+      private int id;
+
+      @Element(required=false)
+      private Product related;
+   }
+
+   @Root
+   private static class Price {
+
+      @Attribute
+      private double value;
+   }
+
+   @Root
+   private static class Tag {
+
+      @Attribute
+      private String value;
+   }
+
+   @Root
+   private static class TextNote {
+
+      @Element
+      private String text;
+   }
+
+   @Root
+   private static class LinkNote {
+
+      @Attribute
+      private String href;
+   }
+
+   @Root
+   private static class Detail {
+
+      @Element
+      private String value;
+   }
+
+   @Root
+   private static class Broken {
+
+      @Element
+      private Owner owner;
+
+      @Element
+      private Invalid invalid;
+   }
+
+   @Root
+   private static class Invalid {
+
+      @Element(name="value")
+      private String first;
+
+      @Element(name="value")
+      private String second;
+   }
+
+   private static class RecordSupport extends Support {
+
+      private final Set<Class> scanned = Collections.synchronizedSet(new HashSet<Class>());
+
+      public Scanner getScanner(Class type) throws Exception {
+         scanned.add(type);
+         return super.getScanner(type);
+      }
+   }
+
+   private static class ErrorSupport extends RecordSupport {
+
+      public Scanner getScanner(Class type) throws Exception {
+         if(type == Owner.class) {
+            throw new NoClassDefFoundError(type.getName());
+         }
+         return super.getScanner(type);
+      }
+   }
+
+   public void testPrepare() throws Exception {
+      RecordSupport support = new RecordSupport();
+
+      new Preparer(support).prepare(Catalog.class);
+      assertScanned(support.scanned);
+   }
+
+   public void testExecutor() throws Exception {
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+
+      try {
+         for(int i = 0; i < 20; i++) {
+            RecordSupport support = new RecordSupport();
+
+            new Preparer(support, executor).prepare(Catalog.class);
+            assertScanned(support.scanned);
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   public void testSameExecutor() throws Exception {
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      final RecordSupport support = new RecordSupport();
+
+      try {
+         Future<?> future = executor.submit(new Callable<Object>() {
+            public Object call() throws Exception {
+               new Preparer(support, executor).prepare(Catalog.class);
+               return null;
+            }
+         });
+         future.get(10, TimeUnit.SECONDS);
+      } finally {
+         executor.shutdown();
+      }
+      assertScanned(support.scanned);
+   }
+
+   public void testRejected() throws Exception {
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      RecordSupport support = new RecordSupport();
+
+      executor.shutdown();
+      new Preparer(support, executor).prepare(Catalog.class);
+      assertScanned(support.scanned);
+   }
+
+   public void testFailure() throws Exception {
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      RecordSupport support = new RecordSupport();
+      boolean failure = false;
+
+      try {
+         new Preparer(support, executor).prepare(Broken.class, Catalog.class);
+      } catch(PersistenceException e) {
+         e.printStackTrace();
+         assertTrue(e.getMessage().contains(Invalid.class.getName()));
+         assertFalse(e.getMessage().contains(Owner.class.getName()));
+         failure = true;
+      } finally {
+         executor.shutdown();
+      }
+      assertTrue(failure);
+      assertScanned(support.scanned);
+   }
+
+   public void testError() throws Exception {
+      RecordSupport support = new ErrorSupport();
+      boolean failure = false;
+
+      try {
+         new Preparer(support).prepare(Catalog.class);
+      } catch(PersistenceException e) {
+         e.printStackTrace();
+         assertTrue(e.getCause() instanceof NoClassDefFoundError);
+         assertTrue(e.getMessage().contains(Owner.class.getName()));
+         failure = true;
+      }
+      assertTrue(failure);
+      assertTrue(support.scanned.contains(Price.class));
+   }
+
+   public void testPersister() throws Exception {
+      Persister persister = new Persister();
+      Catalog catalog = new Catalog();
+      Product product = new Product();
+      Price price = new Price();
+
+      catalog.name = "catalog";
+      catalog.owner = new Owner();
+      catalog.owner.name = "owner";
+      catalog.note = new LinkNote();
+      ((LinkNote)catalog.note).href = "http://www.domain.com/";
+      product.id = 10;
+      price.value = 1.5;
+      catalog.products.add(product);
+      catalog.prices.put("a", price);
+      persister.prepare(Catalog.class);
+
+      StringWriter writer = new StringWriter();
+
+      persister.write(catalog, writer);
+
+      Catalog copy = persister.read(Catalog.class, writer.toString());
+
+      assertEquals(copy.name, "catalog");
+      assertEquals(copy.owner.name, "owner");
+      assertEquals(copy.products.get(0).id, 10);
+      assertEquals(copy.prices.get("a").value, 1.5);
+      assertEquals(((LinkNote)copy.note).href, "http://www.domain.com/");
+      validate(copy, persister);
+   }
+
+   private void assertScanned(Set<Class> scanned) {
+      assertTrue(scanned.contains(Catalog.class));
+      assertTrue(scanned.contains(Owner.class));
+      assertTrue(scanned.contains(Product.class));
+      assertTrue(scanned.contains(Price.class));
+      assertTrue(scanned.contains(Tag.class));
+      assertTrue(scanned.contains(TextNote.class));
+      assertTrue(scanned.contains(LinkNote.class));
+      assertTrue(scanned.contains(Detail.class));
+      assertFalse(scanned.contains(String.class));
+      assertFalse(scanned.contains(List.class));
+      assertFalse(scanned.contains(Object.class));
+   }
+}
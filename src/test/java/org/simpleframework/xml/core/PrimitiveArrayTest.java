@@ -1,10 +1,15 @@
 package org.simpleframework.xml.core;
 
 import java.io.StringReader;
+import java.io.StringWriter;
 
 import junit.framework.TestCase;
 
+import org.simpleframework.xml.ElementArray;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.strategy.CycleStrategy;
 import org.simpleframework.xml.strategy.TreeStrategy;
+import org.simpleframework.xml.stream.Format;
 import org.simpleframework.xml.stream.InputNode;
 import org.simpleframework.xml.stream.NodeBuilder;
 
@@ -19,6 +24,37 @@ public class PrimitiveArrayTest extends TestCase {
     "  <entry>two</entry>" +
     "</array>"; 
    
+   public static final String NUMBERS =
+    "<array length='3'>"+
+    "  <int>1</int>" +
+    "  <int>-2</int>" +
+    "  <int>3</int>" +
+    "</array>"; 
+   
+   public static final String VALUES =
+   "<values>"+
+   "<integers length=\"3\"><int>1</int><int>-2</int><int>2147483647</int></integers>"+
+   "<decimals length=\"2\"><double>1.5</double><double>-1.0E-300</double></decimals>"+
+   "<flags length=\"2\"><boolean>true</boolean><boolean>false</boolean></flags>"+
+   "<letters length=\"2\"><char>a</char><char>&amp;</char></letters>"+
+   "</values>";
+   
+   @Root
+   private static class Values {
+      
+      @ElementArray
+      private int[] integers;
+      
+      @ElementArray
+      private double[] decimals;
+      
+      @ElementArray
+      private boolean[] flags;
+      
+      @ElementArray
+      private char[] letters;
+   }
+   
    public void testZero() throws Exception {
       Context context = new Source(new TreeStrategy(), new Support(), new Session());
       PrimitiveArray primitive = new PrimitiveArray(context, new ClassType(String[].class), new ClassType(String.class), "entry");
@@ -50,4 +86,44 @@ public class PrimitiveArrayTest extends TestCase {
       
       assertTrue(primitive.validate(newNode)); 
    }
+   
+   public void testBinder() throws Exception {
+      Context context = new Source(new TreeStrategy(), new Support(), new Session());
+      PrimitiveArray primitive = new PrimitiveArray(context, new ClassType(int[].class), new ClassType(int.class), "int");
+      InputNode node = NodeBuilder.read(new StringReader(NUMBERS));
+      int[] list = (int[]) primitive.read(node);
+      
+      assertNotNull(context.getBinder(int.class));
+      assertNull(context.getBinder(Integer.class));
+      assertNull(new Source(new CycleStrategy(), new Support(), new Session()).getBinder(int.class));
+      assertEquals(list.length, 3);
+      assertEquals(list[0], 1);
+      assertEquals(list[1], -2);
+      assertEquals(list[2], 3);
+   }
+   
+   public void testWireFormat() throws Exception {
+      Persister persister = new Persister(new Format(0));
+      Values values = persister.read(Values.class, VALUES);
+      StringWriter writer = new StringWriter();
+      
+      assertEquals(values.integers[2], Integer.MAX_VALUE);
+      assertEquals(values.decimals[1], -1.0E-300);
+      assertTrue(values.flags[0]);
+      assertEquals(values.letters[1], '&');
+      persister.write(values, writer);
+      assertEquals(writer.toString(), VALUES);
+   }
+   
+   public void testLength() throws Exception {
+      Persister persister = new Persister();
+      boolean failure = false;
+      
+      try {
+         persister.read(Values.class, VALUES.replace("<integers length=\"3\">", "<integers length=\"2\">"));
+      } catch(ElementException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
 }
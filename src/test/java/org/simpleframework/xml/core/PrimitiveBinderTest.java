@@ -0,0 +1,227 @@
+package org.simpleframework.xml.core;
+
+import java.io.StringWriter;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.Element;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.Text;
+import org.simpleframework.xml.ValidationTestCase;
+import org.simpleframework.xml.strategy.CycleStrategy;
+import org.simpleframework.xml.strategy.TreeStrategy;
+import org.simpleframework.xml.transform.Matcher;
+import org.simpleframework.xml.transform.Transform;
+
+public class PrimitiveBinderTest extends ValidationTestCase {
+
+   private static final String SAMPLE =
+   "<sample integer='1' number='2' decimal='3.0' real='4.0' flag='true' small='5' tiny='6' letter='x' empty='0'>\n"+
+   "   <element>42</element>\n"+
+   "</sample>";
+
+   @Root
+   private static class Sample {
+
+      @Attribute
+      private int integer;
+
+      @Attribute
+      private long number;
+
+      @Attribute
+      private double decimal;
+
+      @Attribute
+      private float real;
+
+      @Attribute
+      private boolean flag;
+
+      @Attribute
+      private short small;
+
+      @Attribute
+      private byte tiny;
+
+      @Attribute
+      private char letter;
+
+      @Attribute(empty="0")
+      private int empty;
+
+      @Element
+      private int element;
+   }
+
+   @Root
+   private static class Measure {
+
+      @Attribute
+      private String unit;
+
+      @Text
+      private long value;
+   }
+
+   @Root
+   private static class Template {
+
+      @Attribute
+      private int value;
+   }
+
+   private static class HexMatcher implements Matcher {
+
+      public Transform match(Class type) {
+         if(type == int.class || type == Integer.class) {
+            return new HexTransform();
+         }
+         return null;
+      }
+   }
+
+   private static class HexTransform implements Transform<Integer> {
+
+      public Integer read(String value) {
+         return Integer.valueOf(value, 16);
+      }
+
+      public String write(Integer value) {
+         return Integer.toHexString(value);
+      }
+   }
+
+   public void testBinder() throws Exception {
+      Support support = new Support();
+      Source source = new Source(new TreeStrategy(), support, new Session());
+      Section section = support.getScanner(Sample.class).getSection();
+
+      assertNotNull(source.getBinder(section.getAttributes().get("integer")));
+      assertNotNull(source.getBinder(section.getAttributes().get("letter")));
+      assertNull(source.getBinder(section.getAttributes().get("empty")));
+      assertNotNull(source.getBinder(section.getElements().get("element")));
+   }
+
+   public void testStrategy() throws Exception {
+      Support support = new Support();
+      Source source = new Source(new CycleStrategy(), support, new Session());
+      Section section = support.getScanner(Sample.class).getSection();
+      Persister persister = new Persister(new CycleStrategy());
+      Sample sample = new Sample();
+      StringWriter writer = new StringWriter();
+
+      sample.letter = 'a';
+      sample.element = 7;
+      persister.write(sample, writer);
+
+      String text = writer.toString();
+
+      assertNotNull(source.getBinder(section.getAttributes().get("integer")));
+      assertNull(source.getBinder(section.getElements().get("element")));
+      assertElementHasAttribute(text, "/sample/element", "id", "1");
+      assertEquals(persister.read(Sample.class, text).element, 7);
+   }
+
+   public void testText() throws Exception {
+      Persister persister = new Persister();
+      Measure measure = new Measure();
+      StringWriter writer = new StringWriter();
+
+      measure.unit = "mm";
+      measure.value = -123456789L;
+      persister.write(measure, writer);
+
+      String text = writer.toString();
+      Measure copy = persister.read(Measure.class, text);
+
+      assertElementHasValue(text, "/measure", "-123456789");
+      assertEquals(copy.value, -123456789L);
+      assertEquals(copy.unit, "mm");
+   }
+
+   public void testElement() throws Exception {
+      Persister persister = new Persister();
+      Sample sample = persister.read(Sample.class, SAMPLE);
+      boolean failure = false;
+
+      assertEquals(sample.element, 42);
+
+      try {
+         persister.read(Sample.class, SAMPLE.replace("<element>42</element>", "<element/>"));
+      } catch(ValueRequiredException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+      failure = false;
+
+      try {
+         persister.read(Sample.class, SAMPLE.replace("<element>", "<element class='java.lang.Integer'>"));
+      } catch(InstantiationException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+
+   public void testRoundTrip() throws Exception {
+      Persister persister = new Persister();
+      Sample sample = new Sample();
+      StringWriter writer = new StringWriter();
+
+      sample.integer = Integer.MIN_VALUE;
+      sample.number = Long.MAX_VALUE;
+      sample.decimal = 1.0E-300;
+      sample.real = -3.5f;
+      sample.flag = true;
+      sample.small = Short.MIN_VALUE;
+      sample.tiny = Byte.MAX_VALUE;
+      sample.letter = '&';
+      sample.element = 12;
+      persister.write(sample, writer);
+
+      String text = writer.toString();
+      Sample copy = persister.read(Sample.class, text);
+
+      assertElementHasAttribute(text, "/sample", "integer", String.valueOf(Integer.MIN_VALUE));
+      assertElementHasAttribute(text, "/sample", "decimal", "1.0E-300");
+      assertElementHasAttribute(text, "/sample", "letter", "&");
+      assertEquals(copy.integer, Integer.MIN_VALUE);
+      assertEquals(copy.number, Long.MAX_VALUE);
+      assertEquals(copy.decimal, 1.0E-300);
+      assertEquals(copy.real, -3.5f);
+      assertEquals(copy.flag, true);
+      assertEquals(copy.small, Short.MIN_VALUE);
+      assertEquals(copy.tiny, Byte.MAX_VALUE);
+      assertEquals(copy.letter, '&');
+      assertEquals(copy.element, 12);
+      validate(copy, persister);
+   }
+
+   public void testInvalidValue() throws Exception {
+      Persister persister = new Persister();
+      boolean failure = false;
+
+      try {
+         persister.read(Template.class, "<template value='abc'/>");
+      } catch(NumberFormatException e) {
+         failure = true;
+      }
+      assertTrue(failure);
+   }
+
+   public void testTemplate() throws Exception {
+      Persister persister = new Persister();
+
+      System.setProperty("binder.value", "42");
+      assertEquals(persister.read(Template.class, "<template value='${binder.value}'/>").value, 42);
+   }
+
+   public void testMatcher() throws Exception {
+      Persister persister = new Persister(new HexMatcher());
+      Template template = persister.read(Template.class, "<template value='ff'/>");
+      StringWriter writer = new StringWriter();
+
+      assertEquals(template.value, 255);
+      persister.write(template, writer);
+      assertElementHasAttribute(writer.toString(), "/template", "value", "ff");
+   }
+}
@@ -0,0 +1,116 @@
+package org.simpleframework.xml.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.simpleframework.xml.Attribute;
+import org.simpleframework.xml.ElementList;
+import org.simpleframework.xml.Root;
+import org.simpleframework.xml.ValidationTestCase;
+
+public class StreamingListTest extends ValidationTestCase {
+
+   @Root
+   private static class Entry {
+
+      @Attribute
+      private int id;
+
+      public Entry(@Attribute(name="id") int id) {
+         this.id = id;
+      }
+   }
+
+   @Root
+   private static class Export {
+
+      @ElementList
+      private Iterator<Entry> entries;
+
+      @ElementList(inline=true, entry="name")
+      private Iterable<String> names;
+
+      public Export(Iterator<Entry> entries, Iterable<String> names) {
+         this.entries = entries;
+         this.names = names;
+      }
+   }
+
+   @Root
+   private static class InlineExport {
+
+      @ElementList(inline=true)
+      private Iterator<Entry> entries;
+
+      public InlineExport(Iterator<Entry> entries) {
+         this.entries = entries;
+      }
+   }
+
+   private static class EntryCursor implements Iterator<Entry> {
+
+      private final ByteArrayOutputStream out;
+      private final int count;
+      private int index;
+      private int written;
+
+      public EntryCursor(ByteArrayOutputStream out, int count) {
+         this.count = count;
+         this.out = out;
+      }
+
+      public boolean hasNext() {
+         return index < count;
+      }
+
+      public Entry next() {
+         if(out != null && index == count - 1) {
+            written = out.size();
+         }
+         return new Entry(index++);
+      }
+
+      public void remove() {
+         throw new UnsupportedOperationException();
+      }
+   }
+
+   public void testIterator() throws Exception {
+      Persister persister = new Persister();
+      StringWriter writer = new StringWriter();
+      Export export = new Export(new EntryCursor(null, 3), Arrays.asList("a", "b"));
+
+      persister.write(export, writer);
+
+      String text = writer.toString();
+
+      assertElementHasAttribute(text, "/export/entries/entry[1]", "id", "0");
+      assertElementHasAttribute(text, "/export/entries/entry[3]", "id", "2");
+      assertElementHasValue(text, "/export/name[1]", "a");
+      assertElementHasValue(text, "/export/name[2]", "b");
+   }
+
+   public void testInlineIterator() throws Exception {
+      Persister persister = new Persister();
+      StringWriter writer = new StringWriter();
+
+      persister.write(new InlineExport(new EntryCursor(null, 2)), writer);
+
+      String text = writer.toString();
+
+      assertElementHasAttribute(text, "/inlineExport/entry[1]", "id", "0");
+      assertElementHasAttribute(text, "/inlineExport/entry[2]", "id", "1");
+   }
+
+   public void testStreaming() throws Exception {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      EntryCursor cursor = new EntryCursor(out, 50000);
+      Persister persister = new Persister();
+
+      persister.write(new InlineExport(cursor), out);
+
+      assertTrue(cursor.written > out.size() / 2);
+   }
+}
@@ -0,0 +1,389 @@
+package org.simpleframework.xml.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class ByteProviderTest extends ValidationTestCase {
+
+   private static final String SOURCE =
+      "<?xml version='1.0' encoding='UTF-8'?>\n"+
+      "<!-- leading comment -->\n"+
+      "<root name='top' xmlns='http://www.domain.com/default' xmlns:x='http://www.domain.com/x'>\n"+
+      "    <?instruction ignored?>\n"+
+      "    <child a='A &amp; B' x:b='&#x42;&#67;'>\n"+
+      "        <leaf>café &lt;€ 😀&gt;</leaf>\n"+
+      "        <x:empty/>\n"+
+      "    </child>\n"+
+      "    <data><![CDATA[<not markup> ]] ]]></data>\n"+
+      "</root>";
+
+      public void testReader() throws Exception {
+         for(int size = 1; size < 64; size++) {
+            EventReader reader = provide(SOURCE, size);
+
+            assertEquals(reader.peek().getName(), "root");
+            assertEquals(reader.peek().getLine(), 3);
+            assertEquals(reader.peek().getReference(), "http://www.domain.com/default");
+            assertNull(reader.peek().getPrefix());
+
+            EventNode root = reader.next();
+
+            assertAttribute(root, "name", "top");
+            skipText(reader);
+
+            EventNode child = reader.next();
+
+            assertEquals(child.getName(), "child");
+            assertEquals(child.getLine(), 5);
+            assertAttribute(child, "a", "A & B");
+            assertAttribute(child, "b", "BC");
+
+            for(Attribute attribute : child) {
+               if(attribute.getName().equals("b")) {
+                  assertEquals(attribute.getPrefix(), "x");
+                  assertEquals(attribute.getReference(), "http://www.domain.com/x");
+               }
+            }
+            skipText(reader);
+            assertEquals(reader.next().getName(), "leaf");
+            assertEquals(reader.next().getValue(), "café <€ 😀>");
+            assertTrue(reader.next().isEnd());
+            skipText(reader);
+
+            EventNode empty = reader.next();
+
+            assertEquals(empty.getName(), "empty");
+            assertEquals(empty.getPrefix(), "x");
+            assertEquals(empty.getReference(), "http://www.domain.com/x");
+            assertTrue(reader.next().isEnd());
+            skipText(reader);
+            assertTrue(reader.next().isEnd());
+            skipText(reader);
+            assertEquals(reader.next().getName(), "data");
+            assertEquals(reader.next().getValue(), "<not markup> ]] ");
+            assertTrue(reader.next().isEnd());
+            skipText(reader);
+            assertTrue(reader.next().isEnd());
+            assertNull(reader.next());
+         }
+      }
+
+      public void testLineEndings() throws Exception {
+         EventReader reader = provide("<root a='x\r\ny\tz'>\r\none\rtwo\r\n<child/></root>", 8192);
+         EventNode root = reader.next();
+
+         assertAttribute(root, "a", "x y z");
+         assertEquals(reader.next().getValue(), "\none\ntwo\n");
+         assertEquals(reader.peek().getLine(), 5);
+      }
+
+      public void testByteOrderMark() throws Exception {
+         byte[] text = "<root>text</root>".getBytes("UTF-8");
+         byte[] data = new byte[text.length + 3];
+
+         data[0] = (byte)0xef;
+         data[1] = (byte)0xbb;
+         data[2] = (byte)0xbf;
+         System.arraycopy(text, 0, data, 3, text.length);
+
+         Provider provider = new ByteProvider(new DocumentProvider());
+         EventReader reader = provider.provide(new ByteArrayInputStream(data));
+
+         assertTrue(reader instanceof ByteReader);
+         assertEquals(reader.next().getName(), "root");
+         assertEquals(reader.next().getValue(), "text");
+      }
+
+      public void testFallback() throws Exception {
+         String latin = "<?xml version='1.0' encoding='ISO-8859-1'?><root>café</root>";
+         String doctype = "<!DOCTYPE root [<!ENTITY name 'value'>]><root>&name;</root>";
+         Provider provider = new ByteProvider(new DocumentProvider());
+         InputStream source = new ByteArrayInputStream(latin.getBytes("ISO-8859-1"));
+         EventReader reader = provider.provide(source);
+
+         assertFalse(reader instanceof ByteReader);
+         assertEquals(reader.next().getName(), "root");
+         assertEquals(reader.next().getValue(), "café");
+
+         reader = provider.provide(new ByteArrayInputStream(doctype.getBytes("UTF-8")));
+
+         assertFalse(reader instanceof ByteReader);
+         assertEquals(reader.next().getName(), "root");
+         assertEquals(reader.next().getValue(), "value");
+
+         reader = provider.provide(new StringReader("<root/>"));
+
+         assertFalse(reader instanceof ByteReader);
+      }
+
+      public void testMismatchedEnd() throws Exception {
+         EventReader reader = provide("<root><child></root>", 8192);
+         boolean failure = false;
+
+         try {
+            while(reader.next() != null);
+         } catch(NodeException e) {
+            failure = true;
+         }
+         assertTrue(failure);
+      }
+
+      private static final String[] MALFORMED = {
+         "<root a='1' a='2'/>",
+         "<root xmlns:x='http://x' xmlns:y='http://x' x:a='1' y:a='2'/>",
+         "<root><x:child/></root>",
+         "<root x:a='1'/>",
+         "<root/><other/>",
+         "<root/>text",
+         "<root/><![CDATA[text]]>",
+         "<root>a ]]> b</root>",
+         "<1root/>",
+         "<root 1a='x'/>",
+         "<a:b:c xmlns:a='http://a'/>",
+         "<root a='1'b='2'/>",
+         "<root>\u0001</root>",
+         "<root a='\u0008'/>",
+         "<root><!-- \u0001 --></root>",
+         "<root xmlns:x=''/>",
+         "<root xmlns:xml='http://x'/>",
+         "<root xmlns:x='http://www.w3.org/XML/1998/namespace'/>",
+         "<root xmlns:xmlns='http://x'/>",
+         "<root>&#-65;</root>",
+         "<root>&#x-41;</root>",
+         "<root>&#+65;</root>",
+         "<root>&# 65;</root>",
+         "<root>&#;</root>",
+         "<root>&#x;</root>",
+         "<root>&#0;</root>",
+         "<root>&#xD800;</root>",
+         "<root>&#x110000;</root>",
+         "<root>&#xFFFE;</root>",
+         "<root>&#4294967361;</root>",
+         "<root>&#x0000000000110000;</root>",
+         "<root>&#00000000000000000000;</root>",
+         "<root><!-- a -- b --></root>",
+         "<root><?xml version='1.0'?></root>",
+         "<root><!DOCTYPE root></root>",
+         "<!-- only a comment -->",
+         "<?xml vesion='1.0'?><root/>",
+         "<?xml?><root/>",
+         "<?xml encoding='UTF-8'?><root/>",
+         "<?xml encoding='UTF-8' version='1.0'?><root/>",
+         "<?xml version='1.0' standalone='yes' encoding='UTF-8'?><root/>",
+         "<?xml version='1.0' other='x'?><root/>",
+         "<?xml version='1.0' standalone='maybe'?><root/>",
+         "<?xml version='1.0'encoding='UTF-8'?><root/>",
+         "<?xml version='1.0' version='1.0'?><root/>",
+         "<?xml version=1.0?><root/>"
+      };
+
+      private static final byte[][] ENCODED = {
+         {(byte)0xc0, (byte)0x80},
+         {(byte)0xc1, (byte)0xbf},
+         {(byte)0xe0, (byte)0x80, (byte)0xbc},
+         {(byte)0xed, (byte)0xa0, (byte)0x80},
+         {(byte)0xef, (byte)0xbf, (byte)0xbe},
+         {(byte)0xf0, (byte)0x80, (byte)0x80, (byte)0xbc},
+         {(byte)0xf4, (byte)0x90, (byte)0x80, (byte)0x80},
+         {(byte)0xf5, (byte)0x80, (byte)0x80, (byte)0x80},
+         {(byte)0xff},
+         {(byte)0x80},
+         {(byte)0xc3, (byte)0x28}
+      };
+
+      public void testMalformed() throws Exception {
+         for(String text : MALFORMED) {
+            assertMalformed(text.getBytes("UTF-8"));
+            assertRejected(text);
+         }
+      }
+
+      public void testEncoding() throws Exception {
+         for(byte[] sequence : ENCODED) {
+            byte[] start = "<root>".getBytes("UTF-8");
+            byte[] end = "</root>".getBytes("UTF-8");
+            byte[] data = new byte[start.length + sequence.length + end.length];
+
+            System.arraycopy(start, 0, data, 0, start.length);
+            System.arraycopy(sequence, 0, data, start.length, sequence.length);
+            System.arraycopy(end, 0, data, start.length + sequence.length, end.length);
+            assertMalformed(data);
+         }
+         byte[] data = "<root>\u07ff\uffee\ud800\udc00\udbff\udfff</root>".getBytes("UTF-8");
+         EventReader reader = provide(new String(data, "UTF-8"), 8192);
+
+         assertEquals(reader.next().getName(), "root");
+         assertEquals(reader.next().getValue(), "\u07ff\uffee\ud800\udc00\udbff\udfff");
+      }
+
+      public void testWellFormed() throws Exception {
+         EventReader reader = provide("<?xml version='1.0'?>\n<!-- a - b -->\n<x:root xmlns:x='http://x' xmlns='' xml:lang='en' a='1' x:a='2'>&#65;&#x42;]]&gt;&#93;]>\u00b7<\u00e9l\u00e9ment-1.a\u00b7/></x:root>\n<?end?>\n", 8192);
+         EventNode root = reader.next();
+
+         assertEquals(root.getName(), "root");
+         assertAttribute(root, "lang", "en");
+         assertEquals(reader.next().getValue(), "AB]]>]]>\u00b7");
+         assertEquals(reader.next().getName(), "\u00e9l\u00e9ment-1.a\u00b7");
+         assertTrue(reader.next().isEnd());
+         assertTrue(reader.next().isEnd());
+         assertNull(reader.next());
+      }
+
+      public void testLineNumbers() throws Exception {
+         EventReader reader = provide("<root>\r<a/>\r\n<b/>\n\r<c/>\r\r<d/></root>", 4);
+         
+         assertEquals(1, reader.next().getLine());
+         skipText(reader);
+         assertEquals(2, reader.next().getLine());
+         assertTrue(reader.next().isEnd());
+         skipText(reader);
+         assertEquals(3, reader.next().getLine());
+         assertTrue(reader.next().isEnd());
+         skipText(reader);
+         assertEquals(5, reader.next().getLine());
+         assertTrue(reader.next().isEnd());
+         skipText(reader);
+         assertEquals(7, reader.next().getLine());
+      }
+
+      private static final String[] WELL_FORMED = {
+         "<root>&#x000000000041;&#0000000065;&#x0000010FFFF;</root>",
+         "<root a='&#00000000000000000066;'>&lt;&#x09;&gt;</root>",
+         "<x:root xmlns:x='http://x' xmlns='http://y'><a x:b='1' c='2'>text</a><b/></x:root>",
+         "<root><!-- comment --><?pi data?><![CDATA[<a> & <b>]]>\u00e9\u20ac</root>",
+         "<?xml version = '1.0' encoding=\"UTF-8\" standalone='no' ?><root/>",
+         "<?xml version='1.0' standalone=\"yes\"?>\r<root/>"
+      };
+
+      public void testSameAsStreamReader() throws Exception {
+         for(String text : WELL_FORMED) {
+            Provider provider = new CursorProvider();
+            EventReader expect = provider.provide(new ByteArrayInputStream(text.getBytes("UTF-8")));
+            EventReader reader = provide(text, 8192);
+
+            assertEquals(text, events(expect), events(reader));
+         }
+      }
+
+      public void testDeclaration() throws Exception {
+         String[] texts = {
+            "<?xml version='1.0' encoding='UTF8'?><root/>",
+            "<?xml version='1.0' encoding='ASCII'?><root/>",
+            "<?xml version='1.1'?><root/>"
+         };
+         for(String text : texts) {
+            ByteSource source = new ByteSource(new ByteArrayInputStream(text.getBytes("UTF-8")), 8192);
+
+            assertFalse(text, source.isSupported());
+         }
+      }
+
+      public void testNodeReader() throws Exception {
+         InputNode root = new NodeReader(provide(SOURCE, 16)).readRoot();
+
+         assertEquals(root.getName(), "root");
+         assertEquals(root.getAttribute("name").getValue(), "top");
+         assertNull(root.getAttribute("xmlns"));
+
+         InputNode child = root.getNext();
+
+         assertEquals(child.getName(), "child");
+         assertEquals(child.getAttribute("a").getValue(), "A & B");
+         assertEquals(child.getNext().getValue(), "café <€ 😀>");
+         assertTrue(child.getNext().isEmpty());
+         assertNull(child.getNext());
+         assertEquals(root.getNext().getValue(), "<not markup> ]] ");
+         assertNull(root.getNext());
+      }
+
+      private EventReader provide(String text, int size) throws Exception {
+         Provider provider = new ByteProvider(new DocumentProvider(), size);
+         InputStream source = new ByteArrayInputStream(text.getBytes("UTF-8"));
+         EventReader reader = provider.provide(source);
+
+         assertTrue(reader instanceof ByteReader);
+         return reader;
+      }
+
+      private void assertMalformed(byte[] data) throws Exception {
+         Provider provider = new ByteProvider(new CursorProvider());
+         EventReader reader = provider.provide(new ByteArrayInputStream(data));
+         String text = new String(data, "UTF-8");
+         boolean failure = false;
+
+         assertTrue(text, reader instanceof ByteReader);
+
+         try {
+            while(reader.next() != null);
+         } catch(NodeException e) {
+            failure = true;
+         }
+         assertTrue("Document should not be read " + text, failure);
+      }
+
+      private void assertRejected(String text) throws Exception {
+         Provider provider = new CursorProvider();
+         boolean failure = false;
+
+         try {
+            EventReader parser = provider.provide(new ByteArrayInputStream(text.getBytes("UTF-8")));
+
+            while(parser.next() != null);
+         } catch(Exception e) {
+            failure = true;
+         }
+         assertTrue("Document should not be parsed " + text, failure);
+      }
+
+      private List<String> events(EventReader reader) throws Exception {
+         List<String> list = new ArrayList<String>();
+         StringBuilder value = new StringBuilder();
+
+         for(EventNode node = reader.next(); node != null; node = reader.next()) {
+            if(node.isText()) {
+               value.append(node.getValue());
+            } else {
+               if(value.length() > 0) {
+                  list.add("text " + value);
+                  value.setLength(0);
+               }
+               if(node.isStart()) {
+                  Set<String> attributes = new TreeSet<String>();
+
+                  for(Attribute attribute : node) {
+                     if(!attribute.isReserved()) {
+                        attributes.add(attribute.getReference() + " " + attribute.getName() + "=" + attribute.getValue());
+                     }
+                  }
+                  list.add("start " + node.getReference() + " " + node.getName() + " " + attributes);
+               } else {
+                  list.add("end");
+               }
+            }
+         }
+         return list;
+      }
+
+      private void skipText(EventReader reader) throws Exception {
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+      }
+
+      private void assertAttribute(EventNode node, String name, String value) {
+         for(Attribute attribute : node) {
+            if(attribute.getName().equals(name)) {
+               assertEquals(attribute.getValue(), value);
+               return;
+            }
+         }
+         fail("Attribute " + name + " not found");
+      }
+}
@@ -0,0 +1,71 @@
+package org.simpleframework.xml.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class ByteWriterTest extends ValidationTestCase {
+
+   private static final String[] VALUES = {
+      "plain ascii text",
+      "café crème brûlée",
+      "€ and ✓ and 中文",
+      "emoji 😀 and 🎉 pairs",
+      "unpaired \uD800 high",
+      "unpaired \uDC00 low",
+      "trailing high \uD83D"
+   };
+
+   private static final String[] CHARSETS = {
+      "UTF-8",
+      "utf8",
+      "US-ASCII",
+      "ISO-8859-1"
+   };
+
+   public void testEncoding() throws Exception {
+      for(String charset : CHARSETS) {
+         assertTrue(ByteWriter.isSupported(charset));
+
+         for(String value : VALUES) {
+            for(int size = 16; size < 24; size++) {
+               assertEncoding(value, charset, size);
+            }
+         }
+      }
+   }
+
+   public void testUnsupported() throws Exception {
+      assertFalse(ByteWriter.isSupported("UTF-16"));
+      assertFalse(ByteWriter.isSupported("no-such-charset"));
+      assertFalse(ByteWriter.isSupported("illegal name!"));
+   }
+
+   public void testNodeBuilder() throws Exception {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      OutputNode root = NodeBuilder.write(out, new Format(0), "UTF-8").getChild("root");
+
+      root.setAttribute("name", "€ 😀");
+      root.setValue("café & <crème>");
+      root.commit();
+      assertEquals(out.toString("UTF-8"), "<root name=\"€ 😀\">café &amp; &lt;crème&gt;</root>");
+   }
+
+   private void assertEncoding(String value, String charset, int size) throws Exception {
+      ByteArrayOutputStream expect = new ByteArrayOutputStream();
+      ByteArrayOutputStream actual = new ByteArrayOutputStream();
+      Writer standard = new OutputStreamWriter(expect, charset);
+      Writer writer = new ByteWriter(actual, charset, size);
+
+      standard.write(value);
+      standard.close();
+      writer.write(value.substring(0, 3));
+      writer.write(value.toCharArray(), 3, value.length() - 5);
+      writer.write(value, value.length() - 2, 1);
+      writer.write(value.charAt(value.length() - 1));
+      writer.close();
+      assertEquals(new String(actual.toByteArray(), "ISO-8859-1"), new String(expect.toByteArray(), "ISO-8859-1"));
+   }
+}
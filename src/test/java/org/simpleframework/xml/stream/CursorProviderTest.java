@@ -0,0 +1,117 @@
+package org.simpleframework.xml.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class CursorProviderTest extends ValidationTestCase {
+
+   private static final String SOURCE =
+      "<root name='top'>\n"+
+      "    <!-- child node -->\n"+
+      "    <child a='A' b='B'>\n"+
+      "        <leaf>leaf node</leaf>\n"+
+      "    </child>\n"+
+      "    <x:prefixed xmlns:x='http://www.domain.com/x' x:attr='value'><![CDATA[data]]></x:prefixed>\n"+
+      "</root>";
+
+
+      public void testReader() throws Exception {
+         Provider provider = new CursorProvider();
+         StringReader source = new StringReader(SOURCE);
+         EventReader reader = provider.provide(source);
+
+         assertEquals(reader.peek().getName(), "root");
+         assertEquals(reader.peek().getLine(), 1);
+         assertEquals(reader.next().getName(), "root");
+         assertTrue(reader.peek().isText());
+         assertTrue(reader.next().isText());
+
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+         assertEquals(reader.peek().getName(), "child");
+         assertEquals(reader.peek().getLine(), 3);
+
+         EventNode child = reader.next();
+
+         assertEquals(child.getName(), "child");
+         assertAttribute(child, "a", "A");
+         assertAttribute(child, "b", "B");
+         assertTrue(reader.peek().isText());
+         assertTrue(reader.next().isText());
+
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+         assertEquals(reader.peek().getName(), "leaf");
+         assertEquals(reader.next().getName(), "leaf");
+         assertTrue(reader.peek().isText());
+         assertEquals(reader.peek().getValue(), "leaf node");
+         assertEquals(reader.next().getValue(), "leaf node");
+         assertTrue(reader.next().isEnd());
+
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+         assertTrue(reader.next().isEnd());
+
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+         EventNode prefixed = reader.next();
+
+         assertEquals(prefixed.getName(), "prefixed");
+         assertEquals(prefixed.getPrefix(), "x");
+         assertEquals(prefixed.getReference(), "http://www.domain.com/x");
+
+         for(Attribute attribute : prefixed) {
+            assertEquals(attribute.getName(), "attr");
+            assertEquals(attribute.getPrefix(), "x");
+            assertEquals(attribute.getReference(), "http://www.domain.com/x");
+            assertEquals(attribute.getValue(), "value");
+         }
+         assertEquals(reader.next().getValue(), "data");
+         assertTrue(reader.next().isEnd());
+
+         while(reader.peek().isText()) {
+            assertTrue(reader.next().isText()); // remove text from the document
+         }
+         assertTrue(reader.next().isEnd());
+         assertNull(reader.next());
+      }
+
+      public void testStream() throws Exception {
+         Provider provider = new CursorProvider();
+         ByteArrayInputStream source = new ByteArrayInputStream(SOURCE.getBytes("UTF-8"));
+         InputNode root = new NodeReader(provider.provide(source)).readRoot();
+
+         assertEquals(root.getName(), "root");
+         assertEquals(root.getAttribute("name").getValue(), "top");
+
+         InputNode child = root.getNext();
+
+         assertEquals(child.getName(), "child");
+         assertEquals(child.getAttribute("a").getValue(), "A");
+         assertEquals(child.getNext().getValue(), "leaf node");
+         assertNull(child.getNext());
+
+         InputNode prefixed = root.getNext();
+
+         assertEquals(prefixed.getName(), "prefixed");
+         assertEquals(prefixed.getAttribute("attr").getValue(), "value");
+         assertEquals(prefixed.getValue(), "data");
+         assertNull(root.getNext());
+      }
+
+      private void assertAttribute(EventNode node, String name, String value) {
+         for(Attribute attribute : node) {
+            if(attribute.getName().equals(name)) {
+               assertEquals(attribute.getValue(), value);
+               return;
+            }
+         }
+         fail("Attribute " + name + " not found");
+      }
+}
@@ -0,0 +1,38 @@
+package org.simpleframework.xml.stream;
+
+import java.io.StringWriter;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class EscapeTest extends ValidationTestCase {
+
+   public void testText() throws Exception {
+      assertEquals(write("text", "plain text"), "<root>plain text</root>");
+      assertEquals(write("text", "<a>"), "<root>&lt;a&gt;</root>");
+      assertEquals(write("text", "a & b"), "<root>a &amp; b</root>");
+      assertEquals(write("text", "&&"), "<root>&amp;&amp;</root>");
+      assertEquals(write("text", "'quoted' \"text\""), "<root>&apos;quoted&apos; &quot;text&quot;</root>");
+      assertEquals(write("text", "café €"), "<root>café €</root>");
+      assertEquals(write("text", ""), "<root></root>");
+   }
+
+   public void testAttribute() throws Exception {
+      assertEquals(write("attribute", "plain"), "<root a=\"plain\"/>");
+      assertEquals(write("attribute", "<a & 'b' \"c\">"), "<root a=\"&lt;a &amp; &apos;b&apos; &quot;c&quot;&gt;\"/>");
+      assertEquals(write("attribute", "\"leading"), "<root a=\"&quot;leading\"/>");
+      assertEquals(write("attribute", "trailing\""), "<root a=\"trailing&quot;\"/>");
+   }
+
+   private String write(String type, String value) throws Exception {
+      StringWriter writer = new StringWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format(0)).getChild("root");
+
+      if(type.equals("attribute")) {
+         root.setAttribute("a", value);
+      } else {
+         root.setValue(value);
+      }
+      root.commit();
+      return writer.toString();
+   }
+}
@@ -0,0 +1,89 @@
+package org.simpleframework.xml.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class EventRecycleTest extends ValidationTestCase {
+
+   private static final String SOURCE =
+      "<root a='1'>\n"+
+      "   <first b='2' c='3'>one</first>\n"+
+      "   <second d='4'>two</second>\n"+
+      "   <third>three</third>\n"+
+      "</root>";
+
+   public void testRecycledEvents() throws Exception {
+      Provider[] providers = new Provider[] {
+         new DocumentProvider(true),
+         new StreamProvider(true),
+         new CursorProvider(true),
+         new ByteProvider(new DocumentProvider(true), 8192, true)
+      };
+      for(Provider provider : providers) {
+         EventReader reader = provider.provide(new ByteArrayInputStream(SOURCE.getBytes("UTF-8")));
+         EventNode root = reader.next();
+
+         skipText(reader);
+         assertEquals(reader.next().getName(), "first");
+         assertEquals(reader.next().getValue(), "one");
+         assertTrue(reader.next().isEnd());
+         skipText(reader);
+
+         EventNode second = reader.next();
+
+         assertEquals(second.getName(), "second");
+         assertSame(second, root);
+         assertEquals(reader.next().getValue(), "two");
+         assertTrue(reader.next().isEnd());
+         skipText(reader);
+         assertEquals(reader.next().getName(), "third");
+      }
+   }
+
+   public void testRecycledNodes() throws Exception {
+      Provider[] providers = new Provider[] {
+         new DocumentProvider(true),
+         new StreamProvider(true),
+         new CursorProvider(true),
+         new ByteProvider(new DocumentProvider(true), 8192, true)
+      };
+      for(Provider provider : providers) {
+         assertNodes(new NodeReader(provider.provide(new ByteArrayInputStream(SOURCE.getBytes("UTF-8")))));
+         assertNodes(new NodeReader(provider.provide(new StringReader(SOURCE))));
+      }
+   }
+
+   private void assertNodes(NodeReader reader) throws Exception {
+      InputNode root = reader.readRoot();
+      InputNode first = root.getNext();
+
+      assertEquals(first.getName(), "first");
+      assertEquals(first.getAttribute("b").getValue(), "2");
+      assertEquals(first.getAttribute("c").getValue(), "3");
+      assertEquals(first.getValue(), "one");
+
+      InputNode second = root.getNext();
+
+      assertEquals(second.getName(), "second");
+      assertEquals(second.getAttribute("d").getValue(), "4");
+      assertNull(second.getAttribute("b"));
+      assertEquals(second.getValue(), "two");
+
+      InputNode third = root.getNext();
+
+      assertEquals(third.getName(), "third");
+      assertNull(third.getAttribute("d"));
+      assertEquals(third.getValue(), "three");
+      assertEquals(first.getName(), "first");
+      assertEquals(root.getAttribute("a").getValue(), "1");
+      assertNull(root.getNext());
+   }
+
+   private void skipText(EventReader reader) throws Exception {
+      while(reader.peek().isText()) {
+         assertTrue(reader.next().isText());
+      }
+   }
+}
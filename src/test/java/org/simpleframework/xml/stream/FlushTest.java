@@ -0,0 +1,75 @@
+package org.simpleframework.xml.stream;
+
+import java.io.StringWriter;
+
+import org.simpleframework.xml.ValidationTestCase;
+
+public class FlushTest extends ValidationTestCase {
+
+   private static class CountingWriter extends StringWriter {
+
+      private int flushes;
+      private int writes;
+
+      public void write(char[] data, int off, int len) {
+         super.write(data, off, len);
+         writes++;
+      }
+
+      public void flush() {
+         super.flush();
+         flushes++;
+      }
+   }
+
+   public void testDocumentFlush() throws Exception {
+      CountingWriter writer = new CountingWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format(Flush.DOCUMENT)).getChild("root");
+
+      for(int i = 0; i < 100; i++) {
+         root.getChild("child").setValue("value " + i);
+      }
+      assertEquals(writer.flushes, 0);
+      assertEquals(writer.toString(), "");
+      root.commit();
+      assertEquals(writer.flushes, 1);
+      assertEquals(writer.writes, 1);
+      assertTrue(writer.toString().endsWith("<child>value 99</child>\n</root>"));
+   }
+
+   public void testElementFlush() throws Exception {
+      CountingWriter writer = new CountingWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format(Flush.ELEMENT)).getChild("root");
+
+      root.getChild("child").setValue("one");
+      root.getChild("child").setValue("two");
+      assertTrue(writer.toString().contains("<child>one</child>"));
+      root.commit();
+      assertTrue(writer.flushes >= 3);
+      assertTrue(writer.toString().endsWith("<child>two</child>\n</root>"));
+   }
+
+   public void testDefaultFlush() throws Exception {
+      CountingWriter writer = new CountingWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format()).getChild("root");
+
+      assertEquals(new Format().getFlush(), Flush.ELEMENT);
+      root.getChild("child").setValue("one");
+      root.getChild("child").setValue("two");
+      assertTrue(writer.toString().contains("<child>one</child>"));
+      root.commit();
+      assertTrue(writer.toString().endsWith("<child>two</child>\n</root>"));
+   }
+
+   public void testBufferSize() throws Exception {
+      CountingWriter writer = new CountingWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format(Flush.DOCUMENT, 64)).getChild("root");
+
+      for(int i = 0; i < 100; i++) {
+         root.getChild("child").setValue("value " + i);
+      }
+      root.commit();
+      assertTrue(writer.writes > 1);
+      assertEquals(writer.flushes, 1);
+   }
+}
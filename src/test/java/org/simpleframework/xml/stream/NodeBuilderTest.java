@@ -2,10 +2,26 @@ package org.simpleframework.xml.stream;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import junit.framework.TestCase;
 
 public class NodeBuilderTest extends TestCase {
+   
+    private static class IsolatedLoader extends URLClassLoader {
+       
+       public IsolatedLoader(URL location) {
+          super(new URL[]{location}, null);
+       }
+       
+       public boolean isLoaded(String name) {
+          return findLoadedClass(name) != null;
+       }
+    }
     
     private static final String SOURCE = 
     "<?xml version='1.0'?>\n" +
@@ -97,4 +113,29 @@ public class NodeBuilderTest extends TestCase {
        assertEquals("integer", integer.getName());
        assertEquals("12345", integer.getValue());
     }
+    
+    public void testLazyProvider() throws Exception {
+       URL location = NodeBuilder.class.getProtectionDomain().getCodeSource().getLocation();
+       IsolatedLoader loader = new IsolatedLoader(location);
+       Class builder = loader.loadClass(NodeBuilder.class.getName());
+       Class node = loader.loadClass(OutputNode.class.getName());
+       Method write = builder.getMethod("write", Writer.class);
+       Method read = builder.getMethod("read", Reader.class);
+       Method child = node.getMethod("getChild", String.class);
+       Method commit = node.getMethod("commit");
+       StringWriter out = new StringWriter();
+       Object root = write.invoke(null, out);
+       
+       child.invoke(child.invoke(root, "root"), "child");
+       commit.invoke(root);
+       
+       assertEquals("<root>\n   <child/>\n</root>", out.toString().trim());
+       assertNotSame(NodeBuilder.class, builder);
+       assertFalse(loader.isLoaded(ProviderFactory.class.getName()));
+       
+       Object event = read.invoke(null, new StringReader(SOURCE));
+       
+       assertNotNull(event);
+       assertTrue(loader.isLoaded(ProviderFactory.class.getName()));
+    }
 }
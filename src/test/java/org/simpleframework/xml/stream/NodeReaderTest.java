@@ -2,6 +2,7 @@
 package org.simpleframework.xml.stream;
 
 import junit.framework.TestCase;
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 
 import org.simpleframework.xml.stream.InputNode;
@@ -242,4 +243,45 @@ public class NodeReaderTest extends TestCase {
       assertEquals("integer", integer.getName());
       assertEquals("12345", integer.getValue());
    }
+   
+   public void testSegmentedText() throws Exception {
+      InputNode event = NodeBuilder.read(new StringReader("<root><a>123</a><b>1<![CDATA[2]]>3</b><c>&lt;x&gt;</c><d></d><e>last</e></root>"));
+      
+      assertEquals("123", event.getNext().getValue());
+      assertEquals("123", event.getNext().getValue());
+      assertEquals("<x>", event.getNext().getValue());
+      assertNull(event.getNext().getValue());
+      
+      InputNode last = event.getNext();
+      
+      assertEquals("last", last.getValue());
+      assertNull(last.getValue());
+      assertNull(event.getNext());
+   }
+   
+   public void testTextSequence() throws Exception {
+      String source = "<root a='1'><a>123</a><b>1<![CDATA[2]]>3</b><c>&lt;x&gt;</c><d></d><e>last</e></root>";
+      NodeReader[] readers = {
+         new NodeReader(new StreamProvider().provide(new StringReader(source))),
+         new NodeReader(new ByteProvider(new DocumentProvider()).provide(new ByteArrayInputStream(source.getBytes("UTF-8"))))
+      };
+      for(NodeReader reader : readers) {
+         InputNode root = reader.readRoot();
+         InputNode a = root.getNext();
+         CharSequence first = reader.readText(a);
+         
+         assertEquals("1", root.getAttribute("a").getValue());
+         assertEquals("123", first.toString());
+         assertNull(reader.readText(a));
+         assertEquals("123", reader.readText(root.getNext()).toString());
+         assertEquals("<x>", reader.readText(root.getNext()).toString());
+         assertNull(reader.readText(root.getNext()));
+         assertEquals("last", root.getNext().getValue());
+         assertNull(root.getNext());
+         
+         if(reader == readers[1]) {
+            assertFalse(first instanceof String);
+         }
+      }
+   }
 }
@@ -125,4 +125,75 @@ public class NodeWriterTest extends ValidationTestCase {
       root.commit();
       validate(out.toString());
    }
+
+   public void testAttributeOrder() throws Exception {
+      StringWriter out = new StringWriter();
+      OutputNode root = NodeBuilder.write(out).getChild("root");
+      StringBuilder expect = new StringBuilder("<root");
+
+      for(int i = 0; i < 40; i++) {
+         root.setAttribute("a" + i, "old");
+      }
+      for(int i = 0; i < 40; i++) {
+         if(i % 3 == 0) {
+            root.getAttributes().remove("a" + i);
+         } else {
+            root.setAttribute("a" + i, String.valueOf(i));
+            expect.append(" a" + i + "=\"" + i + "\"");
+         }
+      }
+      root.setAttribute("last", "end");
+      expect.append(" last=\"end\"/>");
+
+      assertEquals("2", root.getAttributes().get("a2").getValue());
+      assertNull(root.getAttributes().get("a3"));
+      assertNull(root.getAttributes().remove("a3"));
+
+      root.commit();
+      assertEquals(expect.toString(), out.toString().trim());
+   }
+   
+   public void testAppender() throws Exception {
+      StringWriter out = new StringWriter();
+      Appender appender = new Appender() {
+         public void append(Object value, Appendable target) throws Exception {
+            target.append("[").append(String.valueOf(value)).append("]");
+         }
+      };
+      OutputNode document = NodeBuilder.write(out);
+      
+      NodeAppender.setValue(document, 3, appender);
+      assertEquals("[3]", document.getValue());
+      
+      OutputNode root = document.getChild("root");
+      OutputNode number = NodeAppender.setAttribute(root, "number", 12, appender);
+      OutputNode text = root.setAttribute("text", "<a&b>");
+      
+      assertEquals("[12]", number.getValue());
+      assertEquals("[12]", number.getValue());
+      assertEquals("<a&b>", text.getValue());
+      
+      OutputNode first = root.getChild("first");
+      
+      NodeAppender.setValue(first, 1.5, appender);
+      assertEquals("[1.5]", first.getValue());
+      first.setValue("<plain>");
+      assertEquals("<plain>", first.getValue());
+      
+      OutputNode second = root.getChild("second");
+      
+      NodeAppender.setValue(second, true, appender);
+      
+      OutputNode third = root.getChild("third");
+      
+      third.setData(true);
+      NodeAppender.setValue(third, 7L, appender);
+      root.commit();
+      
+      assertEquals("<root number=\"[12]\" text=\"&lt;a&amp;b&gt;\">\n" +
+                   "   <first>&lt;plain&gt;</first>\n" +
+                   "   <second>[true]</second>\n" +
+                   "   <third><![CDATA[[7]]]></third>\n" +
+                   "</root>", out.toString().trim());
+   }
 }
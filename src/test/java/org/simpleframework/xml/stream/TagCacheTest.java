@@ -0,0 +1,51 @@
+package org.simpleframework.xml.stream;
+
+import java.io.StringWriter;
+
+import junit.framework.TestCase;
+
+public class TagCacheTest extends TestCase {
+
+   public void testFragments() throws Exception {
+      TagCache cache = new TagCache();
+
+      assertEquals(new String(cache.getStart("name", null)), "<name");
+      assertEquals(new String(cache.getEnd("name", "")), "</name>");
+      assertSame(cache.getStart("name", null), cache.getStart("name", ""));
+      assertEquals(new String(cache.getStart("name", "x")), "<x:name");
+      assertEquals(new String(cache.getEnd("name", "x")), "</x:name>");
+      assertEquals(new String(cache.getEnd("name", "y")), "</y:name>");
+      assertEquals(new String(cache.getEnd("name", null)), "</name>");
+   }
+
+   public void testCapacity() throws Exception {
+      TagCache cache = new TagCache(2);
+
+      for(int i = 0; i < 10; i++) {
+         assertEquals(new String(cache.getEnd("name" + i, null)), "</name" + i + ">");
+      }
+      assertEquals(new String(cache.getStart("name0", "p")), "<p:name0");
+   }
+
+   public void testPrefixSwitch() throws Exception {
+      StringWriter writer = new StringWriter();
+      OutputNode root = NodeBuilder.write(writer, new Format(0)).getChild("root");
+
+      root.getNamespaces().setReference("http://a", "a");
+      root.getNamespaces().setReference("http://b", "b");
+
+      OutputNode first = root.getChild("item");
+      first.setReference("http://a");
+      first.setValue("1");
+      first.commit();
+
+      OutputNode second = root.getChild("item");
+      second.setReference("http://b");
+      second.setValue("2");
+      second.commit();
+      root.getChild("item").setValue("3");
+      root.commit();
+
+      assertEquals(writer.toString(), "<root xmlns:a=\"http://a\" xmlns:b=\"http://b\"><a:item>1</a:item><b:item>2</b:item><item>3</item></root>");
+   }
+}
@@ -0,0 +1,159 @@
+package org.simpleframework.xml.transform;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.TestCase;
+
+public class DateConverterTest extends TestCase {
+
+   private static final String[] ZONES = {
+      "GMT",
+      "UTC",
+      "America/New_York",
+      "Europe/London",
+      "Asia/Kolkata",
+      "Australia/Lord_Howe",
+      "Pacific/Chatham"
+   };
+
+   private static final String[] PATTERNS = {
+      "yyyy-MM-dd HH:mm:ss.S z",
+      "yyyy-MM-dd HH:mm:ss z",
+      "yyyy-MM-dd z"
+   };
+
+   public void testText() throws Exception {
+      Random random = new Random(1);
+
+      for(String name : ZONES) {
+         TimeZone zone = TimeZone.getTimeZone(name);
+         DateConverter converter = new DateConverter(zone, Locale.getDefault());
+         SimpleDateFormat format = new SimpleDateFormat(PATTERNS[0]);
+
+         format.setTimeZone(zone);
+
+         for(int i = 0; i < 20000; i++) {
+            Date date = new Date(random.nextLong() % 200000000000000L);
+            String text = converter.getText(date);
+
+            if(text != null) {
+               assertEquals(format.format(date), text);
+            }
+         }
+         assertEquals(format.format(new Date(0)), converter.getText(new Date(0)));
+         assertEquals(format.format(new Date(-1)), converter.getText(new Date(-1)));
+      }
+   }
+
+   public void testRange() throws Exception {
+      DateConverter converter = new DateConverter(TimeZone.getTimeZone("GMT"), Locale.getDefault());
+      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+
+      format.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+      assertNull(converter.getText(format.parse("1600-12-31 23:59:59 GMT")));
+      assertNotNull(converter.getText(format.parse("1601-01-01 00:00:00 GMT")));
+      assertNotNull(converter.getText(format.parse("9999-12-31 23:59:59 GMT")));
+      assertNull(converter.getText(format.parse("10000-01-01 00:00:00 GMT")));
+   }
+
+   public void testTime() throws Exception {
+      DateConverter converter = new DateConverter(TimeZone.getTimeZone("America/New_York"), Locale.getDefault());
+      Random random = new Random(2);
+
+      for(int i = 0; i < PATTERNS.length; i++) {
+         SimpleDateFormat writer = new SimpleDateFormat(PATTERNS[i]);
+         SimpleDateFormat reader = new SimpleDateFormat(PATTERNS[i]);
+
+         writer.setTimeZone(TimeZone.getTimeZone(i % 2 == 0 ? "GMT" : "UTC"));
+
+         for(int j = 0; j < 20000; j++) {
+            Date date = new Date(random.nextLong() % 200000000000000L);
+            String text = writer.format(date);
+            long time = converter.getTime(text, i < 2, i < 1);
+
+            if(time != DateConverter.UNKNOWN) {
+               assertEquals(text, reader.parse(text).getTime(), time);
+            }
+         }
+      }
+   }
+
+   public void testLenient() throws Exception {
+      DateConverter converter = new DateConverter(TimeZone.getDefault(), Locale.getDefault());
+      SimpleDateFormat format = new SimpleDateFormat(PATTERNS[0]);
+      String[] list = {
+         "2007-02-30 25:61:61.1000 GMT",
+         "2008-02-29 00:00:00.5 utc",
+         "2007-1-1 1:1:1.1 GMT",
+         "2007-00-01 00:00:00.0 GMT",
+         "2007-01-01 00:00:00.0 EST",
+         "2007-01-01 00:00:00.0 GMT+01:00",
+         "2007-01-01 00:00:00.0  GMT",
+         "207-01-01 00:00:00.0 GMT",
+         "2007-01-01T00:00:00.0 GMT"
+      };
+      for(String text : list) {
+         long time = converter.getTime(text, true, true);
+
+         if(time != DateConverter.UNKNOWN) {
+            assertEquals(text, format.parse(text).getTime(), time);
+         }
+      }
+      assertEquals(DateConverter.UNKNOWN, converter.getTime("2007-01-01", false, false));
+      assertEquals(DateConverter.UNKNOWN, converter.getTime("2007-01-01 00:00:00.0 EST", true, true));
+      assertEquals(DateConverter.UNKNOWN, converter.getTime("2007-13-01 00:00:00.0 GMT", true, true));
+   }
+
+   public void testTransform() throws Exception {
+      DateTransform<Date> transform = new DateTransform<Date>(Date.class);
+      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+      Date date = new Date(1192500000123L);
+
+      assertEquals(transform.read(transform.write(date)), date);
+      assertEquals(transform.read("2007-10-16 02:00:00.123 GMT"), new Date(1192500000123L));
+      assertEquals(transform.read("2007-10-16 02:00:00 UTC"), new Date(1192500000000L));
+      assertEquals(transform.read("2007-10-16"), format.parse("2007-10-16"));
+      assertEquals(transform.read("0100-10-16 02:00:00.123 GMT"), new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S z").parse("0100-10-16 02:00:00.123 GMT"));
+   }
+
+   public void testConcurrency() throws Exception {
+      final DateTransform<Date> transform = new DateTransform<Date>(Date.class);
+      final CountDownLatch latch = new CountDownLatch(8);
+      final List<Throwable> errors = new ArrayList<Throwable>();
+
+      for(int i = 0; i < 8; i++) {
+         final Random random = new Random(i);
+
+         new Thread(new Runnable() {
+            public void run() {
+               try {
+                  for(int j = 0; j < 5000; j++) {
+                     Date date = new Date(random.nextLong() % 10000000000000L);
+                     String text = transform.write(date);
+
+                     if(!date.equals(transform.read(text))) {
+                        throw new IllegalStateException("Date " + date.getTime() + " read from " + text);
+                     }
+                  }
+               } catch(Throwable e) {
+                  synchronized(errors) {
+                     errors.add(e);
+                  }
+               } finally {
+                  latch.countDown();
+               }
+            }
+         }).start();
+      }
+      latch.await();
+      assertTrue(errors.toString(), errors.isEmpty());
+   }
+}
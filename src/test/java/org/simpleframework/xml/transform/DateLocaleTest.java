@@ -0,0 +1,81 @@
+package org.simpleframework.xml.transform;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import junit.framework.TestCase;
+
+public class DateLocaleTest extends TestCase {
+   
+   private static class IsolatedLoader extends URLClassLoader {
+      
+      public IsolatedLoader(URL location) {
+         super(new URL[]{location}, null);
+      }
+   }
+   
+   public void testLocale() throws Exception {
+      assertEquals(Locale.UK, DateType.getLocale(Locale.UK));
+      assertEquals(Locale.US, DateType.getLocale(new Locale("th", "TH")));
+      assertEquals(Locale.US, DateType.getLocale(new Locale("ja", "JP", "JP")));
+      assertEquals(Locale.US, DateType.getLocale(new Locale("th", "TH", "TH")));
+   }
+   
+   public void testThai() throws Exception {
+      assertRoundTrip(new Locale("th", "TH"), "Asia/Bangkok");
+   }
+   
+   public void testJapanese() throws Exception {
+      assertRoundTrip(new Locale("ja", "JP", "JP"), "Asia/Tokyo");
+   }
+   
+   public void testArabic() throws Exception {
+      assertRoundTrip(new Locale("ar", "SA"), "Asia/Riyadh");
+   }
+   
+   private void assertRoundTrip(Locale locale, String name) throws Exception {
+      Locale original = Locale.getDefault();
+      TimeZone zone = TimeZone.getDefault();
+      
+      try {
+         Locale.setDefault(locale);
+         TimeZone.setDefault(TimeZone.getTimeZone(name));
+         assertRoundTrip(name);
+      } finally {
+         Locale.setDefault(original);
+         TimeZone.setDefault(zone);
+      }
+   }
+   
+   private void assertRoundTrip(String name) throws Exception {
+      URL location = DateType.class.getProtectionDomain().getCodeSource().getLocation();
+      IsolatedLoader loader = new IsolatedLoader(location);
+      Class type = loader.loadClass(DateType.class.getName());
+      Method write = type.getMethod("getText", Date.class);
+      Method read = type.getMethod("getDate", String.class);
+      SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.S", Locale.US);
+      Date[] dates = {
+         new Date(0),
+         new Date(1234567890123L),
+         new Date(-12345678901234L),
+         new Date(System.currentTimeMillis())
+      };
+      write.setAccessible(true);
+      read.setAccessible(true);
+      format.setTimeZone(TimeZone.getTimeZone(name));
+      
+      for(Date date : dates) {
+         String text = (String)write.invoke(null, date);
+         Date value = (Date)read.invoke(null, text);
+         
+         assertTrue(text, text.startsWith(format.format(date)));
+         assertEquals(text, date, value);
+      }
+      assertEquals(new Date(0), read.invoke(null, "1970-01-01 00:00:00.0 GMT"));
+   }
+}
@@ -0,0 +1,204 @@
+package org.simpleframework.xml.transform;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TemporalTransformTest extends TestCase {
+
+   private static class BlankMatcher implements Matcher {
+
+      public Transform match(Class type) throws Exception {
+         return null;
+      }
+   }
+
+   private static final String[] INSTANTS = {
+      "2007-12-03T10:15:30Z",
+      "2007-12-03T10:15:30.120Z",
+      "2007-12-03T10:15:30.000123Z",
+      "2007-12-03T10:15:30.000000001Z",
+      "1969-12-31T23:59:59.999Z",
+      "0000-01-01T00:00:00Z",
+      "2008-02-29T00:00:00Z",
+      "+10000-01-01T00:00:00Z",
+      "2007-12-03T23:59:60Z"
+   };
+
+   private static final String[] DATES = {
+      "2007-12-03",
+      "0000-01-01",
+      "2008-02-29",
+      "+12345-01-01",
+      "-0001-12-31"
+   };
+
+   private static final String[] DATE_TIMES = {
+      "2007-12-03T10:15:30",
+      "2007-12-03T10:15",
+      "2007-12-03T10:15:30.5",
+      "2007-12-03T10:15:30.123456789",
+      "2007-12-03t10:15:30"
+   };
+
+   private static final String[] OFFSET_DATE_TIMES = {
+      "2007-12-03T10:15:30+01:00",
+      "2007-12-03T10:15:30Z",
+      "2007-12-03T10:15:30.25-05:30",
+      "2007-12-03T10:15+18:00",
+      "2007-12-03T10:15:30+01:00:30"
+   };
+
+   private static final String[] ZONED_DATE_TIMES = {
+      "2007-12-03T10:15:30+01:00[Europe/Paris]",
+      "2007-12-03T10:15:30Z",
+      "2007-12-03T10:15:30+05:00[Europe/Paris]",
+      "2007-12-03T10:15:30.5-05:00[America/New_York]",
+      "2007-07-03T10:15:30+02:00[Europe/Paris]",
+      "2007-12-03T10:15:30Z[UTC]"
+   };
+
+   private static final String[] DURATIONS = {
+      "PT0S",
+      "PT8H6M12.345S",
+      "PT-0.5S",
+      "PT-6H3M",
+      "PT1M-0.000000001S",
+      "PT36H",
+      "P2DT3H4M",
+      "PT20.345S"
+   };
+
+   private static final String[] INVALID = {
+      "2007-02-30T10:15:30Z",
+      "2007-13-03T10:15:30Z",
+      "2007-12-03T10:15:30",
+      "2007-12-03 10:15:30Z",
+      "2007-12-03T10:15Z",
+      "text"
+   };
+
+   private Transformer transformer;
+
+   public void setUp() {
+      this.transformer = new Transformer(new BlankMatcher());
+   }
+
+   public void testInstant() throws Exception {
+      assertParse("java.time.Instant", INSTANTS);
+   }
+
+   public void testLocalDate() throws Exception {
+      assertParse("java.time.LocalDate", DATES);
+   }
+
+   public void testLocalDateTime() throws Exception {
+      assertParse("java.time.LocalDateTime", DATE_TIMES);
+   }
+
+   public void testOffsetDateTime() throws Exception {
+      assertParse("java.time.OffsetDateTime", OFFSET_DATE_TIMES);
+   }
+
+   public void testZonedDateTime() throws Exception {
+      assertParse("java.time.ZonedDateTime", ZONED_DATE_TIMES);
+   }
+
+   public void testDuration() throws Exception {
+      assertParse("java.time.Duration", DURATIONS);
+   }
+
+   public void testInvalid() throws Exception {
+      Class type = getType("java.time.Instant");
+
+      if(type != null) {
+         for(String text : INVALID) {
+            Class expect = null;
+            Class actual = null;
+
+            try {
+               parse(type, text);
+            } catch(RuntimeException e) {
+               expect = e.getClass();
+            }
+            try {
+               transformer.read(text, type);
+            } catch(RuntimeException e) {
+               actual = e.getClass();
+            }
+            assertNotNull(text, expect);
+            assertEquals(text, expect, actual);
+         }
+      }
+   }
+
+   public void testRandomInstants() throws Exception {
+      Class type = getType("java.time.Instant");
+
+      if(type != null) {
+         Random random = new Random(1);
+         long[] scale = {1, 1000, 1000000, 1000000000};
+
+         for(int i = 0; i < 20000; i++) {
+            long seconds = random.nextLong() % 300000000000L;
+            long nanos = random.nextInt(1000000000 / (int)scale[i % 4]) * scale[i % 4] % 1000000000;
+            Object value = type.getMethod("ofEpochSecond", long.class, long.class).invoke(null, seconds, nanos);
+            String text = transformer.write(value, type);
+
+            assertEquals(value.toString(), text);
+            assertEquals(value, transformer.read(text, type));
+         }
+      }
+   }
+
+   public void testRandomDurations() throws Exception {
+      Class type = getType("java.time.Duration");
+
+      if(type != null) {
+         Random random = new Random(2);
+
+         for(int i = 0; i < 20000; i++) {
+            long seconds = random.nextLong() % 10000000L;
+            long nanos = i % 2 == 0 ? 0 : random.nextInt(1000000000);
+            Object value = type.getMethod("ofSeconds", long.class, long.class).invoke(null, seconds, nanos);
+            String text = transformer.write(value, type);
+
+            assertEquals(value.toString(), text);
+            assertEquals(value, transformer.read(text, type));
+         }
+      }
+   }
+
+   private void assertParse(String name, String[] list) throws Exception {
+      Class type = getType(name);
+
+      if(type != null) {
+         assertTrue(transformer.valid(type));
+
+         for(String text : list) {
+            Object expect = parse(type, text);
+            Object value = transformer.read(text, type);
+
+            assertEquals(text, expect, value);
+            assertEquals(text, expect.toString(), transformer.write(value, type));
+         }
+      }
+   }
+
+   private Object parse(Class type, String text) throws Exception {
+      try {
+         return type.getMethod("parse", CharSequence.class).invoke(null, text);
+      } catch(InvocationTargetException e) {
+         throw (RuntimeException)e.getCause();
+      }
+   }
+
+   private Class getType(String name) {
+      try {
+         return Class.forName(name);
+      } catch(ClassNotFoundException e) {
+         return null;
+      }
+   }
+}
@@ -0,0 +1,103 @@
+package org.simpleframework.xml.transform;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+public class TokenSplitterTest extends TestCase {
+
+   private static final String[] TOKENS = {
+      ",",
+      " ",
+      ";",
+      "\\|",
+      "\\.",
+      "\\s+",
+      "\\s*,\\s*",
+      ",+",
+      "x?"
+   };
+
+   private static final String[] TEXTS = {
+      "",
+      " ",
+      ",",
+      ",,,",
+      "a",
+      "one,two,three",
+      " one , two ,three ",
+      ",one,,two,,",
+      "one, ,",
+      "  leading space",
+      "trailing space  ",
+      "a|b||c|",
+      "a.b.c",
+      "a;b; c ;",
+      "\tone\ntwo\r\n three\u000B",
+      "a, \u0085b"
+   };
+
+   public void testSplit() throws Exception {
+      for(String token : TOKENS) {
+         TokenSplitter splitter = new TokenSplitter(token);
+
+         for(String text : TEXTS) {
+            assertSplit(splitter, token, text);
+         }
+      }
+   }
+
+   public void testRandom() throws Exception {
+      Random random = new Random(1);
+      char[] alphabet = {'a', 'b', ',', ' ', '\t', '|', '.', ';', 'x'};
+
+      for(String token : TOKENS) {
+         TokenSplitter splitter = new TokenSplitter(token);
+
+         for(int i = 0; i < 2000; i++) {
+            char[] text = new char[random.nextInt(12)];
+
+            for(int j = 0; j < text.length; j++) {
+               text[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            assertSplit(splitter, token, new String(text));
+         }
+      }
+   }
+
+   public void testArray() throws Exception {
+      Transformer transformer = new Transformer(new EmptyMatcher());
+      int[] list = (int[])transformer.read(" 1, -2 ,30,,", int[].class);
+      long[] numbers = (long[])transformer.read("9223372036854775807, -1", long[].class);
+      Integer[] boxed = (Integer[])transformer.read("4, 5", Integer[].class);
+      double[] values = (double[])transformer.read("1.5, -2", double[].class);
+
+      assertTrue(Arrays.equals(new int[] {1, -2, 30}, list));
+      assertTrue(Arrays.equals(new long[] {Long.MAX_VALUE, -1}, numbers));
+      assertTrue(Arrays.equals(new Integer[] {4, 5}, boxed));
+      assertTrue(Arrays.equals(new double[] {1.5, -2}, values));
+
+      try {
+         transformer.read("1, , 2", int[].class);
+         fail("Empty value should not be parsed");
+      } catch(NumberFormatException e) {
+         assertEquals("For input string: \"\"", e.getMessage());
+      }
+   }
+
+   private void assertSplit(TokenSplitter splitter, String token, String text) {
+      String[] expect = Pattern.compile(token).split(text);
+      int[] bounds = splitter.split(text);
+      String[] actual = new String[bounds.length / 2];
+
+      for(int i = 0; i < expect.length; i++) {
+         expect[i] = expect[i].trim();
+      }
+      for(int i = 0; i < actual.length; i++) {
+         actual[i] = text.substring(bounds[i * 2], bounds[i * 2 + 1]);
+      }
+      assertEquals(token + " " + text, Arrays.asList(expect), Arrays.asList(actual));
+   }
+}
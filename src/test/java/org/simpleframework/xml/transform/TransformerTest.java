@@ -1,5 +1,7 @@
 package org.simpleframework.xml.transform;
 
+import java.io.StringWriter;
+
 import org.simpleframework.xml.transform.Transformer;
 
 import junit.framework.TestCase;
@@ -13,6 +15,11 @@ public class TransformerTest extends TestCase {
       }
    }
    
+   private static enum Colour {
+      RED,
+      GREEN
+   }
+   
    private Transformer transformer;
    
    public void setUp() {
@@ -27,6 +34,59 @@ public class TransformerTest extends TestCase {
       assertEquals(text, "1");
    }
    
+   public void testSlice() throws Exception {
+      Class[] types = {Integer.class, int.class, Long.class, Short.class, Byte.class, Double.class, double.class, Float.class, String.class, Boolean.class};
+      String[] values = {"1", "-12", "1.5", "-0.0", "1e3", "x", "", "127", "true"};
+      
+      for(Class type : types) {
+         for(String value : values) {
+            String text = "[" + value + "]";
+            Object expect = read(value, type);
+            Object result = read(text, 1, value.length(), type);
+            
+            assertEquals(type + " " + value, expect, result);
+         }
+      }
+   }
+   
+   public void testAppend() throws Exception {
+      Object[] values = {1, -12, Integer.MIN_VALUE, 5L, Long.MAX_VALUE, (short)-3, (byte)127, Colour.RED, 1.5, -0.0, 1e-7, Double.NaN, 0.1f, Float.NEGATIVE_INFINITY, true, false, "text", 'c'};
+      
+      for(Object value : values) {
+         Class type = value.getClass();
+         StringBuilder builder = new StringBuilder("[");
+         StringWriter writer = new StringWriter();
+         String expect = transformer.write(value, type);
+         
+         transformer.write(value, type, builder);
+         transformer.write(value, type, writer);
+         
+         assertEquals(type + " " + value, "[" + expect, builder.toString());
+         assertEquals(type + " " + value, expect, writer.toString());
+      }
+      assertTrue(transformer.isAppendable(Integer.class));
+      assertTrue(transformer.isAppendable(double.class));
+      assertTrue(transformer.isAppendable(Colour.class));
+      assertFalse(transformer.isAppendable(String.class));
+      assertFalse(transformer.isAppendable(Character.class));
+   }
+   
+   private Object read(String text, Class type) {
+      try {
+         return transformer.read(text, type);
+      } catch(Exception e) {
+         return e.getClass();
+      }
+   }
+   
+   private Object read(String text, int off, int len, Class type) {
+      try {
+         return transformer.read(new StringBuilder(text), off, len, type);
+      } catch(Exception e) {
+         return e.getClass();
+      }
+   }
+   
    public void testString() throws Exception {     
       Object value = transformer.read("some text", String.class);      
       String text = transformer.write(value, String.class);
@@ -0,0 +1,227 @@
+package org.simpleframework.xml.util;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class NumberParserTest extends TestCase {
+
+   private static final String[] VALUES = {
+      "0",
+      "-0",
+      "7",
+      "-128",
+      "127",
+      "128",
+      "-32768",
+      "32767",
+      "2147483647",
+      "-2147483648",
+      "2147483648",
+      "999999999999999999",
+      "-999999999999999999",
+      "9223372036854775807",
+      "-9223372036854775808",
+      "9223372036854775808",
+      "00000000000000000000012",
+      "+12",
+      "-",
+      "",
+      "1a",
+      " 1",
+      "١٢"
+   };
+
+   private static final String[] DECIMALS = {
+      "0",
+      "-0",
+      "0.0",
+      "-0.0",
+      "1.5",
+      ".5",
+      "5.",
+      "3.141592653589793",
+      "0.1",
+      "0.3",
+      "1e10",
+      "1E-5",
+      "-2.5e+3",
+      "9007199254740993",
+      "9007199254740992",
+      "16777217",
+      "123456789012345678901234567890",
+      "1e22",
+      "1e23",
+      "1e-22",
+      "1e-23",
+      "1e400",
+      "1.7976931348623157E308",
+      "4.9E-324",
+      "00000000000000000000001.25",
+      "1.00000000000000000000",
+      "NaN",
+      "-Infinity",
+      "0x1p3",
+      "1.5d",
+      "1.5f",
+      " 1.5",
+      "1.5 ",
+      "+1.5",
+      ".",
+      "-",
+      "e5",
+      "1e",
+      "1e+",
+      "1.2.3",
+      "1e5.5",
+      ""
+   };
+
+   public void testDecimals() throws Exception {
+      for(String value : DECIMALS) {
+         String text = "[" + value + "]";
+         int end = text.length() - 1;
+
+         assertEquals(value, getDouble(value), getDouble(text, 1, end));
+         assertEquals(value, getFloat(value), getFloat(text, 1, end));
+      }
+   }
+
+   public void testRandomDecimals() throws Exception {
+      Random random = new Random(1);
+
+      for(int i = 0; i < 100000; i++) {
+         long digits = random.nextLong() >> random.nextInt(64);
+         int scale = random.nextInt(30);
+         String text = String.valueOf(digits);
+
+         if(scale < text.length()) {
+            text = text.substring(0, text.length() - scale) + "." + text.substring(text.length() - scale);
+         } else {
+            text = text + "e-" + scale;
+         }
+         assertEquals(text, getDouble(text), getDouble(text, 0, text.length()));
+         assertEquals(text, getFloat(text), getFloat(text, 0, text.length()));
+      }
+   }
+
+   public void testSlices() throws Exception {
+      for(String value : VALUES) {
+         String text = "[" + value + "]";
+         int end = text.length() - 1;
+
+         assertEquals(value, getLong(value), getLong(text, 1, end));
+         assertEquals(value, getInt(value), getInt(text, 1, end));
+         assertEquals(value, getShort(value), getShort(text, 1, end));
+         assertEquals(value, getByte(value), getByte(text, 1, end));
+      }
+   }
+
+   public void testRandom() throws Exception {
+      Random random = new Random(1);
+
+      for(int i = 0; i < 100000; i++) {
+         long value = random.nextLong() >> random.nextInt(64);
+         String text = String.valueOf(value);
+
+         assertEquals(getLong(text), getLong(text, 0, text.length()));
+         assertEquals(getInt(text), getInt(text, 0, text.length()));
+      }
+   }
+
+   private String getLong(String text) {
+      try {
+         return String.valueOf(Long.parseLong(text));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getLong(String text, int off, int end) {
+      try {
+         return String.valueOf(NumberParser.parseLong(text, off, end));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getInt(String text) {
+      try {
+         return String.valueOf(Integer.parseInt(text));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getInt(String text, int off, int end) {
+      try {
+         return String.valueOf(NumberParser.parseInt(text, off, end));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getShort(String text) {
+      try {
+         return String.valueOf(Short.parseShort(text));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getShort(String text, int off, int end) {
+      try {
+         return String.valueOf(NumberParser.parseShort(text, off, end));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getByte(String text) {
+      try {
+         return String.valueOf(Byte.parseByte(text));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getByte(String text, int off, int end) {
+      try {
+         return String.valueOf(NumberParser.parseByte(text, off, end));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getDouble(String text) {
+      try {
+         return String.valueOf(Double.doubleToRawLongBits(Double.parseDouble(text)));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getDouble(String text, int off, int end) {
+      try {
+         return String.valueOf(Double.doubleToRawLongBits(NumberParser.parseDouble(text, off, end)));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getFloat(String text) {
+      try {
+         return String.valueOf(Float.floatToRawIntBits(Float.parseFloat(text)));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+
+   private String getFloat(String text, int off, int end) {
+      try {
+         return String.valueOf(Float.floatToRawIntBits(NumberParser.parseFloat(text, off, end)));
+      } catch(NumberFormatException e) {
+         return e.getMessage();
+      }
+   }
+}